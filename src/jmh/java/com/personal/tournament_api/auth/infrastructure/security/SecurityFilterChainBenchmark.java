@@ -0,0 +1,149 @@
+package com.personal.tournament_api.auth.infrastructure.security;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.personal.tournament_api.auth.domain.enums.UserRole;
+import com.personal.tournament_api.auth.domain.model.User;
+import com.personal.tournament_api.auth.domain.ports.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the security filters for a public {@code GET /tournaments/{id}}, through the
+ * chains {@link SecurityConfig} builds. {@code singleChain} is the protected chain alone, which is how
+ * every request was handled before public reads got their own chain; {@code splitChains} is the
+ * {@link FilterChainProxy} the application runs today. {@code authenticated} decides whether the
+ * request carries a bearer token, as a logged-in admin browsing the public pages would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SecurityFilterChainBenchmark {
+
+    private static final FilterChain APPLICATION = (request, response) -> { };
+
+    @Param({"false", "true"})
+    private boolean authenticated;
+
+    @Param({"claims", "database"})
+    private String authenticationMode;
+
+    private AnnotationConfigWebApplicationContext context;
+    private FilterChainProxy singleChain;
+    private FilterChainProxy splitChains;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Without a Boot logging setup Logback defaults to DEBUG, and the per-request security logging would dominate
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "jwt.authentication.mode", authenticationMode,
+                "jwt.authentication.user-cache.time-to-live", "0s",
+                "jwt.authentication.user-cache.maximum-size", "1000")));
+        context.addBeanFactoryPostProcessor(beanFactory ->
+                beanFactory.setConversionService(new ApplicationConversionService()));
+        context.register(BenchmarkConfiguration.class, SecurityConfig.class);
+        context.refresh();
+
+        SecurityFilterChain protectedChain = context.getBean("securityFilterChain", SecurityFilterChain.class);
+        singleChain = new FilterChainProxy(protectedChain);
+        singleChain.afterPropertiesSet();
+        splitChains = context.getBean(FilterChainProxy.class);
+        token = context.getBean(JwtProvider.class).generate(BenchmarkConfiguration.ADMIN);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse singleChain() throws Exception {
+        return filter(singleChain);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse splitChains() throws Exception {
+        return filter(splitChains);
+    }
+
+    private MockHttpServletResponse filter(FilterChainProxy filterChainProxy) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tournaments/7");
+        request.setContextPath("/api");
+        if (authenticated) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterChainProxy.doFilter(request, response, APPLICATION);
+        return response;
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class BenchmarkConfiguration {
+
+        static final User ADMIN = User.reconstitute(1L, "admin@example.com", "admin",
+                "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmark", UserRole.ADMIN);
+
+        @Bean
+        JwtProvider jwtProvider() {
+            return new JwtProvider("benchmark-secret-benchmark-secret-benchmark-secret", 3_600_000L, 10_000L,
+                    new SimpleMeterRegistry());
+        }
+
+        @Bean
+        UserDetailsServiceAdapter userDetailsServiceAdapter() {
+            return new UserDetailsServiceAdapter(new UserRepository() {
+                @Override
+                public User save(User user) {
+                    return user;
+                }
+
+                @Override
+                public Optional<User> findByEmail(String email) {
+                    return ADMIN.getEmail().equals(email) ? Optional.of(ADMIN) : Optional.empty();
+                }
+
+                @Override
+                public boolean existsByEmail(String email) {
+                    return ADMIN.getEmail().equals(email);
+                }
+            });
+        }
+    }
+}
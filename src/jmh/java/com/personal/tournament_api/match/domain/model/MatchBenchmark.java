@@ -0,0 +1,40 @@
+package com.personal.tournament_api.match.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rebuilding a {@link Match} from a stored row, which every match read pays once per match.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchBenchmark {
+
+    private final LocalDateTime matchDate = LocalDateTime.of(2025, 3, 15, 18, 30);
+
+    @Benchmark
+    public Match reconstituteScheduled() {
+        return Match.reconstitute(1L, 10L, 100L, 200L, null, null,
+                matchDate, "Estadio Atanasio Girardot", MatchStatus.SCHEDULED, 7);
+    }
+
+    @Benchmark
+    public Match reconstituteFinished() {
+        return Match.reconstitute(1L, 10L, 100L, 200L, 2, 1,
+                matchDate, "Estadio Atanasio Girardot", MatchStatus.FINISHED, 7);
+    }
+}
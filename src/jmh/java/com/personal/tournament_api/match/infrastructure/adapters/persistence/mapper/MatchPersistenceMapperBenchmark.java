@@ -0,0 +1,70 @@
+package com.personal.tournament_api.match.infrastructure.adapters.persistence.mapper;
+
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchStatus;
+import com.personal.tournament_api.match.infrastructure.adapters.persistence.entity.MatchEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link MatchPersistenceMapper} in both directions, for one match and for a page-sized list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchPersistenceMapperBenchmark {
+
+    @Param({"20", "380"})
+    private int listSize;
+
+    private final MatchPersistenceMapper mapper = new MatchPersistenceMapperImpl();
+    private MatchEntity entity;
+    private Match match;
+    private List<MatchEntity> entities;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(listSize);
+        LocalDateTime kickOff = LocalDateTime.of(2025, 1, 4, 18, 0);
+        for (int i = 0; i < listSize; i++) {
+            boolean finished = i % 2 == 0;
+            entities.add(new MatchEntity((long) i + 1, 10L, (long) i % 20 + 1, (long) (i + 7) % 20 + 1,
+                    finished ? 2 : null, finished ? 1 : null, kickOff.plusDays(i / 10),
+                    "Estadio " + i % 10, finished ? MatchStatus.FINISHED : MatchStatus.SCHEDULED, i / 10 + 1));
+        }
+        entity = entities.get(0);
+        match = mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Match toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public MatchEntity toEntity() {
+        return mapper.toEntity(match);
+    }
+
+    @Benchmark
+    public List<Match> toDomainList() {
+        return mapper.toDomainList(entities);
+    }
+}
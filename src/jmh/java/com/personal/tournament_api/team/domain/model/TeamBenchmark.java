@@ -0,0 +1,67 @@
+package com.personal.tournament_api.team.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link Team} operations on the result-registration path: applying and reverting a
+ * result (a correction does both) and rebuilding the aggregate with its value objects from a row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TeamBenchmark {
+
+    @Param({"WIN", "DRAW", "LOSS"})
+    private String outcome;
+
+    private Team team;
+    private int goalsFor;
+    private int goalsAgainst;
+
+    @Setup
+    public void setUp() {
+        team = Team.reconstitute(1L, "Atletico Nacional", "Efrain Juarez", 10L,
+                40, 20, 12, 4, 4, 35, 18, 17);
+        goalsFor = outcome.equals("LOSS") ? 0 : 2;
+        goalsAgainst = outcome.equals("WIN") ? 0 : 2;
+    }
+
+    /**
+     * Applies and reverts the same result so the team's counters stay bounded across invocations.
+     */
+    @Benchmark
+    public Team recordAndReverseMatchResult() {
+        team.recordMatchResult(goalsFor, goalsAgainst);
+        team.reverseMatchResult(goalsFor, goalsAgainst);
+        return team;
+    }
+
+    @Benchmark
+    public Team recordMatchResultOnFreshTeam() {
+        Team fresh = Team.reconstitute(1L, "Atletico Nacional", "Efrain Juarez", 10L,
+                0, 0, 0, 0, 0, 0, 0, 0);
+        fresh.recordMatchResult(goalsFor, goalsAgainst);
+        return fresh;
+    }
+
+    @Benchmark
+    public Team reconstitute() {
+        return Team.reconstitute(1L, "Atletico Nacional", "Efrain Juarez", 10L,
+                40, 20, 12, 4, 4, 35, 18, 17);
+    }
+}
@@ -0,0 +1,71 @@
+package com.personal.tournament_api.team.infrastructure.adapters.persistence.mapper;
+
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.infrastructure.adapters.persistence.entity.TeamEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link TeamPersistenceMapper} in both directions, for one team and for a 20-team standings
+ * table, the list sizes the standings and result-registration paths map on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TeamPersistenceMapperBenchmark {
+
+    private static final int TEAMS = 20;
+
+    private final TeamPersistenceMapper mapper = new TeamPersistenceMapperImpl();
+    private TeamEntity entity;
+    private Team team;
+    private List<TeamEntity> entities;
+    private List<Team> teams;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(TEAMS);
+        for (int i = 0; i < TEAMS; i++) {
+            entities.add(new TeamEntity((long) i + 1, "Team " + i, "Coach " + i, 10L,
+                    3 * i, 2 * i, i, 0, i, 2 * i, i, i));
+        }
+        entity = entities.get(TEAMS - 1);
+        team = mapper.toDomain(entity);
+        teams = mapper.toDomainList(entities);
+    }
+
+    @Benchmark
+    public Team toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public TeamEntity toEntity() {
+        return mapper.toEntity(team);
+    }
+
+    @Benchmark
+    public List<Team> toDomainList() {
+        return mapper.toDomainList(entities);
+    }
+
+    @Benchmark
+    public List<TeamEntity> toEntityList() {
+        return mapper.toEntityList(teams);
+    }
+}
@@ -8,6 +8,8 @@ import com.personal.tournament_api.auth.domain.ports.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Optional;
+
 public class LoginService implements LoginUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(LoginService.class);
@@ -24,12 +26,14 @@ public class LoginService implements LoginUseCase {
     public User execute(LoginCommand command) {
         log.info("Login attempt for email: {}", command.email());
 
-        User user = userRepository.findByEmail(command.email())
-                .orElseThrow(InvalidCredentialsException::new);
+        Optional<User> found = userRepository.findByEmail(command.email());
 
-        if (!passwordHasher.matches(command.rawPassword(), user.getPassword())) {
+        // Se compara también cuando el email no existe, para que ambos rechazos tarden lo mismo
+        boolean matches = passwordHasher.matches(command.rawPassword(), found.map(User::getPassword).orElse(null));
+        if (found.isEmpty() || !matches) {
             throw new InvalidCredentialsException();
         }
+        User user = found.get();
 
         log.info("User '{}' authenticated successfully", command.email());
         return user;
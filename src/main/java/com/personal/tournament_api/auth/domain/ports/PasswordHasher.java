@@ -4,5 +4,10 @@ public interface PasswordHasher {
 
     String hash(String rawPassword);
 
+    /**
+     * Compara la contraseña con el hash almacenado. Si {@code hashedPassword} es null (no existe la
+     * cuenta) devuelve false tras el mismo trabajo que una comparación real, para que un email
+     * desconocido no se distinga por el tiempo de respuesta.
+     */
     boolean matches(String rawPassword, String hashedPassword);
 }
\ No newline at end of file
@@ -1,21 +1,141 @@
 package com.personal.tournament_api.auth.infrastructure.security;
 
 import com.personal.tournament_api.auth.domain.ports.PasswordHasher;
+import com.personal.tournament_api.shared.infrastructure.web.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt hashing and matching on a dedicated pool of {@code password-hashing.threads} threads, so a burst
+ * of logins cannot occupy every servlet worker with key stretching. At most
+ * {@code password-hashing.queue-capacity} requests wait for a thread; beyond that, or when a request has
+ * not finished within {@code password-hashing.timeout}, the caller gets a 503 instead of piling up.
+ * <p>
+ * Matching against a missing hash still runs a full comparison against a dummy hash of the same cost, so
+ * an unknown email takes as long to reject as a wrong password. The pool is published as the
+ * {@code password-hasher} executor ({@code executor.queued}, {@code executor.active}, {@code executor}
+ * and {@code executor.idle} timers) and turned-away requests count in {@code password.hashing.rejected}.
+ */
 @Component
 public class BcryptPasswordHasher implements PasswordHasher {
 
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private static final Logger log = LoggerFactory.getLogger(BcryptPasswordHasher.class);
+
+    private final BCryptPasswordEncoder encoder;
+    private final String dummyHash;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    @Autowired
+    public BcryptPasswordHasher(@Value("${password-hashing.bcrypt-strength}") int strength,
+                                @Value("${password-hashing.threads}") int threads,
+                                @Value("${password-hashing.queue-capacity}") int queueCapacity,
+                                @Value("${password-hashing.timeout}") Duration timeout,
+                                MeterRegistry meterRegistry) {
+        this(new BCryptPasswordEncoder(strength), threads, queueCapacity, timeout, meterRegistry);
+    }
+
+    BcryptPasswordHasher(BCryptPasswordEncoder encoder, int threads, int queueCapacity, Duration timeout,
+                         MeterRegistry meterRegistry) {
+        if (threads < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("password-hashing.threads must be at least 1 and queue-capacity at least 0");
+        }
+        this.encoder = encoder;
+        this.dummyHash = encoder.encode(UUID.randomUUID().toString());
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                daemonThreads(), new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password-hasher");
+        this.timeout = timeout;
+        this.queueFull = rejected(meterRegistry, "queue_full");
+        this.timedOut = rejected(meterRegistry, "timeout");
+    }
 
     @Override
     public String hash(String rawPassword) {
-        return encoder.encode(rawPassword);
+        return run(() -> encoder.encode(rawPassword));
     }
 
+    /**
+     * Returns false for a null hash after the same amount of work as a real comparison.
+     */
     @Override
     public boolean matches(String rawPassword, String hashedPassword) {
-        return encoder.matches(rawPassword, hashedPassword);
+        if (hashedPassword == null) {
+            run(() -> encoder.matches(rawPassword, dummyHash));
+            return false;
+        }
+        return run(() -> encoder.matches(rawPassword, hashedPassword));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            queueFull.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new ServiceUnavailableException("Too many authentication requests, please retry shortly");
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("Password hashing did not finish within {}", timeout);
+            throw new ServiceUnavailableException("Too many authentication requests, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("password.hashing.rejected")
+                .description("Hashing or matching requests turned away because the pool was saturated")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static CustomizableThreadFactory daemonThreads() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hasher-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
     }
-}
\ No newline at end of file
+}
@@ -13,12 +13,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
-    private final UserDetailsServiceAdapter userDetailsService;
+    private final JwtUserResolver userResolver;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -26,9 +27,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = extractToken(request);
 
-        if (token != null && jwtProvider.isValid(token)) {
-            String email = jwtProvider.extractEmail(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        Optional<UserDetails> user = token != null
+                ? jwtProvider.parse(token).flatMap(userResolver::resolve)
+                : Optional.empty();
+        if (user.isPresent()) {
+            UserDetails userDetails = user.get();
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
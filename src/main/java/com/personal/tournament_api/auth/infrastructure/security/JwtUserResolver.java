@@ -0,0 +1,93 @@
+package com.personal.tournament_api.auth.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Turns verified JWT claims into the authenticated principal.
+ * <ul>
+ *   <li>{@link Mode#DATABASE}: loads the user on every request, as before.</li>
+ *   <li>{@link Mode#CLAIMS}: trusts the {@code sub} and {@code role} claims signed by {@link JwtProvider}.
+ *   With a positive {@code userCacheTimeToLive} the user is still looked up, but at most once per TTL
+ *   per email, so a deleted user or a role change takes effect within the TTL instead of at token
+ *   expiry.</li>
+ * </ul>
+ */
+public class JwtUserResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtUserResolver.class);
+
+    public enum Mode {
+        CLAIMS,
+        DATABASE,
+    }
+
+    private final UserDetailsServiceAdapter userDetailsService;
+    private final Mode mode;
+    private final Cache<String, UserDetails> users;
+
+    public JwtUserResolver(UserDetailsServiceAdapter userDetailsService, Mode mode,
+                           Duration userCacheTimeToLive, long userCacheMaximumSize) {
+        this.userDetailsService = userDetailsService;
+        this.mode = mode;
+        this.users = mode == Mode.CLAIMS && !userCacheTimeToLive.isZero() && !userCacheTimeToLive.isNegative()
+                ? Caffeine.newBuilder()
+                        .maximumSize(userCacheMaximumSize)
+                        .expireAfterWrite(userCacheTimeToLive)
+                        .build()
+                : null;
+    }
+
+    public Optional<UserDetails> resolve(Claims claims) {
+        String email = claims.getSubject();
+        if (email == null) {
+            return Optional.empty();
+        }
+        if (mode == Mode.DATABASE) {
+            return load(email);
+        }
+        if (users != null) {
+            return cachedOrLoad(email);
+        }
+        String role = claims.get("role", String.class);
+        if (role == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new User(email, "", List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+    }
+
+    /**
+     * Loads outside the cache rather than through {@code Cache.get(key, loader)}: the loader would run the
+     * user query while holding a map bin lock, which pins the carrier when requests run on virtual threads.
+     * Two concurrent misses for the same email may both query; the later result wins.
+     */
+    private Optional<UserDetails> cachedOrLoad(String email) {
+        UserDetails cached = users.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserDetails> loaded = load(email);
+        loaded.ifPresent(user -> users.put(email, user));
+        return loaded;
+    }
+
+    private Optional<UserDetails> load(String email) {
+        try {
+            return Optional.of(userDetailsService.loadUserByUsername(email));
+        } catch (UsernameNotFoundException e) {
+            log.debug("Token subject no longer exists: {}", email);
+            return Optional.empty();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.personal.tournament_api.auth.infrastructure.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -10,16 +12,61 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * Paths that only ADMIN may call, reads included. Every other GET is public.
+     */
+    static final List<String> ADMIN_ONLY_PATHS = List.of(
+            "/actuator/**",
+            "/tournaments/deletion-jobs/**",
+            "/tournaments/*/export");
+
+    /**
+     * GETs that anyone may call, i.e. every GET outside {@link #ADMIN_ONLY_PATHS}. They make up most of
+     * the traffic and are served by a chain without the JWT filter, so an Authorization header sent along
+     * with a public read is never verified or resolved to a user.
+     */
+    static final RequestMatcher PUBLIC_READS = new AndRequestMatcher(
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, "/**"),
+            new NegatedRequestMatcher(new OrRequestMatcher(ADMIN_ONLY_PATHS.stream()
+                    .map(path -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(path))
+                    .toList())));
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher(PUBLIC_READS)
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
                                                    JwtProvider jwtProvider,
-                                                   UserDetailsServiceAdapter userDetailsService) throws Exception {
-        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(jwtProvider, userDetailsService);
+                                                   UserDetailsServiceAdapter userDetailsService,
+                                                   @Value("${jwt.authentication.mode}") JwtUserResolver.Mode mode,
+                                                   @Value("${jwt.authentication.user-cache.time-to-live}") Duration userCacheTimeToLive,
+                                                   @Value("${jwt.authentication.user-cache.maximum-size}") long userCacheMaximumSize) throws Exception {
+        JwtUserResolver userResolver = new JwtUserResolver(userDetailsService, mode, userCacheTimeToLive, userCacheMaximumSize);
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(jwtProvider, userResolver);
 
         return http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -27,6 +74,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(ADMIN_ONLY_PATHS.toArray(String[]::new)).hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/**").hasRole("ADMIN")
@@ -0,0 +1,51 @@
+package com.personal.tournament_api.match.application;
+
+import com.personal.tournament_api.match.application.usecases.CreateMatchesUseCase;
+import com.personal.tournament_api.match.domain.exceptions.InvalidMatchDataException;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class CreateMatchesService implements CreateMatchesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CreateMatchesService.class);
+
+    private final MatchRepository matchRepository;
+    private final MatchTeamPort matchTeamPort;
+
+    public CreateMatchesService(MatchRepository matchRepository, MatchTeamPort matchTeamPort) {
+        this.matchRepository = matchRepository;
+        this.matchTeamPort = matchTeamPort;
+    }
+
+    @Override
+    public List<Match> createAll(CreateMatchesCommand command) {
+        Long tournamentId = command.tournamentId();
+        log.info("Importing {} matches for tournament {}", command.matches().size(), tournamentId);
+
+        List<Match> matches = command.matches().stream()
+                .map(match -> Match.create(tournamentId, match.homeTeamId(), match.awayTeamId(),
+                        match.matchDate(), match.field(), match.matchday()))
+                .toList();
+
+        Set<Long> tournamentTeamIds = new HashSet<>(matchTeamPort.findTeamIdsByTournamentId(tournamentId));
+        matches.stream()
+                .flatMap(match -> Stream.of(match.getHomeTeamId(), match.getAwayTeamId()))
+                .filter(teamId -> !tournamentTeamIds.contains(teamId))
+                .findFirst()
+                .ifPresent(teamId -> {
+                    throw new InvalidMatchDataException("Team with ID " + teamId + " does not belong to tournament " + tournamentId);
+                });
+
+        List<Match> savedMatches = matchRepository.saveAll(matches);
+        log.info("Imported {} matches for tournament {}", savedMatches.size(), tournamentId);
+        return savedMatches;
+    }
+}
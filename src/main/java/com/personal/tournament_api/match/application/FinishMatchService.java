@@ -1,11 +1,14 @@
 package com.personal.tournament_api.match.application;
 
 import com.personal.tournament_api.match.application.usecases.FinishMatchUseCase;
+import com.personal.tournament_api.match.domain.events.MatchResultCorrectedEvent;
+import com.personal.tournament_api.match.domain.events.MatchResultSetEvent;
 import com.personal.tournament_api.match.domain.exceptions.MatchNotFoundException;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.ports.MatchRepository;
 import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
 import com.personal.tournament_api.match.domain.services.MatchResultService;
+import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,12 +19,14 @@ public class FinishMatchService implements FinishMatchUseCase {
     private final MatchRepository matchRepository;
     private final MatchTeamPort matchTeamPort;
     private final MatchResultService matchResultService;
+    private final DomainEventPublisher domainEventPublisher;
 
     public FinishMatchService(MatchRepository matchRepository, MatchTeamPort matchTeamPort,
-                              MatchResultService matchResultService) {
+                              MatchResultService matchResultService, DomainEventPublisher domainEventPublisher) {
         this.matchRepository = matchRepository;
         this.matchTeamPort = matchTeamPort;
         this.matchResultService = matchResultService;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     @Override
@@ -39,9 +44,16 @@ public class FinishMatchService implements FinishMatchUseCase {
             log.warn("Match {} result CORRECTED from {}-{} to {}-{}. Teams statistics updated.",
                     match.getId(), outcome.previousHomeScore(), outcome.previousAwayScore(),
                     command.homeTeamScore(), command.awayTeamScore());
+            domainEventPublisher.publish(new MatchResultCorrectedEvent(match.getTournamentId(), match.getId(),
+                    match.getHomeTeamId(), match.getAwayTeamId(),
+                    outcome.previousHomeScore(), outcome.previousAwayScore(),
+                    command.homeTeamScore(), command.awayTeamScore()));
         } else {
             log.info("Match {} result SET to {}-{}. Teams statistics updated.",
                     match.getId(), command.homeTeamScore(), command.awayTeamScore());
+            domainEventPublisher.publish(new MatchResultSetEvent(match.getTournamentId(), match.getId(),
+                    match.getHomeTeamId(), match.getAwayTeamId(),
+                    command.homeTeamScore(), command.awayTeamScore()));
         }
 
         return match;
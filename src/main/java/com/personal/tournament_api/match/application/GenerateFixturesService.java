@@ -0,0 +1,65 @@
+package com.personal.tournament_api.match.application;
+
+import com.personal.tournament_api.match.application.usecases.GenerateFixturesUseCase;
+import com.personal.tournament_api.match.domain.exceptions.FixtureAlreadyExistsException;
+import com.personal.tournament_api.match.domain.exceptions.NotEnoughTeamsForFixtureException;
+import com.personal.tournament_api.match.domain.model.FixtureSchedule;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
+import com.personal.tournament_api.match.domain.ports.MatchTournamentPort;
+import com.personal.tournament_api.match.domain.services.RoundRobinScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class GenerateFixturesService implements GenerateFixturesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerateFixturesService.class);
+
+    private static final int DEFAULT_DAYS_BETWEEN_MATCHDAYS = 7;
+    private static final int DEFAULT_MINUTES_BETWEEN_KICKOFFS = 120;
+
+    private final MatchRepository matchRepository;
+    private final MatchTeamPort matchTeamPort;
+    private final MatchTournamentPort matchTournamentPort;
+    private final RoundRobinScheduler roundRobinScheduler;
+
+    public GenerateFixturesService(MatchRepository matchRepository, MatchTeamPort matchTeamPort,
+                                   MatchTournamentPort matchTournamentPort, RoundRobinScheduler roundRobinScheduler) {
+        this.matchRepository = matchRepository;
+        this.matchTeamPort = matchTeamPort;
+        this.matchTournamentPort = matchTournamentPort;
+        this.roundRobinScheduler = roundRobinScheduler;
+    }
+
+    @Override
+    public List<Match> generate(GenerateFixturesCommand command) {
+        Long tournamentId = command.tournamentId();
+        log.info("Generating fixtures for tournament {}", tournamentId);
+
+        FixtureSchedule schedule = new FixtureSchedule(
+                command.firstMatchDate(),
+                command.daysBetweenMatchdays() != null ? command.daysBetweenMatchdays() : DEFAULT_DAYS_BETWEEN_MATCHDAYS,
+                command.minutesBetweenKickoffs() != null ? command.minutesBetweenKickoffs() : DEFAULT_MINUTES_BETWEEN_KICKOFFS,
+                command.fields(),
+                Boolean.TRUE.equals(command.doubleRoundRobin())
+        );
+
+        // Concurrent requests for the same tournament wait here, so only the first one finds no matches
+        matchTournamentPort.lockTournament(tournamentId);
+        if (matchRepository.existsByTournamentId(tournamentId)) {
+            throw new FixtureAlreadyExistsException(tournamentId);
+        }
+        List<Long> teamIds = matchTeamPort.findTeamIdsByTournamentId(tournamentId);
+        if (teamIds.size() < 2) {
+            throw new NotEnoughTeamsForFixtureException(tournamentId, teamIds.size());
+        }
+
+        List<Match> matches = roundRobinScheduler.schedule(tournamentId, teamIds, schedule);
+        List<Match> savedMatches = matchRepository.saveAll(matches);
+        log.info("Generated {} matches for {} teams in tournament {}", savedMatches.size(), teamIds.size(), tournamentId);
+        return savedMatches;
+    }
+}
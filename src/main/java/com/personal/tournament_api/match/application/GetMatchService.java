@@ -1,6 +1,8 @@
 package com.personal.tournament_api.match.application;
 
 import com.personal.tournament_api.match.application.usecases.GetMatchUseCase;
+import com.personal.tournament_api.match.domain.model.CursorPage;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
 import com.personal.tournament_api.match.domain.model.Page;
@@ -46,4 +48,11 @@ public class GetMatchService implements GetMatchUseCase {
                 tournamentId, criteria, pageRequest);
         return matchRepository.findByTournamentIdWithFilters(tournamentId, criteria, pageRequest);
     }
+
+    @Override
+    public CursorPage<Match> getByTournamentIdAfterCursor(Long tournamentId, MatchSearchCriteria criteria, CursorPageRequest pageRequest) {
+        log.info("Fetching matches for tournament {} with filters: {} and cursor: {}",
+                tournamentId, criteria, pageRequest);
+        return matchRepository.findByTournamentIdAfterCursor(tournamentId, criteria, pageRequest);
+    }
 }
@@ -1,9 +1,11 @@
 package com.personal.tournament_api.match.application;
 
 import com.personal.tournament_api.match.application.usecases.PostponeMatchUseCase;
+import com.personal.tournament_api.match.domain.events.MatchPostponedEvent;
 import com.personal.tournament_api.match.domain.exceptions.MatchNotFoundException;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,9 +14,11 @@ public class PostponeMatchService implements PostponeMatchUseCase {
     private static final Logger log = LoggerFactory.getLogger(PostponeMatchService.class);
 
     private final MatchRepository matchRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
-    public PostponeMatchService(MatchRepository matchRepository) {
+    public PostponeMatchService(MatchRepository matchRepository, DomainEventPublisher domainEventPublisher) {
         this.matchRepository = matchRepository;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     @Override
@@ -26,6 +30,8 @@ public class PostponeMatchService implements PostponeMatchUseCase {
 
         match.postponeMatch();
         Match postponedMatch = matchRepository.save(match);
+        domainEventPublisher.publish(new MatchPostponedEvent(postponedMatch.getTournamentId(), postponedMatch.getId(),
+                postponedMatch.getHomeTeamId(), postponedMatch.getAwayTeamId()));
 
         log.info("Match postponed with id: {}", postponedMatch.getId());
         return postponedMatch;
@@ -0,0 +1,134 @@
+package com.personal.tournament_api.match.application;
+
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase;
+import com.personal.tournament_api.match.domain.events.MatchResultCorrectedEvent;
+import com.personal.tournament_api.match.domain.events.MatchResultSetEvent;
+import com.personal.tournament_api.match.domain.exceptions.MatchDomainException;
+import com.personal.tournament_api.match.domain.exceptions.MatchNotFoundException;
+import com.personal.tournament_api.match.domain.exceptions.MatchNotInMatchdayException;
+import com.personal.tournament_api.match.domain.exceptions.MatchTeamNotInTournamentException;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchResultDelta;
+import com.personal.tournament_api.match.domain.model.MatchResultOutcome;
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort.TournamentTeams;
+import com.personal.tournament_api.match.domain.services.MatchResultService;
+import com.personal.tournament_api.shared.domain.events.DomainEvent;
+import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SubmitMatchdayResultsService implements SubmitMatchdayResultsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmitMatchdayResultsService.class);
+
+    private final MatchRepository matchRepository;
+    private final MatchTeamPort matchTeamPort;
+    private final MatchResultService matchResultService;
+    private final DomainEventPublisher domainEventPublisher;
+
+    public SubmitMatchdayResultsService(MatchRepository matchRepository, MatchTeamPort matchTeamPort,
+                                        MatchResultService matchResultService, DomainEventPublisher domainEventPublisher) {
+        this.matchRepository = matchRepository;
+        this.matchTeamPort = matchTeamPort;
+        this.matchResultService = matchResultService;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    @Override
+    public List<MatchResultReport> submit(SubmitMatchdayResultsCommand command) {
+        Long tournamentId = command.tournamentId();
+        log.info("Submitting {} results for matchday {} of tournament {}",
+                command.results().size(), command.matchday(), tournamentId);
+
+        List<Long> matchIds = command.results().stream()
+                .map(MatchResultEntry::matchId)
+                .distinct()
+                .toList();
+        Map<Long, Match> matchesById = matchRepository.findAllById(matchIds).stream()
+                .collect(Collectors.toMap(Match::getId, Function.identity()));
+        TournamentTeams tournamentTeams = loadTournamentTeams(tournamentId, matchesById.values());
+
+        List<MatchResultReport> reports = new ArrayList<>();
+        List<MatchResultDelta> pendingDeltas = new ArrayList<>();
+        Map<Long, Match> changedMatches = new LinkedHashMap<>();
+        List<DomainEvent> events = new ArrayList<>();
+
+        for (MatchResultEntry entry : command.results()) {
+            try {
+                Match match = getMatchInMatchday(matchesById, entry.matchId(), tournamentId, command.matchday());
+                ensureTeamsInTournament(match, tournamentTeams);
+                MatchResultOutcome outcome = matchResultService.recordResult(match,
+                        entry.homeTeamScore(), entry.awayTeamScore(), pendingDeltas);
+                changedMatches.put(match.getId(), match);
+                events.add(toEvent(match, outcome, entry));
+                reports.add(MatchResultReport.accepted(entry, outcome.isCorrection()));
+            } catch (MatchDomainException e) {
+                log.warn("Result for match {} rejected: {}", entry.matchId(), e.getMessage());
+                reports.add(MatchResultReport.rejected(entry, e.getMessage()));
+            }
+        }
+
+        matchResultService.applyPendingDeltas(pendingDeltas, tournamentTeams);
+        if (!changedMatches.isEmpty()) {
+            matchRepository.saveAll(new ArrayList<>(changedMatches.values()));
+        }
+        events.forEach(domainEventPublisher::publish);
+
+        log.info("Matchday {} of tournament {}: {} results accepted, {} rejected", command.matchday(), tournamentId,
+                pendingDeltas.size(), reports.size() - pendingDeltas.size());
+        return reports;
+    }
+
+    private Match getMatchInMatchday(Map<Long, Match> matchesById, Long matchId, Long tournamentId, Integer matchday) {
+        Match match = matchesById.get(matchId);
+        if (match == null || !tournamentId.equals(match.getTournamentId())) {
+            throw new MatchNotFoundException(matchId);
+        }
+        if (!matchday.equals(match.getMatchday())) {
+            throw new MatchNotInMatchdayException(matchId, matchday);
+        }
+        return match;
+    }
+
+    // Teams are loaded up front, once: a deleted or foreign team rejects its entry instead of the whole matchday,
+    // and the accepted results are applied to these same teams
+    private TournamentTeams loadTournamentTeams(Long tournamentId, Collection<Match> matches) {
+        List<Long> teamIds = matches.stream()
+                .filter(match -> tournamentId.equals(match.getTournamentId()))
+                .flatMap(match -> Stream.of(match.getHomeTeamId(), match.getAwayTeamId()))
+                .distinct()
+                .toList();
+        return matchTeamPort.loadTeamsInTournament(tournamentId, teamIds);
+    }
+
+    private void ensureTeamsInTournament(Match match, TournamentTeams tournamentTeams) {
+        for (Long teamId : List.of(match.getHomeTeamId(), match.getAwayTeamId())) {
+            if (!tournamentTeams.contains(teamId)) {
+                throw new MatchTeamNotInTournamentException(teamId, match.getTournamentId());
+            }
+        }
+    }
+
+    private DomainEvent toEvent(Match match, MatchResultOutcome outcome, MatchResultEntry entry) {
+        if (outcome.isCorrection()) {
+            return new MatchResultCorrectedEvent(match.getTournamentId(), match.getId(),
+                    match.getHomeTeamId(), match.getAwayTeamId(),
+                    outcome.previousHomeScore(), outcome.previousAwayScore(),
+                    entry.homeTeamScore(), entry.awayTeamScore());
+        }
+        return new MatchResultSetEvent(match.getTournamentId(), match.getId(),
+                match.getHomeTeamId(), match.getAwayTeamId(),
+                entry.homeTeamScore(), entry.awayTeamScore());
+    }
+}
@@ -0,0 +1,24 @@
+package com.personal.tournament_api.match.application;
+
+import com.personal.tournament_api.match.application.usecases.WatchTournamentUseCase;
+import com.personal.tournament_api.match.domain.ports.MatchTournamentPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class WatchTournamentService implements WatchTournamentUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchTournamentService.class);
+
+    private final MatchTournamentPort matchTournamentPort;
+
+    public WatchTournamentService(MatchTournamentPort matchTournamentPort) {
+        this.matchTournamentPort = matchTournamentPort;
+    }
+
+    @Override
+    public void watch(Long tournamentId) {
+        log.debug("Opening live feed of tournament with id: {}", tournamentId);
+        // An unknown tournament would never publish anything, so it is rejected before the stream opens
+        matchTournamentPort.ensureTournamentExists(tournamentId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.personal.tournament_api.match.application.usecases;
+
+import com.personal.tournament_api.match.domain.model.Match;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CreateMatchesUseCase {
+
+    List<Match> createAll(CreateMatchesCommand command);
+
+    record CreateMatchesCommand(
+            Long tournamentId,
+            List<MatchData> matches
+    ) {}
+
+    record MatchData(
+            Long homeTeamId,
+            Long awayTeamId,
+            LocalDateTime matchDate,
+            String field,
+            Integer matchday
+    ) {}
+}
@@ -0,0 +1,20 @@
+package com.personal.tournament_api.match.application.usecases;
+
+import com.personal.tournament_api.match.domain.model.Match;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GenerateFixturesUseCase {
+
+    List<Match> generate(GenerateFixturesCommand command);
+
+    record GenerateFixturesCommand(
+            Long tournamentId,
+            LocalDateTime firstMatchDate,
+            Integer daysBetweenMatchdays,
+            Integer minutesBetweenKickoffs,
+            List<String> fields,
+            Boolean doubleRoundRobin
+    ) {}
+}
@@ -1,5 +1,7 @@
 package com.personal.tournament_api.match.application.usecases;
 
+import com.personal.tournament_api.match.domain.model.CursorPage;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
 import com.personal.tournament_api.match.domain.model.Page;
@@ -17,4 +19,6 @@ public interface GetMatchUseCase {
     List<Match> getAllByTeamId(Long teamId);
 
     Page<Match> getByTournamentIdWithFilters(Long tournamentId, MatchSearchCriteria criteria, PageRequest pageRequest);
+
+    CursorPage<Match> getByTournamentIdAfterCursor(Long tournamentId, MatchSearchCriteria criteria, CursorPageRequest pageRequest);
 }
@@ -0,0 +1,44 @@
+package com.personal.tournament_api.match.application.usecases;
+
+import java.util.List;
+
+public interface SubmitMatchdayResultsUseCase {
+
+    List<MatchResultReport> submit(SubmitMatchdayResultsCommand command);
+
+    record SubmitMatchdayResultsCommand(
+            Long tournamentId,
+            Integer matchday,
+            List<MatchResultEntry> results
+    ) {}
+
+    record MatchResultEntry(
+            Long matchId,
+            Integer homeTeamScore,
+            Integer awayTeamScore
+    ) {}
+
+    enum ResultStatus {
+        SET,
+        CORRECTED,
+        REJECTED
+    }
+
+    record MatchResultReport(
+            Long matchId,
+            ResultStatus status,
+            Integer homeTeamScore,
+            Integer awayTeamScore,
+            String error
+    ) {
+        public static MatchResultReport accepted(MatchResultEntry entry, boolean isCorrection) {
+            return new MatchResultReport(entry.matchId(), isCorrection ? ResultStatus.CORRECTED : ResultStatus.SET,
+                    entry.homeTeamScore(), entry.awayTeamScore(), null);
+        }
+
+        public static MatchResultReport rejected(MatchResultEntry entry, String error) {
+            return new MatchResultReport(entry.matchId(), ResultStatus.REJECTED,
+                    entry.homeTeamScore(), entry.awayTeamScore(), error);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.personal.tournament_api.match.application.usecases;
+
+public interface WatchTournamentUseCase {
+
+    void watch(Long tournamentId);
+}
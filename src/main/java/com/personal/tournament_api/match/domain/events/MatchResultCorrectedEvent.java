@@ -0,0 +1,8 @@
+package com.personal.tournament_api.match.domain.events;
+
+import com.personal.tournament_api.shared.domain.events.DomainEvent;
+
+public record MatchResultCorrectedEvent(Long tournamentId, Long matchId, Long homeTeamId, Long awayTeamId,
+                                        Integer previousHomeTeamScore, Integer previousAwayTeamScore,
+                                        Integer homeTeamScore, Integer awayTeamScore) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.personal.tournament_api.match.domain.events;
+
+import com.personal.tournament_api.shared.domain.events.DomainEvent;
+
+public record MatchResultSetEvent(Long tournamentId, Long matchId, Long homeTeamId, Long awayTeamId,
+                                  Integer homeTeamScore, Integer awayTeamScore) implements DomainEvent {
+}
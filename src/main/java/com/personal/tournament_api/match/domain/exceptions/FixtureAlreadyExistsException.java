@@ -0,0 +1,10 @@
+package com.personal.tournament_api.match.domain.exceptions;
+
+import com.personal.tournament_api.shared.domain.enums.DomainErrorType;
+
+public class FixtureAlreadyExistsException extends MatchDomainException {
+    public FixtureAlreadyExistsException(Long tournamentId) {
+        super("Tournament with ID " + tournamentId + " already has matches; fixtures can only be generated for a tournament without matches",
+                DomainErrorType.CONFLICT);
+    }
+}
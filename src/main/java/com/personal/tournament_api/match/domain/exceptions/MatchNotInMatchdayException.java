@@ -0,0 +1,10 @@
+package com.personal.tournament_api.match.domain.exceptions;
+
+import com.personal.tournament_api.shared.domain.enums.DomainErrorType;
+
+public class MatchNotInMatchdayException extends MatchDomainException {
+    public MatchNotInMatchdayException(Long matchId, Integer matchday) {
+        super("Match with ID " + matchId + " does not belong to matchday " + matchday,
+                DomainErrorType.RULE_VIOLATION);
+    }
+}
@@ -0,0 +1,10 @@
+package com.personal.tournament_api.match.domain.exceptions;
+
+import com.personal.tournament_api.shared.domain.enums.DomainErrorType;
+
+public class MatchTeamNotInTournamentException extends MatchDomainException {
+    public MatchTeamNotInTournamentException(Long teamId, Long tournamentId) {
+        super("Team with ID " + teamId + " does not exist in tournament " + tournamentId,
+                DomainErrorType.RULE_VIOLATION);
+    }
+}
@@ -0,0 +1,10 @@
+package com.personal.tournament_api.match.domain.exceptions;
+
+import com.personal.tournament_api.shared.domain.enums.DomainErrorType;
+
+public class NotEnoughTeamsForFixtureException extends MatchDomainException {
+    public NotEnoughTeamsForFixtureException(Long tournamentId, int teamCount) {
+        super("Tournament with ID " + tournamentId + " has " + teamCount + " team(s); at least 2 are needed to generate fixtures",
+                DomainErrorType.RULE_VIOLATION);
+    }
+}
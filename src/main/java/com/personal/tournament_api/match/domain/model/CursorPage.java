@@ -0,0 +1,72 @@
+package com.personal.tournament_api.match.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Value Object que representa una página obtenida por cursor.
+ * No conoce el total de elementos; solo si existe una página siguiente y el cursor para pedirla.
+ */
+public class CursorPage<T> {
+    private final List<T> content;
+    private final int size;
+    private final MatchCursor nextCursor;
+
+    public CursorPage(List<T> content, int size, MatchCursor nextCursor) {
+        this.content = Objects.requireNonNull(content, "Content cannot be null");
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from a query that fetched up to {@code size + 1} matches: the extra row only
+     * signals that a next page exists and is not returned.
+     */
+    public static CursorPage<Match> fromLookahead(List<Match> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, size, null);
+        }
+        List<Match> content = fetched.subList(0, size);
+        return new CursorPage<>(content, size, MatchCursor.of(content.get(size - 1)));
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public MatchCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CursorPage<?> that = (CursorPage<?>) o;
+        return size == that.size &&
+               Objects.equals(content, that.content) &&
+               Objects.equals(nextCursor, that.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, size, nextCursor);
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPage{" +
+                "content=" + content.size() + " items" +
+                ", size=" + size +
+                ", nextCursor=" + nextCursor +
+                '}';
+    }
+}
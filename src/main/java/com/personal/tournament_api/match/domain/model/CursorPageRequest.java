@@ -0,0 +1,77 @@
+package com.personal.tournament_api.match.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Value Object para solicitudes de paginación por cursor (keyset).
+ * Ordena por (matchDate, id) y continúa después de {@code after}, sin offset ni conteo total.
+ */
+public class CursorPageRequest {
+    private final MatchCursor after;
+    private final int size;
+    private final PageRequest.SortDirection direction;
+
+    private CursorPageRequest(MatchCursor after, int size, PageRequest.SortDirection direction) {
+        this.after = after;
+        this.size = size;
+        this.direction = Objects.requireNonNull(direction, "Direction cannot be null");
+        validate();
+    }
+
+    public static CursorPageRequest first(int size, PageRequest.SortDirection direction) {
+        return new CursorPageRequest(null, size, direction);
+    }
+
+    public static CursorPageRequest after(MatchCursor after, int size, PageRequest.SortDirection direction) {
+        return new CursorPageRequest(after, size, direction);
+    }
+
+    private void validate() {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (size > 100) {
+            throw new IllegalArgumentException("Page size must not exceed 100");
+        }
+    }
+
+    public MatchCursor getAfter() {
+        return after;
+    }
+
+    public boolean hasCursor() {
+        return after != null;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public PageRequest.SortDirection getDirection() {
+        return direction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CursorPageRequest that = (CursorPageRequest) o;
+        return size == that.size &&
+               Objects.equals(after, that.after) &&
+               direction == that.direction;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(after, size, direction);
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPageRequest{" +
+                "after=" + after +
+                ", size=" + size +
+                ", direction=" + direction +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.personal.tournament_api.match.domain.model;
+
+import com.personal.tournament_api.match.domain.exceptions.InvalidMatchDataException;
+import com.personal.tournament_api.match.domain.exceptions.InvalidMatchDateException;
+import com.personal.tournament_api.match.domain.model.vo.MatchField;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Calendario de un fixture: la primera jornada empieza en {@code firstMatchDate}, cada jornada siguiente
+ * {@code daysBetweenMatchdays} días después, y dentro de una jornada los partidos se reparten entre las
+ * canchas y, cuando no alcanzan, en turnos separados por {@code minutesBetweenKickoffs}.
+ */
+public record FixtureSchedule(
+        LocalDateTime firstMatchDate,
+        int daysBetweenMatchdays,
+        int minutesBetweenKickoffs,
+        List<String> fields,
+        boolean doubleRoundRobin
+) {
+
+    public FixtureSchedule {
+        if (firstMatchDate == null) throw new InvalidMatchDateException();
+        if (daysBetweenMatchdays <= 0) {
+            throw new InvalidMatchDataException("Days between matchdays must be a positive number");
+        }
+        if (minutesBetweenKickoffs <= 0) {
+            throw new InvalidMatchDataException("Minutes between kick-offs must be a positive number");
+        }
+        if (fields == null || fields.isEmpty()) {
+            throw new InvalidMatchDataException("At least one field is required to generate fixtures");
+        }
+        fields.forEach(MatchField::new);
+        fields = List.copyOf(fields);
+    }
+
+    public LocalDateTime kickOff(int matchday, int matchIndex) {
+        int slot = matchIndex / fields.size();
+        return firstMatchDate
+                .plusDays((long) (matchday - 1) * daysBetweenMatchdays)
+                .plusMinutes((long) slot * minutesBetweenKickoffs);
+    }
+
+    public String field(int matchIndex) {
+        return fields.get(matchIndex % fields.size());
+    }
+}
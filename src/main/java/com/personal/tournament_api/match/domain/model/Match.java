@@ -45,6 +45,21 @@ public class Match {
                 null, null, matchDate, new MatchField(field), MatchStatus.SCHEDULED, matchday);
     }
 
+    /**
+     * Restaura un partido nuevo a partir de datos externos (p. ej. un archivo de torneo), validándolo
+     * igual que {@link #create} y comprobando que el marcador sea coherente con el estado.
+     */
+    public static Match restore(Long tournamentId, Long homeTeamId, Long awayTeamId,
+                                Integer homeTeamScore, Integer awayTeamScore,
+                                LocalDateTime matchDate, String field, MatchStatus status, Integer matchday) {
+        validateIdentifiers(tournamentId, homeTeamId, awayTeamId);
+        validateMatchDate(matchDate);
+        validateMatchday(matchday);
+        validateResult(status, homeTeamScore, awayTeamScore);
+        return new Match(null, tournamentId, homeTeamId, awayTeamId,
+                homeTeamScore, awayTeamScore, matchDate, new MatchField(field), status, matchday);
+    }
+
     public static Match reconstitute(Long id, Long tournamentId, Long homeTeamId, Long awayTeamId,
                                      Integer homeTeamScore, Integer awayTeamScore,
                                      LocalDateTime matchDate, String field, MatchStatus status, Integer matchday) {
@@ -114,10 +129,24 @@ public class Match {
         }
     }
 
-    private void validateScore(int homeScore, int awayScore) {
+    private static void validateScore(int homeScore, int awayScore) {
         if (homeScore < 0 || awayScore < 0) throw new InvalidMatchScoreException();
     }
 
+    private static void validateResult(MatchStatus status, Integer homeScore, Integer awayScore) {
+        if (status == null) {
+            throw new InvalidMatchDataException("Match status is required");
+        }
+        if (status == MatchStatus.FINISHED) {
+            if (homeScore == null || awayScore == null) {
+                throw new InvalidMatchDataException("A finished match must have both scores");
+            }
+            validateScore(homeScore, awayScore);
+        } else if (homeScore != null || awayScore != null) {
+            throw new InvalidMatchDataException("Only a finished match can have a score");
+        }
+    }
+
     // --- Getters ---
 
     public Long getId() { return id; }
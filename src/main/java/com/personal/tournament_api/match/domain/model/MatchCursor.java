@@ -0,0 +1,19 @@
+package com.personal.tournament_api.match.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Position of a match in the (matchDate, id) ordering used by cursor pagination.
+ */
+public record MatchCursor(LocalDateTime matchDate, Long id) {
+
+    public MatchCursor {
+        Objects.requireNonNull(matchDate, "Cursor match date cannot be null");
+        Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    public static MatchCursor of(Match match) {
+        return new MatchCursor(match.getMatchDate(), match.getId());
+    }
+}
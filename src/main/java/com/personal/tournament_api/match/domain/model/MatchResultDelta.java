@@ -0,0 +1,13 @@
+package com.personal.tournament_api.match.domain.model;
+
+/**
+ * Cambio que un resultado produce en las estadísticas de los dos equipos de un partido: se revierte
+ * {@code previousScore} (si lo hay) y se registra {@code newScore} (si lo hay).
+ */
+public record MatchResultDelta(
+        Long homeTeamId,
+        Long awayTeamId,
+        MatchScore previousScore,
+        MatchScore newScore
+) {
+}
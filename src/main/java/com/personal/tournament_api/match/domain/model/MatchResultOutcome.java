@@ -12,4 +12,8 @@ public record MatchResultOutcome(
     public static MatchResultOutcome correction(Integer previousHomeScore, Integer previousAwayScore) {
         return new MatchResultOutcome(true, previousHomeScore, previousAwayScore);
     }
+
+    public MatchScore previousScore() {
+        return isCorrection ? new MatchScore(previousHomeScore, previousAwayScore) : null;
+    }
 }
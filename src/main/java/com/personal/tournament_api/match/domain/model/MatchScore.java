@@ -0,0 +1,4 @@
+package com.personal.tournament_api.match.domain.model;
+
+public record MatchScore(int homeScore, int awayScore) {
+}
@@ -13,6 +13,8 @@ public class Page<T> {
     private final int size;
     private final long totalElements;
     private final int totalPages;
+    private final boolean totalKnown;
+    private final boolean hasNext;
 
     public Page(List<T> content, int page, int size, long totalElements) {
         this.content = Objects.requireNonNull(content, "Content cannot be null");
@@ -20,6 +22,35 @@ public class Page<T> {
         this.size = size;
         this.totalElements = totalElements;
         this.totalPages = size > 0 ? (int) Math.ceil((double) totalElements / size) : 0;
+        this.totalKnown = true;
+        this.hasNext = page < totalPages - 1;
+    }
+
+    private Page(List<T> content, int page, int size, boolean hasNext) {
+        this.content = Objects.requireNonNull(content, "Content cannot be null");
+        this.page = page;
+        this.size = size;
+        this.totalElements = -1;
+        this.totalPages = -1;
+        this.totalKnown = false;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Página sin total (tipo Slice): solo se sabe si existe una página siguiente.
+     * {@link #getTotalElements()} y {@link #getTotalPages()} devuelven -1.
+     */
+    public static <T> Page<T> withoutTotal(List<T> content, int page, int size, boolean hasNext) {
+        return new Page<>(content, page, size, hasNext);
+    }
+
+    /**
+     * Misma página (total, número y tamaño) con otro contenido, p. ej. tras mapear a DTOs.
+     */
+    public <R> Page<R> withContent(List<R> newContent) {
+        return totalKnown
+                ? new Page<>(newContent, page, size, totalElements)
+                : new Page<>(newContent, page, size, hasNext);
     }
 
     public List<T> getContent() {
@@ -42,6 +73,10 @@ public class Page<T> {
         return totalPages;
     }
 
+    public boolean isTotalKnown() {
+        return totalKnown;
+    }
+
     public boolean hasContent() {
         return !content.isEmpty();
     }
@@ -55,11 +90,11 @@ public class Page<T> {
     }
 
     public boolean isLast() {
-        return page >= totalPages - 1;
+        return !hasNext;
     }
 
     public boolean hasNext() {
-        return page < totalPages - 1;
+        return hasNext;
     }
 
     public boolean hasPrevious() {
@@ -75,12 +110,14 @@ public class Page<T> {
                size == page1.size &&
                totalElements == page1.totalElements &&
                totalPages == page1.totalPages &&
+               totalKnown == page1.totalKnown &&
+               hasNext == page1.hasNext &&
                Objects.equals(content, page1.content);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(content, page, size, totalElements, totalPages);
+        return Objects.hash(content, page, size, totalElements, totalPages, totalKnown, hasNext);
     }
 
     @Override
@@ -91,6 +128,7 @@ public class Page<T> {
                 ", size=" + size +
                 ", totalElements=" + totalElements +
                 ", totalPages=" + totalPages +
+                ", hasNext=" + hasNext +
                 '}';
     }
 }
@@ -12,17 +12,23 @@ public class PageRequest {
     private final String sortBy;
     private final SortDirection direction;
     private final String secondarySortBy;
+    private final boolean withTotal;
 
     public enum SortDirection {
         ASC, DESC
     }
 
     private PageRequest(int page, int size, String sortBy, SortDirection direction, String secondarySortBy) {
+        this(page, size, sortBy, direction, secondarySortBy, true);
+    }
+
+    private PageRequest(int page, int size, String sortBy, SortDirection direction, String secondarySortBy, boolean withTotal) {
         this.page = page;
         this.size = size;
         this.sortBy = sortBy;
         this.direction = direction;
         this.secondarySortBy = secondarySortBy;
+        this.withTotal = withTotal;
         validate();
     }
 
@@ -38,6 +44,13 @@ public class PageRequest {
         return new PageRequest(page, size, sortBy, direction, secondarySortBy);
     }
 
+    /**
+     * Misma solicitud pero sin total: la página resultante solo indica si existe una siguiente.
+     */
+    public PageRequest withoutTotal() {
+        return new PageRequest(page, size, sortBy, direction, secondarySortBy, false);
+    }
+
     private void validate() {
         if (page < 0) {
             throw new IllegalArgumentException("Page number must be non-negative");
@@ -70,6 +83,10 @@ public class PageRequest {
         return secondarySortBy;
     }
 
+    public boolean isWithTotal() {
+        return withTotal;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -79,12 +96,13 @@ public class PageRequest {
                size == that.size &&
                Objects.equals(sortBy, that.sortBy) &&
                direction == that.direction &&
-               Objects.equals(secondarySortBy, that.secondarySortBy);
+               Objects.equals(secondarySortBy, that.secondarySortBy) &&
+               withTotal == that.withTotal;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(page, size, sortBy, direction, secondarySortBy);
+        return Objects.hash(page, size, sortBy, direction, secondarySortBy, withTotal);
     }
 
     @Override
@@ -95,6 +113,7 @@ public class PageRequest {
                 ", sortBy='" + sortBy + '\'' +
                 ", direction=" + direction +
                 ", secondarySortBy='" + secondarySortBy + '\'' +
+                ", withTotal=" + withTotal +
                 '}';
     }
 }
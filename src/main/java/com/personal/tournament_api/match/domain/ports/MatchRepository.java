@@ -1,26 +1,44 @@
 package com.personal.tournament_api.match.domain.ports;
 
+import com.personal.tournament_api.match.domain.model.CursorPage;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
 import com.personal.tournament_api.match.domain.model.Page;
 import com.personal.tournament_api.match.domain.model.PageRequest;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface MatchRepository {
 
     Match save(Match match);
 
+    List<Match> saveAll(List<Match> matches);
+
     Optional<Match> findById(Long id);
 
+    List<Match> findAllById(Collection<Long> ids);
+
     List<Match> findAllByTournamentId(Long tournamentId);
 
+    long forEachByTournamentId(Long tournamentId, Consumer<Match> action);
+
     List<Match> findAllByTeamId(Long teamId);
 
+    long countByTeamId(Long teamId);
+
+    boolean existsByTournamentId(Long tournamentId);
+
     Page<Match> findByTournamentIdWithFilters(Long tournamentId, MatchSearchCriteria criteria, PageRequest pageRequest);
 
+    CursorPage<Match> findByTournamentIdAfterCursor(Long tournamentId, MatchSearchCriteria criteria, CursorPageRequest pageRequest);
+
     void deleteById(Long id);
 
     void deleteByTournamentId(Long tournamentId);
+
+    int deleteChunkByTournamentId(Long tournamentId, int limit);
 }
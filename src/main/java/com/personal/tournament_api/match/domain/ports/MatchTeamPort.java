@@ -1,10 +1,42 @@
 package com.personal.tournament_api.match.domain.ports;
 
+import com.personal.tournament_api.match.domain.model.MatchResultDelta;
+import com.personal.tournament_api.match.domain.model.MatchScore;
+
+import java.util.Collection;
+import java.util.List;
+
 public interface MatchTeamPort {
 
-    void validateBelongsToTournament(Long teamId, Long tournamentId);
+    /**
+     * Ids of the tournament's teams, in a stable order (by name).
+     */
+    List<Long> findTeamIdsByTournamentId(Long tournamentId);
+
+    /**
+     * Loads in one query the teams among {@code teamIds} that exist and belong to the tournament. Result
+     * deltas are then applied to those same teams through the returned handle, without reading them again.
+     */
+    TournamentTeams loadTeamsInTournament(Long tournamentId, Collection<Long> teamIds);
+
+    /**
+     * Validates that both teams belong to the tournament, reverses {@code previousScore} (if any)
+     * and records {@code newScore} (if any) on both teams, persisting them in a single write.
+     */
+    void applyResultDelta(Long tournamentId, Long homeTeamId, Long awayTeamId,
+                          MatchScore previousScore, MatchScore newScore);
+
+    /**
+     * Teams loaded by {@link #loadTeamsInTournament}.
+     */
+    interface TournamentTeams {
 
-    void recordMatchResult(Long teamId, int goalsFor, int goalsAgainst);
+        boolean contains(Long teamId);
 
-    void reverseMatchResult(Long teamId, int goalsFor, int goalsAgainst);
+        /**
+         * Applies the deltas in order to the loaded teams and persists the ones they touch in a single write,
+         * so a team touched by more than one delta is saved once. Every team in the deltas must be loaded.
+         */
+        void applyResultDeltas(List<MatchResultDelta> deltas);
+    }
 }
@@ -0,0 +1,16 @@
+package com.personal.tournament_api.match.domain.ports;
+
+public interface MatchTournamentPort {
+
+    /**
+     * Locks the tournament until the current transaction ends, so checks made on its matches afterwards
+     * cannot race with another transaction doing the same. Fails with the tournament module's not-found
+     * error when the tournament does not exist.
+     */
+    void lockTournament(Long tournamentId);
+
+    /**
+     * Fails with the tournament module's not-found error when the tournament does not exist.
+     */
+    void ensureTournamentExists(Long tournamentId);
+}
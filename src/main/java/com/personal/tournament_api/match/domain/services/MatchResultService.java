@@ -2,38 +2,53 @@ package com.personal.tournament_api.match.domain.services;
 
 import com.personal.tournament_api.match.domain.exceptions.InvalidMatchDataException;
 import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchResultDelta;
 import com.personal.tournament_api.match.domain.model.MatchResultOutcome;
+import com.personal.tournament_api.match.domain.model.MatchScore;
 import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort.TournamentTeams;
+
+import java.util.List;
 
 public class MatchResultService {
 
     public MatchResultOutcome registerResult(Match match, MatchTeamPort teamPort, int homeScore, int awayScore) {
-        teamPort.validateBelongsToTournament(match.getHomeTeamId(), match.getTournamentId());
-        teamPort.validateBelongsToTournament(match.getAwayTeamId(), match.getTournamentId());
-
         MatchResultOutcome outcome = match.setMatchResult(homeScore, awayScore);
 
-        if (outcome.isCorrection()) {
-            teamPort.reverseMatchResult(match.getHomeTeamId(), outcome.previousHomeScore(), outcome.previousAwayScore());
-            teamPort.reverseMatchResult(match.getAwayTeamId(), outcome.previousAwayScore(), outcome.previousHomeScore());
-        }
+        teamPort.applyResultDelta(match.getTournamentId(), match.getHomeTeamId(), match.getAwayTeamId(),
+                outcome.previousScore(), new MatchScore(homeScore, awayScore));
+
+        return outcome;
+    }
+
+    /**
+     * Registra el resultado en el partido igual que {@link #registerResult}, pero en lugar de actualizar los
+     * equipos agrega el cambio a {@code pendingDeltas}, para aplicar los de toda una jornada de una vez con
+     * {@link #applyPendingDeltas}.
+     */
+    public MatchResultOutcome recordResult(Match match, int homeScore, int awayScore, List<MatchResultDelta> pendingDeltas) {
+        MatchResultOutcome outcome = match.setMatchResult(homeScore, awayScore);
 
-        teamPort.recordMatchResult(match.getHomeTeamId(), homeScore, awayScore);
-        teamPort.recordMatchResult(match.getAwayTeamId(), awayScore, homeScore);
+        pendingDeltas.add(new MatchResultDelta(match.getHomeTeamId(), match.getAwayTeamId(),
+                outcome.previousScore(), new MatchScore(homeScore, awayScore)));
 
         return outcome;
     }
 
+    public void applyPendingDeltas(List<MatchResultDelta> pendingDeltas, TournamentTeams teams) {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        teams.applyResultDeltas(pendingDeltas);
+    }
+
     public void revertMatchResult(Match match, MatchTeamPort teamPort) {
         if (!match.hasResult()) {
             throw new InvalidMatchDataException("Cannot revert result from a match without a result");
         }
 
-        teamPort.validateBelongsToTournament(match.getHomeTeamId(), match.getTournamentId());
-        teamPort.validateBelongsToTournament(match.getAwayTeamId(), match.getTournamentId());
-
-        teamPort.reverseMatchResult(match.getHomeTeamId(), match.getHomeTeamScore(), match.getAwayTeamScore());
-        teamPort.reverseMatchResult(match.getAwayTeamId(), match.getAwayTeamScore(), match.getHomeTeamScore());
+        reverseCurrentResult(match, teamPort);
     }
 
     public void prepareMatchForDeletion(Match match, MatchTeamPort teamPort) {
@@ -41,10 +56,11 @@ public class MatchResultService {
             return;
         }
 
-        teamPort.validateBelongsToTournament(match.getHomeTeamId(), match.getTournamentId());
-        teamPort.validateBelongsToTournament(match.getAwayTeamId(), match.getTournamentId());
+        reverseCurrentResult(match, teamPort);
+    }
 
-        teamPort.reverseMatchResult(match.getHomeTeamId(), match.getHomeTeamScore(), match.getAwayTeamScore());
-        teamPort.reverseMatchResult(match.getAwayTeamId(), match.getAwayTeamScore(), match.getHomeTeamScore());
+    private void reverseCurrentResult(Match match, MatchTeamPort teamPort) {
+        teamPort.applyResultDelta(match.getTournamentId(), match.getHomeTeamId(), match.getAwayTeamId(),
+                new MatchScore(match.getHomeTeamScore(), match.getAwayTeamScore()), null);
     }
 }
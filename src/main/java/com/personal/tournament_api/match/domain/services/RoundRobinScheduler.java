@@ -0,0 +1,65 @@
+package com.personal.tournament_api.match.domain.services;
+
+import com.personal.tournament_api.match.domain.model.FixtureSchedule;
+import com.personal.tournament_api.match.domain.model.Match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Genera un todos contra todos con el método del círculo: el primer equipo queda fijo y el resto rota una
+ * posición por jornada, de modo que cada par se enfrenta exactamente una vez en {@code n - 1} jornadas
+ * ({@code n} redondeado a par; con un número impar de equipos, a quien le toca el hueco descansa). La
+ * localía del equipo fijo alterna cada jornada. En ida y vuelta, la segunda vuelta repite las jornadas
+ * con la localía invertida.
+ */
+public class RoundRobinScheduler {
+
+    public List<Match> schedule(Long tournamentId, List<Long> teamIds, FixtureSchedule schedule) {
+        List<Long> circle = new ArrayList<>(teamIds);
+        if (circle.size() % 2 != 0) {
+            circle.add(null);
+        }
+        int teams = circle.size();
+        int rounds = teams - 1;
+        int legs = schedule.doubleRoundRobin() ? 2 : 1;
+        List<Match> matches = new ArrayList<>(legs * rounds * teams / 2);
+
+        List<List<Long[]>> pairingsByRound = new ArrayList<>(rounds);
+        for (int round = 0; round < rounds; round++) {
+            pairingsByRound.add(pairings(circle, round));
+            Collections.rotate(circle.subList(1, teams), 1);
+        }
+
+        for (int leg = 0; leg < legs; leg++) {
+            for (int round = 0; round < rounds; round++) {
+                int matchday = leg * rounds + round + 1;
+                List<Long[]> pairings = pairingsByRound.get(round);
+                for (int i = 0; i < pairings.size(); i++) {
+                    Long[] pairing = pairings.get(i);
+                    Long homeTeamId = leg == 0 ? pairing[0] : pairing[1];
+                    Long awayTeamId = leg == 0 ? pairing[1] : pairing[0];
+                    matches.add(Match.create(tournamentId, homeTeamId, awayTeamId,
+                            schedule.kickOff(matchday, i), schedule.field(i), matchday));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static List<Long[]> pairings(List<Long> circle, int round) {
+        int teams = circle.size();
+        List<Long[]> pairings = new ArrayList<>(teams / 2);
+        for (int i = 0; i < teams / 2; i++) {
+            Long first = circle.get(i);
+            Long second = circle.get(teams - 1 - i);
+            if (first == null || second == null) {
+                continue;
+            }
+            boolean swap = i == 0 && round % 2 != 0;
+            pairings.add(swap ? new Long[]{second, first} : new Long[]{first, second});
+        }
+        return pairings;
+    }
+}
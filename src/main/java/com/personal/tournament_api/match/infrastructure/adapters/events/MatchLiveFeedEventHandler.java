@@ -0,0 +1,49 @@
+package com.personal.tournament_api.match.infrastructure.adapters.events;
+
+import com.personal.tournament_api.match.domain.events.MatchPostponedEvent;
+import com.personal.tournament_api.match.domain.events.MatchResultCorrectedEvent;
+import com.personal.tournament_api.match.domain.events.MatchResultSetEvent;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.LiveMatchEventDTO;
+import com.personal.tournament_api.shared.infrastructure.web.LiveFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Adaptador de entrada (Spring Events → Live feed).
+ * Traduce los eventos de resultado y aplazamiento de partidos en actualizaciones del canal en vivo del torneo.
+ * Escucha después del commit para no anunciar cambios que luego se reviertan. La clasificación la publica
+ * el módulo de equipos, que es quien la conoce.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchLiveFeedEventHandler {
+
+    static final String MATCH_EVENT = "match";
+
+    private final LiveFeed liveFeed;
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(MatchResultSetEvent event) {
+        publishMatch(event.tournamentId(), new LiveMatchEventDTO(LiveMatchEventDTO.Type.RESULT_SET,
+                event.matchId(), event.homeTeamId(), event.awayTeamId(),
+                event.homeTeamScore(), event.awayTeamScore(), null, null));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(MatchResultCorrectedEvent event) {
+        publishMatch(event.tournamentId(), new LiveMatchEventDTO(LiveMatchEventDTO.Type.RESULT_CORRECTED,
+                event.matchId(), event.homeTeamId(), event.awayTeamId(),
+                event.homeTeamScore(), event.awayTeamScore(),
+                event.previousHomeTeamScore(), event.previousAwayTeamScore()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(MatchPostponedEvent event) {
+        publishMatch(event.tournamentId(), new LiveMatchEventDTO(LiveMatchEventDTO.Type.POSTPONED,
+                event.matchId(), event.homeTeamId(), event.awayTeamId(), null, null, null, null));
+    }
+
+    private void publishMatch(Long tournamentId, LiveMatchEventDTO update) {
+        liveFeed.publish(tournamentId, MATCH_EVENT, MATCH_EVENT + "-" + update.matchId(), () -> update);
+    }
+}
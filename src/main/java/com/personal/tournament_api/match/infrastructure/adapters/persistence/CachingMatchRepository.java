@@ -0,0 +1,118 @@
+package com.personal.tournament_api.match.infrastructure.adapters.persistence;
+
+import com.personal.tournament_api.match.domain.model.CursorPage;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
+import com.personal.tournament_api.match.domain.model.Page;
+import com.personal.tournament_api.match.domain.model.PageRequest;
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.shared.infrastructure.cache.ReadThroughCache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link MatchRepository} decorator that serves lookups by id from a {@link ReadThroughCache}
+ * and invalidates it on every write.
+ */
+public class CachingMatchRepository implements MatchRepository {
+
+    private final MatchRepository delegate;
+    private final ReadThroughCache<Long, Match> cache;
+
+    public CachingMatchRepository(MatchRepository delegate, ReadThroughCache<Long, Match> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public static Match copyOf(Match match) {
+        return Match.reconstitute(match.getId(), match.getTournamentId(), match.getHomeTeamId(), match.getAwayTeamId(),
+                match.getHomeTeamScore(), match.getAwayTeamScore(), match.getMatchDate(), match.getField(),
+                match.getStatus(), match.getMatchday());
+    }
+
+    @Override
+    public Match save(Match match) {
+        Match saved = delegate.save(match);
+        cache.invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Match> saveAll(List<Match> matches) {
+        List<Match> saved = delegate.saveAll(matches);
+        saved.forEach(match -> cache.invalidate(match.getId()));
+        return saved;
+    }
+
+    @Override
+    public Optional<Match> findById(Long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    /**
+     * Always reads from the database: callers load several matches to modify them, and rows read in the
+     * current transaction are updated by a later {@link #saveAll} without being selected again one by one.
+     */
+    @Override
+    public List<Match> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Match> findAllByTournamentId(Long tournamentId) {
+        return delegate.findAllByTournamentId(tournamentId);
+    }
+
+    @Override
+    public long forEachByTournamentId(Long tournamentId, Consumer<Match> action) {
+        return delegate.forEachByTournamentId(tournamentId, action);
+    }
+
+    @Override
+    public List<Match> findAllByTeamId(Long teamId) {
+        return delegate.findAllByTeamId(teamId);
+    }
+
+    @Override
+    public long countByTeamId(Long teamId) {
+        return delegate.countByTeamId(teamId);
+    }
+
+    @Override
+    public boolean existsByTournamentId(Long tournamentId) {
+        return delegate.existsByTournamentId(tournamentId);
+    }
+
+    @Override
+    public Page<Match> findByTournamentIdWithFilters(Long tournamentId, MatchSearchCriteria criteria, PageRequest pageRequest) {
+        return delegate.findByTournamentIdWithFilters(tournamentId, criteria, pageRequest);
+    }
+
+    @Override
+    public CursorPage<Match> findByTournamentIdAfterCursor(Long tournamentId, MatchSearchCriteria criteria, CursorPageRequest pageRequest) {
+        return delegate.findByTournamentIdAfterCursor(tournamentId, criteria, pageRequest);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void deleteByTournamentId(Long tournamentId) {
+        delegate.deleteByTournamentId(tournamentId);
+        cache.invalidateIf(match -> tournamentId.equals(match.getTournamentId()));
+    }
+
+    @Override
+    public int deleteChunkByTournamentId(Long tournamentId, int limit) {
+        int deleted = delegate.deleteChunkByTournamentId(tournamentId, limit);
+        cache.invalidateIf(match -> tournamentId.equals(match.getTournamentId()));
+        return deleted;
+    }
+}
@@ -0,0 +1,68 @@
+package com.personal.tournament_api.match.infrastructure.adapters.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
+import com.personal.tournament_api.shared.infrastructure.persistence.CommittedWrites;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Cached totals for the paged match queries, keyed by tournament and {@link MatchSearchCriteria}.
+ * Every committed write to a tournament's matches drops all of its cached counts, since a create,
+ * delete, reschedule or result can move a match in or out of any filter.
+ * <p>
+ * Keys come from public query parameters, so the cache is bounded by {@code cache.match-counts.maximum-size}
+ * and entries expire {@code cache.match-counts.time-to-live} after being counted.
+ * <p>
+ * The cache is local to this process: all writes to {@code matches} must go through {@link MatchJpaAdapter}.
+ */
+@Component
+public class MatchCountCache {
+
+    private final Cache<CountKey, Long> counts;
+    private final CommittedWrites committedWrites = new CommittedWrites();
+
+    public MatchCountCache(@Value("${cache.match-counts.maximum-size}") long maximumSize,
+                           @Value("${cache.match-counts.time-to-live}") Duration timeToLive,
+                           MeterRegistry meterRegistry) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "match-counts");
+    }
+
+    public long count(Long tournamentId, MatchSearchCriteria criteria, LongSupplier counter) {
+        CountKey key = new CountKey(tournamentId, criteria);
+        Long cached = counts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return load(key, counter);
+    }
+
+    public void tournamentChanged(Long tournamentId) {
+        CommittedWrites.afterCommit(() -> committedWrites.apply(() ->
+                counts.asMap().keySet().removeIf(key -> key.tournamentId().equals(tournamentId))));
+    }
+
+    public void allChanged() {
+        CommittedWrites.afterCommit(() -> committedWrites.apply(counts::invalidateAll));
+    }
+
+    private long load(CountKey key, LongSupplier counter) {
+        long writesBeforeLoad = committedWrites.beforeLoad();
+        long count = counter.getAsLong();
+        committedWrites.keepIfUnchanged(writesBeforeLoad, () -> counts.asMap().putIfAbsent(key, count));
+        return count;
+    }
+
+    private record CountKey(Long tournamentId, MatchSearchCriteria criteria) {}
+}
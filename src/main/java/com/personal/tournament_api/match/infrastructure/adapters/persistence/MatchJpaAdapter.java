@@ -1,5 +1,7 @@
 package com.personal.tournament_api.match.infrastructure.adapters.persistence;
 
+import com.personal.tournament_api.match.domain.model.CursorPage;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
 import com.personal.tournament_api.match.domain.model.Page;
@@ -10,12 +12,19 @@ import com.personal.tournament_api.match.infrastructure.adapters.persistence.map
 import com.personal.tournament_api.match.infrastructure.adapters.persistence.mapper.PaginationMapper;
 import com.personal.tournament_api.match.infrastructure.adapters.persistence.repository.MatchJpaRepository;
 import com.personal.tournament_api.match.infrastructure.adapters.persistence.repository.MatchSpecifications;
+import com.personal.tournament_api.shared.infrastructure.persistence.ChunkedDelete;
+import com.personal.tournament_api.shared.infrastructure.persistence.StreamedRead;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
@@ -24,50 +33,118 @@ public class MatchJpaAdapter implements MatchRepository {
     private final MatchJpaRepository matchJpaRepository;
     private final MatchPersistenceMapper mapper;
     private final PaginationMapper paginationMapper;
+    private final MatchCountCache matchCountCache;
+    private final ChunkedDelete chunkedDelete;
+    private final StreamedRead streamedRead;
 
     @Override
     public Match save(Match match) {
         MatchEntity entity = mapper.toEntity(match);
         MatchEntity savedEntity = matchJpaRepository.save(entity);
+        matchCountCache.tournamentChanged(savedEntity.getTournamentId());
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Match> saveAll(List<Match> matches) {
+        List<MatchEntity> entities = mapper.toEntityList(matches);
+        List<MatchEntity> savedEntities = matchJpaRepository.saveAll(entities);
+        savedEntities.stream()
+                .map(MatchEntity::getTournamentId)
+                .distinct()
+                .forEach(matchCountCache::tournamentChanged);
+        return mapper.toDomainList(savedEntities);
+    }
+
     @Override
     public Optional<Match> findById(Long id) {
         return matchJpaRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Match> findAllById(Collection<Long> ids) {
+        return mapper.toDomainList(matchJpaRepository.findAllById(ids));
+    }
+
     @Override
     public List<Match> findAllByTournamentId(Long tournamentId) {
         List<MatchEntity> entities = matchJpaRepository.findAllByTournamentId(tournamentId);
         return mapper.toDomainList(entities);
     }
 
+    @Override
+    public long forEachByTournamentId(Long tournamentId, Consumer<Match> action) {
+        return streamedRead.forEach(matchJpaRepository.streamByTournamentId(tournamentId), mapper::toDomain, action);
+    }
+
     @Override
     public List<Match> findAllByTeamId(Long teamId) {
         List<MatchEntity> entities = matchJpaRepository.findAllByTeamId(teamId);
         return mapper.toDomainList(entities);
     }
 
+    @Override
+    public long countByTeamId(Long teamId) {
+        return matchJpaRepository.countByTeamId(teamId);
+    }
+
+    @Override
+    public boolean existsByTournamentId(Long tournamentId) {
+        return matchJpaRepository.existsByTournamentId(tournamentId);
+    }
+
     @Override
     public Page<Match> findByTournamentIdWithFilters(Long tournamentId, MatchSearchCriteria criteria, PageRequest pageRequest) {
         Specification<MatchEntity> spec = MatchSpecifications.fromCriteria(tournamentId, criteria);
         org.springframework.data.domain.Pageable pageable = paginationMapper.toSpringPageable(pageRequest);
 
-        org.springframework.data.domain.Page<MatchEntity> entityPage = matchJpaRepository.findAll(spec, pageable);
+        // Fetches size + 1 rows to learn whether a next page exists without counting.
+        Slice<MatchEntity> entitySlice = matchJpaRepository.findBy(spec, query -> query.slice(pageable));
+        List<Match> matches = mapper.toDomainList(entitySlice.getContent());
+
+        if (!pageRequest.isWithTotal()) {
+            return paginationMapper.toDomainPageWithoutTotal(entitySlice, matches);
+        }
+        long totalElements = matchCountCache.count(tournamentId, criteria, () -> matchJpaRepository.count(spec));
+        return paginationMapper.toDomainPage(entitySlice, matches, totalElements);
+    }
+
+    @Override
+    public CursorPage<Match> findByTournamentIdAfterCursor(Long tournamentId, MatchSearchCriteria criteria, CursorPageRequest pageRequest) {
+        Specification<MatchEntity> spec = MatchSpecifications.fromCriteria(tournamentId, criteria);
+        if (pageRequest.hasCursor()) {
+            spec = spec.and(MatchSpecifications.afterCursor(pageRequest.getAfter(), pageRequest.getDirection()));
+        }
+        Sort sort = paginationMapper.toSpringSort(pageRequest);
+
+        List<MatchEntity> entities = matchJpaRepository.findBy(spec,
+                query -> query.sortBy(sort).limit(pageRequest.getSize() + 1).all());
 
-        List<Match> matches = mapper.toDomainList(entityPage.getContent());
-        return paginationMapper.toDomainPage(entityPage, matches);
+        return CursorPage.fromLookahead(mapper.toDomainList(entities), pageRequest.getSize());
     }
 
     @Override
     public void deleteById(Long id) {
         matchJpaRepository.deleteById(id);
+        matchCountCache.allChanged();
     }
 
     @Override
     public void deleteByTournamentId(Long tournamentId) {
-        matchJpaRepository.deleteByTournamentId(tournamentId);
+        chunkedDelete.deleteAll(limit -> matchJpaRepository.findIdsByTournamentId(tournamentId, limit),
+                matchJpaRepository::deleteByIdIn);
+        matchCountCache.tournamentChanged(tournamentId);
+    }
+
+    @Override
+    public int deleteChunkByTournamentId(Long tournamentId, int limit) {
+        List<Long> ids = matchJpaRepository.findIdsByTournamentId(tournamentId, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = matchJpaRepository.deleteByIdIn(ids);
+        matchCountCache.tournamentChanged(tournamentId);
+        return deleted;
     }
 }
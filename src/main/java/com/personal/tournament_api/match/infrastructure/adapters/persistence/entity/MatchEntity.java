@@ -6,7 +6,13 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_matches_tournament_date", columnList = "tournament_id, match_date"),
+        @Index(name = "idx_matches_tournament_status", columnList = "tournament_id, status, match_date"),
+        @Index(name = "idx_matches_tournament_matchday", columnList = "tournament_id, matchday, match_date"),
+        @Index(name = "idx_matches_home_team_date", columnList = "home_team_id, match_date"),
+        @Index(name = "idx_matches_away_team_date", columnList = "away_team_id, match_date")
+})
 @Entity
 @Getter
 @Setter
@@ -14,8 +20,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class MatchEntity {
 
+    // Sequence ids (not IDENTITY) so Hibernate can batch inserts; the pooled optimizer reserves
+    // allocationSize ids per round trip.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matches_seq")
+    @SequenceGenerator(name = "matches_seq", sequenceName = "matches_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "tournament_id", nullable = false)
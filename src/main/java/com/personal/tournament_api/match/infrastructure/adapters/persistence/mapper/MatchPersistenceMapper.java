@@ -50,6 +50,15 @@ public interface MatchPersistenceMapper {
         );
     }
 
+    default List<MatchEntity> toEntityList(List<Match> matches) {
+        if (matches == null) {
+            return null;
+        }
+        return matches.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+    }
+
     default List<Match> toDomainList(List<MatchEntity> entities) {
         if (entities == null) {
             return null;
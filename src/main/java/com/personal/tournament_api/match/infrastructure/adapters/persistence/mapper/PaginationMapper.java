@@ -1,7 +1,9 @@
 package com.personal.tournament_api.match.infrastructure.adapters.persistence.mapper;
 
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
 import com.personal.tournament_api.match.domain.model.Page;
 import com.personal.tournament_api.match.domain.model.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
@@ -32,19 +34,40 @@ public class PaginationMapper {
     }
 
     /**
-     * Converts Spring Data Page to domain Page.
+     * Converts a domain CursorPageRequest to the (matchDate, id) sort its cursor is defined on.
      *
-     * @param springPage Spring Data page object
+     * @param pageRequest domain cursor page request object
+     * @return Spring Data Sort for use with repositories
+     */
+    public Sort toSpringSort(CursorPageRequest pageRequest) {
+        Sort.Direction direction = pageRequest.getDirection() == PageRequest.SortDirection.ASC
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        return Sort.by(direction, "matchDate").and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Converts a Spring Data Slice to a domain Page with a known total.
+     *
+     * @param slice Spring Data slice object
      * @param domainContent list of domain objects (already mapped from entities)
+     * @param totalElements total number of elements matching the query
      * @param <T> type of domain objects
      * @return domain Page object
      */
-    public <T> Page<T> toDomainPage(org.springframework.data.domain.Page<?> springPage, List<T> domainContent) {
-        return new Page<>(
-                domainContent,
-                springPage.getNumber(),
-                springPage.getSize(),
-                springPage.getTotalElements()
-        );
+    public <T> Page<T> toDomainPage(Slice<?> slice, List<T> domainContent, long totalElements) {
+        return new Page<>(domainContent, slice.getNumber(), slice.getSize(), totalElements);
+    }
+
+    /**
+     * Converts a Spring Data Slice to a domain Page without total, keeping only whether a next page exists.
+     *
+     * @param slice Spring Data slice object
+     * @param domainContent list of domain objects (already mapped from entities)
+     * @param <T> type of domain objects
+     * @return domain Page object without total
+     */
+    public <T> Page<T> toDomainPageWithoutTotal(Slice<?> slice, List<T> domainContent) {
+        return Page.withoutTotal(domainContent, slice.getNumber(), slice.getSize(), slice.hasNext());
     }
 }
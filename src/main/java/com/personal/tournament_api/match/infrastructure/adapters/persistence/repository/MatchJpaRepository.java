@@ -1,20 +1,45 @@
 package com.personal.tournament_api.match.infrastructure.adapters.persistence.repository;
 
 import com.personal.tournament_api.match.infrastructure.adapters.persistence.entity.MatchEntity;
+import com.personal.tournament_api.shared.infrastructure.persistence.StreamedRead;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MatchJpaRepository extends JpaRepository<MatchEntity, Long>, JpaSpecificationExecutor<MatchEntity> {
 
     List<MatchEntity> findAllByTournamentId(Long tournamentId);
 
+    boolean existsByTournamentId(Long tournamentId);
+
     //@Query(value = "SELECT * FROM matches WHERE home_team_id = :teamId OR away_team_id = :teamId ORDER BY match_date ASC", nativeQuery = true)
     @Query("SELECT m FROM MatchEntity m WHERE m.homeTeamId = :teamId OR m.awayTeamId = :teamId ORDER BY m.matchDate ASC")
     List<MatchEntity> findAllByTeamId(@Param("teamId") Long teamId);
 
-    void deleteByTournamentId(Long tournamentId);
+    @Query("SELECT COUNT(m) FROM MatchEntity m WHERE m.homeTeamId = :teamId OR m.awayTeamId = :teamId")
+    long countByTeamId(@Param("teamId") Long teamId);
+
+    @Query("SELECT m.id FROM MatchEntity m WHERE m.tournamentId = :tournamentId ORDER BY m.id")
+    List<Long> findIdsByTournamentId(@Param("tournamentId") Long tournamentId, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MatchEntity m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamedRead.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM MatchEntity m WHERE m.tournamentId = :tournamentId ORDER BY m.id")
+    Stream<MatchEntity> streamByTournamentId(@Param("tournamentId") Long tournamentId);
 }
@@ -1,10 +1,13 @@
 package com.personal.tournament_api.match.infrastructure.adapters.persistence.repository;
 
+import com.personal.tournament_api.match.domain.model.MatchCursor;
 import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
+import com.personal.tournament_api.match.domain.model.PageRequest;
 import com.personal.tournament_api.match.infrastructure.adapters.persistence.entity.MatchEntity;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 /**
@@ -44,6 +47,27 @@ public class MatchSpecifications {
         return (root, query, cb) -> cb.equal(root.get("matchday"), matchday);
     }
 
+    /**
+     * Seeks past the cursor in (matchDate, id) order. The redundant bound on matchDate alone lets the
+     * database range-scan the (tournament_id, match_date) index instead of evaluating the OR per row.
+     */
+    public static Specification<MatchEntity> afterCursor(MatchCursor cursor, PageRequest.SortDirection direction) {
+        return (root, query, cb) -> {
+            var matchDate = root.<LocalDateTime>get("matchDate");
+            var id = root.<Long>get("id");
+            if (direction == PageRequest.SortDirection.ASC) {
+                return cb.and(
+                        cb.greaterThanOrEqualTo(matchDate, cursor.matchDate()),
+                        cb.or(cb.greaterThan(matchDate, cursor.matchDate()),
+                                cb.and(cb.equal(matchDate, cursor.matchDate()), cb.greaterThan(id, cursor.id()))));
+            }
+            return cb.and(
+                    cb.lessThanOrEqualTo(matchDate, cursor.matchDate()),
+                    cb.or(cb.lessThan(matchDate, cursor.matchDate()),
+                            cb.and(cb.equal(matchDate, cursor.matchDate()), cb.lessThan(id, cursor.id()))));
+        };
+    }
+
     public static Specification<MatchEntity> fromCriteria(Long tournamentId, MatchSearchCriteria criteria) {
         Specification<MatchEntity> spec = withTournamentId(tournamentId);
 
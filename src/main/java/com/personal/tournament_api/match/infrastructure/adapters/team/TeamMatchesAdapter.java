@@ -13,6 +13,6 @@ public class TeamMatchesAdapter implements TeamMatchesPort {
 
     @Override
     public int countByTeamId(Long teamId) {
-        return matchRepository.findAllByTeamId(teamId).size();
+        return Math.toIntExact(matchRepository.countByTeamId(teamId));
     }
 }
@@ -0,0 +1,33 @@
+package com.personal.tournament_api.match.infrastructure.adapters.tournament;
+
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchMapper;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataExportPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Exporta los partidos de un torneo. Es el último paso, cuando ya se han exportado los equipos
+ * que enfrentan.
+ */
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class TournamentMatchesExportAdapter implements TournamentDataExportPort {
+
+    private final MatchRepository matchRepository;
+    private final MatchMapper matchMapper;
+
+    @Override
+    public String recordType() {
+        return "match";
+    }
+
+    @Override
+    public long exportRecords(Long tournamentId, Consumer<Object> sink) {
+        return matchRepository.forEachByTournamentId(tournamentId, match -> sink.accept(matchMapper.toResponse(match)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.personal.tournament_api.match.infrastructure.adapters.tournament;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResponseDTO;
+import com.personal.tournament_api.shared.infrastructure.persistence.BatchedWrite;
+import com.personal.tournament_api.tournament.domain.model.ArchiveIdMapping;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataImportPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Importa los partidos de un archivo de torneo con su resultado y estado, apuntando a los equipos
+ * importados. Va al final porque referencia a los equipos.
+ */
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class TournamentMatchesImportAdapter implements TournamentDataImportPort<Match> {
+
+    private final MatchRepository matchRepository;
+    private final BatchedWrite batchedWrite;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String recordType() {
+        return "match";
+    }
+
+    @Override
+    public Match prepare(Long tournamentId, Object record, ArchiveIdMapping ids) {
+        MatchResponseDTO archived = objectMapper.convertValue(record, MatchResponseDTO.class);
+        return Match.restore(tournamentId, ids.importedId("team", archived.homeTeamId()),
+                ids.importedId("team", archived.awayTeamId()), archived.homeTeamScore(), archived.awayTeamScore(),
+                archived.matchDate(), archived.field(), archived.status(), archived.matchday());
+    }
+
+    @Override
+    public void saveAll(List<Match> records, ArchiveIdMapping ids) {
+        batchedWrite.saveAll(records, matchRepository::saveAll);
+    }
+}
@@ -0,0 +1,23 @@
+package com.personal.tournament_api.match.infrastructure.adapters.tournament;
+
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataPurgePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Borra por lotes los partidos de un torneo eliminado. Es el primer paso del borrado en segundo plano.
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class TournamentMatchesPurgeAdapter implements TournamentDataPurgePort {
+
+    private final MatchRepository matchRepository;
+
+    @Override
+    public int purgeChunk(Long tournamentId, int limit) {
+        return matchRepository.deleteChunkByTournamentId(tournamentId, limit);
+    }
+}
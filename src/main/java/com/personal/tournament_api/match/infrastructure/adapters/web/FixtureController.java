@@ -0,0 +1,34 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web;
+
+import com.personal.tournament_api.match.application.usecases.GenerateFixturesUseCase;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.GenerateFixturesRequestDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResponseDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/tournaments/{tournamentId}/fixtures")
+@RequiredArgsConstructor
+public class FixtureController {
+
+    private final GenerateFixturesUseCase generateFixturesUseCase;
+    private final MatchMapper matchMapper;
+
+    @PostMapping("/generate")
+    public ResponseEntity<List<MatchResponseDTO>> generate(@PathVariable Long tournamentId,
+                                                           @Valid @RequestBody GenerateFixturesRequestDTO request) {
+        List<Match> matches = generateFixturesUseCase.generate(matchMapper.toGenerateFixturesCommand(tournamentId, request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(matchMapper.toResponseList(matches));
+    }
+}
@@ -0,0 +1,26 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web;
+
+import com.personal.tournament_api.match.application.usecases.WatchTournamentUseCase;
+import com.personal.tournament_api.shared.infrastructure.web.LiveFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/tournaments/{tournamentId}/live")
+@RequiredArgsConstructor
+public class LiveController {
+
+    private final WatchTournamentUseCase watchTournamentUseCase;
+    private final LiveFeed liveFeed;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long tournamentId) {
+        watchTournamentUseCase.watch(tournamentId);
+        return liveFeed.subscribe(tournamentId);
+    }
+}
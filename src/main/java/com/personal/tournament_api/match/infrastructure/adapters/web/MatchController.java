@@ -2,20 +2,26 @@ package com.personal.tournament_api.match.infrastructure.adapters.web;
 
 import com.personal.tournament_api.match.application.usecases.*;
 import com.personal.tournament_api.match.domain.model.*;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.BulkMatchRequestDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.CursorPageResponseDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.FinishMatchRequestDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchRequestDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResponseDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.PageResponseDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchFilterBuilder;
 import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchMapper;
+import com.personal.tournament_api.shared.infrastructure.web.ConditionalResponses;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/tournaments/{tournamentId}/matches")
@@ -23,6 +29,7 @@ import java.time.LocalDate;
 public class MatchController {
 
     private final CreateMatchUseCase createMatchUseCase;
+    private final CreateMatchesUseCase createMatchesUseCase;
     private final UpdateMatchUseCase updateMatchUseCase;
     private final FinishMatchUseCase finishMatchUseCase;
     private final GetMatchUseCase getMatchUseCase;
@@ -30,6 +37,7 @@ public class MatchController {
     private final PostponeMatchUseCase postponeMatchUseCase;
     private final MatchMapper matchMapper;
     private final MatchFilterBuilder matchFilterBuilder;
+    private final TournamentVersions tournamentVersions;
 
     @PostMapping
     public ResponseEntity<MatchResponseDTO> create(@PathVariable Long tournamentId,
@@ -38,6 +46,13 @@ public class MatchController {
         return ResponseEntity.status(HttpStatus.CREATED).body(matchMapper.toResponse(match));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<MatchResponseDTO>> createAll(@PathVariable Long tournamentId,
+                                                            @Valid @RequestBody BulkMatchRequestDTO request) {
+        List<Match> matches = createMatchesUseCase.createAll(matchMapper.toCreateMatchesCommand(tournamentId, request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(matchMapper.toResponseList(matches));
+    }
+
     @GetMapping("/{matchId}")
     public ResponseEntity<MatchResponseDTO> getById(@PathVariable Long matchId) {
         return getMatchUseCase.getById(matchId)
@@ -57,15 +72,43 @@ public class MatchController {
             @RequestParam(defaultValue = "100") int size,
             @RequestParam(defaultValue = "matchDate") String sortBy,
             @RequestParam(defaultValue = "DESC") String direction,
-            @RequestParam(required = false) String secondarySortBy) {
+            @RequestParam(required = false) String secondarySortBy,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest webRequest) {
 
-        MatchSearchCriteria criteria = matchFilterBuilder.buildSearchCriteria(specificDate, dateFrom, dateTo, status, matchday);
-        PageRequest pageRequest = matchFilterBuilder.buildPageRequest(page, size, sortBy, direction, secondarySortBy);
+        return ConditionalResponses.ok(webRequest, tournamentVersions.etag(tournamentId), () -> {
+            MatchSearchCriteria criteria = matchFilterBuilder.buildSearchCriteria(specificDate, dateFrom, dateTo, status, matchday);
+            PageRequest pageRequest = matchFilterBuilder.buildPageRequest(page, size, sortBy, direction, secondarySortBy);
+            if (!withTotal) {
+                pageRequest = pageRequest.withoutTotal();
+            }
+
+            Page<Match> matchPage = getMatchUseCase.getByTournamentIdWithFilters(tournamentId, criteria, pageRequest);
+            return PageResponseDTO.from(matchMapper.toResponsePage(matchPage));
+        });
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPageResponseDTO<MatchResponseDTO>> getAllByTournamentIdAfterCursor(
+            @PathVariable Long tournamentId,
+            @RequestParam String after,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate specificDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @RequestParam(required = false) MatchStatus status,
+            @RequestParam(required = false) Integer matchday,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "DESC") String direction,
+            WebRequest webRequest) {
 
-        Page<Match> matchPage = getMatchUseCase.getByTournamentIdWithFilters(tournamentId, criteria, pageRequest);
-        Page<MatchResponseDTO> dtoPage = matchMapper.toResponsePage(matchPage);
+        return ConditionalResponses.ok(webRequest, tournamentVersions.etag(tournamentId), () -> {
+            MatchSearchCriteria criteria = matchFilterBuilder.buildSearchCriteria(specificDate, dateFrom, dateTo, status, matchday);
+            CursorPageRequest pageRequest = matchFilterBuilder.buildCursorPageRequest(after, size, direction);
 
-        return ResponseEntity.ok(PageResponseDTO.from(dtoPage));
+            CursorPage<Match> matchPage = getMatchUseCase.getByTournamentIdAfterCursor(tournamentId, criteria, pageRequest);
+            CursorPage<MatchResponseDTO> dtoPage = matchMapper.toResponseCursorPage(matchPage);
+            return CursorPageResponseDTO.from(dtoPage, matchFilterBuilder.encodeCursor(dtoPage.getNextCursor()));
+        });
     }
 
     @PutMapping("/{matchId}")
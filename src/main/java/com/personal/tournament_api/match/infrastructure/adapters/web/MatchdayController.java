@@ -0,0 +1,36 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web;
+
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.MatchResultReport;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchdayResultsRequestDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchdayResultsResponseDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/tournaments/{tournamentId}/matchdays")
+@RequiredArgsConstructor
+public class MatchdayController {
+
+    private final SubmitMatchdayResultsUseCase submitMatchdayResultsUseCase;
+    private final MatchMapper matchMapper;
+
+    @PostMapping("/{matchday}/results")
+    public ResponseEntity<MatchdayResultsResponseDTO> submitResults(
+            @PathVariable Long tournamentId,
+            @PathVariable Integer matchday,
+            @Valid @RequestBody MatchdayResultsRequestDTO request) {
+        List<MatchResultReport> reports = submitMatchdayResultsUseCase.submit(
+                matchMapper.toSubmitMatchdayResultsCommand(tournamentId, matchday, request));
+        return ResponseEntity.ok(matchMapper.toMatchdayResultsResponse(tournamentId, matchday, reports));
+    }
+}
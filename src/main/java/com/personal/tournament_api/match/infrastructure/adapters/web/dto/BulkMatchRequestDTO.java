@@ -0,0 +1,14 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkMatchRequestDTO(
+        @NotEmpty(message = "At least one match is required")
+        @Size(max = 1000, message = "A bulk request cannot exceed 1000 matches")
+        List<@Valid @NotNull(message = "Match is required") MatchRequestDTO> matches
+) {}
@@ -0,0 +1,23 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO genérico para respuestas paginadas por cursor.
+ */
+public record CursorPageResponseDTO<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorPageResponseDTO<T> from(com.personal.tournament_api.match.domain.model.CursorPage<T> domainPage,
+                                                    String nextCursor) {
+        return new CursorPageResponseDTO<>(
+                domainPage.getContent(),
+                domainPage.getSize(),
+                nextCursor,
+                domainPage.hasNext()
+        );
+    }
+}
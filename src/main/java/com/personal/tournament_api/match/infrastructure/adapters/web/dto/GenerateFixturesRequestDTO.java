@@ -0,0 +1,27 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record GenerateFixturesRequestDTO(
+        @NotNull(message = "First match date is required")
+        LocalDateTime firstMatchDate,
+
+        @Positive(message = "Days between matchdays must be a positive number")
+        Integer daysBetweenMatchdays,
+
+        @Positive(message = "Minutes between kick-offs must be a positive number")
+        Integer minutesBetweenKickoffs,
+
+        @NotEmpty(message = "At least one field is required")
+        List<@NotBlank(message = "Field is required")
+             @Size(max = 100, message = "Field name cannot exceed 100 characters") String> fields,
+
+        Boolean doubleRoundRobin
+) {}
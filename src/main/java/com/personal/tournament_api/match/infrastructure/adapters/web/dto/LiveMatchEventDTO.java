@@ -0,0 +1,19 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web.dto;
+
+public record LiveMatchEventDTO(
+        Type type,
+        Long matchId,
+        Long homeTeamId,
+        Long awayTeamId,
+        Integer homeTeamScore,
+        Integer awayTeamScore,
+        Integer previousHomeTeamScore,
+        Integer previousAwayTeamScore
+) {
+
+    public enum Type {
+        RESULT_SET,
+        RESULT_CORRECTED,
+        POSTPONED
+    }
+}
@@ -0,0 +1,11 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web.dto;
+
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.ResultStatus;
+
+public record MatchResultReportDTO(
+        Long matchId,
+        ResultStatus status,
+        Integer homeTeamScore,
+        Integer awayTeamScore,
+        String error
+) {}
@@ -0,0 +1,14 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record MatchdayResultsRequestDTO(
+        @NotEmpty(message = "At least one result is required")
+        @Size(max = 100, message = "A matchday submission cannot exceed 100 results")
+        List<@Valid @NotNull(message = "Result is required") MatchResultEntryDTO> results
+) {}
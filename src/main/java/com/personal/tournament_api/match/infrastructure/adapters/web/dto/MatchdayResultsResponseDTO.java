@@ -0,0 +1,11 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web.dto;
+
+import java.util.List;
+
+public record MatchdayResultsResponseDTO(
+        Long tournamentId,
+        Integer matchday,
+        long accepted,
+        long rejected,
+        List<MatchResultReportDTO> results
+) {}
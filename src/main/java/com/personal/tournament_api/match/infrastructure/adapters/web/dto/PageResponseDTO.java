@@ -4,13 +4,14 @@ import java.util.List;
 
 /**
  * DTO genérico para respuestas paginadas.
+ * {@code totalElements} y {@code totalPages} son null cuando la página se pidió sin total.
  */
 public record PageResponseDTO<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         boolean first,
         boolean last,
         boolean hasNext,
@@ -21,8 +22,8 @@ public record PageResponseDTO<T>(
                 domainPage.getContent(),
                 domainPage.getPage(),
                 domainPage.getSize(),
-                domainPage.getTotalElements(),
-                domainPage.getTotalPages(),
+                domainPage.isTotalKnown() ? domainPage.getTotalElements() : null,
+                domainPage.isTotalKnown() ? domainPage.getTotalPages() : null,
                 domainPage.isFirst(),
                 domainPage.isLast(),
                 domainPage.hasNext(),
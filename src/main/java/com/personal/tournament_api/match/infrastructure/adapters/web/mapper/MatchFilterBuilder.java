@@ -1,11 +1,18 @@
 package com.personal.tournament_api.match.infrastructure.adapters.web.mapper;
 
+import com.personal.tournament_api.match.domain.exceptions.InvalidMatchDataException;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
+import com.personal.tournament_api.match.domain.model.MatchCursor;
 import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
 import com.personal.tournament_api.match.domain.model.MatchStatus;
 import com.personal.tournament_api.match.domain.model.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 
 /**
  * Builder for constructing domain filter objects from HTTP request parameters.
@@ -14,6 +21,8 @@ import java.time.LocalDate;
 @Component
 public class MatchFilterBuilder {
 
+    private static final String CURSOR_SEPARATOR = "|";
+
     /**
      * Builds MatchSearchCriteria from HTTP query parameters.
      *
@@ -56,4 +65,48 @@ public class MatchFilterBuilder {
                 : PageRequest.SortDirection.ASC;
         return PageRequest.of(page, size, sortBy, sortDirection, secondarySortBy);
     }
+
+    /**
+     * Builds CursorPageRequest from HTTP query parameters.
+     *
+     * @param after opaque cursor returned by the previous page; blank for the first page
+     * @param size number of items per page
+     * @param direction sort direction (ASC or DESC) applied to matchDate and id
+     * @return CursorPageRequest domain object
+     * @throws InvalidMatchDataException if the cursor cannot be decoded
+     */
+    public CursorPageRequest buildCursorPageRequest(String after, int size, String direction) {
+        PageRequest.SortDirection sortDirection = "DESC".equalsIgnoreCase(direction)
+                ? PageRequest.SortDirection.DESC
+                : PageRequest.SortDirection.ASC;
+        if (after == null || after.isBlank()) {
+            return CursorPageRequest.first(size, sortDirection);
+        }
+        return CursorPageRequest.after(decodeCursor(after), size, sortDirection);
+    }
+
+    /**
+     * Encodes a domain cursor into the opaque token clients send back as {@code after}.
+     *
+     * @param cursor position of the last match of a page, may be null
+     * @return URL-safe token, or null when there is no next page
+     */
+    public String encodeCursor(MatchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.matchDate() + CURSOR_SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private MatchCursor decodeCursor(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            return new MatchCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidMatchDataException("Invalid pagination cursor");
+        }
+    }
 }
@@ -1,13 +1,25 @@
 package com.personal.tournament_api.match.infrastructure.adapters.web.mapper;
 
 import com.personal.tournament_api.match.application.usecases.CreateMatchUseCase;
+import com.personal.tournament_api.match.application.usecases.CreateMatchesUseCase;
 import com.personal.tournament_api.match.application.usecases.FinishMatchUseCase;
+import com.personal.tournament_api.match.application.usecases.GenerateFixturesUseCase;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.MatchResultReport;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.ResultStatus;
 import com.personal.tournament_api.match.application.usecases.UpdateMatchUseCase;
+import com.personal.tournament_api.match.domain.model.CursorPage;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.model.Page;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.BulkMatchRequestDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.FinishMatchRequestDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.GenerateFixturesRequestDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchRequestDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResponseDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResultEntryDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResultReportDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchdayResultsRequestDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchdayResultsResponseDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -25,6 +37,16 @@ public interface MatchMapper {
     @Mapping(target = "matchday", source = "request.matchday")
     CreateMatchUseCase.CreateMatchCommand toCreateCommand(Long tournamentId, MatchRequestDTO request);
 
+    @Mapping(target = "tournamentId", source = "tournamentId")
+    @Mapping(target = "matches", source = "request.matches")
+    CreateMatchesUseCase.CreateMatchesCommand toCreateMatchesCommand(Long tournamentId, BulkMatchRequestDTO request);
+
+    CreateMatchesUseCase.MatchData toMatchData(MatchRequestDTO request);
+
+    @Mapping(target = "tournamentId", source = "tournamentId")
+    GenerateFixturesUseCase.GenerateFixturesCommand toGenerateFixturesCommand(Long tournamentId,
+                                                                              GenerateFixturesRequestDTO request);
+
     @Mapping(target = "matchId", source = "matchId")
     @Mapping(target = "matchDate", source = "request.matchDate")
     @Mapping(target = "field", source = "request.field")
@@ -36,12 +58,35 @@ public interface MatchMapper {
     @Mapping(target = "awayTeamScore", source = "request.awayTeamScore")
     FinishMatchUseCase.FinishMatchCommand toFinishCommand(Long matchId, FinishMatchRequestDTO request);
 
+    @Mapping(target = "tournamentId", source = "tournamentId")
+    @Mapping(target = "matchday", source = "matchday")
+    @Mapping(target = "results", source = "request.results")
+    SubmitMatchdayResultsUseCase.SubmitMatchdayResultsCommand toSubmitMatchdayResultsCommand(
+            Long tournamentId, Integer matchday, MatchdayResultsRequestDTO request);
+
+    SubmitMatchdayResultsUseCase.MatchResultEntry toResultEntry(MatchResultEntryDTO entry);
+
+    MatchResultReportDTO toReportResponse(MatchResultReport report);
+
+    List<MatchResultReportDTO> toReportResponseList(List<MatchResultReport> reports);
+
+    default MatchdayResultsResponseDTO toMatchdayResultsResponse(Long tournamentId, Integer matchday,
+                                                                 List<MatchResultReport> reports) {
+        long rejected = reports.stream().filter(report -> report.status() == ResultStatus.REJECTED).count();
+        return new MatchdayResultsResponseDTO(tournamentId, matchday, reports.size() - rejected, rejected,
+                toReportResponseList(reports));
+    }
+
     MatchResponseDTO toResponse(Match match);
 
     List<MatchResponseDTO> toResponseList(List<Match> matches);
 
     default Page<MatchResponseDTO> toResponsePage(Page<Match> matchPage) {
+        return matchPage.withContent(toResponseList(matchPage.getContent()));
+    }
+
+    default CursorPage<MatchResponseDTO> toResponseCursorPage(CursorPage<Match> matchPage) {
         List<MatchResponseDTO> matchDTOs = toResponseList(matchPage.getContent());
-        return new Page<>(matchDTOs, matchPage.getPage(), matchPage.getSize(), matchPage.getTotalElements());
+        return new CursorPage<>(matchDTOs, matchPage.getSize(), matchPage.getNextCursor());
     }
 }
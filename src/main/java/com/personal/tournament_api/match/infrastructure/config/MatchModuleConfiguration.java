@@ -5,14 +5,39 @@ import com.personal.tournament_api.match.application.usecases.*;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.ports.MatchRepository;
 import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
+import com.personal.tournament_api.match.domain.ports.MatchTournamentPort;
 import com.personal.tournament_api.match.domain.services.MatchResultService;
+import com.personal.tournament_api.match.domain.services.RoundRobinScheduler;
+import com.personal.tournament_api.match.infrastructure.adapters.persistence.CachingMatchRepository;
+import com.personal.tournament_api.match.infrastructure.adapters.persistence.MatchJpaAdapter;
+import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
+import com.personal.tournament_api.shared.infrastructure.cache.ReadThroughCache;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 public class MatchModuleConfiguration {
 
+    // --- Persistence ---
+
+    @Bean
+    @Primary
+    public MatchRepository matchRepository(MatchJpaAdapter matchJpaAdapter,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${cache.by-id.maximum-size}") long maximumSize,
+                                           @Value("${cache.by-id.time-to-live}") Duration timeToLive) {
+        return new CachingMatchRepository(matchJpaAdapter, new ReadThroughCache<>("matches",
+                maximumSize, timeToLive, CachingMatchRepository::copyOf, meterRegistry));
+    }
+
     // --- Domain Services ---
 
     @Bean
@@ -20,11 +45,34 @@ public class MatchModuleConfiguration {
         return new MatchResultService();
     }
 
+    @Bean
+    public RoundRobinScheduler roundRobinScheduler() {
+        return new RoundRobinScheduler();
+    }
+
     // --- Application Use Cases ---
 
     @Bean
-    public CreateMatchUseCase createMatchUseCase(MatchRepository matchRepository) {
-        return new CreateMatchAdapter(new CreateMatchService(matchRepository));
+    public CreateMatchUseCase createMatchUseCase(MatchRepository matchRepository,
+                                                 TournamentVersions tournamentVersions) {
+        return new CreateMatchAdapter(new CreateMatchService(matchRepository), tournamentVersions);
+    }
+
+    @Bean
+    public CreateMatchesUseCase createMatchesUseCase(MatchRepository matchRepository,
+                                                     MatchTeamPort matchTeamPort,
+                                                     TournamentVersions tournamentVersions) {
+        return new CreateMatchesAdapter(new CreateMatchesService(matchRepository, matchTeamPort), tournamentVersions);
+    }
+
+    @Bean
+    public GenerateFixturesUseCase generateFixturesUseCase(MatchRepository matchRepository,
+                                                           MatchTeamPort matchTeamPort,
+                                                           MatchTournamentPort matchTournamentPort,
+                                                           RoundRobinScheduler roundRobinScheduler,
+                                                           TournamentVersions tournamentVersions) {
+        return new GenerateFixturesAdapter(new GenerateFixturesService(matchRepository, matchTeamPort,
+                matchTournamentPort, roundRobinScheduler), tournamentVersions);
     }
 
     @Bean
@@ -33,98 +81,199 @@ public class MatchModuleConfiguration {
     }
 
     @Bean
-    public UpdateMatchUseCase updateMatchUseCase(MatchRepository matchRepository) {
-        return new UpdateMatchAdapter(new UpdateMatchService(matchRepository));
+    public WatchTournamentUseCase watchTournamentUseCase(MatchTournamentPort matchTournamentPort) {
+        return new WatchTournamentService(matchTournamentPort);
+    }
+
+    @Bean
+    public UpdateMatchUseCase updateMatchUseCase(MatchRepository matchRepository,
+                                                 TournamentVersions tournamentVersions) {
+        return new UpdateMatchAdapter(new UpdateMatchService(matchRepository), tournamentVersions);
     }
 
     @Bean
     public DeleteMatchUseCase deleteMatchUseCase(MatchRepository matchRepository,
                                                  MatchTeamPort matchTeamPort,
-                                                 MatchResultService matchResultService) {
-        return new DeleteMatchAdapter(new DeleteMatchService(matchRepository, matchTeamPort, matchResultService));
+                                                 MatchResultService matchResultService,
+                                                 TournamentVersions tournamentVersions) {
+        return new DeleteMatchAdapter(new DeleteMatchService(matchRepository, matchTeamPort, matchResultService),
+                matchRepository, tournamentVersions);
     }
 
     @Bean
     public FinishMatchUseCase finishMatchUseCase(MatchRepository matchRepository,
                                                  MatchTeamPort matchTeamPort,
-                                                 MatchResultService matchResultService) {
-        return new FinishMatchAdapter(new FinishMatchService(matchRepository, matchTeamPort, matchResultService));
+                                                 MatchResultService matchResultService,
+                                                 DomainEventPublisher domainEventPublisher,
+                                                 TournamentVersions tournamentVersions) {
+        return new FinishMatchAdapter(new FinishMatchService(matchRepository, matchTeamPort, matchResultService,
+                domainEventPublisher), tournamentVersions);
+    }
+
+    @Bean
+    public SubmitMatchdayResultsUseCase submitMatchdayResultsUseCase(MatchRepository matchRepository,
+                                                                     MatchTeamPort matchTeamPort,
+                                                                     MatchResultService matchResultService,
+                                                                     DomainEventPublisher domainEventPublisher,
+                                                                     TournamentVersions tournamentVersions) {
+        return new SubmitMatchdayResultsAdapter(new SubmitMatchdayResultsService(matchRepository, matchTeamPort,
+                matchResultService, domainEventPublisher), tournamentVersions);
     }
 
     @Bean
-    public PostponeMatchUseCase postponeMatchUseCase(MatchRepository matchRepository) {
-        return new PostponeMatchAdapter(new PostponeMatchService(matchRepository));
+    public PostponeMatchUseCase postponeMatchUseCase(MatchRepository matchRepository,
+                                                     DomainEventPublisher domainEventPublisher,
+                                                     TournamentVersions tournamentVersions) {
+        return new PostponeMatchAdapter(new PostponeMatchService(matchRepository, domainEventPublisher),
+                tournamentVersions);
     }
 
     // --- Transactional Adapters (infrastructure concern) ---
 
     static class CreateMatchAdapter implements CreateMatchUseCase {
         private final CreateMatchUseCase delegate;
+        private final TournamentVersions tournamentVersions;
 
-        CreateMatchAdapter(CreateMatchUseCase delegate) {
+        CreateMatchAdapter(CreateMatchUseCase delegate, TournamentVersions tournamentVersions) {
             this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
         }
 
         @Override
         @Transactional
         public Match create(CreateMatchCommand command) {
-            return delegate.create(command);
+            Match match = delegate.create(command);
+            tournamentVersions.tournamentChanged(match.getTournamentId());
+            return match;
+        }
+    }
+
+    static class CreateMatchesAdapter implements CreateMatchesUseCase {
+        private final CreateMatchesUseCase delegate;
+        private final TournamentVersions tournamentVersions;
+
+        CreateMatchesAdapter(CreateMatchesUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
+
+        @Override
+        @Transactional
+        public List<Match> createAll(CreateMatchesCommand command) {
+            List<Match> matches = delegate.createAll(command);
+            tournamentVersions.tournamentChanged(command.tournamentId());
+            return matches;
+        }
+    }
+
+    static class GenerateFixturesAdapter implements GenerateFixturesUseCase {
+        private final GenerateFixturesUseCase delegate;
+        private final TournamentVersions tournamentVersions;
+
+        GenerateFixturesAdapter(GenerateFixturesUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
+
+        @Override
+        @Transactional
+        public List<Match> generate(GenerateFixturesCommand command) {
+            List<Match> matches = delegate.generate(command);
+            tournamentVersions.tournamentChanged(command.tournamentId());
+            return matches;
         }
     }
 
     static class UpdateMatchAdapter implements UpdateMatchUseCase {
         private final UpdateMatchUseCase delegate;
+        private final TournamentVersions tournamentVersions;
 
-        UpdateMatchAdapter(UpdateMatchUseCase delegate) {
+        UpdateMatchAdapter(UpdateMatchUseCase delegate, TournamentVersions tournamentVersions) {
             this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
         }
 
         @Override
         @Transactional
         public Match update(UpdateMatchCommand command) {
-            return delegate.update(command);
+            Match match = delegate.update(command);
+            tournamentVersions.tournamentChanged(match.getTournamentId());
+            return match;
         }
     }
 
     static class DeleteMatchAdapter implements DeleteMatchUseCase {
         private final DeleteMatchUseCase delegate;
+        private final MatchRepository matchRepository;
+        private final TournamentVersions tournamentVersions;
 
-        DeleteMatchAdapter(DeleteMatchUseCase delegate) {
+        DeleteMatchAdapter(DeleteMatchUseCase delegate, MatchRepository matchRepository,
+                           TournamentVersions tournamentVersions) {
             this.delegate = delegate;
+            this.matchRepository = matchRepository;
+            this.tournamentVersions = tournamentVersions;
         }
 
         @Override
         @Transactional
         public void delete(Long matchId) {
+            matchRepository.findById(matchId)
+                    .ifPresent(match -> tournamentVersions.tournamentChanged(match.getTournamentId()));
             delegate.delete(matchId);
         }
     }
 
     static class FinishMatchAdapter implements FinishMatchUseCase {
         private final FinishMatchUseCase delegate;
+        private final TournamentVersions tournamentVersions;
 
-        FinishMatchAdapter(FinishMatchUseCase delegate) {
+        FinishMatchAdapter(FinishMatchUseCase delegate, TournamentVersions tournamentVersions) {
             this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
         }
 
         @Override
         @Transactional
         public Match finishMatch(FinishMatchCommand command) {
-            return delegate.finishMatch(command);
+            Match match = delegate.finishMatch(command);
+            tournamentVersions.tournamentChanged(match.getTournamentId());
+            return match;
+        }
+    }
+
+    static class SubmitMatchdayResultsAdapter implements SubmitMatchdayResultsUseCase {
+        private final SubmitMatchdayResultsUseCase delegate;
+        private final TournamentVersions tournamentVersions;
+
+        SubmitMatchdayResultsAdapter(SubmitMatchdayResultsUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
+
+        @Override
+        @Transactional
+        public List<MatchResultReport> submit(SubmitMatchdayResultsCommand command) {
+            List<MatchResultReport> reports = delegate.submit(command);
+            tournamentVersions.tournamentChanged(command.tournamentId());
+            return reports;
         }
     }
 
     static class PostponeMatchAdapter implements PostponeMatchUseCase {
         private final PostponeMatchUseCase delegate;
+        private final TournamentVersions tournamentVersions;
 
-        PostponeMatchAdapter(PostponeMatchUseCase delegate) {
+        PostponeMatchAdapter(PostponeMatchUseCase delegate, TournamentVersions tournamentVersions) {
             this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
         }
 
         @Override
         @Transactional
         public Match postponeMatch(Long matchId) {
-            return delegate.postponeMatch(matchId);
+            Match match = delegate.postponeMatch(matchId);
+            tournamentVersions.tournamentChanged(match.getTournamentId());
+            return match;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.personal.tournament_api.player.application;
+
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase;
+import com.personal.tournament_api.player.domain.exceptions.DuplicatePlayerIdentificationException;
+import com.personal.tournament_api.player.domain.model.Player;
+import com.personal.tournament_api.player.domain.ports.PlayerRepository;
+import com.personal.tournament_api.shared.domain.exceptions.DomainException;
+import com.personal.tournament_api.team.domain.exceptions.TeamNotFoundException;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ImportPlayersService implements ImportPlayersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportPlayersService.class);
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+
+    public ImportPlayersService(PlayerRepository playerRepository, TeamRepository teamRepository) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+    }
+
+    @Override
+    public List<PlayerRowResult> importPlayers(ImportPlayersCommand command) {
+        Long tournamentId = command.tournamentId();
+        List<PlayerRow> rows = command.rows();
+        log.info("Importing {} players for tournament {}", rows.size(), tournamentId);
+
+        Set<Long> tournamentTeamIds = teamRepository.findAllByTournamentIdOrderByNameAsc(tournamentId).stream()
+                .map(Team::getId)
+                .collect(Collectors.toSet());
+        Set<String> takenIdentificationNumbers = findTakenIdentificationNumbers(rows);
+
+        PlayerRowResult[] results = new PlayerRowResult[rows.size()];
+        List<Player> playersToSave = new ArrayList<>();
+        List<Integer> savedRowIndexes = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            PlayerRow row = rows.get(i);
+            try {
+                if (!tournamentTeamIds.contains(row.teamId())) {
+                    throw new TeamNotFoundException(row.teamId());
+                }
+                Player player = Player.create(row.name(), row.lastName(), row.identificationNumber(), row.teamId());
+                if (!takenIdentificationNumbers.add(player.getIdentificationNumber())) {
+                    throw new DuplicatePlayerIdentificationException(player.getIdentificationNumber());
+                }
+                playersToSave.add(player);
+                savedRowIndexes.add(i);
+            } catch (DomainException e) {
+                log.warn("Player row {} rejected: {}", row.rowNumber(), e.getMessage());
+                results[i] = PlayerRowResult.rejected(row, e.getMessage());
+            }
+        }
+
+        if (!playersToSave.isEmpty()) {
+            List<Player> savedPlayers = playerRepository.saveAll(playersToSave);
+            for (int i = 0; i < savedPlayers.size(); i++) {
+                int rowIndex = savedRowIndexes.get(i);
+                results[rowIndex] = PlayerRowResult.created(rows.get(rowIndex), savedPlayers.get(i));
+            }
+        }
+
+        log.info("Tournament {}: {} players created, {} rejected", tournamentId,
+                playersToSave.size(), rows.size() - playersToSave.size());
+        return Arrays.asList(results);
+    }
+
+    private Set<String> findTakenIdentificationNumbers(List<PlayerRow> rows) {
+        Set<String> identificationNumbers = rows.stream()
+                .map(PlayerRow::identificationNumber)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (identificationNumbers.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(playerRepository.findExistingIdentificationNumbers(identificationNumbers));
+    }
+}
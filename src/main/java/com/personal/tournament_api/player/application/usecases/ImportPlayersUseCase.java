@@ -0,0 +1,49 @@
+package com.personal.tournament_api.player.application.usecases;
+
+import com.personal.tournament_api.player.domain.model.Player;
+
+import java.util.List;
+
+public interface ImportPlayersUseCase {
+
+    List<PlayerRowResult> importPlayers(ImportPlayersCommand command);
+
+    record ImportPlayersCommand(
+            Long tournamentId,
+            List<PlayerRow> rows
+    ) {}
+
+    record PlayerRow(
+            long rowNumber,
+            Long teamId,
+            String name,
+            String lastName,
+            String identificationNumber
+    ) {}
+
+    enum RowStatus {
+        CREATED,
+        REJECTED
+    }
+
+    record PlayerRowResult(
+            long rowNumber,
+            String identificationNumber,
+            RowStatus status,
+            Long playerId,
+            String error
+    ) {
+        public static PlayerRowResult created(PlayerRow row, Player player) {
+            return new PlayerRowResult(row.rowNumber(), row.identificationNumber(), RowStatus.CREATED,
+                    player.getId(), null);
+        }
+
+        public static PlayerRowResult rejected(PlayerRow row, String error) {
+            return rejected(row.rowNumber(), row.identificationNumber(), error);
+        }
+
+        public static PlayerRowResult rejected(long rowNumber, String identificationNumber, String error) {
+            return new PlayerRowResult(rowNumber, identificationNumber, RowStatus.REJECTED, null, error);
+        }
+    }
+}
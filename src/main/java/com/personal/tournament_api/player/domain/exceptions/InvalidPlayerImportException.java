@@ -0,0 +1,10 @@
+package com.personal.tournament_api.player.domain.exceptions;
+
+import com.personal.tournament_api.shared.domain.enums.DomainErrorType;
+
+public class InvalidPlayerImportException extends PlayerDomainException {
+
+    public InvalidPlayerImportException(String reason) {
+        super("Player import is invalid: " + reason, DomainErrorType.VALIDATION_ERROR);
+    }
+}
@@ -2,18 +2,26 @@ package com.personal.tournament_api.player.domain.ports;
 
 import com.personal.tournament_api.player.domain.model.Player;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 
 public interface PlayerRepository {
 
     Player save(Player player);
 
+    List<Player> saveAll(List<Player> players);
+
     boolean existsByIdentificationNumber(String identificationNumber);
 
+    List<String> findExistingIdentificationNumbers(Collection<String> identificationNumbers);
+
     List<Player> findAllByTeamId(Long teamId);
 
+    long forEachByTournamentId(Long tournamentId, Consumer<Player> action);
+
     Optional<Player> findByIdAndTeamId(Long playerId, Long teamId);
 
     void deleteById(Long playerId);
@@ -22,4 +30,6 @@ public interface PlayerRepository {
 
     void deleteAllByTournamentId(Long tournamentId);
 
+    int deleteChunkByTournamentId(Long tournamentId, int limit);
+
 }
@@ -5,11 +5,16 @@ import com.personal.tournament_api.player.domain.ports.PlayerRepository;
 import com.personal.tournament_api.player.infrastructure.adapters.persistence.entity.PlayerEntity;
 import com.personal.tournament_api.player.infrastructure.adapters.persistence.mapper.PlayerPersistenceMapper;
 import com.personal.tournament_api.player.infrastructure.adapters.persistence.repository.PlayerJpaRepository;
+import com.personal.tournament_api.shared.infrastructure.persistence.ChunkedDelete;
+import com.personal.tournament_api.shared.infrastructure.persistence.StreamedRead;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
@@ -17,6 +22,8 @@ public class PlayerJpaAdapter implements PlayerRepository {
 
     private final PlayerJpaRepository playerJpaRepository;
     private final PlayerPersistenceMapper mapper;
+    private final ChunkedDelete chunkedDelete;
+    private final StreamedRead streamedRead;
 
     @Override
     public Player save(Player player) {
@@ -25,17 +32,33 @@ public class PlayerJpaAdapter implements PlayerRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Player> saveAll(List<Player> players) {
+        List<PlayerEntity> savedEntities = playerJpaRepository.saveAll(mapper.toEntityList(players));
+        return mapper.toDomainList(savedEntities);
+    }
+
     @Override
     public boolean existsByIdentificationNumber(String identificationNumber) {
         return playerJpaRepository.existsByIdentificationNumber(identificationNumber);
     }
 
+    @Override
+    public List<String> findExistingIdentificationNumbers(Collection<String> identificationNumbers) {
+        return playerJpaRepository.findIdentificationNumbersIn(identificationNumbers);
+    }
+
     @Override
     public List<Player> findAllByTeamId(Long teamId) {
         List<PlayerEntity> entities = playerJpaRepository.findAllByTeamId(teamId);
         return mapper.toDomainList(entities);
     }
 
+    @Override
+    public long forEachByTournamentId(Long tournamentId, Consumer<Player> action) {
+        return streamedRead.forEach(playerJpaRepository.streamByTournamentId(tournamentId), mapper::toDomain, action);
+    }
+
     @Override
     public Optional<Player> findByIdAndTeamId(Long playerId, Long teamId) {
         return playerJpaRepository.findByIdAndTeamId(playerId, teamId)
@@ -49,12 +72,23 @@ public class PlayerJpaAdapter implements PlayerRepository {
 
     @Override
     public void deleteAllByTeamId(Long teamId) {
-        playerJpaRepository.deleteAllByTeamId(teamId);
+        chunkedDelete.deleteAll(limit -> playerJpaRepository.findIdsByTeamId(teamId, limit),
+                playerJpaRepository::deleteByIdIn);
     }
 
     @Override
     public void deleteAllByTournamentId(Long tournamentId) {
-        playerJpaRepository.deleteAllByTournamentId(tournamentId);
+        chunkedDelete.deleteAll(limit -> playerJpaRepository.findIdsByTournamentId(tournamentId, limit),
+                playerJpaRepository::deleteByIdIn);
+    }
+
+    @Override
+    public int deleteChunkByTournamentId(Long tournamentId, int limit) {
+        List<Long> ids = playerJpaRepository.findIdsByTournamentId(tournamentId, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return playerJpaRepository.deleteByIdIn(ids);
     }
 
 }
@@ -6,7 +6,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-@Table(name = "players")
+@Table(name = "players", indexes = {
+        @Index(name = "idx_players_team", columnList = "team_id")
+})
 @Entity
 @Getter
 @Setter
@@ -15,7 +17,8 @@ import lombok.Setter;
 public class PlayerEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_seq")
+    @SequenceGenerator(name = "players_seq", sequenceName = "players_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -25,6 +25,8 @@ public interface PlayerPersistenceMapper {
 
     PlayerEntity toEntity(Player player);
 
+    List<PlayerEntity> toEntityList(List<Player> players);
+
     default List<Player> toDomainList(List<PlayerEntity> entities) {
         if (entities == null) {
             return null;
@@ -1,26 +1,47 @@
 package com.personal.tournament_api.player.infrastructure.adapters.persistence.repository;
 
 import com.personal.tournament_api.player.infrastructure.adapters.persistence.entity.PlayerEntity;
+import com.personal.tournament_api.shared.infrastructure.persistence.StreamedRead;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PlayerJpaRepository extends JpaRepository<PlayerEntity, Long> {
 
     boolean existsByIdentificationNumber(String identificationNumber);
 
+    @Query("SELECT p.identificationNumber FROM PlayerEntity p WHERE p.identificationNumber IN :identificationNumbers")
+    List<String> findIdentificationNumbersIn(@Param("identificationNumbers") Collection<String> identificationNumbers);
+
     List<PlayerEntity> findAllByTeamId(Long teamId);
 
     Optional<PlayerEntity> findByIdAndTeamId(Long id, Long teamId);
 
-    void deleteAllByTeamId(Long teamId);
+    @Query("SELECT p.id FROM PlayerEntity p WHERE p.teamId = :teamId ORDER BY p.id")
+    List<Long> findIdsByTeamId(@Param("teamId") Long teamId, Limit limit);
+
+    @Query("SELECT p.id FROM PlayerEntity p WHERE p.teamId IN (SELECT t.id FROM TeamEntity t WHERE t.tournamentId = :tournamentId) ORDER BY p.id")
+    List<Long> findIdsByTournamentId(@Param("tournamentId") Long tournamentId, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PlayerEntity p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
-    @Modifying
-    @Query("DELETE FROM PlayerEntity p WHERE p.teamId IN (SELECT t.id FROM TeamEntity t WHERE t.tournamentId = :tournamentId)")
-    void deleteAllByTournamentId(@Param("tournamentId") Long tournamentId);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamedRead.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM PlayerEntity p WHERE p.teamId IN (SELECT t.id FROM TeamEntity t WHERE t.tournamentId = :tournamentId) ORDER BY p.id")
+    Stream<PlayerEntity> streamByTournamentId(@Param("tournamentId") Long tournamentId);
 
 }
@@ -0,0 +1,32 @@
+package com.personal.tournament_api.player.infrastructure.adapters.tournament;
+
+import com.personal.tournament_api.player.domain.ports.PlayerRepository;
+import com.personal.tournament_api.player.infrastructure.adapters.web.mapper.PlayerMapper;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataExportPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Exporta los jugadores de un torneo, localizados a través de su equipo.
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class TournamentPlayersExportAdapter implements TournamentDataExportPort {
+
+    private final PlayerRepository playerRepository;
+    private final PlayerMapper playerMapper;
+
+    @Override
+    public String recordType() {
+        return "player";
+    }
+
+    @Override
+    public long exportRecords(Long tournamentId, Consumer<Object> sink) {
+        return playerRepository.forEachByTournamentId(tournamentId, player -> sink.accept(playerMapper.toResponse(player)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.personal.tournament_api.player.infrastructure.adapters.tournament;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.player.domain.exceptions.DuplicatePlayerIdentificationException;
+import com.personal.tournament_api.player.domain.model.Player;
+import com.personal.tournament_api.player.domain.ports.PlayerRepository;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerResponseDTO;
+import com.personal.tournament_api.shared.infrastructure.persistence.BatchedWrite;
+import com.personal.tournament_api.tournament.domain.exceptions.ArchiveRecordConflictException;
+import com.personal.tournament_api.tournament.domain.model.ArchiveIdMapping;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataImportPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Importa los jugadores de un archivo de torneo, asignándolos al equipo importado que corresponde a su
+ * equipo original.
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class TournamentPlayersImportAdapter implements TournamentDataImportPort<Player> {
+
+    private final PlayerRepository playerRepository;
+    private final BatchedWrite batchedWrite;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String recordType() {
+        return "player";
+    }
+
+    @Override
+    public Player prepare(Long tournamentId, Object record, ArchiveIdMapping ids) {
+        PlayerResponseDTO archived = objectMapper.convertValue(record, PlayerResponseDTO.class);
+        return Player.create(archived.name(), archived.lastName(), archived.identificationNumber(),
+                ids.importedId("team", archived.teamId()));
+    }
+
+    @Override
+    public void saveAll(List<Player> records, ArchiveIdMapping ids) {
+        List<String> identificationNumbers = records.stream().map(Player::getIdentificationNumber).toList();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < identificationNumbers.size(); i++) {
+            if (!seen.add(identificationNumbers.get(i))) {
+                throw new ArchiveRecordConflictException(i,
+                        new DuplicatePlayerIdentificationException(identificationNumbers.get(i)));
+            }
+        }
+        // Earlier batches are already flushed, so this also catches repeats across batches
+        List<String> existing = playerRepository.findExistingIdentificationNumbers(identificationNumbers);
+        if (!existing.isEmpty()) {
+            throw new ArchiveRecordConflictException(identificationNumbers.indexOf(existing.get(0)),
+                    new DuplicatePlayerIdentificationException(existing.get(0)));
+        }
+        batchedWrite.saveAll(records, playerRepository::saveAll);
+    }
+}
@@ -0,0 +1,24 @@
+package com.personal.tournament_api.player.infrastructure.adapters.tournament;
+
+import com.personal.tournament_api.player.domain.ports.PlayerRepository;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataPurgePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Borra por lotes los jugadores de un torneo eliminado. Va antes que los equipos porque
+ * los jugadores se localizan a través de su equipo.
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class TournamentPlayersPurgeAdapter implements TournamentDataPurgePort {
+
+    private final PlayerRepository playerRepository;
+
+    @Override
+    public int purgeChunk(Long tournamentId, int limit) {
+        return playerRepository.deleteChunkByTournamentId(tournamentId, limit);
+    }
+}
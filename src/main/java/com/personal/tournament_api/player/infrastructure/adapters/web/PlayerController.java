@@ -1,17 +1,30 @@
 package com.personal.tournament_api.player.infrastructure.adapters.web;
 
 import com.personal.tournament_api.player.application.usecases.*;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.ImportPlayersCommand;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRow;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRowResult;
 import com.personal.tournament_api.player.domain.model.Player;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.BulkPlayerRequestDTO;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerImportResponseDTO;
 import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerRequestDTO;
 import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerResponseDTO;
 import com.personal.tournament_api.player.infrastructure.adapters.web.mapper.PlayerMapper;
+import com.personal.tournament_api.shared.infrastructure.web.ConditionalResponses;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/tournaments/{tournamentId}/teams/{teamId}/players")
@@ -19,11 +32,14 @@ import java.util.List;
 public class PlayerController {
 
     private final CreatePlayerUseCase createPlayerUseCase;
+    private final ImportPlayersUseCase importPlayersUseCase;
     private final GetPlayersByTeamUseCase getPlayersByTeamUseCase;
     private final GetPlayerByIdUseCase getPlayerByIdUseCase;
     private final UpdatePlayerUseCase updatePlayerUseCase;
     private final DeletePlayerUseCase deletePlayerUseCase;
     private final PlayerMapper playerMapper;
+    private final TournamentVersions tournamentVersions;
+    private final Validator validator;
 
     @PostMapping
     public ResponseEntity<PlayerResponseDTO> create(@PathVariable Long tournamentId,
@@ -35,10 +51,42 @@ public class PlayerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(playerMapper.toResponse(player));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<PlayerImportResponseDTO> createAll(@PathVariable Long tournamentId,
+                                                             @PathVariable Long teamId,
+                                                             @Valid @RequestBody BulkPlayerRequestDTO request) {
+
+        // Each player is validated on its own, so an invalid one is reported in its row instead of failing the roster
+        List<PlayerRowResult> results = new ArrayList<>();
+        List<PlayerRow> rows = new ArrayList<>();
+        for (int i = 0; i < request.players().size(); i++) {
+            long rowNumber = i + 1;
+            PlayerRequestDTO player = request.players().get(i);
+            if (player == null) {
+                results.add(PlayerRowResult.rejected(rowNumber, null, "Player is required"));
+                continue;
+            }
+            Set<ConstraintViolation<PlayerRequestDTO>> violations = validator.validate(player);
+            if (violations.isEmpty()) {
+                rows.add(playerMapper.toPlayerRow(rowNumber, teamId, player));
+            } else {
+                results.add(PlayerRowResult.rejected(rowNumber, player.identificationNumber(),
+                        PlayerImportReader.describe(violations)));
+            }
+        }
+        if (!rows.isEmpty()) {
+            results.addAll(importPlayersUseCase.importPlayers(new ImportPlayersCommand(tournamentId, rows)));
+        }
+        results.sort(Comparator.comparingLong(PlayerRowResult::rowNumber));
+        return ResponseEntity.ok(playerMapper.toImportResponse(tournamentId, results));
+    }
+
     @GetMapping
-    public ResponseEntity<List<PlayerResponseDTO>> getPlayers(@PathVariable Long teamId) {
-        List<Player> players = getPlayersByTeamUseCase.getPlayersByTeamId(teamId);
-        return ResponseEntity.ok(playerMapper.toResponseList(players));
+    public ResponseEntity<List<PlayerResponseDTO>> getPlayers(@PathVariable Long tournamentId,
+                                                              @PathVariable Long teamId,
+                                                              WebRequest webRequest) {
+        return ConditionalResponses.ok(webRequest, tournamentVersions.etag(tournamentId),
+                () -> playerMapper.toResponseList(getPlayersByTeamUseCase.getPlayersByTeamId(teamId)));
     }
 
     @GetMapping("/{playerId}")
@@ -0,0 +1,45 @@
+package com.personal.tournament_api.player.infrastructure.adapters.web;
+
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase;
+import com.personal.tournament_api.player.infrastructure.adapters.web.PlayerImportReader.Format;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerImportResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/tournaments/{tournamentId}/players/import")
+@RequiredArgsConstructor
+public class PlayerImportController {
+
+    private final ImportPlayersUseCase importPlayersUseCase;
+    private final PlayerImportReader playerImportReader;
+
+    @PostMapping(consumes = PlayerImportReader.TEXT_CSV_VALUE)
+    public ResponseEntity<PlayerImportResponseDTO> importCsv(@PathVariable Long tournamentId,
+                                                             InputStream body) throws IOException {
+        return ResponseEntity.ok(importPlayers(tournamentId, body, Format.CSV));
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PlayerImportResponseDTO> importNdjson(@PathVariable Long tournamentId,
+                                                                InputStream body) throws IOException {
+        return ResponseEntity.ok(importPlayers(tournamentId, body, Format.NDJSON));
+    }
+
+    private PlayerImportResponseDTO importPlayers(Long tournamentId, InputStream body, Format format) throws IOException {
+        BufferedReader source = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return playerImportReader.read(tournamentId, source, format,
+                rows -> importPlayersUseCase.importPlayers(new ImportPlayersUseCase.ImportPlayersCommand(tournamentId, rows)));
+    }
+}
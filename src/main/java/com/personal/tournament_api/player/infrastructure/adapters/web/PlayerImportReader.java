@@ -0,0 +1,205 @@
+package com.personal.tournament_api.player.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRow;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRowResult;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.RowStatus;
+import com.personal.tournament_api.player.domain.exceptions.InvalidPlayerImportException;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerImportLineDTO;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerImportResponseDTO;
+import com.personal.tournament_api.player.infrastructure.adapters.web.mapper.PlayerMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads a tournament-wide player import line by line and hands it to the import use case in chunks. Memory is
+ * bounded by one chunk plus the rejected rows kept for the report (at most {@link #MAX_REPORTED_ERRORS}); created
+ * rows are only counted. Each chunk is committed on its own, so a file can be re-sent after a failure and the
+ * rows already imported come back as duplicates.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerImportReader {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final List<String> CSV_HEADER = List.of("teamid", "name", "lastname", "identificationnumber");
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlayerMapper playerMapper;
+
+    public PlayerImportResponseDTO read(Long tournamentId, BufferedReader source, Format format,
+                                        Function<List<PlayerRow>, List<PlayerRowResult>> importer) throws IOException {
+        ImportTally tally = new ImportTally();
+        List<PlayerRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        long lineNumber = 0;
+        boolean headerRead = format != Format.CSV;
+        String line;
+        while ((line = source.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (!headerRead) {
+                checkCsvHeader(line);
+                headerRead = true;
+                continue;
+            }
+            try {
+                chunk.add(playerMapper.toPlayerRow(lineNumber, parseLine(line, format)));
+            } catch (InvalidLineException e) {
+                tally.add(PlayerRowResult.rejected(lineNumber, e.identificationNumber, e.getMessage()));
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                tally.addAll(importer.apply(chunk));
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            tally.addAll(importer.apply(chunk));
+        }
+        if (tally.total() == 0) {
+            throw new InvalidPlayerImportException("no player rows found");
+        }
+        return tally.toResponse(tournamentId);
+    }
+
+    private void checkCsvHeader(String line) {
+        List<String> columns = splitCsv(line).stream()
+                .map(column -> column.toLowerCase(Locale.ROOT))
+                .toList();
+        if (!CSV_HEADER.equals(columns)) {
+            throw new InvalidPlayerImportException("CSV must start with the header teamId,name,lastName,identificationNumber");
+        }
+    }
+
+    private PlayerImportLineDTO parseLine(String line, Format format) {
+        PlayerImportLineDTO parsed = format == Format.CSV ? parseCsv(line) : parseJson(line);
+        Set<ConstraintViolation<PlayerImportLineDTO>> violations = validator.validate(parsed);
+        if (!violations.isEmpty()) {
+            throw new InvalidLineException(describe(violations), parsed.identificationNumber());
+        }
+        return parsed;
+    }
+
+    static String describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private PlayerImportLineDTO parseCsv(String line) {
+        List<String> cells = splitCsv(line);
+        if (cells.size() != CSV_HEADER.size()) {
+            throw new InvalidLineException("Expected " + CSV_HEADER.size() + " columns but found " + cells.size(), null);
+        }
+        String identificationNumber = cells.get(3);
+        Long teamId;
+        try {
+            teamId = cells.get(0).isEmpty() ? null : Long.valueOf(cells.get(0));
+        } catch (NumberFormatException e) {
+            throw new InvalidLineException("teamId: must be a number", identificationNumber);
+        }
+        return new PlayerImportLineDTO(teamId, cells.get(1), cells.get(2), identificationNumber);
+    }
+
+    private PlayerImportLineDTO parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, PlayerImportLineDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidLineException("Malformed JSON line: " + e.getOriginalMessage(), null);
+        }
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    cell.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString().strip());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString().strip());
+        return cells;
+    }
+
+    private static final class InvalidLineException extends RuntimeException {
+        private final String identificationNumber;
+
+        InvalidLineException(String message, String identificationNumber) {
+            super(message, null, false, false);
+            this.identificationNumber = identificationNumber;
+        }
+    }
+
+    private final class ImportTally {
+        private final List<PlayerRowResult> errors = new ArrayList<>();
+        private long created;
+        private long rejected;
+
+        void addAll(List<PlayerRowResult> results) {
+            results.forEach(this::add);
+        }
+
+        void add(PlayerRowResult result) {
+            if (result.status() == RowStatus.CREATED) {
+                created++;
+                return;
+            }
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(result);
+            }
+        }
+
+        long total() {
+            return created + rejected;
+        }
+
+        PlayerImportResponseDTO toResponse(Long tournamentId) {
+            errors.sort(Comparator.comparingLong(PlayerRowResult::rowNumber));
+            return new PlayerImportResponseDTO(tournamentId, created, rejected,
+                    playerMapper.toRowResultResponseList(errors));
+        }
+    }
+}
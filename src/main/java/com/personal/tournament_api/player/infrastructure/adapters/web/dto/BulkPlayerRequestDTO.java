@@ -0,0 +1,13 @@
+package com.personal.tournament_api.player.infrastructure.adapters.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkPlayerRequestDTO(
+        @NotEmpty(message = "At least one player is required")
+        @Size(max = 500, message = "At most 500 players can be created per request")
+        List<PlayerRequestDTO> players
+) {
+}
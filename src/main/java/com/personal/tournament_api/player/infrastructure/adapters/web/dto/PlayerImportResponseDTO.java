@@ -0,0 +1,11 @@
+package com.personal.tournament_api.player.infrastructure.adapters.web.dto;
+
+import java.util.List;
+
+public record PlayerImportResponseDTO(
+        Long tournamentId,
+        long created,
+        long rejected,
+        List<PlayerRowResultDTO> results
+) {
+}
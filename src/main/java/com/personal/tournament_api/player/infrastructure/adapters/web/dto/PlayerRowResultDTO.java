@@ -0,0 +1,12 @@
+package com.personal.tournament_api.player.infrastructure.adapters.web.dto;
+
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.RowStatus;
+
+public record PlayerRowResultDTO(
+        long rowNumber,
+        String identificationNumber,
+        RowStatus status,
+        Long playerId,
+        String error
+) {
+}
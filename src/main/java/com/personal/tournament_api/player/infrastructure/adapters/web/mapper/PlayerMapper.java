@@ -1,10 +1,16 @@
 package com.personal.tournament_api.player.infrastructure.adapters.web.mapper;
 
 import com.personal.tournament_api.player.application.usecases.CreatePlayerUseCase;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRow;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRowResult;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.RowStatus;
 import com.personal.tournament_api.player.application.usecases.UpdatePlayerUseCase;
 import com.personal.tournament_api.player.domain.model.Player;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerImportLineDTO;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerImportResponseDTO;
 import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerRequestDTO;
 import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerResponseDTO;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerRowResultDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -29,6 +35,24 @@ public interface PlayerMapper {
     @Mapping(target = "identificationNumber", source = "request.identificationNumber")
     UpdatePlayerUseCase.UpdatePlayerCommand toUpdateCommand(Long teamId, Long playerId, Long tournamentId, PlayerRequestDTO request);
 
+    default PlayerRow toPlayerRow(long rowNumber, Long teamId, PlayerRequestDTO request) {
+        return new PlayerRow(rowNumber, teamId, request.name(), request.lastName(), request.identificationNumber());
+    }
+
+    default PlayerRow toPlayerRow(long rowNumber, PlayerImportLineDTO line) {
+        return new PlayerRow(rowNumber, line.teamId(), line.name(), line.lastName(), line.identificationNumber());
+    }
+
+    PlayerRowResultDTO toRowResultResponse(PlayerRowResult result);
+
+    List<PlayerRowResultDTO> toRowResultResponseList(List<PlayerRowResult> results);
+
+    default PlayerImportResponseDTO toImportResponse(Long tournamentId, List<PlayerRowResult> results) {
+        long rejected = results.stream().filter(result -> result.status() == RowStatus.REJECTED).count();
+        return new PlayerImportResponseDTO(tournamentId, results.size() - rejected, rejected,
+                toRowResultResponseList(results));
+    }
+
     PlayerResponseDTO toResponse(Player player);
 
     List<PlayerResponseDTO> toResponseList(List<Player> players);
@@ -4,11 +4,14 @@ import com.personal.tournament_api.player.application.*;
 import com.personal.tournament_api.player.application.usecases.*;
 import com.personal.tournament_api.player.domain.model.Player;
 import com.personal.tournament_api.player.domain.ports.PlayerRepository;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
 import com.personal.tournament_api.team.domain.ports.TeamRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Configuration
 public class PlayerModuleConfiguration {
 
@@ -16,8 +19,16 @@ public class PlayerModuleConfiguration {
 
     @Bean
     public CreatePlayerUseCase createPlayerUseCase(PlayerRepository playerRepository,
-                                                   TeamRepository teamRepository) {
-        return new CreatePlayerAdapter(new CreatePlayerService(playerRepository, teamRepository));
+                                                   TeamRepository teamRepository,
+                                                   TournamentVersions tournamentVersions) {
+        return new CreatePlayerAdapter(new CreatePlayerService(playerRepository, teamRepository), tournamentVersions);
+    }
+
+    @Bean
+    public ImportPlayersUseCase importPlayersUseCase(PlayerRepository playerRepository,
+                                                     TeamRepository teamRepository,
+                                                     TournamentVersions tournamentVersions) {
+        return new ImportPlayersAdapter(new ImportPlayersService(playerRepository, teamRepository), tournamentVersions);
     }
 
     @Bean
@@ -28,57 +39,88 @@ public class PlayerModuleConfiguration {
 
     @Bean
     public UpdatePlayerUseCase updatePlayerUseCase(PlayerRepository playerRepository,
-                                                   TeamRepository teamRepository) {
-        return new UpdatePlayerAdapter(new UpdatePlayerService(playerRepository, teamRepository));
+                                                   TeamRepository teamRepository,
+                                                   TournamentVersions tournamentVersions) {
+        return new UpdatePlayerAdapter(new UpdatePlayerService(playerRepository, teamRepository), tournamentVersions);
     }
 
     @Bean
     public DeletePlayerUseCase deletePlayerUseCase(PlayerRepository playerRepository,
-                                                   TeamRepository teamRepository) {
-        return new DeletePlayerAdapter(new DeletePlayerService(playerRepository, teamRepository));
+                                                   TeamRepository teamRepository,
+                                                   TournamentVersions tournamentVersions) {
+        return new DeletePlayerAdapter(new DeletePlayerService(playerRepository, teamRepository), tournamentVersions);
     }
 
     // --- Transactional Adapters (infrastructure concern) ---
 
     static class CreatePlayerAdapter implements CreatePlayerUseCase {
         private final CreatePlayerUseCase delegate;
+        private final TournamentVersions tournamentVersions;
 
-        CreatePlayerAdapter(CreatePlayerUseCase delegate) {
+        CreatePlayerAdapter(CreatePlayerUseCase delegate, TournamentVersions tournamentVersions) {
             this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
         }
 
         @Override
         @Transactional
         public Player execute(CreatePlayerCommand command) {
-            return delegate.execute(command);
+            Player player = delegate.execute(command);
+            tournamentVersions.tournamentChanged(command.tournamentId());
+            return player;
+        }
+    }
+
+    static class ImportPlayersAdapter implements ImportPlayersUseCase {
+        private final ImportPlayersUseCase delegate;
+        private final TournamentVersions tournamentVersions;
+
+        ImportPlayersAdapter(ImportPlayersUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
+
+        @Override
+        @Transactional
+        public List<PlayerRowResult> importPlayers(ImportPlayersCommand command) {
+            List<PlayerRowResult> results = delegate.importPlayers(command);
+            tournamentVersions.tournamentChanged(command.tournamentId());
+            return results;
         }
     }
 
     static class UpdatePlayerAdapter implements UpdatePlayerUseCase {
         private final UpdatePlayerUseCase delegate;
+        private final TournamentVersions tournamentVersions;
 
-        UpdatePlayerAdapter(UpdatePlayerUseCase delegate) {
+        UpdatePlayerAdapter(UpdatePlayerUseCase delegate, TournamentVersions tournamentVersions) {
             this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
         }
 
         @Override
         @Transactional
         public Player update(UpdatePlayerCommand command) {
-            return delegate.update(command);
+            Player player = delegate.update(command);
+            tournamentVersions.tournamentChanged(command.tournamentId());
+            return player;
         }
     }
 
     static class DeletePlayerAdapter implements DeletePlayerUseCase {
         private final DeletePlayerUseCase delegate;
+        private final TournamentVersions tournamentVersions;
 
-        DeletePlayerAdapter(DeletePlayerUseCase delegate) {
+        DeletePlayerAdapter(DeletePlayerUseCase delegate, TournamentVersions tournamentVersions) {
             this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
         }
 
         @Override
         @Transactional
         public void deletePlayer(Long tournamentId, Long teamId, Long playerId) {
             delegate.deletePlayer(tournamentId, teamId, playerId);
+            tournamentVersions.tournamentChanged(tournamentId);
         }
     }
-}
\ No newline at end of file
+}
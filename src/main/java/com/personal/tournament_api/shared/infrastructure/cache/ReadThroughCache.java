@@ -0,0 +1,163 @@
+package com.personal.tournament_api.shared.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.personal.tournament_api.shared.infrastructure.persistence.CommittedWrites;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded read-through cache for aggregates looked up by id, used by the caching repository decorators.
+ * Entries are evicted by size and expire a fixed time after being loaded. Hits and misses are published
+ * as {@code cache.gets} meters tagged with the cache name.
+ * <p>
+ * Domain models are mutable, so values are copied on the way in and on the way out. Invalidation follows
+ * the transaction: a key written in the current transaction bypasses the cache until the transaction ends,
+ * and is evicted after commit so other threads never see uncommitted state.
+ * <p>
+ * The cache is local to this process: all writes to the underlying table must go through the decorator.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final UnaryOperator<V> copier;
+    private final CommittedWrites committedWrites = new CommittedWrites();
+
+    public ReadThroughCache(String name, long maximumSize, Duration timeToLive,
+                            UnaryOperator<V> copier, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.copier = copier;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        if (isWrittenInTransaction(key)) {
+            return loader.apply(key);
+        }
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(copier.apply(cached));
+        }
+
+        long writesBeforeLoad = committedWrites.beforeLoad();
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> store(key, value, writesBeforeLoad));
+        return loaded;
+    }
+
+    /**
+     * Serves the cached keys and loads the rest in a single call to {@code loader}. Values for unknown
+     * keys are simply missing from the result, in no particular order.
+     */
+    public List<V> getAll(Collection<K> keys, Function<V, K> keyOf, Function<Collection<K>, List<V>> loader) {
+        List<V> values = new ArrayList<>(keys.size());
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            V cached = isWrittenInTransaction(key) ? null : cache.getIfPresent(key);
+            if (cached != null) {
+                values.add(copier.apply(cached));
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return values;
+        }
+
+        long writesBeforeLoad = committedWrites.beforeLoad();
+        for (V value : loader.apply(missing)) {
+            K key = keyOf.apply(value);
+            if (!isWrittenInTransaction(key)) {
+                store(key, value, writesBeforeLoad);
+            }
+            values.add(value);
+        }
+        return values;
+    }
+
+    public boolean contains(K key) {
+        return !isWrittenInTransaction(key) && cache.getIfPresent(key) != null;
+    }
+
+    public void invalidate(K key) {
+        TransactionWrites<K> writes = currentTransactionWrites();
+        if (writes == null) {
+            evict(key);
+            return;
+        }
+        writes.keys.add(key);
+        CommittedWrites.afterCommit(() -> evict(key));
+    }
+
+    public void invalidateIf(Predicate<V> predicate) {
+        TransactionWrites<K> writes = currentTransactionWrites();
+        if (writes == null) {
+            evictIf(predicate);
+            return;
+        }
+        writes.all = true;
+        CommittedWrites.afterCommit(() -> evictIf(predicate));
+    }
+
+    private void store(K key, V value, long writesBeforeLoad) {
+        committedWrites.keepIfUnchanged(writesBeforeLoad, () -> cache.put(key, copier.apply(value)));
+    }
+
+    private void evict(K key) {
+        committedWrites.apply(() -> cache.invalidate(key));
+    }
+
+    private void evictIf(Predicate<V> predicate) {
+        committedWrites.apply(() -> cache.asMap().values().removeIf(predicate));
+    }
+
+    private boolean isWrittenInTransaction(K key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        TransactionWrites<K> writes = (TransactionWrites<K>) TransactionSynchronizationManager.getResource(this);
+        return writes != null && (writes.all || writes.keys.contains(key));
+    }
+
+    private TransactionWrites<K> currentTransactionWrites() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        TransactionWrites<K> writes = (TransactionWrites<K>) TransactionSynchronizationManager.getResource(this);
+        if (writes == null) {
+            writes = new TransactionWrites<>();
+            TransactionSynchronizationManager.bindResource(this, writes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReadThroughCache.this);
+                }
+            });
+        }
+        return writes;
+    }
+
+    private static final class TransactionWrites<K> {
+        private final Set<K> keys = new HashSet<>();
+        private boolean all;
+    }
+}
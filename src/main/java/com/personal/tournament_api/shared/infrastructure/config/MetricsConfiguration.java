@@ -0,0 +1,16 @@
+package com.personal.tournament_api.shared.infrastructure.config;
+
+import com.personal.tournament_api.shared.infrastructure.metrics.PortMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public static PortMetricsPostProcessor portMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PortMetricsPostProcessor(meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.personal.tournament_api.shared.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Checks the virtual-thread request mode ({@code spring.threads.virtual.enabled}, {@code VIRTUAL_THREADS_ENABLED}).
+ * Spring Boot only switches Tomcat, {@code @Scheduled} and {@code @Async} to virtual threads on Java 21+ and
+ * otherwise ignores the flag, so a deployment that asked for the mode on an older runtime fails at startup
+ * instead of silently running on platform threads.
+ * <p>
+ * With virtual threads the servlet thread cap no longer limits concurrent requests; the Hikari pool
+ * ({@code DB_POOL_MAXIMUM_SIZE}) does, and requests wait up to {@code DB_POOL_CONNECTION_TIMEOUT} for a
+ * connection. Size those two for the database rather than for the thread count.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfiguration implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    private static final int MINIMUM_JAVA_VERSION = 21;
+
+    private final int databasePoolSize;
+
+    public VirtualThreadsConfiguration(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int databasePoolSize) {
+        this.databasePoolSize = databasePoolSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < MINIMUM_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled requires Java " + MINIMUM_JAVA_VERSION
+                    + " or later, but the application is running on Java " + javaVersion);
+        }
+        log.info("Handling requests on virtual threads; concurrent database work is capped by the pool of {} connections",
+                databasePoolSize);
+    }
+}
@@ -0,0 +1,33 @@
+package com.personal.tournament_api.shared.infrastructure.metrics;
+
+/**
+ * The hexagonal ports that are metered, recognised by where each module declares them:
+ * use cases in {@code <module>.application.usecases}, repositories in {@code <module>.domain.ports}.
+ */
+enum PortKind {
+
+    USE_CASE("usecase.invocations", "Use case calls, timed around the transaction"),
+    REPOSITORY("repository.invocations", "Repository port calls");
+
+    final String metricName;
+    final String description;
+
+    PortKind(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    static PortKind of(Class<?> type) {
+        if (!type.isInterface() || !type.getName().startsWith("com.personal.tournament_api.")) {
+            return null;
+        }
+        String packageName = type.getPackageName();
+        if (packageName.endsWith(".application.usecases") && type.getSimpleName().endsWith("UseCase")) {
+            return USE_CASE;
+        }
+        if (packageName.endsWith(".domain.ports") && type.getSimpleName().endsWith("Repository")) {
+            return REPOSITORY;
+        }
+        return null;
+    }
+}
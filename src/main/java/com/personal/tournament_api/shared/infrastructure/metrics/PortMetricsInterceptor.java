@@ -0,0 +1,106 @@
+package com.personal.tournament_api.shared.infrastructure.metrics;
+
+import com.personal.tournament_api.shared.domain.exceptions.DomainException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call to a use case or repository port and tags it with the port, the operation, the
+ * implementing adapter and the outcome. Timers are resolved once per method and outcome, so the hot
+ * path is a map lookup and a clock read.
+ */
+class PortMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Key, Operation> operations = new ConcurrentHashMap<>();
+
+    PortMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Key key = new Key(AopUtils.getTargetClass(invocation.getThis()), invocation.getMethod());
+        Operation operation = operations.get(key);
+        if (operation == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return invocation.proceed();
+            }
+            operation = operations.computeIfAbsent(key, k -> resolve(registry, k));
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            operation.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            operation.failure(ex).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private static Operation resolve(MeterRegistry registry, Key key) {
+        Method method = key.method();
+        for (Class<?> port : ClassUtils.getAllInterfacesForClassAsSet(key.targetClass())) {
+            PortKind kind = PortKind.of(port);
+            if (kind != null && ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes())) {
+                return new Operation(registry, kind, port.getSimpleName(), method.getName(),
+                        key.targetClass().getSimpleName());
+            }
+        }
+        throw new IllegalStateException(method + " is not declared by a metered port");
+    }
+
+    private record Key(Class<?> targetClass, Method method) {
+    }
+
+    private static final class Operation {
+        private final MeterRegistry registry;
+        private final PortKind kind;
+        private final String port;
+        private final String name;
+        private final String adapter;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        private Operation(MeterRegistry registry, PortKind kind, String port, String name, String adapter) {
+            this.registry = registry;
+            this.kind = kind;
+            this.port = port;
+            this.name = name;
+            this.adapter = adapter;
+            this.success = timer("success", "none");
+        }
+
+        Timer success() {
+            return success;
+        }
+
+        Timer failure(Throwable ex) {
+            return failures.computeIfAbsent(ex.getClass(), type -> timer(
+                    ex instanceof DomainException ? "domain_error" : "error", type.getSimpleName()));
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(kind.metricName)
+                    .description(kind.description)
+                    .tag("port", port)
+                    .tag("operation", name)
+                    .tag("adapter", adapter)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.personal.tournament_api.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Meters every bean that implements a use case or repository port (see {@link PortKind}).
+ * <p>
+ * Beans that already have a proxy, like the transactional use case adapters in the module
+ * configurations, get the metrics advice added in front of their existing advisors, so a use case
+ * timer covers the whole transaction including the commit. Other beans get a class-based proxy, since
+ * some adapters are injected by their concrete type.
+ */
+public class PortMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public PortMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new PortPointcut(), new PortMetricsInterceptor(meterRegistry));
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    private static final class PortPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public ClassFilter getClassFilter() {
+            return type -> ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+                    .anyMatch(port -> PortKind.of(port) != null);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return ClassUtils.getAllInterfacesForClassAsSet(targetClass).stream()
+                    .filter(port -> PortKind.of(port) != null)
+                    .anyMatch(port -> ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes()));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.personal.tournament_api.shared.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Saves one batch of a long write transaction and releases it, keeping memory flat however many batches
+ * the transaction writes.
+ * <p>
+ * The batch is flushed right away, so its inserts go out as JDBC batches and later queries in the same
+ * transaction see it, and the persistence context is then cleared so the saved entities do not pile up
+ * until commit. Anything else still managed in the transaction is detached as well; callers must not
+ * rely on it afterwards.
+ */
+@Component
+public class BatchedWrite {
+
+    private final EntityManager entityManager;
+
+    public BatchedWrite(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param batch the values to save
+     * @param save  saves the batch and returns the saved values
+     * @return the saved values
+     */
+    public <T> List<T> saveAll(List<T> batch, UnaryOperator<List<T>> save) {
+        List<T> saved = save.apply(batch);
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
+    }
+}
@@ -0,0 +1,46 @@
+package com.personal.tournament_api.shared.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Deletes a set of rows in bounded batches of {@code persistence.bulk-delete.chunk-size}.
+ * <p>
+ * Each round selects the next ids only and removes them with one set-based statement, so deleting a
+ * large tournament costs a couple of statements per chunk instead of one per row, and no entity is
+ * loaded into the persistence context along the way.
+ */
+@Component
+public class ChunkedDelete {
+
+    private final int chunkSize;
+
+    public ChunkedDelete(@Value("${persistence.bulk-delete.chunk-size}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("persistence.bulk-delete.chunk-size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param nextIds returns up to {@code limit} ids still to delete, in a stable order
+     * @param delete  deletes the given ids and returns the number of rows removed
+     * @return total number of rows removed
+     */
+    public long deleteAll(Function<Limit, List<Long>> nextIds, ToIntFunction<List<Long>> delete) {
+        long deleted = 0;
+        List<Long> ids;
+        do {
+            ids = nextIds.apply(Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                deleted += delete.applyAsInt(ids);
+            }
+        } while (ids.size() == chunkSize);
+        return deleted;
+    }
+}
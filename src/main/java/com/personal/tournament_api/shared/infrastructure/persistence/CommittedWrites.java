@@ -0,0 +1,54 @@
+package com.personal.tournament_api.shared.infrastructure.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps in-process state (caches, projections, version counters) in step with committed data.
+ * <p>
+ * {@link #afterCommit} defers a change until the current transaction commits, so other threads never
+ * see uncommitted state; outside a transaction it runs at once. An instance also counts the committed
+ * writes it {@linkplain #apply applies}: a value loaded from the database while a write committed may
+ * be missing that write, so {@link #keepIfUnchanged} serves it without keeping it.
+ */
+public class CommittedWrites {
+
+    private long count;
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * @return the write count to hand to {@link #keepIfUnchanged} once the load finishes
+     */
+    public synchronized long beforeLoad() {
+        return count;
+    }
+
+    /**
+     * Runs {@code keep} only if no write was applied since {@code writesBeforeLoad} was read.
+     */
+    public synchronized void keepIfUnchanged(long writesBeforeLoad, Runnable keep) {
+        if (count == writesBeforeLoad) {
+            keep.run();
+        }
+    }
+
+    /**
+     * Applies a committed write to the state and counts it, atomically with respect to {@link #keepIfUnchanged}.
+     */
+    public synchronized void apply(Runnable write) {
+        write.run();
+        count++;
+    }
+}
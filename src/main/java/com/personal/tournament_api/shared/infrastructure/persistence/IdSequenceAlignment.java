@@ -0,0 +1,62 @@
+package com.personal.tournament_api.shared.infrastructure.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves every entity id sequence past the ids already stored in its table, once at startup.
+ * <p>
+ * Tables created while their entity still used IDENTITY keep their rows when the entity switches to a
+ * sequence, but {@code ddl-auto} creates the new sequence starting at 1, so the first insert would reuse
+ * an existing id. The pooled optimizer hands out the {@code allocationSize} ids just below each value it
+ * reads, so a sequence is restarted only when that range could reach an existing id, and only forward.
+ */
+@Component
+public class IdSequenceAlignment implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceAlignment.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAlignment(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && persister instanceof AbstractEntityPersister entityPersister) {
+                align(dialect, generator.getDatabaseStructure(),
+                        entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0]);
+            }
+        });
+    }
+
+    private void align(Dialect dialect, DatabaseStructure sequence, String table, String idColumn) {
+        String sequenceName = sequence.getPhysicalName().render();
+        int allocationSize = sequence.getIncrementSize();
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        Long next = jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString(sequenceName), Long.class);
+        if (maxId == null || next == null || next - allocationSize >= maxId) {
+            return;
+        }
+        long restartWith = maxId + allocationSize + 1;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + restartWith);
+        log.info("Moved sequence {} to {} past the existing ids of {}", sequenceName, restartWith, table);
+    }
+}
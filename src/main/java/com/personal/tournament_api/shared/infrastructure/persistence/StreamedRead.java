@@ -0,0 +1,49 @@
+package com.personal.tournament_api.shared.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Walks a streamed query one entity at a time, keeping memory flat however many rows it returns.
+ * <p>
+ * Queries read through here should declare {@link #FETCH_SIZE} as their fetch size hint, so the driver pulls
+ * rows from a server-side cursor in chunks instead of buffering the whole result, and must run inside a
+ * (read-only) transaction. Every entity is detached as soon as it has been mapped, so the persistence context
+ * never grows with the result either.
+ */
+@Component
+public class StreamedRead {
+
+    public static final String FETCH_SIZE = "500";
+
+    private final EntityManager entityManager;
+
+    public StreamedRead(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param rows   the streamed query; it is closed before returning
+     * @param mapper turns each entity into the value handed to {@code action}
+     * @return number of rows read
+     */
+    public <E, T> long forEach(Stream<E> rows, Function<E, T> mapper, Consumer<? super T> action) {
+        long count = 0;
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                E entity = iterator.next();
+                T value = mapper.apply(entity);
+                entityManager.detach(entity);
+                action.accept(value);
+                count++;
+            }
+        }
+        return count;
+    }
+}
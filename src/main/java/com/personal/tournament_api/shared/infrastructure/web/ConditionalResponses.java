@@ -0,0 +1,32 @@
+package com.personal.tournament_api.shared.infrastructure.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET responses for reads tagged by {@link TournamentVersions}. The body is only built when the
+ * client's {@code If-None-Match} no longer matches; otherwise the read is answered with 304 and no query runs.
+ * Both answers carry the tag and {@code Cache-Control: no-cache}, so clients always revalidate.
+ */
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    public static <T> ResponseEntity<T> ok(WebRequest webRequest, String etag, Supplier<T> body) {
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+}
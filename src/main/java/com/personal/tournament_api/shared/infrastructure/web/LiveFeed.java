@@ -0,0 +1,233 @@
+package com.personal.tournament_api.shared.infrastructure.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Server-Sent Events fan-out behind {@code GET /tournaments/{id}/live}.
+ * <p>
+ * Publishing only queues the update under a key, so a burst of writes to the same match, or several
+ * results moving the same standings, collapses to the latest state before anything is sent. A single
+ * scheduler thread drains the queue every {@code live.flush-interval}, builds and serializes each
+ * payload once per flush, and hands every viewer the same frames; viewers are written on a small send
+ * pool, one at a time and in order. Nothing is built while a tournament has no viewers, and viewers
+ * that fall {@code live.max-backlog} frames behind are dropped so a slow connection cannot hold memory.
+ */
+@Component
+@Slf4j
+public class LiveFeed {
+
+    private final Map<Long, Set<Viewer>> viewersByTournament = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, Update>> pendingByTournament = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Executor senders;
+    private final ScheduledExecutorService scheduler;
+    private final Duration emitterTimeout;
+    private final int maxBacklog;
+
+    @Autowired
+    public LiveFeed(ObjectMapper objectMapper,
+                    @Value("${live.flush-interval}") Duration flushInterval,
+                    @Value("${live.heartbeat-interval}") Duration heartbeatInterval,
+                    @Value("${live.emitter-timeout}") Duration emitterTimeout,
+                    @Value("${live.max-backlog}") int maxBacklog,
+                    @Value("${live.send-threads}") int sendThreads) {
+        this(objectMapper, emitterTimeout, maxBacklog,
+                Executors.newFixedThreadPool(sendThreads, daemonThreads("live-feed-send-")),
+                Executors.newSingleThreadScheduledExecutor(daemonThreads("live-feed-flush-")));
+        scheduler.scheduleWithFixedDelay(this::flush,
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    LiveFeed(ObjectMapper objectMapper, Duration emitterTimeout, int maxBacklog,
+             Executor senders, ScheduledExecutorService scheduler) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeout = emitterTimeout;
+        this.maxBacklog = maxBacklog;
+        this.senders = senders;
+        this.scheduler = scheduler;
+    }
+
+    public SseEmitter subscribe(Long tournamentId) {
+        return subscribe(tournamentId, new SseEmitter(emitterTimeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long tournamentId, SseEmitter emitter) {
+        Viewer viewer = new Viewer(tournamentId, emitter);
+        emitter.onCompletion(() -> remove(viewer));
+        emitter.onTimeout(() -> remove(viewer));
+        emitter.onError(ex -> remove(viewer));
+        viewersByTournament.compute(tournamentId, (id, viewers) -> {
+            Set<Viewer> current = viewers != null ? viewers : ConcurrentHashMap.newKeySet();
+            current.add(viewer);
+            return current;
+        });
+        log.debug("Live viewer subscribed to tournament {}", tournamentId);
+        return emitter;
+    }
+
+    /**
+     * Queues an event for the viewers of the tournament. A later publish with the same key before the
+     * next flush replaces this one. The payload is only built if someone is still watching at flush time.
+     */
+    public void publish(Long tournamentId, String eventName, String key, Supplier<?> payload) {
+        if (!viewersByTournament.containsKey(tournamentId)) {
+            return;
+        }
+        pendingByTournament.compute(tournamentId, (id, updates) -> {
+            Map<String, Update> current = updates != null ? updates : new LinkedHashMap<>();
+            current.remove(key);
+            current.put(key, new Update(eventName, payload));
+            return current;
+        });
+    }
+
+    public int viewerCount(Long tournamentId) {
+        Set<Viewer> viewers = viewersByTournament.get(tournamentId);
+        return viewers != null ? viewers.size() : 0;
+    }
+
+    void flush() {
+        for (Long tournamentId : pendingByTournament.keySet()) {
+            Map<String, Update> updates = pendingByTournament.remove(tournamentId);
+            Set<Viewer> viewers = viewersByTournament.get(tournamentId);
+            if (updates == null || viewers == null || viewers.isEmpty()) {
+                continue;
+            }
+            List<Set<DataWithMediaType>> frames = new ArrayList<>(updates.size());
+            updates.values().forEach(update -> {
+                Set<DataWithMediaType> frame = render(tournamentId, update);
+                if (frame != null) {
+                    frames.add(frame);
+                }
+            });
+            if (!frames.isEmpty()) {
+                viewers.forEach(viewer -> viewer.enqueue(frames));
+            }
+        }
+    }
+
+    void heartbeat() {
+        List<Set<DataWithMediaType>> frames = List.of(SseEmitter.event().comment("keep-alive").build());
+        viewersByTournament.values().forEach(viewers -> viewers.forEach(viewer -> viewer.enqueue(frames)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        viewersByTournament.values().forEach(viewers -> viewers.forEach(viewer -> viewer.emitter.complete()));
+        viewersByTournament.clear();
+    }
+
+    private Set<DataWithMediaType> render(Long tournamentId, Update update) {
+        try {
+            String json = objectMapper.writeValueAsString(update.payload().get());
+            return SseEmitter.event()
+                    .name(update.eventName())
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn("Could not build live '{}' event for tournament {}", update.eventName(), tournamentId, ex);
+            return null;
+        }
+    }
+
+    private void remove(Viewer viewer) {
+        viewersByTournament.computeIfPresent(viewer.tournamentId, (id, viewers) -> {
+            viewers.remove(viewer);
+            return viewers.isEmpty() ? null : viewers;
+        });
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private record Update(String eventName, Supplier<?> payload) {
+    }
+
+    /**
+     * One connection. Frames go through its own queue so they are written in order on whichever send
+     * thread picks it up, without two threads writing to the same response.
+     */
+    private final class Viewer {
+        private final Long tournamentId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger backlog = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Viewer(Long tournamentId, SseEmitter emitter) {
+            this.tournamentId = tournamentId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(List<Set<DataWithMediaType>> frames) {
+            if (backlog.addAndGet(frames.size()) > maxBacklog) {
+                log.debug("Dropping live viewer of tournament {}: too far behind", tournamentId);
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            outbox.addAll(frames);
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Set<DataWithMediaType> frame;
+                while ((frame = outbox.poll()) != null) {
+                    backlog.decrementAndGet();
+                    try {
+                        emitter.send(frame);
+                    } catch (IOException | IllegalStateException ex) {
+                        // The container reports the broken connection through onError as well
+                        remove(this);
+                        outbox.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!outbox.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.personal.tournament_api.shared.infrastructure.web;
+
+import org.springframework.stereotype.Component;
+import com.personal.tournament_api.shared.infrastructure.persistence.CommittedWrites;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters behind the ETags of the public read endpoints: one per tournament, covering its
+ * teams, standings, matches and rosters, plus one for the tournament list. The transactional
+ * use case adapters bump them after commit, so a tag is never advanced before the data it stands for
+ * is visible.
+ * <p>
+ * Counters live in memory and restart from zero, so every tag also carries the instance epoch; tags
+ * issued before a restart never match again. Each instance counts only the writes it handles.
+ */
+@Component
+public class TournamentVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, AtomicLong> versionsByTournament = new ConcurrentHashMap<>();
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    public String etag(Long tournamentId) {
+        return "\"" + epoch + "-t" + tournamentId + "-" + versionOf(tournamentId).get() + "\"";
+    }
+
+    public String catalogEtag() {
+        return "\"" + epoch + "-c" + catalogVersion.get() + "\"";
+    }
+
+    /**
+     * Teams, players or matches of the tournament changed.
+     */
+    public void tournamentChanged(Long tournamentId) {
+        CommittedWrites.afterCommit(() -> versionOf(tournamentId).incrementAndGet());
+    }
+
+    /**
+     * The tournament itself was created, updated, changed state or was deleted.
+     */
+    public void catalogChanged(Long tournamentId) {
+        CommittedWrites.afterCommit(() -> {
+            versionOf(tournamentId).incrementAndGet();
+            catalogVersion.incrementAndGet();
+        });
+    }
+
+    private AtomicLong versionOf(Long tournamentId) {
+        return versionsByTournament.computeIfAbsent(tournamentId, id -> new AtomicLong());
+    }
+
+}
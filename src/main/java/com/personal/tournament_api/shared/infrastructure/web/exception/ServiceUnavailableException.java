@@ -0,0 +1,12 @@
+package com.personal.tournament_api.shared.infrastructure.web.exception;
+
+/**
+ * A request was turned away because a bounded resource is saturated. Answered with 503 and a
+ * {@code Retry-After} header; the client may retry the same request later.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
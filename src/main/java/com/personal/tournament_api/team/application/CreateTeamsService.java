@@ -0,0 +1,35 @@
+package com.personal.tournament_api.team.application;
+
+import com.personal.tournament_api.team.application.usecases.CreateTeamsUseCase;
+import com.personal.tournament_api.team.domain.TeamDomainService;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class CreateTeamsService implements CreateTeamsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CreateTeamsService.class);
+
+    private final TeamRepository teamRepository;
+    private final TeamDomainService teamDomainService;
+
+    public CreateTeamsService(TeamRepository teamRepository, TeamDomainService teamDomainService) {
+        this.teamRepository = teamRepository;
+        this.teamDomainService = teamDomainService;
+    }
+
+    @Override
+    public List<Team> createAll(CreateTeamsCommand command) {
+        log.info("Creating {} teams for tournament {}", command.teams().size(), command.tournamentId());
+        List<Team> teams = command.teams().stream()
+                .map(team -> Team.create(team.name(), team.coach(), command.tournamentId()))
+                .toList();
+        teamDomainService.validateUniqueTeamNames(teams.stream().map(Team::getName).toList(), teamRepository);
+        List<Team> teamsSaved = teamRepository.saveAll(teams);
+        log.info("Created {} teams for tournament {}", teamsSaved.size(), command.tournamentId());
+        return teamsSaved;
+    }
+}
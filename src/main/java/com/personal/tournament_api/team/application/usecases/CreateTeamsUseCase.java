@@ -0,0 +1,20 @@
+package com.personal.tournament_api.team.application.usecases;
+
+import com.personal.tournament_api.team.domain.model.Team;
+
+import java.util.List;
+
+public interface CreateTeamsUseCase {
+
+    List<Team> createAll(CreateTeamsCommand command);
+
+    record CreateTeamsCommand(
+            Long tournamentId,
+            List<TeamData> teams
+    ) {}
+
+    record TeamData(
+            String name,
+            String coach
+    ) {}
+}
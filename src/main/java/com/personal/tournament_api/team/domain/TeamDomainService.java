@@ -3,6 +3,10 @@ package com.personal.tournament_api.team.domain;
 import com.personal.tournament_api.team.domain.exceptions.DuplicateTeamNameException;
 import com.personal.tournament_api.team.domain.ports.TeamRepository;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 public class TeamDomainService {
 
     public void validateUniqueTeamName(String name, TeamRepository repository) {
@@ -11,6 +15,19 @@ public class TeamDomainService {
         }
     }
 
+    public void validateUniqueTeamNames(List<String> names, TeamRepository repository) {
+        Set<String> seen = new HashSet<>();
+        for (String name : names) {
+            if (!seen.add(name)) {
+                throw new DuplicateTeamNameException(name);
+            }
+        }
+        List<String> existingNames = repository.findExistingNames(names);
+        if (!existingNames.isEmpty()) {
+            throw new DuplicateTeamNameException(existingNames.get(0));
+        }
+    }
+
     public void validateUniqueNameForUpdate(String name, Long teamId, TeamRepository repository) {
         if (repository.existsByNameAndIdNot(name, teamId)) {
             throw new DuplicateTeamNameException(name);
@@ -0,0 +1,9 @@
+package com.personal.tournament_api.team.domain.exceptions;
+
+import com.personal.tournament_api.shared.domain.enums.DomainErrorType;
+
+public class InvalidTeamStatsException extends TeamDomainException {
+    public InvalidTeamStatsException(String reason) {
+        super("Invalid team stats: " + reason, DomainErrorType.VALIDATION_ERROR);
+    }
+}
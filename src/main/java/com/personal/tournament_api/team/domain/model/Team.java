@@ -46,6 +46,34 @@ public class Team {
                 0, 0, 0, 0, 0, 0, 0, 0);
     }
 
+    /**
+     * Restaura un equipo nuevo con estadísticas traídas de fuera (p. ej. un archivo de torneo). Las
+     * estadísticas son obligatorias, no negativas y coherentes entre sí.
+     */
+    public static Team restore(String name, String coach, Long tournamentId,
+                               Integer points, Integer matchesPlayed, Integer matchesWin, Integer matchesDraw,
+                               Integer matchesLost, Integer goalsFor, Integer goalsAgainst, Integer goalDifference) {
+        validateTournamentId(tournamentId);
+        validateStat("points", points);
+        validateStat("matchesPlayed", matchesPlayed);
+        validateStat("matchesWin", matchesWin);
+        validateStat("matchesDraw", matchesDraw);
+        validateStat("matchesLost", matchesLost);
+        validateStat("goalsFor", goalsFor);
+        validateStat("goalsAgainst", goalsAgainst);
+        if (goalDifference == null) {
+            throw new InvalidTeamStatsException("goalDifference is required");
+        }
+        if (points != 3 * matchesWin + matchesDraw) {
+            throw new InvalidTeamStatsException("points must be 3 per win plus 1 per draw");
+        }
+        Team team = new Team(null, new TeamName(name), new CoachName(coach), tournamentId,
+                points, matchesPlayed, matchesWin, matchesDraw,
+                matchesLost, goalsFor, goalsAgainst, goalDifference);
+        team.validateConsistency();
+        return team;
+    }
+
     public static Team reconstitute(Long id, String name, String coach, Long tournamentId,
                                     int points, int matchesPlayed, int matchesWin, int matchesDraw,
                                     int matchesLost, int goalsFor, int goalsAgainst, int goalDifference) {
@@ -162,6 +190,15 @@ public class Team {
         this.matchesPlayed--;
     }
 
+    private static void validateStat(String stat, Integer value) {
+        if (value == null) {
+            throw new InvalidTeamStatsException(stat + " is required");
+        }
+        if (value < 0) {
+            throw new InvalidTeamStatsException(stat + " must be a non-negative number");
+        }
+    }
+
     private static void validateTournamentId(Long tournamentId) {
         if (tournamentId == null || tournamentId <= 0) {
             throw new InvalidTeamTournamentIdException();
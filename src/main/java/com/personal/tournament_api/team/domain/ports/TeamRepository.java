@@ -2,27 +2,39 @@ package com.personal.tournament_api.team.domain.ports;
 
 import com.personal.tournament_api.team.domain.model.Team;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TeamRepository {
 
     Team save(Team team);
 
+    List<Team> saveAll(List<Team> teams);
+
     Optional<Team> findById(Long id);
 
+    List<Team> findAllById(Collection<Long> ids);
+
     List<Team> findAllByOrderByNameAsc();
 
     List<Team> findAllByTournamentIdOrderByNameAsc(Long tournamentId);
 
+    long forEachByTournamentId(Long tournamentId, Consumer<Team> action);
+
     List<Team> findStandingsByTournamentId(Long tournamentId);
 
     void deleteById(Long id);
 
     void deleteByTournamentId(Long tournamentId);
 
+    int deleteChunkByTournamentId(Long tournamentId, int limit);
+
     boolean existsByName(String name);
 
     boolean existsByNameAndIdNot(String name, Long id);
 
+    List<String> findExistingNames(Collection<String> names);
+
 }
@@ -0,0 +1,42 @@
+package com.personal.tournament_api.team.infrastructure.adapters.events;
+
+import com.personal.tournament_api.match.domain.events.MatchResultCorrectedEvent;
+import com.personal.tournament_api.match.domain.events.MatchResultSetEvent;
+import com.personal.tournament_api.shared.infrastructure.web.LiveFeed;
+import com.personal.tournament_api.team.application.usecases.GetTeamUseCase;
+import com.personal.tournament_api.team.infrastructure.adapters.web.mapper.TeamMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Adaptador de entrada (Spring Events → Live feed).
+ * Publica la clasificación del torneo en su canal en vivo cada vez que un resultado la mueve.
+ * Escucha después del commit para no anunciar cambios que luego se reviertan; la clasificación se
+ * construye una sola vez por envío, no por espectador.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamLiveFeedEventHandler {
+
+    static final String STANDINGS_EVENT = "standings";
+
+    private final LiveFeed liveFeed;
+    private final GetTeamUseCase getTeamUseCase;
+    private final TeamMapper teamMapper;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(MatchResultSetEvent event) {
+        publishStandings(event.tournamentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(MatchResultCorrectedEvent event) {
+        publishStandings(event.tournamentId());
+    }
+
+    private void publishStandings(Long tournamentId) {
+        liveFeed.publish(tournamentId, STANDINGS_EVENT, STANDINGS_EVENT,
+                () -> teamMapper.toResponseList(getTeamUseCase.getStandingsByTournamentId(tournamentId)));
+    }
+}
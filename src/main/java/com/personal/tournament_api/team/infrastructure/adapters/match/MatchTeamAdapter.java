@@ -1,5 +1,7 @@
 package com.personal.tournament_api.team.infrastructure.adapters.match;
 
+import com.personal.tournament_api.match.domain.model.MatchResultDelta;
+import com.personal.tournament_api.match.domain.model.MatchScore;
 import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
 import com.personal.tournament_api.team.domain.exceptions.TeamNotFoundException;
 import com.personal.tournament_api.team.domain.model.Team;
@@ -7,6 +9,15 @@ import com.personal.tournament_api.team.domain.ports.TeamRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Component
 @RequiredArgsConstructor
 public class MatchTeamAdapter implements MatchTeamPort {
@@ -14,25 +25,84 @@ public class MatchTeamAdapter implements MatchTeamPort {
     private final TeamRepository teamRepository;
 
     @Override
-    public void validateBelongsToTournament(Long teamId, Long tournamentId) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new TeamNotFoundException(teamId));
-        team.ensureBelongsToTournament(tournamentId);
+    public List<Long> findTeamIdsByTournamentId(Long tournamentId) {
+        return teamRepository.findAllByTournamentIdOrderByNameAsc(tournamentId).stream()
+                .map(Team::getId)
+                .toList();
     }
 
     @Override
-    public void recordMatchResult(Long teamId, int goalsFor, int goalsAgainst) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new TeamNotFoundException(teamId));
-        team.recordMatchResult(goalsFor, goalsAgainst);
-        teamRepository.save(team);
+    public TournamentTeams loadTeamsInTournament(Long tournamentId, Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return new LoadedTeams(Map.of());
+        }
+        Map<Long, Team> teamsById = teamRepository.findAllById(List.copyOf(teamIds)).stream()
+                .filter(team -> team.getTournamentId().equals(tournamentId))
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        return new LoadedTeams(teamsById);
     }
 
     @Override
-    public void reverseMatchResult(Long teamId, int goalsFor, int goalsAgainst) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new TeamNotFoundException(teamId));
-        team.reverseMatchResult(goalsFor, goalsAgainst);
-        teamRepository.save(team);
+    public void applyResultDelta(Long tournamentId, Long homeTeamId, Long awayTeamId,
+                                 MatchScore previousScore, MatchScore newScore) {
+        Map<Long, Team> teamsById = teamRepository.findAllById(List.of(homeTeamId, awayTeamId)).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        Stream.of(homeTeamId, awayTeamId)
+                .forEach(teamId -> getTeam(teamsById, teamId).ensureBelongsToTournament(tournamentId));
+
+        applyResultDeltas(teamsById, List.of(new MatchResultDelta(homeTeamId, awayTeamId, previousScore, newScore)));
+    }
+
+    private void applyResultDeltas(Map<Long, Team> teamsById, List<MatchResultDelta> deltas) {
+        // Every team is resolved before any is changed, so a missing one leaves them all untouched
+        Map<Long, Team> touchedTeams = new LinkedHashMap<>();
+        deltas.stream()
+                .flatMap(delta -> Stream.of(delta.homeTeamId(), delta.awayTeamId()))
+                .forEach(teamId -> touchedTeams.put(teamId, getTeam(teamsById, teamId)));
+
+        for (MatchResultDelta delta : deltas) {
+            Team homeTeam = touchedTeams.get(delta.homeTeamId());
+            Team awayTeam = touchedTeams.get(delta.awayTeamId());
+            MatchScore previousScore = delta.previousScore();
+            MatchScore newScore = delta.newScore();
+
+            if (previousScore != null) {
+                homeTeam.reverseMatchResult(previousScore.homeScore(), previousScore.awayScore());
+                awayTeam.reverseMatchResult(previousScore.awayScore(), previousScore.homeScore());
+            }
+
+            if (newScore != null) {
+                homeTeam.recordMatchResult(newScore.homeScore(), newScore.awayScore());
+                awayTeam.recordMatchResult(newScore.awayScore(), newScore.homeScore());
+            }
+        }
+
+        teamRepository.saveAll(new ArrayList<>(touchedTeams.values()));
+    }
+
+    private Team getTeam(Map<Long, Team> teamsById, Long teamId) {
+        Team team = teamsById.get(teamId);
+        if (team == null) {
+            throw new TeamNotFoundException(teamId);
+        }
+        return team;
+    }
+
+    private final class LoadedTeams implements TournamentTeams {
+        private final Map<Long, Team> teamsById;
+
+        LoadedTeams(Map<Long, Team> teamsById) {
+            this.teamsById = teamsById;
+        }
+
+        @Override
+        public boolean contains(Long teamId) {
+            return teamsById.containsKey(teamId);
+        }
+
+        @Override
+        public void applyResultDeltas(List<MatchResultDelta> deltas) {
+            MatchTeamAdapter.this.applyResultDeltas(teamsById, deltas);
+        }
     }
 }
@@ -0,0 +1,109 @@
+package com.personal.tournament_api.team.infrastructure.adapters.persistence;
+
+import com.personal.tournament_api.shared.infrastructure.cache.ReadThroughCache;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link TeamRepository} decorator that serves lookups by id from a {@link ReadThroughCache}
+ * and invalidates it on every write.
+ */
+public class CachingTeamRepository implements TeamRepository {
+
+    private final TeamRepository delegate;
+    private final ReadThroughCache<Long, Team> cache;
+
+    public CachingTeamRepository(TeamRepository delegate, ReadThroughCache<Long, Team> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public static Team copyOf(Team team) {
+        return Team.reconstitute(team.getId(), team.getName(), team.getCoach(), team.getTournamentId(),
+                team.getPoints(), team.getMatchesPlayed(), team.getMatchesWin(), team.getMatchesDraw(),
+                team.getMatchesLost(), team.getGoalsFor(), team.getGoalsAgainst(), team.getGoalDifference());
+    }
+
+    @Override
+    public Team save(Team team) {
+        Team saved = delegate.save(team);
+        cache.invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Team> saveAll(List<Team> teams) {
+        List<Team> saved = delegate.saveAll(teams);
+        saved.forEach(team -> cache.invalidate(team.getId()));
+        return saved;
+    }
+
+    @Override
+    public Optional<Team> findById(Long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Team> findAllById(Collection<Long> ids) {
+        return cache.getAll(ids, Team::getId, delegate::findAllById);
+    }
+
+    @Override
+    public List<Team> findAllByOrderByNameAsc() {
+        return delegate.findAllByOrderByNameAsc();
+    }
+
+    @Override
+    public List<Team> findAllByTournamentIdOrderByNameAsc(Long tournamentId) {
+        return delegate.findAllByTournamentIdOrderByNameAsc(tournamentId);
+    }
+
+    @Override
+    public long forEachByTournamentId(Long tournamentId, Consumer<Team> action) {
+        return delegate.forEachByTournamentId(tournamentId, action);
+    }
+
+    @Override
+    public List<Team> findStandingsByTournamentId(Long tournamentId) {
+        return delegate.findStandingsByTournamentId(tournamentId);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void deleteByTournamentId(Long tournamentId) {
+        delegate.deleteByTournamentId(tournamentId);
+        cache.invalidateIf(team -> tournamentId.equals(team.getTournamentId()));
+    }
+
+    @Override
+    public int deleteChunkByTournamentId(Long tournamentId, int limit) {
+        int deleted = delegate.deleteChunkByTournamentId(tournamentId, limit);
+        cache.invalidateIf(team -> tournamentId.equals(team.getTournamentId()));
+        return deleted;
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return delegate.existsByName(name);
+    }
+
+    @Override
+    public boolean existsByNameAndIdNot(String name, Long id) {
+        return delegate.existsByNameAndIdNot(name, id);
+    }
+
+    @Override
+    public List<String> findExistingNames(Collection<String> names) {
+        return delegate.findExistingNames(names);
+    }
+}
@@ -0,0 +1,96 @@
+package com.personal.tournament_api.team.infrastructure.adapters.persistence;
+
+import com.personal.tournament_api.shared.infrastructure.persistence.CommittedWrites;
+import com.personal.tournament_api.team.domain.model.Team;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-memory standings per tournament, kept sorted and updated from the team rows written through
+ * {@link TeamJpaAdapter}. A tournament is loaded from the database on its first read; afterwards
+ * every committed save or delete is applied incrementally, so reads never hit the database.
+ * <p>
+ * The projection is local to this process: all writes to {@code teams} must go through the adapter.
+ */
+@Component
+public class StandingsProjection {
+
+    static final Comparator<Team> STANDINGS_ORDER = Comparator.comparingInt(Team::getPoints).reversed()
+            .thenComparing(Comparator.comparingInt(Team::getGoalDifference).reversed())
+            .thenComparing(Comparator.comparingInt(Team::getGoalsFor).reversed())
+            .thenComparing(Team::getName);
+
+    private final Map<Long, List<Team>> standingsByTournament = new ConcurrentHashMap<>();
+    private final CommittedWrites committedWrites = new CommittedWrites();
+
+    public List<Team> getStandings(Long tournamentId, Function<Long, List<Team>> loader) {
+        List<Team> standings = standingsByTournament.get(tournamentId);
+        if (standings == null) {
+            standings = load(tournamentId, loader);
+        }
+        return copyOf(standings);
+    }
+
+    public void teamsSaved(List<Team> teams) {
+        List<Team> snapshots = copyOf(teams);
+        CommittedWrites.afterCommit(() -> committedWrites.apply(() -> applySaved(snapshots)));
+    }
+
+    public void teamDeleted(Long teamId) {
+        CommittedWrites.afterCommit(() -> committedWrites.apply(() -> applyDeleted(teamId)));
+    }
+
+    public void tournamentDeleted(Long tournamentId) {
+        CommittedWrites.afterCommit(() -> committedWrites.apply(() -> standingsByTournament.remove(tournamentId)));
+    }
+
+    private List<Team> load(Long tournamentId, Function<Long, List<Team>> loader) {
+        long writesBeforeLoad = committedWrites.beforeLoad();
+        List<Team> standings = sorted(copyOf(loader.apply(tournamentId)));
+        committedWrites.keepIfUnchanged(writesBeforeLoad, () -> standingsByTournament.putIfAbsent(tournamentId, standings));
+        return standings;
+    }
+
+    private void applySaved(List<Team> teams) {
+        for (Team team : teams) {
+            standingsByTournament.computeIfPresent(team.getTournamentId(), (id, standings) -> {
+                List<Team> updated = new ArrayList<>(standings.size() + 1);
+                for (Team current : standings) {
+                    if (!current.getId().equals(team.getId())) {
+                        updated.add(current);
+                    }
+                }
+                updated.add(team);
+                return sorted(updated);
+            });
+        }
+    }
+
+    private void applyDeleted(Long teamId) {
+        standingsByTournament.replaceAll((id, standings) -> standings.stream()
+                .filter(team -> !team.getId().equals(teamId))
+                .toList());
+    }
+
+    private static List<Team> sorted(List<Team> teams) {
+        List<Team> sorted = new ArrayList<>(teams);
+        sorted.sort(STANDINGS_ORDER);
+        return List.copyOf(sorted);
+    }
+
+    private static List<Team> copyOf(List<Team> teams) {
+        List<Team> copies = new ArrayList<>(teams.size());
+        for (Team team : teams) {
+            copies.add(Team.reconstitute(team.getId(), team.getName(), team.getCoach(), team.getTournamentId(),
+                    team.getPoints(), team.getMatchesPlayed(), team.getMatchesWin(), team.getMatchesDraw(),
+                    team.getMatchesLost(), team.getGoalsFor(), team.getGoalsAgainst(), team.getGoalDifference()));
+        }
+        return copies;
+    }
+}
@@ -1,15 +1,20 @@
 package com.personal.tournament_api.team.infrastructure.adapters.persistence;
 
+import com.personal.tournament_api.shared.infrastructure.persistence.ChunkedDelete;
+import com.personal.tournament_api.shared.infrastructure.persistence.StreamedRead;
 import com.personal.tournament_api.team.domain.model.Team;
 import com.personal.tournament_api.team.domain.ports.TeamRepository;
 import com.personal.tournament_api.team.infrastructure.adapters.persistence.entity.TeamEntity;
 import com.personal.tournament_api.team.infrastructure.adapters.persistence.mapper.TeamPersistenceMapper;
 import com.personal.tournament_api.team.infrastructure.adapters.persistence.repository.TeamJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
@@ -17,12 +22,26 @@ public class TeamJpaAdapter implements TeamRepository {
 
     private final TeamJpaRepository teamJpaRepository;
     private final TeamPersistenceMapper mapper;
+    private final StandingsProjection standingsProjection;
+    private final ChunkedDelete chunkedDelete;
+    private final StreamedRead streamedRead;
 
     @Override
     public Team save(Team team) {
         TeamEntity entity = mapper.toEntity(team);
         TeamEntity savedEntity = teamJpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        Team savedTeam = mapper.toDomain(savedEntity);
+        standingsProjection.teamsSaved(List.of(savedTeam));
+        return savedTeam;
+    }
+
+    @Override
+    public List<Team> saveAll(List<Team> teams) {
+        List<TeamEntity> entities = mapper.toEntityList(teams);
+        List<TeamEntity> savedEntities = teamJpaRepository.saveAll(entities);
+        List<Team> savedTeams = mapper.toDomainList(savedEntities);
+        standingsProjection.teamsSaved(savedTeams);
+        return savedTeams;
     }
 
     @Override
@@ -31,6 +50,12 @@ public class TeamJpaAdapter implements TeamRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Team> findAllById(Collection<Long> ids) {
+        List<TeamEntity> entities = teamJpaRepository.findAllById(ids);
+        return mapper.toDomainList(entities);
+    }
+
     @Override
     public List<Team> findAllByOrderByNameAsc() {
         List<TeamEntity> entities = teamJpaRepository.findAllByOrderByNameAsc();
@@ -43,20 +68,39 @@ public class TeamJpaAdapter implements TeamRepository {
         return mapper.toDomainList(entities);
     }
 
+    @Override
+    public long forEachByTournamentId(Long tournamentId, Consumer<Team> action) {
+        return streamedRead.forEach(teamJpaRepository.streamByTournamentId(tournamentId), mapper::toDomain, action);
+    }
+
     @Override
     public List<Team> findStandingsByTournamentId(Long tournamentId) {
-        List<TeamEntity> entities = teamJpaRepository.findAllByTournamentIdOrderByPointsDescGoalDifferenceDesc(tournamentId);
-        return mapper.toDomainList(entities);
+        return standingsProjection.getStandings(tournamentId, id ->
+                mapper.toDomainList(teamJpaRepository.findAllByTournamentIdOrderByPointsDescGoalDifferenceDesc(id)));
     }
 
     @Override
     public void deleteById(Long id) {
         teamJpaRepository.deleteById(id);
+        standingsProjection.teamDeleted(id);
     }
 
     @Override
     public void deleteByTournamentId(Long tournamentId) {
-        teamJpaRepository.deleteByTournamentId(tournamentId);
+        chunkedDelete.deleteAll(limit -> teamJpaRepository.findIdsByTournamentId(tournamentId, limit),
+                teamJpaRepository::deleteByIdIn);
+        standingsProjection.tournamentDeleted(tournamentId);
+    }
+
+    @Override
+    public int deleteChunkByTournamentId(Long tournamentId, int limit) {
+        List<Long> ids = teamJpaRepository.findIdsByTournamentId(tournamentId, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = teamJpaRepository.deleteByIdIn(ids);
+        standingsProjection.tournamentDeleted(tournamentId);
+        return deleted;
     }
 
     @Override
@@ -68,4 +112,9 @@ public class TeamJpaAdapter implements TeamRepository {
     public boolean existsByNameAndIdNot(String name, Long id) {
        return teamJpaRepository.existsByNameAndIdNot(name, id);
     }
+
+    @Override
+    public List<String> findExistingNames(Collection<String> names) {
+        return teamJpaRepository.findNamesIn(names);
+    }
 }
@@ -3,7 +3,9 @@ package com.personal.tournament_api.team.infrastructure.adapters.persistence.ent
 import jakarta.persistence.*;
 import lombok.*;
 
-@Table(name = "teams")
+@Table(name = "teams", indexes = {
+        @Index(name = "idx_teams_tournament_name", columnList = "tournament_id, name")
+})
 @Entity
 @Getter
 @Setter
@@ -12,7 +14,8 @@ import lombok.*;
 public class TeamEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teams_seq")
+    @SequenceGenerator(name = "teams_seq", sequenceName = "teams_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
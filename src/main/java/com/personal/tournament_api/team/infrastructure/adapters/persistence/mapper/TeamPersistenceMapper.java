@@ -11,6 +11,8 @@ public abstract class TeamPersistenceMapper {
 
     public abstract TeamEntity toEntity(Team team);
 
+    public abstract List<TeamEntity> toEntityList(List<Team> teams);
+
     public abstract List<Team> toDomainList(List<TeamEntity> entities);
 
     public Team toDomain(TeamEntity entity) {
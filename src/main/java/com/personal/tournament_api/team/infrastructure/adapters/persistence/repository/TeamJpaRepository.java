@@ -1,9 +1,19 @@
 package com.personal.tournament_api.team.infrastructure.adapters.persistence.repository;
 
+import com.personal.tournament_api.shared.infrastructure.persistence.StreamedRead;
 import com.personal.tournament_api.team.infrastructure.adapters.persistence.entity.TeamEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TeamJpaRepository extends JpaRepository<TeamEntity, Long> {
 
@@ -11,12 +21,27 @@ public interface TeamJpaRepository extends JpaRepository<TeamEntity, Long> {
 
     boolean existsByNameAndIdNot(String name, Long id);
 
+    @Query("SELECT t.name FROM TeamEntity t WHERE t.name IN :names")
+    List<String> findNamesIn(@Param("names") Collection<String> names);
+
     List<TeamEntity> findAllByOrderByNameAsc();
 
     List<TeamEntity> findAllByTournamentIdOrderByNameAsc(Long tournamentId);
 
     List<TeamEntity> findAllByTournamentIdOrderByPointsDescGoalDifferenceDesc(Long tournamentId);
 
-    void deleteByTournamentId(Long tournamentId);
+    @Query("SELECT t.id FROM TeamEntity t WHERE t.tournamentId = :tournamentId ORDER BY t.id")
+    List<Long> findIdsByTournamentId(@Param("tournamentId") Long tournamentId, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TeamEntity t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamedRead.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TeamEntity t WHERE t.tournamentId = :tournamentId ORDER BY t.id")
+    Stream<TeamEntity> streamByTournamentId(@Param("tournamentId") Long tournamentId);
 
 }
@@ -0,0 +1,33 @@
+package com.personal.tournament_api.team.infrastructure.adapters.tournament;
+
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import com.personal.tournament_api.team.infrastructure.adapters.web.mapper.TeamMapper;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataExportPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Exporta los equipos de un torneo con sus estadísticas. Va primero porque jugadores y partidos
+ * hacen referencia a ellos.
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class TournamentTeamsExportAdapter implements TournamentDataExportPort {
+
+    private final TeamRepository teamRepository;
+    private final TeamMapper teamMapper;
+
+    @Override
+    public String recordType() {
+        return "team";
+    }
+
+    @Override
+    public long exportRecords(Long tournamentId, Consumer<Object> sink) {
+        return teamRepository.forEachByTournamentId(tournamentId, team -> sink.accept(teamMapper.toResponse(team)));
+    }
+}
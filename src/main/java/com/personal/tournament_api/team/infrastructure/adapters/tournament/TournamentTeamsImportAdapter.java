@@ -0,0 +1,72 @@
+package com.personal.tournament_api.team.infrastructure.adapters.tournament;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.shared.infrastructure.persistence.BatchedWrite;
+import com.personal.tournament_api.team.domain.exceptions.DuplicateTeamNameException;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import com.personal.tournament_api.team.infrastructure.adapters.web.dto.TeamResponseDTO;
+import com.personal.tournament_api.tournament.domain.exceptions.ArchiveRecordConflictException;
+import com.personal.tournament_api.tournament.domain.model.ArchiveIdMapping;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataImportPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Importa los equipos de un archivo de torneo con sus estadísticas. Va primero y registra el id nuevo
+ * de cada equipo para que jugadores y partidos puedan referenciarlo.
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class TournamentTeamsImportAdapter implements TournamentDataImportPort<TournamentTeamsImportAdapter.ArchivedTeam> {
+
+    static final String RECORD_TYPE = "team";
+
+    private final TeamRepository teamRepository;
+    private final BatchedWrite batchedWrite;
+    private final ObjectMapper objectMapper;
+
+    record ArchivedTeam(Long archivedId, Team team) {}
+
+    @Override
+    public String recordType() {
+        return RECORD_TYPE;
+    }
+
+    @Override
+    public ArchivedTeam prepare(Long tournamentId, Object record, ArchiveIdMapping ids) {
+        TeamResponseDTO archived = objectMapper.convertValue(record, TeamResponseDTO.class);
+        Team team = Team.restore(archived.name(), archived.coach(), tournamentId,
+                archived.points(), archived.matchesPlayed(), archived.matchesWin(), archived.matchesDraw(),
+                archived.matchesLost(), archived.goalsFor(), archived.goalsAgainst(), archived.goalDifference());
+        return new ArchivedTeam(archived.id(), team);
+    }
+
+    @Override
+    public void saveAll(List<ArchivedTeam> records, ArchiveIdMapping ids) {
+        List<Team> teams = records.stream().map(ArchivedTeam::team).toList();
+        List<String> names = teams.stream().map(Team::getName).toList();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (!seen.add(names.get(i))) {
+                throw new ArchiveRecordConflictException(i, new DuplicateTeamNameException(names.get(i)));
+            }
+        }
+        // Earlier batches are already flushed, so this also catches repeats across batches
+        List<String> existing = teamRepository.findExistingNames(names);
+        if (!existing.isEmpty()) {
+            throw new ArchiveRecordConflictException(names.indexOf(existing.get(0)),
+                    new DuplicateTeamNameException(existing.get(0)));
+        }
+        List<Team> saved = batchedWrite.saveAll(teams, teamRepository::saveAll);
+        for (int i = 0; i < records.size(); i++) {
+            ids.register(RECORD_TYPE, records.get(i).archivedId(), saved.get(i).getId());
+        }
+    }
+}
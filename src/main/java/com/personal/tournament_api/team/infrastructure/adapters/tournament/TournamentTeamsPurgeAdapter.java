@@ -0,0 +1,24 @@
+package com.personal.tournament_api.team.infrastructure.adapters.tournament;
+
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataPurgePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Borra por lotes los equipos de un torneo eliminado. Es el último paso, cuando ya no quedan
+ * partidos ni jugadores que los referencien.
+ */
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class TournamentTeamsPurgeAdapter implements TournamentDataPurgePort {
+
+    private final TeamRepository teamRepository;
+
+    @Override
+    public int purgeChunk(Long tournamentId, int limit) {
+        return teamRepository.deleteChunkByTournamentId(tournamentId, limit);
+    }
+}
@@ -4,12 +4,16 @@ import com.personal.tournament_api.match.application.usecases.GetMatchUseCase;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResponseDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchMapper;
+import com.personal.tournament_api.shared.infrastructure.web.ConditionalResponses;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
 import com.personal.tournament_api.team.application.usecases.CreateTeamUseCase;
+import com.personal.tournament_api.team.application.usecases.CreateTeamsUseCase;
 import com.personal.tournament_api.team.application.usecases.DeleteTeamUseCase;
 import com.personal.tournament_api.team.application.usecases.GetTeamUseCase;
 import com.personal.tournament_api.team.application.usecases.UpdateTeamUseCase;
 import com.personal.tournament_api.team.domain.exceptions.TeamNotFoundException;
 import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.infrastructure.adapters.web.dto.BulkTeamRequestDTO;
 import com.personal.tournament_api.team.infrastructure.adapters.web.dto.TeamRequestDTO;
 import com.personal.tournament_api.team.infrastructure.adapters.web.dto.TeamResponseDTO;
 import com.personal.tournament_api.team.infrastructure.adapters.web.mapper.TeamMapper;
@@ -18,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,12 +32,14 @@ import java.util.List;
 public class TeamController {
 
     private final CreateTeamUseCase createTeamUseCase;
+    private final CreateTeamsUseCase createTeamsUseCase;
     private final UpdateTeamUseCase updateTeamUseCase;
     private final GetTeamUseCase getTeamUseCase;
     private final DeleteTeamUseCase deleteTeamUseCase;
     private final GetMatchUseCase getMatchUseCase;
     private final TeamMapper teamMapper;
     private final MatchMapper matchMapper;
+    private final TournamentVersions tournamentVersions;
 
     @PostMapping
     public ResponseEntity<TeamResponseDTO> create(@PathVariable Long tournamentId,
@@ -41,6 +48,13 @@ public class TeamController {
         return ResponseEntity.status(HttpStatus.CREATED).body(teamMapper.toResponse(team));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<TeamResponseDTO>> createAll(@PathVariable Long tournamentId,
+                                                           @Valid @RequestBody BulkTeamRequestDTO request) {
+        List<Team> teams = createTeamsUseCase.createAll(teamMapper.toCreateTeamsCommand(tournamentId, request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(teamMapper.toResponseList(teams));
+    }
+
     @GetMapping("/{teamId}")
     public ResponseEntity<TeamResponseDTO> getById(@PathVariable Long teamId) {
         return getTeamUseCase.getById(teamId)
@@ -55,9 +69,9 @@ public class TeamController {
     }
 
     @GetMapping("/standings")
-    public ResponseEntity<List<TeamResponseDTO>> getStandings(@PathVariable Long tournamentId) {
-        List<Team> teams = getTeamUseCase.getStandingsByTournamentId(tournamentId);
-        return ResponseEntity.ok(teamMapper.toResponseList(teams));
+    public ResponseEntity<List<TeamResponseDTO>> getStandings(@PathVariable Long tournamentId, WebRequest webRequest) {
+        return ConditionalResponses.ok(webRequest, tournamentVersions.etag(tournamentId),
+                () -> teamMapper.toResponseList(getTeamUseCase.getStandingsByTournamentId(tournamentId)));
     }
 
     @GetMapping("/{teamId}/matches")
@@ -0,0 +1,14 @@
+package com.personal.tournament_api.team.infrastructure.adapters.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkTeamRequestDTO(
+    @NotEmpty(message = "At least one team is required")
+    @Size(max = 200, message = "A bulk request cannot exceed 200 teams")
+    List<@Valid @NotNull(message = "Team is required") TeamRequestDTO> teams
+) {}
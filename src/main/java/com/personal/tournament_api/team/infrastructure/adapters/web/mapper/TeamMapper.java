@@ -1,8 +1,10 @@
 package com.personal.tournament_api.team.infrastructure.adapters.web.mapper;
 
 import com.personal.tournament_api.team.application.usecases.CreateTeamUseCase;
+import com.personal.tournament_api.team.application.usecases.CreateTeamsUseCase;
 import com.personal.tournament_api.team.application.usecases.UpdateTeamUseCase;
 import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.infrastructure.adapters.web.dto.BulkTeamRequestDTO;
 import com.personal.tournament_api.team.infrastructure.adapters.web.dto.TeamRequestDTO;
 import com.personal.tournament_api.team.infrastructure.adapters.web.dto.TeamResponseDTO;
 import org.mapstruct.Mapper;
@@ -19,6 +21,12 @@ public interface TeamMapper {
     @Mapping(target = "coach", source = "request.coach")
     CreateTeamUseCase.CreateTeamCommand toCreateCommand(Long tournamentId, TeamRequestDTO request);
 
+    @Mapping(target = "tournamentId", source = "tournamentId")
+    @Mapping(target = "teams", source = "request.teams")
+    CreateTeamsUseCase.CreateTeamsCommand toCreateTeamsCommand(Long tournamentId, BulkTeamRequestDTO request);
+
+    CreateTeamsUseCase.TeamData toTeamData(TeamRequestDTO request);
+
     @Mapping(target = "id", source = "teamId")
     @Mapping(target = "name", source = "request.name")
     @Mapping(target = "coach", source = "request.coach")
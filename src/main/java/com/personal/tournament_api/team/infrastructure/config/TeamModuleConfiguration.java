@@ -1,19 +1,41 @@
 package com.personal.tournament_api.team.infrastructure.config;
 
 import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
+import com.personal.tournament_api.shared.infrastructure.cache.ReadThroughCache;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
 import com.personal.tournament_api.team.application.*;
 import com.personal.tournament_api.team.application.usecases.*;
 import com.personal.tournament_api.team.domain.TeamDomainService;
 import com.personal.tournament_api.team.domain.model.Team;
 import com.personal.tournament_api.team.domain.ports.TeamMatchesPort;
 import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import com.personal.tournament_api.team.infrastructure.adapters.persistence.CachingTeamRepository;
+import com.personal.tournament_api.team.infrastructure.adapters.persistence.TeamJpaAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 public class TeamModuleConfiguration {
 
+    // --- Persistence ---
+
+    @Bean
+    @Primary
+    public TeamRepository teamRepository(TeamJpaAdapter teamJpaAdapter,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${cache.by-id.maximum-size}") long maximumSize,
+                                         @Value("${cache.by-id.time-to-live}") Duration timeToLive) {
+        return new CachingTeamRepository(teamJpaAdapter, new ReadThroughCache<>("teams",
+                maximumSize, timeToLive, CachingTeamRepository::copyOf, meterRegistry));
+    }
+
     // --- Domain Services ---
 
     @Bean
@@ -25,8 +47,16 @@ public class TeamModuleConfiguration {
 
     @Bean
     public CreateTeamUseCase createTeamUseCase(TeamRepository teamRepository,
-                                               TeamDomainService teamDomainService) {
-        return new CreateTeamAdapter(new CreateTeamService(teamRepository, teamDomainService));
+                                               TeamDomainService teamDomainService,
+                                               TournamentVersions tournamentVersions) {
+        return new CreateTeamAdapter(new CreateTeamService(teamRepository, teamDomainService), tournamentVersions);
+    }
+
+    @Bean
+    public CreateTeamsUseCase createTeamsUseCase(TeamRepository teamRepository,
+                                                 TeamDomainService teamDomainService,
+                                                 TournamentVersions tournamentVersions) {
+        return new CreateTeamsAdapter(new CreateTeamsService(teamRepository, teamDomainService), tournamentVersions);
     }
 
     @Bean
@@ -36,40 +66,86 @@ public class TeamModuleConfiguration {
 
     @Bean
     public UpdateTeamUseCase updateTeamUseCase(TeamRepository teamRepository,
-                                               TeamDomainService teamDomainService) {
-        return new UpdateTeamAdapter(new UpdateTeamService(teamRepository, teamDomainService));
+                                               TeamDomainService teamDomainService,
+                                               TournamentVersions tournamentVersions) {
+        return new UpdateTeamAdapter(new UpdateTeamService(teamRepository, teamDomainService), tournamentVersions);
     }
 
     @Bean
     public DeleteTeamUseCase deleteTeamUseCase(TeamRepository teamRepository,
                                                TeamMatchesPort teamMatchesPort,
-                                               DomainEventPublisher domainEventPublisher) {
-        return new DeleteTeamAdapter(new DeleteTeamService(teamRepository, teamMatchesPort, domainEventPublisher));
+                                               DomainEventPublisher domainEventPublisher,
+                                               TournamentVersions tournamentVersions) {
+        return new DeleteTeamAdapter(new DeleteTeamService(teamRepository, teamMatchesPort, domainEventPublisher),
+                teamRepository, tournamentVersions);
     }
 
     // --- Transactional Adapters (infrastructure concern) ---
 
     static class CreateTeamAdapter implements CreateTeamUseCase {
         private final CreateTeamUseCase delegate;
-        CreateTeamAdapter(CreateTeamUseCase delegate) { this.delegate = delegate; }
+        private final TournamentVersions tournamentVersions;
+        CreateTeamAdapter(CreateTeamUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
+
+        @Override @Transactional
+        public Team create(CreateTeamCommand command) {
+            Team team = delegate.create(command);
+            tournamentVersions.tournamentChanged(team.getTournamentId());
+            return team;
+        }
+    }
+
+    static class CreateTeamsAdapter implements CreateTeamsUseCase {
+        private final CreateTeamsUseCase delegate;
+        private final TournamentVersions tournamentVersions;
+        CreateTeamsAdapter(CreateTeamsUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
 
         @Override @Transactional
-        public Team create(CreateTeamCommand command) { return delegate.create(command); }
+        public List<Team> createAll(CreateTeamsCommand command) {
+            List<Team> teams = delegate.createAll(command);
+            tournamentVersions.tournamentChanged(command.tournamentId());
+            return teams;
+        }
     }
 
     static class UpdateTeamAdapter implements UpdateTeamUseCase {
         private final UpdateTeamUseCase delegate;
-        UpdateTeamAdapter(UpdateTeamUseCase delegate) { this.delegate = delegate; }
+        private final TournamentVersions tournamentVersions;
+        UpdateTeamAdapter(UpdateTeamUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
 
         @Override @Transactional
-        public Team update(UpdateTeamCommand command) { return delegate.update(command); }
+        public Team update(UpdateTeamCommand command) {
+            Team team = delegate.update(command);
+            tournamentVersions.tournamentChanged(team.getTournamentId());
+            return team;
+        }
     }
 
     static class DeleteTeamAdapter implements DeleteTeamUseCase {
         private final DeleteTeamUseCase delegate;
-        DeleteTeamAdapter(DeleteTeamUseCase delegate) { this.delegate = delegate; }
+        private final TeamRepository teamRepository;
+        private final TournamentVersions tournamentVersions;
+        DeleteTeamAdapter(DeleteTeamUseCase delegate, TeamRepository teamRepository,
+                          TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.teamRepository = teamRepository;
+            this.tournamentVersions = tournamentVersions;
+        }
 
         @Override @Transactional
-        public void delete(Long teamId) { delegate.delete(teamId); }
+        public void delete(Long teamId) {
+            teamRepository.findById(teamId)
+                    .ifPresent(team -> tournamentVersions.tournamentChanged(team.getTournamentId()));
+            delegate.delete(teamId);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,11 @@
 package com.personal.tournament_api.tournament.application;
 
-import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
 import com.personal.tournament_api.tournament.application.usecases.DeleteTournamentUseCase;
-import com.personal.tournament_api.tournament.domain.events.TournamentDeletedEvent;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentDeletionJobNotFoundException;
 import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
 import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDeletionJobRepository;
 import com.personal.tournament_api.tournament.domain.ports.TournamentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,24 +15,31 @@ public class DeleteTournamentService implements DeleteTournamentUseCase {
     private static final Logger log = LoggerFactory.getLogger(DeleteTournamentService.class);
 
     private final TournamentRepository tournamentRepository;
-    private final DomainEventPublisher domainEventPublisher;
+    private final TournamentDeletionJobRepository deletionJobRepository;
 
     public DeleteTournamentService(TournamentRepository tournamentRepository,
-                                   DomainEventPublisher domainEventPublisher) {
+                                   TournamentDeletionJobRepository deletionJobRepository) {
         this.tournamentRepository = tournamentRepository;
-        this.domainEventPublisher = domainEventPublisher;
+        this.deletionJobRepository = deletionJobRepository;
     }
 
     @Override
-    public void delete(Long tournamentId) {
+    public TournamentDeletionJob delete(Long tournamentId) {
         log.info("Deleting tournament with id: {}", tournamentId);
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new TournamentNotFoundException(tournamentId));
         tournament.validateIfCanBeDeleted();
 
-        domainEventPublisher.publish(new TournamentDeletedEvent(tournamentId));
-
         tournamentRepository.deleteById(tournamentId);
-        log.info("Tournament deleted with id: {}", tournamentId);
+        TournamentDeletionJob job = deletionJobRepository.save(TournamentDeletionJob.pending(tournamentId));
+        log.info("Tournament deleted with id: {}. Its data will be removed by deletion job {}", tournamentId, job.getId());
+        return job;
+    }
+
+    @Override
+    public TournamentDeletionJob getDeletionJob(Long jobId) {
+        log.info("Fetching tournament deletion job with id: {}", jobId);
+        return deletionJobRepository.findById(jobId)
+                .orElseThrow(() -> new TournamentDeletionJobNotFoundException(jobId));
     }
 }
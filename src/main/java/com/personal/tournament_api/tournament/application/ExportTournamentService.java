@@ -0,0 +1,44 @@
+package com.personal.tournament_api.tournament.application;
+
+import com.personal.tournament_api.tournament.application.usecases.ExportTournamentUseCase;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataExportPort;
+import com.personal.tournament_api.tournament.domain.ports.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ExportTournamentService implements ExportTournamentUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportTournamentService.class);
+
+    private final TournamentRepository tournamentRepository;
+    private final List<TournamentDataExportPort> exportPorts;
+
+    public ExportTournamentService(TournamentRepository tournamentRepository,
+                                   List<TournamentDataExportPort> exportPorts) {
+        this.tournamentRepository = tournamentRepository;
+        this.exportPorts = exportPorts;
+    }
+
+    @Override
+    public void export(Long tournamentId, TournamentExportSink sink) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new TournamentNotFoundException(tournamentId));
+        sink.tournament(tournament);
+
+        // Ports run in order (teams, players, matches) so every record comes after the ones it references
+        Map<String, Long> exportedRecords = new LinkedHashMap<>();
+        for (TournamentDataExportPort exportPort : exportPorts) {
+            long exported = exportPort.exportRecords(tournamentId, record -> sink.record(exportPort.recordType(), record));
+            log.info("Exported {} {} records of tournament with id: {}", exported, exportPort.recordType(), tournamentId);
+            exportedRecords.put(exportPort.recordType(), exported);
+        }
+        // Only reached when every port finished: an export cut short by a failure never gets its end marker
+        sink.end(exportedRecords);
+    }
+}
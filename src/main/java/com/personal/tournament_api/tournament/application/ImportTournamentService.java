@@ -0,0 +1,157 @@
+package com.personal.tournament_api.tournament.application;
+
+import com.personal.tournament_api.shared.domain.exceptions.DomainException;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase;
+import com.personal.tournament_api.tournament.domain.TournamentDomainService;
+import com.personal.tournament_api.tournament.domain.exceptions.ArchiveRecordConflictException;
+import com.personal.tournament_api.tournament.domain.exceptions.InvalidTournamentArchiveException;
+import com.personal.tournament_api.tournament.domain.model.ArchiveIdMapping;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataImportPort;
+import com.personal.tournament_api.tournament.domain.ports.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class ImportTournamentService implements ImportTournamentUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportTournamentService.class);
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentDomainService tournamentDomainService;
+    private final List<TournamentDataImportPort<?>> importPorts;
+    private final int batchSize;
+
+    public ImportTournamentService(TournamentRepository tournamentRepository,
+                                   TournamentDomainService tournamentDomainService,
+                                   List<TournamentDataImportPort<?>> importPorts,
+                                   int batchSize) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentDomainService = tournamentDomainService;
+        this.importPorts = importPorts;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ImportedTournament importTournament(TournamentArchive archive) {
+        ArchivedTournament archived = archive.tournament();
+        log.info("Importing tournament with name: {}", archived.name());
+        tournamentDomainService.validateUniqueName(archived.name(), tournamentRepository);
+        Tournament tournament = Tournament.create(archived.name(), archived.description());
+        restoreStatus(tournament, archived);
+        tournament = tournamentRepository.save(tournament);
+
+        Map<String, Long> importedRecords = new LinkedHashMap<>();
+        importPorts.forEach(importPort -> importedRecords.put(importPort.recordType(), 0L));
+        ArchiveIdMapping ids = new ArchiveIdMapping();
+        Batch<?> batch = null;
+        int portIndex = -1;
+
+        // Ports run in order (teams, players, matches): every record must come after the ones it references
+        Optional<ArchivedRecord> next;
+        while ((next = archive.next()).isPresent()) {
+            ArchivedRecord record = next.get();
+            int recordPortIndex = portIndexOf(record);
+            if (recordPortIndex < portIndex) {
+                throw new InvalidTournamentArchiveException(record.lineNumber(), record.recordType()
+                        + " records must come before " + importPorts.get(portIndex).recordType() + " records");
+            }
+            if (recordPortIndex > portIndex) {
+                flush(batch, ids, importedRecords);
+                portIndex = recordPortIndex;
+                batch = new Batch<>(importPorts.get(portIndex));
+            }
+            batch.add(tournament.getId(), record, ids);
+            if (batch.size() == batchSize) {
+                flush(batch, ids, importedRecords);
+            }
+        }
+        flush(batch, ids, importedRecords);
+        verifyRecordCounts(archive.recordCounts(), importedRecords);
+
+        log.info("Tournament imported with id: {} ({})", tournament.getId(), importedRecords);
+        return new ImportedTournament(tournament, importedRecords);
+    }
+
+    // Replays the archived state through the domain transitions, so only reachable states are imported
+    private static void restoreStatus(Tournament tournament, ArchivedTournament archived) {
+        switch (archived.status()) {
+            case CREATED -> { }
+            case IN_PROGRESS -> tournament.startTournament();
+            case COMPLETED -> {
+                tournament.startTournament();
+                tournament.endTournament();
+            }
+            case CANCELLED -> tournament.cancelTournament();
+        }
+    }
+
+    // The end record counts what was exported: any difference means records were lost or added on the way
+    private static void verifyRecordCounts(Map<String, Long> exportedRecords, Map<String, Long> importedRecords) {
+        if (!exportedRecords.equals(importedRecords)) {
+            throw new InvalidTournamentArchiveException("the end record counts " + exportedRecords
+                    + " records but the archive holds " + importedRecords);
+        }
+    }
+
+    private int portIndexOf(ArchivedRecord record) {
+        for (int i = 0; i < importPorts.size(); i++) {
+            if (importPorts.get(i).recordType().equals(record.recordType())) {
+                return i;
+            }
+        }
+        throw new InvalidTournamentArchiveException(record.lineNumber(), "unknown record type '" + record.recordType() + "'");
+    }
+
+    private static void flush(Batch<?> batch, ArchiveIdMapping ids, Map<String, Long> importedRecords) {
+        if (batch != null && batch.size() > 0) {
+            importedRecords.merge(batch.recordType(), (long) batch.size(), Long::sum);
+            batch.save(ids);
+        }
+    }
+
+    private final class Batch<T> {
+        private final TournamentDataImportPort<T> importPort;
+        private List<T> records = new ArrayList<>();
+        private List<Long> lineNumbers = new ArrayList<>();
+
+        Batch(TournamentDataImportPort<T> importPort) {
+            this.importPort = importPort;
+        }
+
+        void add(Long tournamentId, ArchivedRecord record, ArchiveIdMapping ids) {
+            try {
+                records.add(importPort.prepare(tournamentId, record.data(), ids));
+            } catch (DomainException | IllegalArgumentException e) {
+                // Domain factories and the conversion (IllegalArgumentException) reject the line itself
+                String reason = e instanceof InvalidTournamentArchiveException invalid ? invalid.getReason() : e.getMessage();
+                throw new InvalidTournamentArchiveException(record.lineNumber(), reason);
+            }
+            lineNumbers.add(record.lineNumber());
+        }
+
+        void save(ArchiveIdMapping ids) {
+            try {
+                importPort.saveAll(records, ids);
+            } catch (ArchiveRecordConflictException e) {
+                throw new InvalidTournamentArchiveException(lineNumbers.get(e.getRecordIndex()), e.getMessage(),
+                        e.getErrorType());
+            }
+            records = new ArrayList<>(batchSize);
+            lineNumbers = new ArrayList<>(batchSize);
+        }
+
+        int size() {
+            return records.size();
+        }
+
+        String recordType() {
+            return importPort.recordType();
+        }
+    }
+}
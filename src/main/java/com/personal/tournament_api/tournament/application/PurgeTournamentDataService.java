@@ -0,0 +1,87 @@
+package com.personal.tournament_api.tournament.application;
+
+import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
+import com.personal.tournament_api.tournament.application.usecases.PurgeTournamentDataUseCase;
+import com.personal.tournament_api.tournament.domain.events.TournamentDeletedEvent;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentDeletionJobNotFoundException;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataPurgePort;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDeletionJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class PurgeTournamentDataService implements PurgeTournamentDataUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(PurgeTournamentDataService.class);
+
+    private final TournamentDeletionJobRepository deletionJobRepository;
+    private final List<TournamentDataPurgePort> purgePorts;
+    private final DomainEventPublisher domainEventPublisher;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+
+    public PurgeTournamentDataService(TournamentDeletionJobRepository deletionJobRepository,
+                                      List<TournamentDataPurgePort> purgePorts,
+                                      DomainEventPublisher domainEventPublisher,
+                                      int chunkSize, int maxAttempts, Duration claimTimeout) {
+        this.deletionJobRepository = deletionJobRepository;
+        this.purgePorts = purgePorts;
+        this.domainEventPublisher = domainEventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Override
+    public List<TournamentDeletionJob> getUnfinishedJobs(int limit) {
+        return deletionJobRepository.findUnfinished(limit);
+    }
+
+    @Override
+    public boolean claimJob(Long jobId, String claimant) {
+        LocalDateTime now = LocalDateTime.now();
+        return deletionJobRepository.claim(jobId, claimant, now, now.plus(claimTimeout));
+    }
+
+    @Override
+    public TournamentDeletionJob purgeNextChunk(Long jobId) {
+        TournamentDeletionJob job = findJob(jobId);
+        if (job.isFinished()) {
+            return job;
+        }
+
+        // Ports run in order (matches, players, teams); each call only moves to the next once the previous is empty
+        for (TournamentDataPurgePort purgePort : purgePorts) {
+            int deleted = purgePort.purgeChunk(job.getTournamentId(), chunkSize);
+            if (deleted > 0) {
+                job.recordProgress(deleted);
+                return deletionJobRepository.save(job);
+            }
+        }
+
+        job.complete();
+        TournamentDeletionJob completed = deletionJobRepository.save(job);
+        domainEventPublisher.publish(new TournamentDeletedEvent(job.getTournamentId()));
+        log.info("Deletion job {} completed: {} rows removed for tournament with id: {}",
+                jobId, completed.getDeletedRows(), job.getTournamentId());
+        return completed;
+    }
+
+    @Override
+    public TournamentDeletionJob recordFailure(Long jobId, String error) {
+        TournamentDeletionJob job = findJob(jobId);
+        job.recordFailure(error, maxAttempts);
+        log.warn("Deletion job {} failed ({} of {} attempts): {}", jobId, job.getFailedAttempts(), maxAttempts, error);
+        return deletionJobRepository.save(job);
+    }
+
+    private TournamentDeletionJob findJob(Long jobId) {
+        return deletionJobRepository.findById(jobId)
+                .orElseThrow(() -> new TournamentDeletionJobNotFoundException(jobId));
+    }
+}
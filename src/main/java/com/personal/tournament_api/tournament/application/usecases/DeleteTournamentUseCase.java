@@ -1,6 +1,10 @@
 package com.personal.tournament_api.tournament.application.usecases;
 
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+
 public interface DeleteTournamentUseCase {
 
-    void delete(Long tournamentId);
-}
\ No newline at end of file
+    TournamentDeletionJob delete(Long tournamentId);
+
+    TournamentDeletionJob getDeletionJob(Long jobId);
+}
@@ -0,0 +1,19 @@
+package com.personal.tournament_api.tournament.application.usecases;
+
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+
+import java.util.Map;
+
+public interface ExportTournamentUseCase {
+
+    void export(Long tournamentId, TournamentExportSink sink);
+
+    interface TournamentExportSink {
+
+        void tournament(Tournament tournament);
+
+        void record(String recordType, Object record);
+
+        void end(Map<String, Long> exportedRecords);
+    }
+}
@@ -0,0 +1,27 @@
+package com.personal.tournament_api.tournament.application.usecases;
+
+import com.personal.tournament_api.tournament.domain.enums.StatusTournament;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+
+import java.util.Map;
+import java.util.Optional;
+
+public interface ImportTournamentUseCase {
+
+    ImportedTournament importTournament(TournamentArchive archive);
+
+    interface TournamentArchive {
+
+        ArchivedTournament tournament();
+
+        Optional<ArchivedRecord> next();
+
+        Map<String, Long> recordCounts();
+    }
+
+    record ArchivedTournament(String name, String description, StatusTournament status) {}
+
+    record ArchivedRecord(long lineNumber, String recordType, Object data) {}
+
+    record ImportedTournament(Tournament tournament, Map<String, Long> importedRecords) {}
+}
@@ -0,0 +1,20 @@
+package com.personal.tournament_api.tournament.application.usecases;
+
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+
+import java.util.List;
+
+public interface PurgeTournamentDataUseCase {
+
+    List<TournamentDeletionJob> getUnfinishedJobs(int limit);
+
+    /**
+     * Reserva el trabajo para {@code claimant} durante un tiempo; solo quien lo tiene reservado debe
+     * avanzarlo. Quien ya lo tiene reservado puede renovar la reserva.
+     */
+    boolean claimJob(Long jobId, String claimant);
+
+    TournamentDeletionJob purgeNextChunk(Long jobId);
+
+    TournamentDeletionJob recordFailure(Long jobId, String error);
+}
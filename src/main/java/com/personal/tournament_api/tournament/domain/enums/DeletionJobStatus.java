@@ -0,0 +1,8 @@
+package com.personal.tournament_api.tournament.domain.enums;
+
+public enum DeletionJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+}
@@ -2,5 +2,8 @@ package com.personal.tournament_api.tournament.domain.events;
 
 import com.personal.tournament_api.shared.domain.events.DomainEvent;
 
+/**
+ * Se publica cuando el borrado en segundo plano ha eliminado todos los datos del torneo.
+ */
 public record TournamentDeletedEvent(Long tournamentId) implements DomainEvent {
 }
@@ -0,0 +1,21 @@
+package com.personal.tournament_api.tournament.domain.exceptions;
+
+import com.personal.tournament_api.shared.domain.exceptions.DomainException;
+
+/**
+ * Un registro de un lote ya preparado choca con otro registro del archivo o con datos existentes.
+ * Indica la posición del registro en el lote para que la importación informe su línea.
+ */
+public class ArchiveRecordConflictException extends TournamentDomainException {
+
+    private final int recordIndex;
+
+    public ArchiveRecordConflictException(int recordIndex, DomainException conflict) {
+        super(conflict.getMessage(), conflict.getErrorType());
+        this.recordIndex = recordIndex;
+    }
+
+    public int getRecordIndex() {
+        return recordIndex;
+    }
+}
@@ -0,0 +1,26 @@
+package com.personal.tournament_api.tournament.domain.exceptions;
+
+import com.personal.tournament_api.shared.domain.enums.DomainErrorType;
+
+public class InvalidTournamentArchiveException extends TournamentDomainException {
+
+    private final String reason;
+
+    public InvalidTournamentArchiveException(String reason) {
+        super("Invalid tournament archive: " + reason, DomainErrorType.VALIDATION_ERROR);
+        this.reason = reason;
+    }
+
+    public InvalidTournamentArchiveException(long lineNumber, String reason) {
+        this(lineNumber, reason, DomainErrorType.VALIDATION_ERROR);
+    }
+
+    public InvalidTournamentArchiveException(long lineNumber, String reason, DomainErrorType errorType) {
+        super("Invalid tournament archive at line " + lineNumber + ": " + reason, errorType);
+        this.reason = reason;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
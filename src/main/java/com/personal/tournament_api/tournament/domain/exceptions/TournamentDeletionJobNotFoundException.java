@@ -0,0 +1,10 @@
+package com.personal.tournament_api.tournament.domain.exceptions;
+
+import com.personal.tournament_api.shared.domain.enums.DomainErrorType;
+
+public class TournamentDeletionJobNotFoundException extends TournamentDomainException {
+
+    public TournamentDeletionJobNotFoundException(Long id) {
+        super("Tournament deletion job with id '" + id + "' not found", DomainErrorType.NOT_FOUND);
+    }
+}
@@ -0,0 +1,28 @@
+package com.personal.tournament_api.tournament.domain.model;
+
+import com.personal.tournament_api.tournament.domain.exceptions.InvalidTournamentArchiveException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Relación entre los ids que traen los registros de un archivo de torneo y los ids que reciben al
+ * importarse. Solo se registran los registros a los que otros hacen referencia (los equipos), así que
+ * ocupa memoria en proporción a ellos y no al tamaño del archivo.
+ */
+public class ArchiveIdMapping {
+
+    private final Map<String, Map<Long, Long>> idsByRecordType = new HashMap<>();
+
+    public void register(String recordType, Long archivedId, Long importedId) {
+        idsByRecordType.computeIfAbsent(recordType, type -> new HashMap<>()).put(archivedId, importedId);
+    }
+
+    public Long importedId(String recordType, Long archivedId) {
+        Long importedId = idsByRecordType.getOrDefault(recordType, Map.of()).get(archivedId);
+        if (importedId == null) {
+            throw new InvalidTournamentArchiveException(recordType + " " + archivedId + " is not in the archive");
+        }
+        return importedId;
+    }
+}
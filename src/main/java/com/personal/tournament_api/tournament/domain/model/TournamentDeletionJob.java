@@ -0,0 +1,106 @@
+package com.personal.tournament_api.tournament.domain.model;
+
+import com.personal.tournament_api.tournament.domain.enums.DeletionJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Borrado en segundo plano de los datos de un torneo eliminado (partidos, jugadores y equipos).
+ * Se registra en la misma transacción que elimina el torneo y un proceso aparte lo avanza por lotes.
+ */
+public class TournamentDeletionJob {
+
+    private final Long id;
+    private final Long tournamentId;
+    private DeletionJobStatus status;
+    private long deletedRows;
+    private int failedAttempts;
+    private String lastError;
+    private final LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    private TournamentDeletionJob(Long id, Long tournamentId, DeletionJobStatus status, long deletedRows,
+                                  int failedAttempts, String lastError, LocalDateTime createdAt,
+                                  LocalDateTime finishedAt) {
+        this.id = id;
+        this.tournamentId = tournamentId;
+        this.status = status;
+        this.deletedRows = deletedRows;
+        this.failedAttempts = failedAttempts;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+        this.finishedAt = finishedAt;
+    }
+
+    // --- Factory Methods ---
+
+    public static TournamentDeletionJob pending(Long tournamentId) {
+        return new TournamentDeletionJob(null, tournamentId, DeletionJobStatus.PENDING, 0, 0, null,
+                LocalDateTime.now(), null);
+    }
+
+    public static TournamentDeletionJob reconstitute(Long id, Long tournamentId, DeletionJobStatus status,
+                                                     long deletedRows, int failedAttempts, String lastError,
+                                                     LocalDateTime createdAt, LocalDateTime finishedAt) {
+        return new TournamentDeletionJob(id, tournamentId, status, deletedRows, failedAttempts, lastError,
+                createdAt, finishedAt);
+    }
+
+    // --- Domain Behavior ---
+
+    public void recordProgress(int deleted) {
+        this.status = DeletionJobStatus.RUNNING;
+        this.deletedRows += deleted;
+    }
+
+    public void complete() {
+        this.status = DeletionJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Registra un lote fallido; tras {@code maxAttempts} fallos el trabajo se da por perdido.
+     */
+    public void recordFailure(String error, int maxAttempts) {
+        this.failedAttempts++;
+        this.lastError = error;
+        if (failedAttempts >= maxAttempts) {
+            this.status = DeletionJobStatus.FAILED;
+            this.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    // --- State Queries ---
+
+    public boolean isFinished() {
+        return status == DeletionJobStatus.COMPLETED || status == DeletionJobStatus.FAILED;
+    }
+
+    // --- Getters ---
+
+    public Long getId() { return id; }
+    public Long getTournamentId() { return tournamentId; }
+    public DeletionJobStatus getStatus() { return status; }
+    public long getDeletedRows() { return deletedRows; }
+    public int getFailedAttempts() { return failedAttempts; }
+    public String getLastError() { return lastError; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        TournamentDeletionJob that = (TournamentDeletionJob) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(tournamentId, that.tournamentId) &&
+               status == that.status &&
+               deletedRows == that.deletedRows &&
+               failedAttempts == that.failedAttempts;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, tournamentId, status, deletedRows, failedAttempts);
+    }
+}
@@ -0,0 +1,16 @@
+package com.personal.tournament_api.tournament.domain.ports;
+
+import java.util.function.Consumer;
+
+/**
+ * Recorre los datos que otro módulo guarda de un torneo para exportarlos.
+ * Cada implementación entrega sus registros uno a uno, leyéndolos en streaming sin cargarlos todos
+ * en memoria, y devuelve cuántos entregó. {@link #recordType()} es el nombre con el que aparecen
+ * en la exportación.
+ */
+public interface TournamentDataExportPort {
+
+    String recordType();
+
+    long exportRecords(Long tournamentId, Consumer<Object> sink);
+}
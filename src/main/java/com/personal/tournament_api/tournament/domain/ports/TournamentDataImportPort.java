@@ -0,0 +1,23 @@
+package com.personal.tournament_api.tournament.domain.ports;
+
+import com.personal.tournament_api.tournament.domain.exceptions.ArchiveRecordConflictException;
+import com.personal.tournament_api.tournament.domain.model.ArchiveIdMapping;
+
+import java.util.List;
+
+/**
+ * Importa los registros de un tipo ({@link #recordType()}) de un archivo de torneo, en el formato en
+ * que los entrega su {@link TournamentDataExportPort}. {@link #prepare} convierte cada registro al modelo
+ * de dominio, validándolo con sus factorías y traduciendo los ids a los que hace referencia; lanza una
+ * excepción si el registro no es válido. {@link #saveAll} guarda un lote ya preparado y registra los ids
+ * nuevos que otros registros necesitarán; si un registro choca con otro o con datos existentes, lanza
+ * {@link ArchiveRecordConflictException} con su posición en el lote.
+ */
+public interface TournamentDataImportPort<T> {
+
+    String recordType();
+
+    T prepare(Long tournamentId, Object record, ArchiveIdMapping ids);
+
+    void saveAll(List<T> records, ArchiveIdMapping ids);
+}
@@ -0,0 +1,11 @@
+package com.personal.tournament_api.tournament.domain.ports;
+
+/**
+ * Borra los datos que otro módulo guarda de un torneo ya eliminado.
+ * Cada implementación borra como mucho {@code limit} filas por llamada y devuelve cuántas borró;
+ * cero significa que no queda nada de ese módulo.
+ */
+public interface TournamentDataPurgePort {
+
+    int purgeChunk(Long tournamentId, int limit);
+}
@@ -0,0 +1,22 @@
+package com.personal.tournament_api.tournament.domain.ports;
+
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TournamentDeletionJobRepository {
+
+    TournamentDeletionJob save(TournamentDeletionJob job);
+
+    Optional<TournamentDeletionJob> findById(Long id);
+
+    List<TournamentDeletionJob> findUnfinished(int limit);
+
+    /**
+     * Reserva un trabajo sin terminar para {@code claimant} hasta {@code claimedUntil}, si no lo tiene
+     * reservado otro o su reserva ya venció en {@code now}. Devuelve si la reserva se obtuvo.
+     */
+    boolean claim(Long id, String claimant, LocalDateTime now, LocalDateTime claimedUntil);
+}
@@ -0,0 +1,61 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.jobs;
+
+import com.personal.tournament_api.tournament.application.usecases.PurgeTournamentDataUseCase;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Adaptador de entrada (Scheduler → Application).
+ * Recoge los trabajos de borrado pendientes y los avanza lote a lote, cada lote en su propia transacción.
+ * Antes de cada lote renueva la reserva del trabajo, así que con varias instancias solo una lo avanza; las
+ * demás lo saltan hasta que la reserva vence. Si un lote falla se anota el error y el trabajo se reintenta
+ * en la siguiente pasada.
+ */
+@Component
+@Slf4j
+public class TournamentDeletionWorker {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final String workerId = UUID.randomUUID().toString();
+    private final PurgeTournamentDataUseCase purgeTournamentDataUseCase;
+    private final int jobsPerRun;
+
+    public TournamentDeletionWorker(PurgeTournamentDataUseCase purgeTournamentDataUseCase,
+                                    @Value("${tournament-deletion.jobs-per-run}") int jobsPerRun) {
+        this.purgeTournamentDataUseCase = purgeTournamentDataUseCase;
+        this.jobsPerRun = jobsPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${tournament-deletion.poll-interval}")
+    public void drain() {
+        for (TournamentDeletionJob job : purgeTournamentDataUseCase.getUnfinishedJobs(jobsPerRun)) {
+            process(job.getId());
+        }
+    }
+
+    private void process(Long jobId) {
+        try {
+            TournamentDeletionJob job;
+            do {
+                if (!purgeTournamentDataUseCase.claimJob(jobId, workerId)) {
+                    log.debug("Deletion job {} is claimed by another worker", jobId);
+                    return;
+                }
+                job = purgeTournamentDataUseCase.purgeNextChunk(jobId);
+            } while (!job.isFinished());
+        } catch (RuntimeException ex) {
+            log.error("Deletion job {} failed", jobId, ex);
+            purgeTournamentDataUseCase.recordFailure(jobId, truncate(String.valueOf(ex.getMessage())));
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,27 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.match;
+
+import com.personal.tournament_api.match.domain.ports.MatchTournamentPort;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.repository.TournamentJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MatchTournamentAdapter implements MatchTournamentPort {
+
+    private final TournamentJpaRepository tournamentJpaRepository;
+
+    @Override
+    public void lockTournament(Long tournamentId) {
+        tournamentJpaRepository.findForUpdateById(tournamentId)
+                .orElseThrow(() -> new TournamentNotFoundException(tournamentId));
+    }
+
+    @Override
+    public void ensureTournamentExists(Long tournamentId) {
+        if (!tournamentJpaRepository.existsById(tournamentId)) {
+            throw new TournamentNotFoundException(tournamentId);
+        }
+    }
+}
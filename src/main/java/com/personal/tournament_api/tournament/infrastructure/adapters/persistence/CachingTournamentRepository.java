@@ -0,0 +1,66 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.persistence;
+
+import com.personal.tournament_api.shared.infrastructure.cache.ReadThroughCache;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.ports.TournamentRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link TournamentRepository} decorator that serves lookups by id from a {@link ReadThroughCache}
+ * and invalidates it on every write.
+ */
+public class CachingTournamentRepository implements TournamentRepository {
+
+    private final TournamentRepository delegate;
+    private final ReadThroughCache<Long, Tournament> cache;
+
+    public CachingTournamentRepository(TournamentRepository delegate, ReadThroughCache<Long, Tournament> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public static Tournament copyOf(Tournament tournament) {
+        return Tournament.reconstitute(tournament.getId(), tournament.getName(), tournament.getDescription(),
+                tournament.getStatus());
+    }
+
+    @Override
+    public Tournament save(Tournament tournament) {
+        Tournament saved = delegate.save(tournament);
+        cache.invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Tournament> findById(Long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Tournament> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return cache.contains(id) || delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return delegate.existsByName(name);
+    }
+
+    @Override
+    public boolean existsByNameAndIdNot(String name, Long id) {
+        return delegate.existsByNameAndIdNot(name, id);
+    }
+}
@@ -0,0 +1,48 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.persistence;
+
+import com.personal.tournament_api.tournament.domain.enums.DeletionJobStatus;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDeletionJobRepository;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.entity.TournamentDeletionJobEntity;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.mapper.TournamentDeletionJobPersistenceMapper;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.repository.TournamentDeletionJobJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class TournamentDeletionJobJpaAdapter implements TournamentDeletionJobRepository {
+
+    private static final EnumSet<DeletionJobStatus> UNFINISHED = EnumSet.of(DeletionJobStatus.PENDING, DeletionJobStatus.RUNNING);
+
+    private final TournamentDeletionJobJpaRepository jpaRepository;
+    private final TournamentDeletionJobPersistenceMapper mapper;
+
+    @Override
+    public TournamentDeletionJob save(TournamentDeletionJob job) {
+        TournamentDeletionJobEntity savedEntity = jpaRepository.save(mapper.toEntity(job));
+        return mapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public Optional<TournamentDeletionJob> findById(Long id) {
+        return jpaRepository.findById(id)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public List<TournamentDeletionJob> findUnfinished(int limit) {
+        return mapper.toDomainList(jpaRepository.findByStatusInOrderByIdAsc(UNFINISHED, Limit.of(limit)));
+    }
+
+    @Override
+    public boolean claim(Long id, String claimant, LocalDateTime now, LocalDateTime claimedUntil) {
+        return jpaRepository.claim(id, UNFINISHED, claimant, now, claimedUntil) == 1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.persistence.entity;
+
+import com.personal.tournament_api.tournament.domain.enums.DeletionJobStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tournament_deletion_jobs", indexes = {
+        @Index(name = "idx_tournament_deletion_jobs_status", columnList = "status, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentDeletionJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tournament_id", nullable = false)
+    private Long tournamentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeletionJobStatus status;
+
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    @Column(name = "failed_attempts", nullable = false)
+    private int failedAttempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Written only by the claim query, so saving a job never drops its claim
+    @Column(name = "claimed_by", length = 36, updatable = false)
+    private String claimedBy;
+
+    @Column(name = "claimed_until", updatable = false)
+    private LocalDateTime claimedUntil;
+}
@@ -16,7 +16,8 @@ import lombok.Setter;
 public class TournamentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournaments_seq")
+    @SequenceGenerator(name = "tournaments_seq", sequenceName = "tournaments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
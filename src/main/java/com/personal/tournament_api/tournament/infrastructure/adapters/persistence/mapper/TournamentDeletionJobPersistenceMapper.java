@@ -0,0 +1,29 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.persistence.mapper;
+
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.entity.TournamentDeletionJobEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import java.util.List;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface TournamentDeletionJobPersistenceMapper {
+
+    @Mapping(target = "claimedBy", ignore = true)
+    @Mapping(target = "claimedUntil", ignore = true)
+    TournamentDeletionJobEntity toEntity(TournamentDeletionJob job);
+
+    default TournamentDeletionJob toDomain(TournamentDeletionJobEntity entity) {
+        if (entity == null) return null;
+        return TournamentDeletionJob.reconstitute(entity.getId(), entity.getTournamentId(), entity.getStatus(),
+                entity.getDeletedRows(), entity.getFailedAttempts(), entity.getLastError(),
+                entity.getCreatedAt(), entity.getFinishedAt());
+    }
+
+    default List<TournamentDeletionJob> toDomainList(List<TournamentDeletionJobEntity> entities) {
+        if (entities == null) return null;
+        return entities.stream().map(this::toDomain).toList();
+    }
+}
@@ -0,0 +1,28 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.persistence.repository;
+
+import com.personal.tournament_api.tournament.domain.enums.DeletionJobStatus;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.entity.TournamentDeletionJobEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TournamentDeletionJobJpaRepository extends JpaRepository<TournamentDeletionJobEntity, Long> {
+
+    List<TournamentDeletionJobEntity> findByStatusInOrderByIdAsc(Collection<DeletionJobStatus> statuses, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TournamentDeletionJobEntity j SET j.claimedBy = :claimant, j.claimedUntil = :claimedUntil " +
+            "WHERE j.id = :id AND j.status IN :statuses " +
+            "AND (j.claimedBy IS NULL OR j.claimedBy = :claimant OR j.claimedUntil < :now)")
+    int claim(@Param("id") Long id, @Param("statuses") Collection<DeletionJobStatus> statuses,
+              @Param("claimant") String claimant, @Param("now") LocalDateTime now,
+              @Param("claimedUntil") LocalDateTime claimedUntil);
+}
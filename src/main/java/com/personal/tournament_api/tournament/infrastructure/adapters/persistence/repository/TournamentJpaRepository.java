@@ -1,13 +1,20 @@
 package com.personal.tournament_api.tournament.infrastructure.adapters.persistence.repository;
 
 import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.entity.TournamentEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface TournamentJpaRepository extends JpaRepository<TournamentEntity, Long> {
 
     boolean existsByName(String name);
 
     boolean existsByNameAndIdNot(String name, Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TournamentEntity> findForUpdateById(Long id);
 }
\ No newline at end of file
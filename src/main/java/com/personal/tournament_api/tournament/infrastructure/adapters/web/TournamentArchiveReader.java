@@ -0,0 +1,147 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ArchivedRecord;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ArchivedTournament;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.TournamentArchive;
+import com.personal.tournament_api.tournament.domain.exceptions.InvalidTournamentArchiveException;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipException;
+
+/**
+ * Reads a tournament archive in the NDJSON format written by {@link TournamentExportWriter}, one line at a
+ * time as the import asks for it, so only the current line is held in memory whatever the size of the
+ * archive. Each record's {@code data} is handed on as a JSON tree for the module that imports it. The archive
+ * must close with the {@code end} record: one that stops before it was cut short and is rejected, and the
+ * record counts it carries are handed on so the import can check nothing went missing.
+ */
+@Component
+@RequiredArgsConstructor
+public class TournamentArchiveReader {
+
+    private static final TypeReference<LinkedHashMap<String, Long>> RECORD_COUNTS = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public TournamentArchive open(BufferedReader source) {
+        return new NdjsonArchive(source);
+    }
+
+    private final class NdjsonArchive implements TournamentArchive {
+        private final BufferedReader source;
+        private long lineNumber;
+        private Map<String, Long> recordCounts;
+
+        NdjsonArchive(BufferedReader source) {
+            this.source = source;
+        }
+
+        @Override
+        public ArchivedTournament tournament() {
+            String line = nextLine();
+            if (line == null) {
+                throw new InvalidTournamentArchiveException("the archive is empty");
+            }
+            ArchivedRecord record = parse(line);
+            if (!TournamentExportWriter.TOURNAMENT_RECORD_TYPE.equals(record.recordType())) {
+                throw new InvalidTournamentArchiveException(record.lineNumber(), "the archive must start with the tournament");
+            }
+            TournamentResponse tournament = convert(record, TournamentResponse.class);
+            if (tournament.status() == null) {
+                throw new InvalidTournamentArchiveException(record.lineNumber(), "tournament status is required");
+            }
+            return new ArchivedTournament(tournament.name(), tournament.description(), tournament.status());
+        }
+
+        @Override
+        public Optional<ArchivedRecord> next() {
+            if (recordCounts != null) {
+                return Optional.empty();
+            }
+            String line = nextLine();
+            if (line == null) {
+                throw new InvalidTournamentArchiveException(lineNumber, "the archive ends without the end record, it is incomplete");
+            }
+            ArchivedRecord record = parse(line);
+            if (!TournamentExportWriter.END_RECORD_TYPE.equals(record.recordType())) {
+                return Optional.of(record);
+            }
+            recordCounts = convert(record, objectMapper.getTypeFactory().constructType(RECORD_COUNTS));
+            if (nextLine() != null) {
+                throw new InvalidTournamentArchiveException(lineNumber, "no records may follow the end record");
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, Long> recordCounts() {
+            if (recordCounts == null) {
+                throw new IllegalStateException("The end record has not been read yet");
+            }
+            return recordCounts;
+        }
+
+        private String nextLine() {
+            String line = readLine();
+            while (line != null && line.isBlank()) {
+                line = readLine();
+            }
+            return line;
+        }
+
+        private String readLine() {
+            try {
+                String line = source.readLine();
+                lineNumber++;
+                if (lineNumber == 1 && line != null && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                return line;
+            } catch (ZipException e) {
+                throw new InvalidTournamentArchiveException(lineNumber + 1, "corrupt gzip data");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private ArchivedRecord parse(String line) {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                throw new InvalidTournamentArchiveException(lineNumber, "malformed JSON line: " + e.getOriginalMessage());
+            }
+            JsonNode type = node.path("type");
+            JsonNode data = node.path("data");
+            if (!type.isTextual() || !data.isObject()) {
+                throw new InvalidTournamentArchiveException(lineNumber, "expected an object with a \"type\" and a \"data\" object");
+            }
+            return new ArchivedRecord(lineNumber, type.asText(), data);
+        }
+
+        private <T> T convert(ArchivedRecord record, Class<T> type) {
+            return convert(record, objectMapper.getTypeFactory().constructType(type));
+        }
+
+        private <T> T convert(ArchivedRecord record, JavaType type) {
+            try {
+                return objectMapper.treeToValue((JsonNode) record.data(), type);
+            } catch (JsonProcessingException e) {
+                throw new InvalidTournamentArchiveException(record.lineNumber(), e.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package com.personal.tournament_api.tournament.infrastructure.adapters.web;
 
+import com.personal.tournament_api.shared.infrastructure.web.ConditionalResponses;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
 import com.personal.tournament_api.tournament.application.usecases.*;
 import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentDeletionJobResponse;
 import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentRequest;
 import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentResponse;
 import com.personal.tournament_api.tournament.infrastructure.adapters.web.mapper.TournamentMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/tournaments")
@@ -26,6 +39,10 @@ public class TournamentController {
     private final CancelTournamentUseCase cancelTournamentUseCase;
     private final DeleteTournamentUseCase deleteTournamentUseCase;
     private final TournamentMapper tournamentMapper;
+    private final TournamentVersions tournamentVersions;
+    private final TournamentExportWriter tournamentExportWriter;
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
 
     @PostMapping
     public ResponseEntity<TournamentResponse> create(@Valid @RequestBody TournamentRequest request) {
@@ -34,9 +51,9 @@ public class TournamentController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TournamentResponse>> getAll() {
-        List<Tournament> tournaments = getTournamentUseCase.getAll();
-        return ResponseEntity.ok(tournamentMapper.toResponseList(tournaments));
+    public ResponseEntity<List<TournamentResponse>> getAll(WebRequest webRequest) {
+        return ConditionalResponses.ok(webRequest, tournamentVersions.catalogEtag(),
+                () -> tournamentMapper.toResponseList(getTournamentUseCase.getAll()));
     }
 
     @GetMapping("/{id}")
@@ -46,6 +63,33 @@ public class TournamentController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping(value = "/{id}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (getTournamentUseCase.getById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tournament-" + id + (gzip ? ".ndjson.gz" : ".ndjson"))
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noStore());
+        if (!gzip) {
+            return response.body(out -> tournamentExportWriter.write(id, out));
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE, true);
+                    tournamentExportWriter.write(id, compressed);
+                    compressed.finish();
+                });
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TournamentResponse> update(
             @PathVariable Long id,
@@ -73,8 +117,25 @@ public class TournamentController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        deleteTournamentUseCase.delete(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<TournamentDeletionJobResponse> delete(@PathVariable Long id) {
+        TournamentDeletionJob job = deleteTournamentUseCase.delete(id);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/tournaments/deletion-jobs/{jobId}")
+                        .buildAndExpand(job.getId())
+                        .toUri())
+                .body(tournamentMapper.toDeletionJobResponse(job));
+    }
+
+    @GetMapping("/deletion-jobs/{jobId}")
+    public ResponseEntity<TournamentDeletionJobResponse> getDeletionJob(@PathVariable Long jobId) {
+        TournamentDeletionJob job = deleteTournamentUseCase.getDeletionJob(jobId);
+        return ResponseEntity.ok(tournamentMapper.toDeletionJobResponse(job));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.trim().toLowerCase())
+                .anyMatch(coding -> coding.equals("gzip") || (coding.startsWith("gzip;") && !coding.matches("gzip;\\s*q=0(\\.0*)?")));
     }
-}
\ No newline at end of file
+}
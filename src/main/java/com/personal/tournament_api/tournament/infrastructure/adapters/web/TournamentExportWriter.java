@@ -0,0 +1,79 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.tournament.application.usecases.ExportTournamentUseCase;
+import com.personal.tournament_api.tournament.application.usecases.ExportTournamentUseCase.TournamentExportSink;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentExportLine;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.mapper.TournamentMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Writes a tournament export as NDJSON: one {@code {"type": ..., "data": ...}} object per line, the tournament
+ * first and then its teams, players and matches in the shape their GET endpoints return, and last an
+ * {@code end} record with the number of records of each type. The end record is only written once every record
+ * is, so an archive cut short by a failure mid-export can be told apart from a complete one. Lines go straight to
+ * the response and are flushed every {@link #FLUSH_EVERY} records, so the client starts receiving data at once
+ * and the server never holds more than a few records, whatever the size of the tournament.
+ */
+@Component
+@RequiredArgsConstructor
+public class TournamentExportWriter {
+
+    static final String TOURNAMENT_RECORD_TYPE = "tournament";
+    static final String END_RECORD_TYPE = "end";
+    static final int FLUSH_EVERY = 500;
+
+    private final ExportTournamentUseCase exportTournamentUseCase;
+    private final TournamentMapper tournamentMapper;
+    private final ObjectMapper objectMapper;
+
+    public void write(Long tournamentId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            exportTournamentUseCase.export(tournamentId, new NdjsonSink(generator));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class NdjsonSink implements TournamentExportSink {
+        private final JsonGenerator generator;
+        private int unflushed;
+
+        NdjsonSink(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void tournament(Tournament tournament) {
+            record(TOURNAMENT_RECORD_TYPE, tournamentMapper.toResponse(tournament));
+        }
+
+        @Override
+        public void end(Map<String, Long> exportedRecords) {
+            record(END_RECORD_TYPE, exportedRecords);
+        }
+
+        @Override
+        public void record(String recordType, Object record) {
+            try {
+                generator.writeObject(new TournamentExportLine(recordType, record));
+                generator.writeRaw('\n');
+                if (++unflushed == FLUSH_EVERY) {
+                    generator.flush();
+                    unflushed = 0;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.web;
+
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ImportedTournament;
+import com.personal.tournament_api.tournament.domain.exceptions.InvalidTournamentArchiveException;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentImportResponse;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.mapper.TournamentMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+@RestController
+@RequestMapping("/tournaments/import")
+@RequiredArgsConstructor
+public class TournamentImportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ImportTournamentUseCase importTournamentUseCase;
+    private final TournamentArchiveReader tournamentArchiveReader;
+    private final TournamentMapper tournamentMapper;
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TournamentImportResponse> importTournament(
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        BufferedReader source = new BufferedReader(new InputStreamReader(decode(body, contentEncoding), StandardCharsets.UTF_8));
+        ImportedTournament imported;
+        try {
+            imported = importTournamentUseCase.importTournament(tournamentArchiveReader.open(source));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/tournaments/{id}")
+                        .buildAndExpand(imported.tournament().getId())
+                        .toUri())
+                .body(tournamentMapper.toImportResponse(imported));
+    }
+
+    private static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null || contentEncoding.isBlank() || contentEncoding.trim().equalsIgnoreCase("identity")) {
+            return body;
+        }
+        if (!contentEncoding.trim().equalsIgnoreCase("gzip")) {
+            throw new InvalidTournamentArchiveException("unsupported Content-Encoding '" + contentEncoding.trim() + "'");
+        }
+        try {
+            return new GZIPInputStream(body, GZIP_BUFFER_SIZE);
+        } catch (ZipException e) {
+            throw new InvalidTournamentArchiveException("the body is not gzip data");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.web.dto;
+
+import com.personal.tournament_api.tournament.domain.enums.DeletionJobStatus;
+
+import java.time.LocalDateTime;
+
+public record TournamentDeletionJobResponse(
+        Long id,
+        Long tournamentId,
+        DeletionJobStatus status,
+        long deletedRows,
+        int failedAttempts,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {}
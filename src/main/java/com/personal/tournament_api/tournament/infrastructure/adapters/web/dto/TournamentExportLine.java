@@ -0,0 +1,6 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.web.dto;
+
+public record TournamentExportLine(
+        String type,
+        Object data
+) {}
@@ -0,0 +1,8 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.web.dto;
+
+import java.util.Map;
+
+public record TournamentImportResponse(
+        TournamentResponse tournament,
+        Map<String, Long> importedRecords
+) {}
@@ -2,8 +2,12 @@ package com.personal.tournament_api.tournament.infrastructure.adapters.web.mappe
 
 
 import com.personal.tournament_api.tournament.application.usecases.CreateTournamentUseCase;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase;
 import com.personal.tournament_api.tournament.application.usecases.UpdateTournamentUseCase;
 import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentDeletionJobResponse;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentImportResponse;
 import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentRequest;
 import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentResponse;
 import org.mapstruct.Mapper;
@@ -19,6 +23,10 @@ public interface TournamentMapper {
 
     List<TournamentResponse> toResponseList(List<Tournament> tournaments);
 
+    TournamentDeletionJobResponse toDeletionJobResponse(TournamentDeletionJob job);
+
+    TournamentImportResponse toImportResponse(ImportTournamentUseCase.ImportedTournament imported);
+
     CreateTournamentUseCase.CreateTournamentCommand toCreateCommand(TournamentRequest request);
 
     @Mapping(target = "id", source = "id")
@@ -1,18 +1,46 @@
 package com.personal.tournament_api.tournament.infrastructure.config;
 
 import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
+import com.personal.tournament_api.shared.infrastructure.cache.ReadThroughCache;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
 import com.personal.tournament_api.tournament.application.*;
 import com.personal.tournament_api.tournament.application.usecases.*;
 import com.personal.tournament_api.tournament.domain.TournamentDomainService;
 import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataExportPort;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataImportPort;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataPurgePort;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDeletionJobRepository;
 import com.personal.tournament_api.tournament.domain.ports.TournamentRepository;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.CachingTournamentRepository;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.TournamentJpaAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 public class TournamentModuleConfiguration {
 
+    // --- Persistence ---
+
+    @Bean
+    @Primary
+    public TournamentRepository tournamentRepository(TournamentJpaAdapter tournamentJpaAdapter,
+                                                     MeterRegistry meterRegistry,
+                                                     @Value("${cache.by-id.maximum-size}") long maximumSize,
+                                                     @Value("${cache.by-id.time-to-live}") Duration timeToLive) {
+        return new CachingTournamentRepository(tournamentJpaAdapter, new ReadThroughCache<>("tournaments",
+                maximumSize, timeToLive, CachingTournamentRepository::copyOf, meterRegistry));
+    }
+
     // --- Domain Services ---
 
     @Bean
@@ -24,8 +52,10 @@ public class TournamentModuleConfiguration {
 
     @Bean
     public CreateTournamentUseCase createTournamentUseCase(TournamentRepository tournamentRepository,
-                                                           TournamentDomainService tournamentDomainService) {
-        return new CreateTournamentAdapter(new CreateTournamentService(tournamentRepository, tournamentDomainService));
+                                                           TournamentDomainService tournamentDomainService,
+                                                           TournamentVersions tournamentVersions) {
+        return new CreateTournamentAdapter(new CreateTournamentService(tournamentRepository, tournamentDomainService),
+                tournamentVersions);
     }
 
     @Bean
@@ -35,78 +65,228 @@ public class TournamentModuleConfiguration {
 
     @Bean
     public UpdateTournamentUseCase updateTournamentUseCase(TournamentRepository tournamentRepository,
-                                                           TournamentDomainService tournamentDomainService) {
-        return new UpdateTournamentAdapter(new UpdateTournamentService(tournamentRepository, tournamentDomainService));
+                                                           TournamentDomainService tournamentDomainService,
+                                                           TournamentVersions tournamentVersions) {
+        return new UpdateTournamentAdapter(new UpdateTournamentService(tournamentRepository, tournamentDomainService),
+                tournamentVersions);
     }
 
     @Bean
     public DeleteTournamentUseCase deleteTournamentUseCase(TournamentRepository tournamentRepository,
-                                                           DomainEventPublisher domainEventPublisher) {
-        return new DeleteTournamentAdapter(new DeleteTournamentService(tournamentRepository, domainEventPublisher));
+                                                           TournamentDeletionJobRepository deletionJobRepository,
+                                                           TournamentVersions tournamentVersions) {
+        return new DeleteTournamentAdapter(new DeleteTournamentService(tournamentRepository, deletionJobRepository),
+                tournamentVersions);
+    }
+
+    @Bean
+    public PurgeTournamentDataUseCase purgeTournamentDataUseCase(TournamentDeletionJobRepository deletionJobRepository,
+                                                                 List<TournamentDataPurgePort> purgePorts,
+                                                                 DomainEventPublisher domainEventPublisher,
+                                                                 TournamentVersions tournamentVersions,
+                                                                 @Value("${tournament-deletion.chunk-size}") int chunkSize,
+                                                                 @Value("${tournament-deletion.max-attempts}") int maxAttempts,
+                                                                 @Value("${tournament-deletion.claim-timeout}") Duration claimTimeout) {
+        return new PurgeTournamentDataAdapter(new PurgeTournamentDataService(deletionJobRepository, purgePorts,
+                domainEventPublisher, chunkSize, maxAttempts, claimTimeout), tournamentVersions);
     }
 
     @Bean
-    public StartTournamentUseCase startTournamentUseCase(TournamentRepository tournamentRepository) {
-        return new StartTournamentAdapter(new StartTournamentService(tournamentRepository));
+    public ExportTournamentUseCase exportTournamentUseCase(TournamentRepository tournamentRepository,
+                                                           List<TournamentDataExportPort> exportPorts) {
+        return new ExportTournamentAdapter(new ExportTournamentService(tournamentRepository, exportPorts));
     }
 
     @Bean
-    public EndTournamentUseCase endTournamentUseCase(TournamentRepository tournamentRepository) {
-        return new EndTournamentAdapter(new EndTournamentService(tournamentRepository));
+    public ImportTournamentUseCase importTournamentUseCase(TournamentRepository tournamentRepository,
+                                                           TournamentDomainService tournamentDomainService,
+                                                           List<TournamentDataImportPort<?>> importPorts,
+                                                           TournamentVersions tournamentVersions,
+                                                           @Value("${tournament-import.batch-size}") int batchSize) {
+        return new ImportTournamentAdapter(new ImportTournamentService(tournamentRepository, tournamentDomainService,
+                importPorts, batchSize), tournamentVersions);
     }
 
     @Bean
-    public CancelTournamentUseCase cancelTournamentUseCase(TournamentRepository tournamentRepository) {
-        return new CancelTournamentAdapter(new CancelTournamentService(tournamentRepository));
+    public StartTournamentUseCase startTournamentUseCase(TournamentRepository tournamentRepository,
+                                                         TournamentVersions tournamentVersions) {
+        return new StartTournamentAdapter(new StartTournamentService(tournamentRepository), tournamentVersions);
+    }
+
+    @Bean
+    public EndTournamentUseCase endTournamentUseCase(TournamentRepository tournamentRepository,
+                                                     TournamentVersions tournamentVersions) {
+        return new EndTournamentAdapter(new EndTournamentService(tournamentRepository), tournamentVersions);
+    }
+
+    @Bean
+    public CancelTournamentUseCase cancelTournamentUseCase(TournamentRepository tournamentRepository,
+                                                           TournamentVersions tournamentVersions) {
+        return new CancelTournamentAdapter(new CancelTournamentService(tournamentRepository), tournamentVersions);
     }
 
     // --- Transactional Adapters (infrastructure concern) ---
 
     static class CreateTournamentAdapter implements CreateTournamentUseCase {
         private final CreateTournamentUseCase delegate;
-        CreateTournamentAdapter(CreateTournamentUseCase delegate) { this.delegate = delegate; }
+        private final TournamentVersions tournamentVersions;
+        CreateTournamentAdapter(CreateTournamentUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
 
         @Override @Transactional
-        public Tournament create(CreateTournamentCommand command) { return delegate.create(command); }
+        public Tournament create(CreateTournamentCommand command) {
+            Tournament tournament = delegate.create(command);
+            tournamentVersions.catalogChanged(tournament.getId());
+            return tournament;
+        }
     }
 
     static class UpdateTournamentAdapter implements UpdateTournamentUseCase {
         private final UpdateTournamentUseCase delegate;
-        UpdateTournamentAdapter(UpdateTournamentUseCase delegate) { this.delegate = delegate; }
+        private final TournamentVersions tournamentVersions;
+        UpdateTournamentAdapter(UpdateTournamentUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
 
         @Override @Transactional
-        public Tournament update(UpdateTournamentCommand command) { return delegate.update(command); }
+        public Tournament update(UpdateTournamentCommand command) {
+            Tournament tournament = delegate.update(command);
+            tournamentVersions.catalogChanged(tournament.getId());
+            return tournament;
+        }
     }
 
     static class DeleteTournamentAdapter implements DeleteTournamentUseCase {
         private final DeleteTournamentUseCase delegate;
-        DeleteTournamentAdapter(DeleteTournamentUseCase delegate) { this.delegate = delegate; }
+        private final TournamentVersions tournamentVersions;
+        DeleteTournamentAdapter(DeleteTournamentUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
 
         @Override @Transactional
-        public void delete(Long tournamentId) { delegate.delete(tournamentId); }
+        public TournamentDeletionJob delete(Long tournamentId) {
+            TournamentDeletionJob job = delegate.delete(tournamentId);
+            tournamentVersions.catalogChanged(tournamentId);
+            return job;
+        }
+
+        @Override
+        public TournamentDeletionJob getDeletionJob(Long jobId) {
+            return delegate.getDeletionJob(jobId);
+        }
+    }
+
+    static class PurgeTournamentDataAdapter implements PurgeTournamentDataUseCase {
+        private final PurgeTournamentDataUseCase delegate;
+        private final TournamentVersions tournamentVersions;
+        PurgeTournamentDataAdapter(PurgeTournamentDataUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
+
+        @Override
+        public List<TournamentDeletionJob> getUnfinishedJobs(int limit) {
+            return delegate.getUnfinishedJobs(limit);
+        }
+
+        @Override @Transactional
+        public boolean claimJob(Long jobId, String claimant) {
+            return delegate.claimJob(jobId, claimant);
+        }
+
+        // One transaction per chunk, so locks are released between chunks
+        @Override @Transactional
+        public TournamentDeletionJob purgeNextChunk(Long jobId) {
+            TournamentDeletionJob job = delegate.purgeNextChunk(jobId);
+            tournamentVersions.tournamentChanged(job.getTournamentId());
+            return job;
+        }
+
+        @Override @Transactional
+        public TournamentDeletionJob recordFailure(Long jobId, String error) {
+            return delegate.recordFailure(jobId, error);
+        }
     }
 
     static class StartTournamentAdapter implements StartTournamentUseCase {
         private final StartTournamentUseCase delegate;
-        StartTournamentAdapter(StartTournamentUseCase delegate) { this.delegate = delegate; }
+        private final TournamentVersions tournamentVersions;
+        StartTournamentAdapter(StartTournamentUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
 
         @Override @Transactional
-        public Tournament start(Long tournamentId) { return delegate.start(tournamentId); }
+        public Tournament start(Long tournamentId) {
+            Tournament tournament = delegate.start(tournamentId);
+            tournamentVersions.catalogChanged(tournament.getId());
+            return tournament;
+        }
     }
 
     static class EndTournamentAdapter implements EndTournamentUseCase {
         private final EndTournamentUseCase delegate;
-        EndTournamentAdapter(EndTournamentUseCase delegate) { this.delegate = delegate; }
+        private final TournamentVersions tournamentVersions;
+        EndTournamentAdapter(EndTournamentUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
 
         @Override @Transactional
-        public Tournament end(Long tournamentId) { return delegate.end(tournamentId); }
+        public Tournament end(Long tournamentId) {
+            Tournament tournament = delegate.end(tournamentId);
+            tournamentVersions.catalogChanged(tournament.getId());
+            return tournament;
+        }
     }
 
     static class CancelTournamentAdapter implements CancelTournamentUseCase {
         private final CancelTournamentUseCase delegate;
-        CancelTournamentAdapter(CancelTournamentUseCase delegate) { this.delegate = delegate; }
+        private final TournamentVersions tournamentVersions;
+        CancelTournamentAdapter(CancelTournamentUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
+
+        @Override @Transactional
+        public Tournament cancel(Long tournamentId) {
+            Tournament tournament = delegate.cancel(tournamentId);
+            tournamentVersions.catalogChanged(tournament.getId());
+            return tournament;
+        }
+    }
+
+    static class ExportTournamentAdapter implements ExportTournamentUseCase {
+        private final ExportTournamentUseCase delegate;
+        ExportTournamentAdapter(ExportTournamentUseCase delegate) {
+            this.delegate = delegate;
+        }
+
+        // One read-only snapshot for the whole export, so teams, players and matches agree with each other
+        @Override @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+        public void export(Long tournamentId, TournamentExportSink sink) {
+            delegate.export(tournamentId, sink);
+        }
+    }
+
+    static class ImportTournamentAdapter implements ImportTournamentUseCase {
+        private final ImportTournamentUseCase delegate;
+        private final TournamentVersions tournamentVersions;
+        ImportTournamentAdapter(ImportTournamentUseCase delegate, TournamentVersions tournamentVersions) {
+            this.delegate = delegate;
+            this.tournamentVersions = tournamentVersions;
+        }
 
+        // One transaction for the whole archive, so a failed import leaves nothing behind
         @Override @Transactional
-        public Tournament cancel(Long tournamentId) { return delegate.cancel(tournamentId); }
+        public ImportedTournament importTournament(TournamentArchive archive) {
+            ImportedTournament imported = delegate.importTournament(archive);
+            tournamentVersions.catalogChanged(imported.tournament().getId());
+            return imported;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package com.personal.tournament_api.auth.infrastructure.security;
+
+import com.personal.tournament_api.shared.infrastructure.web.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BcryptPasswordHasher Unit Tests")
+class BcryptPasswordHasherTest {
+
+    private static final String BLOCKING_HASH = "blocking";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch busy = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BcryptPasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hash with the configured cost and match only the right password")
+    void shouldHashAndMatch() {
+        hasher = new BcryptPasswordHasher(5, 1, 4, Duration.ofSeconds(5), meterRegistry);
+
+        String hash = hasher.hash("secret");
+
+        assertTrue(hash.startsWith("$2a$05$"));
+        assertTrue(hasher.matches("secret", hash));
+        assertFalse(hasher.matches("wrong", hash));
+    }
+
+    @Test
+    @DisplayName("Should still run a full comparison on the pool when there is no stored hash")
+    void shouldSpendWorkOnMissingHash() {
+        List<String> compared = new CopyOnWriteArrayList<>();
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                compared.add(encodedPassword);
+                return super.matches(rawPassword, encodedPassword);
+            }
+        };
+        hasher = new BcryptPasswordHasher(encoder, 1, 4, Duration.ofSeconds(5), meterRegistry);
+
+        assertFalse(hasher.matches("secret", null));
+        assertEquals(1, compared.size());
+        assertTrue(compared.get(0).startsWith("$2a$04$"));
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when every thread is busy and the queue is full")
+    void shouldRejectWhenSaturated() throws Exception {
+        hasher = blockingHasher(0, Duration.ofSeconds(5));
+        occupyTheOnlyThread();
+
+        assertThrows(ServiceUnavailableException.class, () -> hasher.matches("secret", "$2a$04$x"));
+        assertEquals(1.0, rejected("queue_full"));
+    }
+
+    @Test
+    @DisplayName("Should give up on a request that waits longer than the timeout")
+    void shouldTimeOut() throws Exception {
+        hasher = blockingHasher(4, Duration.ofMillis(50));
+        occupyTheOnlyThread();
+
+        assertThrows(ServiceUnavailableException.class, () -> hasher.matches("secret", "$2a$04$x"));
+        assertTrue(rejected("timeout") >= 1.0);
+    }
+
+    private BcryptPasswordHasher blockingHasher(int queueCapacity, Duration timeout) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                if (BLOCKING_HASH.equals(encodedPassword)) {
+                    busy.countDown();
+                    // Like real key stretching, the work does not stop when the caller gives up
+                    boolean released = false;
+                    while (!released) {
+                        try {
+                            released = release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException ignored) {
+                            // keep blocking
+                        }
+                    }
+                    return false;
+                }
+                return super.matches(rawPassword, encodedPassword);
+            }
+        };
+        return new BcryptPasswordHasher(encoder, 1, queueCapacity, timeout, meterRegistry);
+    }
+
+    private void occupyTheOnlyThread() throws InterruptedException {
+        CompletableFuture.runAsync(() -> {
+            try {
+                hasher.matches("secret", BLOCKING_HASH);
+            } catch (ServiceUnavailableException ignored) {
+                // the blocking call itself may time out
+            }
+        });
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("password.hashing.rejected").tag("reason", reason).counter().count();
+    }
+}
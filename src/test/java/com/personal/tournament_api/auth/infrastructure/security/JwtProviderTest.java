@@ -0,0 +1,84 @@
+package com.personal.tournament_api.auth.infrastructure.security;
+
+import com.personal.tournament_api.auth.domain.enums.UserRole;
+import com.personal.tournament_api.auth.domain.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtProvider Unit Tests")
+class JwtProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-testing-purposes-only";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtProvider jwtProvider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtProvider = new JwtProvider(SECRET, 60_000, 100, meterRegistry);
+        user = User.reconstitute(1L, "admin@example.com", "admin", "hashed", UserRole.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should return the claims of a token it issued")
+    void shouldParseIssuedToken() {
+        Optional<Claims> claims = jwtProvider.parse(jwtProvider.generate(user));
+
+        assertTrue(claims.isPresent());
+        assertEquals("admin@example.com", claims.get().getSubject());
+        assertEquals("ADMIN", claims.get().get("role", String.class));
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeated requests from the cache")
+    void shouldServeRepeatedTokensFromCache() {
+        String token = jwtProvider.generate(user);
+
+        Claims first = jwtProvider.parse(token).orElseThrow();
+        Claims second = jwtProvider.parse(token).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt-claims").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another key")
+    void shouldRejectForgedToken() {
+        String forged = Jwts.builder()
+                .subject("admin@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-that-is-long-enough!!".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertTrue(jwtProvider.parse(forged).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void shouldRejectExpiredToken() {
+        JwtProvider expiredIssuer = new JwtProvider(SECRET, -1_000, 100, new SimpleMeterRegistry());
+
+        assertTrue(jwtProvider.parse(expiredIssuer.generate(user)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void shouldRejectMalformedToken() {
+        assertTrue(jwtProvider.parse("not-a-jwt").isEmpty());
+        assertTrue(jwtProvider.parse("").isEmpty());
+    }
+}
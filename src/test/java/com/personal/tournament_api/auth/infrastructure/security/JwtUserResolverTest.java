@@ -0,0 +1,120 @@
+package com.personal.tournament_api.auth.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtUserResolver Unit Tests")
+class JwtUserResolverTest {
+
+    private static final String EMAIL = "admin@example.com";
+
+    @Mock
+    private UserDetailsServiceAdapter userDetailsService;
+
+    private final Claims claims = Jwts.claims().subject(EMAIL).add("role", "ADMIN").build();
+
+    @Nested
+    @DisplayName("Claims Mode Tests")
+    class ClaimsModeTests {
+
+        @Test
+        @DisplayName("Should build the principal from the token without touching the database")
+        void shouldBuildPrincipalFromClaims() {
+            // Given
+            JwtUserResolver resolver = new JwtUserResolver(userDetailsService, JwtUserResolver.Mode.CLAIMS, Duration.ZERO, 10);
+
+            // When
+            Optional<UserDetails> user = resolver.resolve(claims);
+
+            // Then
+            assertTrue(user.isPresent());
+            assertEquals(EMAIL, user.get().getUsername());
+            assertEquals(AuthorityUtils.createAuthorityList("ROLE_ADMIN"), List.copyOf(user.get().getAuthorities()));
+            verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("Should reject a token without a role claim")
+        void shouldRejectTokenWithoutRole() {
+            // Given
+            JwtUserResolver resolver = new JwtUserResolver(userDetailsService, JwtUserResolver.Mode.CLAIMS, Duration.ZERO, 10);
+
+            // When
+            Optional<UserDetails> user = resolver.resolve(Jwts.claims().subject(EMAIL).build());
+
+            // Then
+            assertTrue(user.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should look the user up once per TTL when the user cache is enabled")
+        void shouldLoadUserOncePerTtl() {
+            // Given
+            JwtUserResolver resolver = new JwtUserResolver(userDetailsService, JwtUserResolver.Mode.CLAIMS, Duration.ofMinutes(1), 10);
+            UserDetails stored = new User(EMAIL, "hashed", AuthorityUtils.createAuthorityList("ROLE_USER"));
+            when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(stored);
+
+            // When
+            Optional<UserDetails> first = resolver.resolve(claims);
+            Optional<UserDetails> second = resolver.resolve(claims);
+
+            // Then
+            assertSame(stored, first.orElseThrow());
+            assertSame(stored, second.orElseThrow());
+            verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+        }
+
+        @Test
+        @DisplayName("Should reject a token whose user was deleted when the user cache is enabled")
+        void shouldRejectDeletedUser() {
+            // Given
+            JwtUserResolver resolver = new JwtUserResolver(userDetailsService, JwtUserResolver.Mode.CLAIMS, Duration.ofMinutes(1), 10);
+            when(userDetailsService.loadUserByUsername(EMAIL)).thenThrow(new UsernameNotFoundException("gone"));
+
+            // When
+            Optional<UserDetails> user = resolver.resolve(claims);
+
+            // Then
+            assertTrue(user.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Database Mode Tests")
+    class DatabaseModeTests {
+
+        @Test
+        @DisplayName("Should load the user on every request")
+        void shouldLoadUserOnEveryRequest() {
+            // Given
+            JwtUserResolver resolver = new JwtUserResolver(userDetailsService, JwtUserResolver.Mode.DATABASE, Duration.ofMinutes(1), 10);
+            UserDetails stored = new User(EMAIL, "hashed", AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+            when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(stored);
+
+            // When
+            resolver.resolve(claims);
+            resolver.resolve(claims);
+
+            // Then
+            verify(userDetailsService, times(2)).loadUserByUsername(EMAIL);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.personal.tournament_api.auth.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SecurityConfig Unit Tests")
+class SecurityConfigTest {
+
+    @Test
+    @DisplayName("Should send public GETs to the chain without the JWT filter")
+    void shouldMatchPublicReads() {
+        assertTrue(isPublicRead("GET", "/tournaments"));
+        assertTrue(isPublicRead("GET", "/tournaments/7/matches"));
+        assertTrue(isPublicRead("GET", "/tournaments/7/live"));
+    }
+
+    @Test
+    @DisplayName("Should keep ADMIN-only GETs and every write on the authenticated chain")
+    void shouldNotMatchProtectedRequests() {
+        assertFalse(isPublicRead("GET", "/tournaments/deletion-jobs/abc"));
+        assertFalse(isPublicRead("GET", "/tournaments/7/export"));
+        assertFalse(isPublicRead("GET", "/actuator/prometheus"));
+        assertFalse(isPublicRead("GET", "/actuator/health"));
+        assertFalse(isPublicRead("POST", "/tournaments"));
+        assertFalse(isPublicRead("DELETE", "/tournaments/7"));
+        assertFalse(isPublicRead("POST", "/auth/login"));
+    }
+
+    private static boolean isPublicRead(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api" + path);
+        request.setContextPath("/api");
+        return SecurityConfig.PUBLIC_READS.matches(request);
+    }
+}
@@ -0,0 +1,349 @@
+package com.personal.tournament_api.loadtest;
+
+import com.personal.tournament_api.auth.application.usecases.RegisterUserUseCase;
+import com.personal.tournament_api.auth.domain.enums.UserRole;
+import com.personal.tournament_api.auth.infrastructure.security.JwtProvider;
+import com.personal.tournament_api.match.application.usecases.CreateMatchUseCase;
+import com.personal.tournament_api.match.application.usecases.FinishMatchUseCase;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.team.application.usecases.CreateTeamUseCase;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.tournament.application.usecases.CreateTournamentUseCase;
+import com.personal.tournament_api.tournament.application.usecases.StartTournamentUseCase;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the application on an embedded H2 database, seeds {@code load.tournaments} tournaments with
+ * {@code load.teamsPerTournament} teams and {@code load.matchesPerTournament} matches each through the real
+ * use cases, then drives a weighted mix of HTTP traffic from {@code load.threads} workers for
+ * {@code load.durationSeconds} and reports p50/p99 latency and throughput per endpoint.
+ * <p>
+ * Run with {@code mvn test -Pload-test}; every knob is a system property, e.g.
+ * {@code -Dload.threads=32 -Dload.mix=standings:50,matches:50}. The report is printed and written to
+ * {@code target/load-test-report.csv}.
+ * <p>
+ * To compare request threading modes, run it on Java 21 once per mode with the same knobs and a separate
+ * report, e.g. {@code mvn test -Pload-test,java21 -Dload.mix=standings:50,matches:50 -Dload.threads=64
+ * -Dspring.threads.virtual.enabled=true -Dload.report=target/load-virtual.csv}; the {@code threads} column
+ * records which mode served the run.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-test;MODE=PostgreSQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "jwt.secret=load-test-secret-key-for-local-runs-only",
+        "jwt.expiration-ms=86400000",
+        "logging.level.com.personal.tournament_api=WARN"
+})
+@DisplayName("REST load test harness")
+class LoadTestHarnessTest {
+
+    private static final int TOURNAMENTS = Integer.getInteger("load.tournaments", 4);
+    private static final int TEAMS_PER_TOURNAMENT = Integer.getInteger("load.teamsPerTournament", 16);
+    private static final int MATCHES_PER_TOURNAMENT = Integer.getInteger("load.matchesPerTournament", 120);
+    private static final int THREADS = Integer.getInteger("load.threads", 8);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmupSeconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.durationSeconds", 20);
+    private static final String MIX = System.getProperty("load.mix", "standings:30,matches:40,teamMatches:20,result:10");
+    private static final Path REPORT = Path.of(System.getProperty("load.report", "target/load-test-report.csv"));
+
+    private static final LocalDate SEASON_START = LocalDate.of(2025, 1, 4);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private CreateTournamentUseCase createTournamentUseCase;
+
+    @Autowired
+    private StartTournamentUseCase startTournamentUseCase;
+
+    @Autowired
+    private CreateTeamUseCase createTeamUseCase;
+
+    @Autowired
+    private CreateMatchUseCase createMatchUseCase;
+
+    @Autowired
+    private FinishMatchUseCase finishMatchUseCase;
+
+    @Autowired
+    private RegisterUserUseCase registerUserUseCase;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Dataset> datasets = new ArrayList<>();
+    private String adminToken;
+
+    @Test
+    @DisplayName("drives the configured traffic mix and reports latency per endpoint")
+    void runLoad() throws Exception {
+        seed();
+        Map<Endpoint, Integer> mix = parseMix(MIX);
+
+        run(mix, WARMUP_SECONDS);
+        Map<Endpoint, Recording> results = run(mix, DURATION_SECONDS);
+
+        String report = report(results, DURATION_SECONDS, virtualThreads ? "virtual" : "platform");
+        System.out.println(report);
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        Files.writeString(REPORT, report);
+
+        mix.keySet().forEach(endpoint -> {
+            Recording recording = results.get(endpoint);
+            assertTrue(recording.count() > 0, () -> endpoint + " received no requests");
+            assertEquals(0, recording.errors(), () -> endpoint + " answered " + recording.errors() + " errors");
+        });
+    }
+
+    private void seed() {
+        long start = System.nanoTime();
+        adminToken = jwtProvider.generate(registerUserUseCase.execute(new RegisterUserUseCase.RegisterUserCommand(
+                "load-admin@example.com", "load-admin", "load-admin-password", UserRole.ADMIN)));
+
+        for (int t = 0; t < TOURNAMENTS; t++) {
+            Tournament tournament = createTournamentUseCase.create(
+                    new CreateTournamentUseCase.CreateTournamentCommand("Load Tournament " + t, "Seeded by the load test"));
+            startTournamentUseCase.start(tournament.getId());
+
+            List<Long> teamIds = new ArrayList<>(TEAMS_PER_TOURNAMENT);
+            for (int i = 0; i < TEAMS_PER_TOURNAMENT; i++) {
+                Team team = createTeamUseCase.create(new CreateTeamUseCase.CreateTeamCommand(
+                        "T" + t + " Team " + i, "Coach " + i, tournament.getId()));
+                teamIds.add(team.getId());
+            }
+
+            List<Long> matchIds = new ArrayList<>(MATCHES_PER_TOURNAMENT);
+            int matchesPerMatchday = Math.max(1, TEAMS_PER_TOURNAMENT / 2);
+            for (int i = 0; i < MATCHES_PER_TOURNAMENT; i++) {
+                int matchday = i / matchesPerMatchday + 1;
+                int home = i % TEAMS_PER_TOURNAMENT;
+                int away = (home + matchday) % TEAMS_PER_TOURNAMENT;
+                if (away == home) {
+                    away = (home + 1) % TEAMS_PER_TOURNAMENT;
+                }
+                Match match = createMatchUseCase.create(new CreateMatchUseCase.CreateMatchCommand(
+                        tournament.getId(), teamIds.get(home), teamIds.get(away),
+                        SEASON_START.plusWeeks(matchday - 1L).atTime(18, 0), "Field " + i % 4, matchday));
+                matchIds.add(match.getId());
+                if (i % 2 == 0) {
+                    finishMatchUseCase.finishMatch(new FinishMatchUseCase.FinishMatchCommand(match.getId(), i % 4, i % 3));
+                }
+            }
+            datasets.add(new Dataset(tournament.getId(), teamIds, matchIds, (MATCHES_PER_TOURNAMENT - 1) / matchesPerMatchday + 1));
+        }
+        System.out.printf("[load] seeded %d tournaments x %d teams x %d matches in %.1f s%n",
+                TOURNAMENTS, TEAMS_PER_TOURNAMENT, MATCHES_PER_TOURNAMENT, (System.nanoTime() - start) / 1e9);
+    }
+
+    private Map<Endpoint, Recording> run(Map<Endpoint, Integer> mix, int seconds) throws Exception {
+        Endpoint[] wheel = mix.entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Endpoint[]::new);
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Map<Endpoint, Recording>>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(workers.submit(() -> drive(wheel, deadline)));
+            }
+            Map<Endpoint, Recording> merged = new EnumMap<>(Endpoint.class);
+            for (Future<Map<Endpoint, Recording>> future : futures) {
+                future.get().forEach((endpoint, recording) -> merged.merge(endpoint, recording, Recording::merge));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<Endpoint, Recording> drive(Endpoint[] wheel, long deadline) throws IOException, InterruptedException {
+        Map<Endpoint, Recording> recordings = new EnumMap<>(Endpoint.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = wheel[random.nextInt(wheel.length)];
+            HttpRequest request = request(endpoint, datasets.get(random.nextInt(datasets.size())), random);
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            recordings.computeIfAbsent(endpoint, key -> new Recording())
+                    .record(elapsed, response.statusCode() >= 400);
+        }
+        return recordings;
+    }
+
+    private HttpRequest request(Endpoint endpoint, Dataset dataset, ThreadLocalRandom random) {
+        String base = "http://localhost:" + port + contextPath + "/tournaments/" + dataset.tournamentId();
+        return switch (endpoint) {
+            case STANDINGS -> get(base + "/teams/standings");
+            case MATCHES -> get(base + "/matches?size=20&withTotal=" + random.nextBoolean() + matchFilter(dataset, random));
+            case TEAM_MATCHES -> get(base + "/teams/" + pick(dataset.teamIds(), random) + "/matches");
+            case RESULT -> HttpRequest.newBuilder(URI.create(base + "/matches/" + pick(dataset.matchIds(), random) + "/result"))
+                    .header("Authorization", "Bearer " + adminToken)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            "{\"homeTeamScore\":" + random.nextInt(5) + ",\"awayTeamScore\":" + random.nextInt(5) + "}"))
+                    .build();
+        };
+    }
+
+    private static String matchFilter(Dataset dataset, ThreadLocalRandom random) {
+        int matchday = random.nextInt(dataset.matchdays()) + 1;
+        LocalDate date = SEASON_START.plusWeeks(matchday - 1L);
+        return switch (random.nextInt(4)) {
+            case 0 -> "";
+            case 1 -> "&status=FINISHED";
+            case 2 -> "&matchday=" + matchday;
+            default -> "&dateFrom=" + date + "&dateTo=" + date.plusWeeks(4);
+        };
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static Long pick(List<Long> ids, ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Endpoint endpoint = Arrays.stream(Endpoint.values())
+                    .filter(candidate -> candidate.key.equals(parts[0]))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in load.mix: " + parts[0]));
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                weights.put(endpoint, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix selects no endpoint: " + mix);
+        }
+        return weights;
+    }
+
+    private static String report(Map<Endpoint, Recording> results, int seconds, String threads) {
+        StringBuilder report = new StringBuilder("threads,endpoint,requests,errors,rps,p50_ms,p99_ms,max_ms\n");
+        results.forEach((endpoint, recording) -> {
+            long[] sorted = recording.sortedNanos();
+            report.append(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.3f,%.3f,%.3f%n",
+                    threads, endpoint.key, sorted.length, recording.errors(), sorted.length / (double) seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6));
+        });
+        return report.toString();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(sorted.length * quantile) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private enum Endpoint {
+        STANDINGS("standings"),
+        MATCHES("matches"),
+        TEAM_MATCHES("teamMatches"),
+        RESULT("result");
+
+        private final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+    }
+
+    private record Dataset(Long tournamentId, List<Long> teamIds, List<Long> matchIds, int matchdays) {
+    }
+
+    /**
+     * Latencies recorded by one worker; merged once the run is over so the hot loop never contends.
+     */
+    private static final class Recording {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        void record(long elapsedNanos, boolean error) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsedNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        Recording merge(Recording other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.nanos[i], false);
+            }
+            errors += other.errors;
+            return this;
+        }
+
+        int count() {
+            return count;
+        }
+
+        int errors() {
+            return errors;
+        }
+
+        long[] sortedNanos() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
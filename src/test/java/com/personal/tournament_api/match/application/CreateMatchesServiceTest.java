@@ -0,0 +1,85 @@
+package com.personal.tournament_api.match.application;
+
+import com.personal.tournament_api.match.application.usecases.CreateMatchesUseCase.CreateMatchesCommand;
+import com.personal.tournament_api.match.application.usecases.CreateMatchesUseCase.MatchData;
+import com.personal.tournament_api.match.domain.exceptions.InvalidMatchDataException;
+import com.personal.tournament_api.match.domain.exceptions.InvalidMatchTeamsException;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CreateMatchesService Tests")
+@ExtendWith(MockitoExtension.class)
+class CreateMatchesServiceTest {
+
+    @Mock private MatchRepository matchRepository;
+    @Mock private MatchTeamPort matchTeamPort;
+
+    private CreateMatchesService service;
+
+    private static final Long TOURNAMENT_ID = 10L;
+    private static final LocalDateTime VALID_DATE = LocalDateTime.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        service = new CreateMatchesService(matchRepository, matchTeamPort);
+    }
+
+    @Test
+    @DisplayName("Should read the tournament teams once and save every match in one call")
+    void shouldImportAllMatchesInOneCall() {
+        // Given
+        when(matchTeamPort.findTeamIdsByTournamentId(TOURNAMENT_ID)).thenReturn(List.of(1L, 2L, 3L));
+        when(matchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<Match> result = service.createAll(new CreateMatchesCommand(TOURNAMENT_ID, List.of(
+                new MatchData(1L, 2L, VALID_DATE, "Stadium A", 1),
+                new MatchData(3L, 1L, VALID_DATE.plusDays(7), "Stadium B", 2))));
+
+        // Then
+        assertEquals(2, result.size());
+        assertTrue(result.stream().allMatch(match -> TOURNAMENT_ID.equals(match.getTournamentId())));
+        verify(matchTeamPort, times(1)).findTeamIdsByTournamentId(TOURNAMENT_ID);
+        verify(matchRepository, times(1)).saveAll(anyList());
+        verify(matchRepository, never()).save(any(Match.class));
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidMatchDataException when a team belongs to another tournament")
+    void shouldThrowWhenTeamIsForeign() {
+        // Given
+        when(matchTeamPort.findTeamIdsByTournamentId(TOURNAMENT_ID)).thenReturn(List.of(1L, 2L));
+
+        // When & Then
+        InvalidMatchDataException exception = assertThrows(InvalidMatchDataException.class,
+                () -> service.createAll(new CreateMatchesCommand(TOURNAMENT_ID, List.of(
+                        new MatchData(1L, 2L, VALID_DATE, "Stadium A", 1),
+                        new MatchData(1L, 99L, VALID_DATE, "Stadium A", 1)))));
+        assertTrue(exception.getMessage().contains("99"));
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid match data before reading teams")
+    void shouldRejectInvalidMatchBeforeQuerying() {
+        // When & Then
+        assertThrows(InvalidMatchTeamsException.class, () -> service.createAll(new CreateMatchesCommand(TOURNAMENT_ID,
+                List.of(new MatchData(1L, 1L, VALID_DATE, "Stadium A", 1)))));
+        verifyNoInteractions(matchRepository, matchTeamPort);
+    }
+}
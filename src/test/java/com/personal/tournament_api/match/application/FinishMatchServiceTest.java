@@ -1,6 +1,8 @@
 package com.personal.tournament_api.match.application;
 
 import com.personal.tournament_api.match.application.usecases.FinishMatchUseCase.FinishMatchCommand;
+import com.personal.tournament_api.match.domain.events.MatchResultCorrectedEvent;
+import com.personal.tournament_api.match.domain.events.MatchResultSetEvent;
 import com.personal.tournament_api.match.domain.exceptions.MatchNotFoundException;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.model.MatchResultOutcome;
@@ -8,6 +10,7 @@ import com.personal.tournament_api.match.domain.model.MatchStatus;
 import com.personal.tournament_api.match.domain.ports.MatchRepository;
 import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
 import com.personal.tournament_api.match.domain.services.MatchResultService;
+import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,7 @@ class FinishMatchServiceTest {
     @Mock private MatchRepository matchRepository;
     @Mock private MatchTeamPort matchTeamPort;
     @Mock private MatchResultService matchResultService;
+    @Mock private DomainEventPublisher domainEventPublisher;
 
     private FinishMatchService service;
 
@@ -40,7 +44,7 @@ class FinishMatchServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new FinishMatchService(matchRepository, matchTeamPort, matchResultService);
+        service = new FinishMatchService(matchRepository, matchTeamPort, matchResultService, domainEventPublisher);
     }
 
     @Test
@@ -62,6 +66,8 @@ class FinishMatchServiceTest {
         assertNotNull(result);
         verify(matchResultService).registerResult(match, matchTeamPort, 3, 1);
         verify(matchRepository).save(match);
+        verify(domainEventPublisher).publish(
+                new MatchResultSetEvent(TOURNAMENT_ID, MATCH_ID, HOME_TEAM_ID, AWAY_TEAM_ID, 3, 1));
         verifyNoInteractions(matchTeamPort);
     }
 
@@ -84,6 +90,8 @@ class FinishMatchServiceTest {
         // Then
         assertNotNull(result);
         verify(matchResultService).registerResult(match, matchTeamPort, 3, 1);
+        verify(domainEventPublisher).publish(
+                new MatchResultCorrectedEvent(TOURNAMENT_ID, MATCH_ID, HOME_TEAM_ID, AWAY_TEAM_ID, 2, 2, 3, 1));
     }
 
     @Test
@@ -97,5 +105,6 @@ class FinishMatchServiceTest {
         assertThrows(MatchNotFoundException.class, () -> service.finishMatch(command));
         verifyNoInteractions(matchResultService);
         verifyNoInteractions(matchTeamPort);
+        verifyNoInteractions(domainEventPublisher);
     }
 }
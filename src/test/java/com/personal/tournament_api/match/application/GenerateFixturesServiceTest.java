@@ -0,0 +1,140 @@
+package com.personal.tournament_api.match.application;
+
+import com.personal.tournament_api.match.application.usecases.GenerateFixturesUseCase.GenerateFixturesCommand;
+import com.personal.tournament_api.match.domain.exceptions.FixtureAlreadyExistsException;
+import com.personal.tournament_api.match.domain.exceptions.InvalidMatchDataException;
+import com.personal.tournament_api.match.domain.exceptions.NotEnoughTeamsForFixtureException;
+import com.personal.tournament_api.match.domain.model.FixtureSchedule;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
+import com.personal.tournament_api.match.domain.ports.MatchTournamentPort;
+import com.personal.tournament_api.match.domain.services.RoundRobinScheduler;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GenerateFixturesService Tests")
+@ExtendWith(MockitoExtension.class)
+class GenerateFixturesServiceTest {
+
+    @Mock private MatchRepository matchRepository;
+    @Mock private MatchTeamPort matchTeamPort;
+    @Mock private MatchTournamentPort matchTournamentPort;
+
+    private GenerateFixturesService service;
+
+    private static final Long TOURNAMENT_ID = 10L;
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.now().plusDays(1).withNano(0);
+
+    @BeforeEach
+    void setUp() {
+        service = new GenerateFixturesService(matchRepository, matchTeamPort, matchTournamentPort, new RoundRobinScheduler());
+    }
+
+    @Test
+    @DisplayName("Should schedule every pairing and save all matches in one call")
+    void shouldScheduleAndSaveAllMatches() {
+        // Given
+        when(matchRepository.existsByTournamentId(TOURNAMENT_ID)).thenReturn(false);
+        when(matchTeamPort.findTeamIdsByTournamentId(TOURNAMENT_ID)).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(matchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<Match> result = service.generate(new GenerateFixturesCommand(
+                TOURNAMENT_ID, FIRST_DATE, 7, 90, List.of("Field A", "Field B"), false));
+
+        // Then
+        assertEquals(6, result.size());
+        assertTrue(result.stream().allMatch(match -> TOURNAMENT_ID.equals(match.getTournamentId())));
+        verify(matchRepository, times(1)).saveAll(anyList());
+        verify(matchRepository, never()).save(any(Match.class));
+    }
+
+    @Test
+    @DisplayName("Should apply default spacing and single round robin when options are omitted")
+    void shouldApplyDefaultsWhenOptionsAreOmitted() {
+        // Given
+        RoundRobinScheduler scheduler = mock(RoundRobinScheduler.class);
+        service = new GenerateFixturesService(matchRepository, matchTeamPort, matchTournamentPort, scheduler);
+        when(matchRepository.existsByTournamentId(TOURNAMENT_ID)).thenReturn(false);
+        when(matchTeamPort.findTeamIdsByTournamentId(TOURNAMENT_ID)).thenReturn(List.of(1L, 2L));
+        when(scheduler.schedule(eq(TOURNAMENT_ID), anyList(), any(FixtureSchedule.class))).thenReturn(List.of());
+        when(matchRepository.saveAll(anyList())).thenReturn(List.of());
+
+        // When
+        service.generate(new GenerateFixturesCommand(TOURNAMENT_ID, FIRST_DATE, null, null, List.of("Field A"), null));
+
+        // Then
+        ArgumentCaptor<FixtureSchedule> captor = ArgumentCaptor.forClass(FixtureSchedule.class);
+        verify(scheduler).schedule(eq(TOURNAMENT_ID), eq(List.of(1L, 2L)), captor.capture());
+        assertEquals(7, captor.getValue().daysBetweenMatchdays());
+        assertEquals(120, captor.getValue().minutesBetweenKickoffs());
+        assertFalse(captor.getValue().doubleRoundRobin());
+    }
+
+    @Test
+    @DisplayName("Should throw FixtureAlreadyExistsException when the tournament already has matches")
+    void shouldThrowWhenTournamentAlreadyHasMatches() {
+        // Given
+        when(matchRepository.existsByTournamentId(TOURNAMENT_ID)).thenReturn(true);
+
+        // When & Then
+        assertThrows(FixtureAlreadyExistsException.class, () -> service.generate(new GenerateFixturesCommand(
+                TOURNAMENT_ID, FIRST_DATE, null, null, List.of("Field A"), false)));
+        InOrder inOrder = inOrder(matchTournamentPort, matchRepository);
+        inOrder.verify(matchTournamentPort).lockTournament(TOURNAMENT_ID);
+        inOrder.verify(matchRepository).existsByTournamentId(TOURNAMENT_ID);
+        verify(matchTeamPort, never()).findTeamIdsByTournamentId(any());
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should throw NotEnoughTeamsForFixtureException when fewer than two teams are registered")
+    void shouldThrowWhenThereAreNotEnoughTeams() {
+        // Given
+        when(matchRepository.existsByTournamentId(TOURNAMENT_ID)).thenReturn(false);
+        when(matchTeamPort.findTeamIdsByTournamentId(TOURNAMENT_ID)).thenReturn(List.of(1L));
+
+        // When & Then
+        assertThrows(NotEnoughTeamsForFixtureException.class, () -> service.generate(new GenerateFixturesCommand(
+                TOURNAMENT_ID, FIRST_DATE, null, null, List.of("Field A"), false)));
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid schedule before reading teams or matches")
+    void shouldRejectInvalidScheduleBeforeQuerying() {
+        // When & Then
+        assertThrows(InvalidMatchDataException.class, () -> service.generate(new GenerateFixturesCommand(
+                TOURNAMENT_ID, FIRST_DATE, 0, null, List.of("Field A"), false)));
+        verifyNoInteractions(matchRepository, matchTeamPort);
+    }
+
+    @Test
+    @DisplayName("Should propagate TournamentNotFoundException before checking matches or teams")
+    void shouldThrowWhenTournamentDoesNotExist() {
+        // Given
+        doThrow(new TournamentNotFoundException(TOURNAMENT_ID)).when(matchTournamentPort).lockTournament(TOURNAMENT_ID);
+
+        // When & Then
+        assertThrows(TournamentNotFoundException.class, () -> service.generate(new GenerateFixturesCommand(
+                TOURNAMENT_ID, FIRST_DATE, null, null, List.of("Field A"), false)));
+        verifyNoInteractions(matchRepository, matchTeamPort);
+    }
+}
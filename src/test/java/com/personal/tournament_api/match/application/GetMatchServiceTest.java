@@ -1,7 +1,12 @@
 package com.personal.tournament_api.match.application;
 
+import com.personal.tournament_api.match.domain.model.CursorPage;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
 import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchCursor;
+import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
 import com.personal.tournament_api.match.domain.model.MatchStatus;
+import com.personal.tournament_api.match.domain.model.PageRequest;
 import com.personal.tournament_api.match.domain.ports.MatchRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @DisplayName("GetMatchService Tests")
@@ -101,4 +107,24 @@ class GetMatchServiceTest {
         assertEquals(2, result.size());
         verify(matchRepository).findAllByTeamId(HOME_TEAM_ID);
     }
+
+    @Test
+    @DisplayName("Should get matches after cursor")
+    void shouldGetMatchesAfterCursor() {
+        // Given
+        MatchSearchCriteria criteria = MatchSearchCriteria.empty();
+        CursorPageRequest pageRequest = CursorPageRequest.after(new MatchCursor(VALID_DATE, 5L), 1, PageRequest.SortDirection.ASC);
+        Match match = Match.reconstitute(6L, TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID, null, null, VALID_DATE, "Stadium A", MatchStatus.SCHEDULED, null);
+        CursorPage<Match> page = new CursorPage<>(List.of(match), 1, MatchCursor.of(match));
+        when(matchRepository.findByTournamentIdAfterCursor(TOURNAMENT_ID, criteria, pageRequest)).thenReturn(page);
+
+        // When
+        CursorPage<Match> result = service.getByTournamentIdAfterCursor(TOURNAMENT_ID, criteria, pageRequest);
+
+        // Then
+        assertTrue(result.hasNext());
+        assertEquals(new MatchCursor(VALID_DATE, 6L), result.getNextCursor());
+        verify(matchRepository).findByTournamentIdAfterCursor(TOURNAMENT_ID, criteria, pageRequest);
+        verify(matchRepository, never()).findByTournamentIdWithFilters(any(), any(), any());
+    }
 }
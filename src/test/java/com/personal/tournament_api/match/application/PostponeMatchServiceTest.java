@@ -1,9 +1,11 @@
 package com.personal.tournament_api.match.application;
 
+import com.personal.tournament_api.match.domain.events.MatchPostponedEvent;
 import com.personal.tournament_api.match.domain.exceptions.MatchNotFoundException;
 import com.personal.tournament_api.match.domain.model.Match;
 import com.personal.tournament_api.match.domain.model.MatchStatus;
 import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import static org.mockito.Mockito.*;
 class PostponeMatchServiceTest {
 
     @Mock private MatchRepository matchRepository;
+    @Mock private DomainEventPublisher domainEventPublisher;
 
     private PostponeMatchService service;
 
@@ -34,7 +37,7 @@ class PostponeMatchServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new PostponeMatchService(matchRepository);
+        service = new PostponeMatchService(matchRepository, domainEventPublisher);
     }
 
     @Test
@@ -54,6 +57,7 @@ class PostponeMatchServiceTest {
         assertEquals(MatchStatus.POSTPONED, result.getStatus());
         verify(matchRepository).findById(MATCH_ID);
         verify(matchRepository).save(match);
+        verify(domainEventPublisher).publish(new MatchPostponedEvent(TOURNAMENT_ID, MATCH_ID, HOME_TEAM_ID, AWAY_TEAM_ID));
     }
 
     @Test
@@ -65,5 +69,6 @@ class PostponeMatchServiceTest {
         // When & Then
         assertThrows(MatchNotFoundException.class, () -> service.postponeMatch(999L));
         verify(matchRepository, never()).save(any());
+        verifyNoInteractions(domainEventPublisher);
     }
 }
@@ -0,0 +1,203 @@
+package com.personal.tournament_api.match.application;
+
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.MatchResultEntry;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.MatchResultReport;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.ResultStatus;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.SubmitMatchdayResultsCommand;
+import com.personal.tournament_api.match.domain.events.MatchResultCorrectedEvent;
+import com.personal.tournament_api.match.domain.events.MatchResultSetEvent;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchResultDelta;
+import com.personal.tournament_api.match.domain.model.MatchScore;
+import com.personal.tournament_api.match.domain.model.MatchStatus;
+import com.personal.tournament_api.match.domain.ports.MatchRepository;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort.TournamentTeams;
+import com.personal.tournament_api.match.domain.services.MatchResultService;
+import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SubmitMatchdayResultsService Tests")
+@ExtendWith(MockitoExtension.class)
+class SubmitMatchdayResultsServiceTest {
+
+    @Mock private MatchRepository matchRepository;
+    @Mock private MatchTeamPort matchTeamPort;
+    @Mock private TournamentTeams tournamentTeams;
+    @Mock private DomainEventPublisher domainEventPublisher;
+
+    private SubmitMatchdayResultsService service;
+
+    private static final Long TOURNAMENT_ID = 10L;
+    private static final Integer MATCHDAY = 3;
+    private static final LocalDateTime VALID_DATE = LocalDateTime.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        service = new SubmitMatchdayResultsService(matchRepository, matchTeamPort, new MatchResultService(),
+                domainEventPublisher);
+    }
+
+    private Match scheduledMatch(Long id, Long homeTeamId, Long awayTeamId, Integer matchday) {
+        return Match.reconstitute(id, TOURNAMENT_ID, homeTeamId, awayTeamId, null, null, VALID_DATE, "Stadium A",
+                MatchStatus.SCHEDULED, matchday);
+    }
+
+    private void givenTeamsInTournament(Collection<Long> requestedTeamIds, Set<Long> loadedTeamIds) {
+        when(matchTeamPort.loadTeamsInTournament(TOURNAMENT_ID, requestedTeamIds)).thenReturn(tournamentTeams);
+        lenient().when(tournamentTeams.contains(any()))
+                .thenAnswer(invocation -> loadedTeamIds.contains(invocation.<Long>getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("Should load matches and teams once, apply every team delta in one call and save all matches together")
+    void shouldProcessWholeMatchdayInOnePass() {
+        // Given
+        Match first = scheduledMatch(1L, 1L, 2L, MATCHDAY);
+        Match second = Match.reconstitute(2L, TOURNAMENT_ID, 3L, 4L, 0, 0, VALID_DATE, "Stadium B",
+                MatchStatus.FINISHED, MATCHDAY);
+        when(matchRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        givenTeamsInTournament(List.of(1L, 2L, 3L, 4L), Set.of(1L, 2L, 3L, 4L));
+
+        // When
+        List<MatchResultReport> reports = service.submit(new SubmitMatchdayResultsCommand(TOURNAMENT_ID, MATCHDAY,
+                List.of(new MatchResultEntry(1L, 2, 1), new MatchResultEntry(2L, 1, 3))));
+
+        // Then
+        assertEquals(List.of(ResultStatus.SET, ResultStatus.CORRECTED),
+                reports.stream().map(MatchResultReport::status).toList());
+        verify(matchRepository, times(1)).findAllById(List.of(1L, 2L));
+        verify(matchTeamPort, times(1)).loadTeamsInTournament(TOURNAMENT_ID, List.of(1L, 2L, 3L, 4L));
+        verify(tournamentTeams, times(1)).applyResultDeltas(List.of(
+                new MatchResultDelta(1L, 2L, null, new MatchScore(2, 1)),
+                new MatchResultDelta(3L, 4L, new MatchScore(0, 0), new MatchScore(1, 3))));
+        verifyNoMoreInteractions(matchTeamPort);
+        verify(matchRepository, times(1)).saveAll(List.of(first, second));
+        verify(matchRepository, never()).save(any(Match.class));
+        verify(domainEventPublisher).publish(new MatchResultSetEvent(TOURNAMENT_ID, 1L, 1L, 2L, 2, 1));
+        verify(domainEventPublisher).publish(new MatchResultCorrectedEvent(TOURNAMENT_ID, 2L, 3L, 4L, 0, 0, 1, 3));
+    }
+
+    @Test
+    @DisplayName("Should stack repeated results for the same match as corrections and save it once")
+    void shouldStackRepeatedResultsAsCorrections() {
+        // Given
+        Match match = scheduledMatch(1L, 1L, 2L, MATCHDAY);
+        when(matchRepository.findAllById(List.of(1L))).thenReturn(List.of(match));
+        givenTeamsInTournament(List.of(1L, 2L), Set.of(1L, 2L));
+
+        // When
+        List<MatchResultReport> reports = service.submit(new SubmitMatchdayResultsCommand(TOURNAMENT_ID, MATCHDAY,
+                List.of(new MatchResultEntry(1L, 1, 0), new MatchResultEntry(1L, 1, 1))));
+
+        // Then
+        assertEquals(List.of(ResultStatus.SET, ResultStatus.CORRECTED),
+                reports.stream().map(MatchResultReport::status).toList());
+        assertEquals(1, match.getHomeTeamScore());
+        assertEquals(1, match.getAwayTeamScore());
+        verify(tournamentTeams).applyResultDeltas(List.of(
+                new MatchResultDelta(1L, 2L, null, new MatchScore(1, 0)),
+                new MatchResultDelta(1L, 2L, new MatchScore(1, 0), new MatchScore(1, 1))));
+        verify(matchRepository, times(1)).saveAll(List.of(match));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown, foreign, other-matchday and postponed matches and keep the rest")
+    void shouldRejectInvalidEntriesAndKeepTheRest() {
+        // Given
+        Match valid = scheduledMatch(1L, 1L, 2L, MATCHDAY);
+        Match otherMatchday = scheduledMatch(2L, 3L, 4L, MATCHDAY + 1);
+        Match postponed = Match.reconstitute(3L, TOURNAMENT_ID, 5L, 6L, null, null, VALID_DATE, "Stadium A",
+                MatchStatus.POSTPONED, MATCHDAY);
+        Match otherTournament = Match.reconstitute(4L, 99L, 7L, 8L, null, null, VALID_DATE, "Stadium A",
+                MatchStatus.SCHEDULED, MATCHDAY);
+        when(matchRepository.findAllById(anyList())).thenReturn(List.of(valid, otherMatchday, postponed, otherTournament));
+        givenTeamsInTournament(List.of(1L, 2L, 3L, 4L, 5L, 6L), Set.of(1L, 2L, 3L, 4L, 5L, 6L));
+
+        // When
+        List<MatchResultReport> reports = service.submit(new SubmitMatchdayResultsCommand(TOURNAMENT_ID, MATCHDAY,
+                List.of(new MatchResultEntry(1L, 2, 0), new MatchResultEntry(2L, 1, 1),
+                        new MatchResultEntry(3L, 0, 0), new MatchResultEntry(4L, 0, 0),
+                        new MatchResultEntry(5L, 0, 0))));
+
+        // Then
+        assertEquals(List.of(ResultStatus.SET, ResultStatus.REJECTED, ResultStatus.REJECTED, ResultStatus.REJECTED,
+                ResultStatus.REJECTED), reports.stream().map(MatchResultReport::status).toList());
+        assertTrue(reports.get(1).error().contains("matchday"));
+        assertTrue(reports.get(3).error().contains("not found"));
+        assertTrue(reports.get(4).error().contains("not found"));
+        assertEquals(MatchStatus.SCHEDULED, otherMatchday.getStatus());
+        verify(tournamentTeams).applyResultDeltas(List.of(new MatchResultDelta(1L, 2L, null, new MatchScore(2, 0))));
+        verify(matchRepository).saveAll(List.of(valid));
+        verify(domainEventPublisher, times(1)).publish(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a match whose team was deleted or moved and keep the rest")
+    void shouldRejectMatchWithTeamOutsideTournament() {
+        // Given
+        Match valid = scheduledMatch(1L, 1L, 2L, MATCHDAY);
+        Match deletedTeam = scheduledMatch(2L, 3L, 4L, MATCHDAY);
+        when(matchRepository.findAllById(anyList())).thenReturn(List.of(valid, deletedTeam));
+        givenTeamsInTournament(List.of(1L, 2L, 3L, 4L), Set.of(1L, 2L, 3L));
+
+        // When
+        List<MatchResultReport> reports = service.submit(new SubmitMatchdayResultsCommand(TOURNAMENT_ID, MATCHDAY,
+                List.of(new MatchResultEntry(1L, 2, 0), new MatchResultEntry(2L, 1, 1))));
+
+        // Then
+        assertEquals(List.of(ResultStatus.SET, ResultStatus.REJECTED),
+                reports.stream().map(MatchResultReport::status).toList());
+        assertTrue(reports.get(1).error().contains("Team with ID 4"));
+        assertEquals(MatchStatus.SCHEDULED, deletedTeam.getStatus());
+        verify(tournamentTeams).applyResultDeltas(List.of(new MatchResultDelta(1L, 2L, null, new MatchScore(2, 0))));
+        verify(matchRepository).saveAll(List.of(valid));
+    }
+
+    @Test
+    @DisplayName("Should not touch teams or save anything when every result is rejected")
+    void shouldSkipWritesWhenEveryResultIsRejected() {
+        // Given
+        when(matchRepository.findAllById(anyList())).thenReturn(List.of());
+        givenTeamsInTournament(List.of(), Set.of());
+
+        // When
+        List<MatchResultReport> reports = service.submit(new SubmitMatchdayResultsCommand(TOURNAMENT_ID, MATCHDAY,
+                List.of(new MatchResultEntry(1L, 2, 0))));
+
+        // Then
+        assertEquals(ResultStatus.REJECTED, reports.get(0).status());
+        verifyNoInteractions(tournamentTeams, domainEventPublisher);
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should not save matches when a team update fails")
+    void shouldNotSaveMatchesWhenTeamUpdateFails() {
+        // Given
+        when(matchRepository.findAllById(anyList())).thenReturn(List.of(scheduledMatch(1L, 1L, 2L, MATCHDAY)));
+        givenTeamsInTournament(List.of(1L, 2L), Set.of(1L, 2L));
+        doThrow(new IllegalStateException("boom")).when(tournamentTeams).applyResultDeltas(anyList());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> service.submit(new SubmitMatchdayResultsCommand(
+                TOURNAMENT_ID, MATCHDAY, List.of(new MatchResultEntry(1L, 2, 0)))));
+        verify(matchRepository, never()).saveAll(anyList());
+        verifyNoInteractions(domainEventPublisher);
+    }
+}
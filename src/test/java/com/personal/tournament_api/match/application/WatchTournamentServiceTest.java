@@ -0,0 +1,45 @@
+package com.personal.tournament_api.match.application;
+
+import com.personal.tournament_api.match.domain.ports.MatchTournamentPort;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("WatchTournamentService Tests")
+@ExtendWith(MockitoExtension.class)
+class WatchTournamentServiceTest {
+
+    private static final Long TOURNAMENT_ID = 10L;
+
+    @Mock private MatchTournamentPort matchTournamentPort;
+
+    @InjectMocks
+    private WatchTournamentService service;
+
+    @Test
+    @DisplayName("Should check that the tournament exists")
+    void shouldCheckTournamentExists() {
+        // When
+        service.watch(TOURNAMENT_ID);
+
+        // Then
+        verify(matchTournamentPort).ensureTournamentExists(TOURNAMENT_ID);
+    }
+
+    @Test
+    @DisplayName("Should propagate the not-found error of an unknown tournament")
+    void shouldPropagateNotFoundForUnknownTournament() {
+        // Given
+        doThrow(new TournamentNotFoundException(TOURNAMENT_ID)).when(matchTournamentPort).ensureTournamentExists(TOURNAMENT_ID);
+
+        // When & Then
+        assertThrows(TournamentNotFoundException.class, () -> service.watch(TOURNAMENT_ID));
+    }
+}
@@ -408,6 +408,60 @@ class MatchDomainExceptionsTest {
         }
     }
 
+    @Nested
+    @DisplayName("Fixture And Matchday Exceptions Tests")
+    class FixtureAndMatchdayExceptionsTests {
+
+        @Test
+        @DisplayName("Should report a conflict when the tournament already has matches")
+        void shouldReportConflictWhenFixtureAlreadyExists() {
+            // When
+            FixtureAlreadyExistsException exception = new FixtureAlreadyExistsException(5L);
+
+            // Then
+            assertInstanceOf(MatchDomainException.class, exception);
+            assertTrue(exception.getMessage().contains("5"));
+            assertEquals(DomainErrorType.CONFLICT, exception.getErrorType());
+        }
+
+        @Test
+        @DisplayName("Should report a rule violation when there are not enough teams")
+        void shouldReportRuleViolationWhenNotEnoughTeams() {
+            // When
+            NotEnoughTeamsForFixtureException exception = new NotEnoughTeamsForFixtureException(5L, 1);
+
+            // Then
+            assertInstanceOf(MatchDomainException.class, exception);
+            assertTrue(exception.getMessage().contains("1 team"));
+            assertEquals(DomainErrorType.RULE_VIOLATION, exception.getErrorType());
+        }
+
+        @Test
+        @DisplayName("Should report a rule violation when a match is outside the matchday")
+        void shouldReportRuleViolationWhenMatchNotInMatchday() {
+            // When
+            MatchNotInMatchdayException exception = new MatchNotInMatchdayException(7L, 3);
+
+            // Then
+            assertInstanceOf(MatchDomainException.class, exception);
+            assertTrue(exception.getMessage().contains("matchday 3"));
+            assertEquals(DomainErrorType.RULE_VIOLATION, exception.getErrorType());
+        }
+
+        @Test
+        @DisplayName("Should report a rule violation when a match team is not in the tournament")
+        void shouldReportRuleViolationWhenTeamNotInTournament() {
+            // When
+            MatchTeamNotInTournamentException exception = new MatchTeamNotInTournamentException(4L, 10L);
+
+            // Then
+            assertInstanceOf(MatchDomainException.class, exception);
+            assertTrue(exception.getMessage().contains("Team with ID 4"));
+            assertTrue(exception.getMessage().contains("tournament 10"));
+            assertEquals(DomainErrorType.RULE_VIOLATION, exception.getErrorType());
+        }
+    }
+
     @Nested
     @DisplayName("Exception Hierarchy Tests")
     class ExceptionHierarchyTests {
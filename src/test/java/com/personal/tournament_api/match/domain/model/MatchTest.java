@@ -188,6 +188,90 @@ class MatchTest {
         }
     }
 
+    @Nested
+    @DisplayName("Restore Tests")
+    class RestoreTests {
+
+        @Test
+        @DisplayName("Should restore a finished match with its result")
+        void shouldRestoreFinishedMatch() {
+            // When
+            Match match = Match.restore(10L, 1L, 2L, 3, 1, VALID_DATE, "Stadium A", MatchStatus.FINISHED, 4);
+
+            // Then
+            assertNull(match.getId());
+            assertEquals(3, match.getHomeTeamScore());
+            assertEquals(1, match.getAwayTeamScore());
+            assertEquals(MatchStatus.FINISHED, match.getStatus());
+            assertEquals(4, match.getMatchday());
+        }
+
+        @Test
+        @DisplayName("Should restore a postponed match without score")
+        void shouldRestorePostponedMatch() {
+            Match match = Match.restore(10L, 1L, 2L, null, null, VALID_DATE, "Stadium A", MatchStatus.POSTPONED, null);
+
+            assertEquals(MatchStatus.POSTPONED, match.getStatus());
+            assertFalse(match.hasResult());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when teams are the same")
+        void shouldThrowExceptionWhenTeamsAreTheSame() {
+            assertThrows(InvalidMatchTeamsException.class, () ->
+                Match.restore(10L, 1L, 1L, null, null, VALID_DATE, "Stadium A", MatchStatus.SCHEDULED, null)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when match date is null")
+        void shouldThrowExceptionWhenMatchDateIsNull() {
+            assertThrows(InvalidMatchDateException.class, () ->
+                Match.restore(10L, 1L, 2L, null, null, null, "Stadium A", MatchStatus.SCHEDULED, null)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when matchday is not positive")
+        void shouldThrowExceptionWhenMatchdayIsNotPositive() {
+            assertThrows(InvalidMatchDataException.class, () ->
+                Match.restore(10L, 1L, 2L, null, null, VALID_DATE, "Stadium A", MatchStatus.SCHEDULED, 0)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when status is null")
+        void shouldThrowExceptionWhenStatusIsNull() {
+            assertThrows(InvalidMatchDataException.class, () ->
+                Match.restore(10L, 1L, 2L, null, null, VALID_DATE, "Stadium A", null, null)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when a finished match has no score")
+        void shouldThrowExceptionWhenFinishedMatchHasNoScore() {
+            assertThrows(InvalidMatchDataException.class, () ->
+                Match.restore(10L, 1L, 2L, 2, null, VALID_DATE, "Stadium A", MatchStatus.FINISHED, null)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when a finished match has a negative score")
+        void shouldThrowExceptionWhenFinishedMatchHasNegativeScore() {
+            assertThrows(InvalidMatchScoreException.class, () ->
+                Match.restore(10L, 1L, 2L, -1, 0, VALID_DATE, "Stadium A", MatchStatus.FINISHED, null)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when an unfinished match has a score")
+        void shouldThrowExceptionWhenUnfinishedMatchHasScore() {
+            assertThrows(InvalidMatchDataException.class, () ->
+                Match.restore(10L, 1L, 2L, 1, 0, VALID_DATE, "Stadium A", MatchStatus.SCHEDULED, null)
+            );
+        }
+    }
+
     @Nested
     @DisplayName("Set Match Result Tests")
     class SetMatchResultTests {
@@ -2,9 +2,12 @@ package com.personal.tournament_api.match.domain.services;
 
 import com.personal.tournament_api.match.domain.exceptions.InvalidMatchDataException;
 import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchResultDelta;
 import com.personal.tournament_api.match.domain.model.MatchResultOutcome;
+import com.personal.tournament_api.match.domain.model.MatchScore;
 import com.personal.tournament_api.match.domain.model.MatchStatus;
 import com.personal.tournament_api.match.domain.ports.MatchTeamPort;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort.TournamentTeams;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,10 +17,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @DisplayName("MatchResultService Unit Tests")
@@ -25,6 +31,7 @@ import static org.mockito.Mockito.*;
 class MatchResultServiceTest {
 
     @Mock private MatchTeamPort teamPort;
+    @Mock private TournamentTeams tournamentTeams;
 
     private MatchResultService matchResultService;
     private static final LocalDateTime VALID_DATE = LocalDateTime.now().plusDays(1);
@@ -56,11 +63,9 @@ class MatchResultServiceTest {
             assertEquals(1, match.getAwayTeamScore());
             assertEquals(MatchStatus.FINISHED, match.getStatus());
 
-            verify(teamPort).validateBelongsToTournament(HOME_TEAM_ID, TOURNAMENT_ID);
-            verify(teamPort).validateBelongsToTournament(AWAY_TEAM_ID, TOURNAMENT_ID);
-            verify(teamPort).recordMatchResult(HOME_TEAM_ID, 3, 1);
-            verify(teamPort).recordMatchResult(AWAY_TEAM_ID, 1, 3);
-            verify(teamPort, never()).reverseMatchResult(anyLong(), anyInt(), anyInt());
+            verify(teamPort).applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                    null, new MatchScore(3, 1));
+            verifyNoMoreInteractions(teamPort);
         }
 
         @Test
@@ -74,9 +79,8 @@ class MatchResultServiceTest {
 
             // Then
             assertFalse(outcome.isCorrection());
-            verify(teamPort).recordMatchResult(HOME_TEAM_ID, 2, 2);
-            verify(teamPort).recordMatchResult(AWAY_TEAM_ID, 2, 2);
-            verify(teamPort, never()).reverseMatchResult(anyLong(), anyInt(), anyInt());
+            verify(teamPort).applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                    null, new MatchScore(2, 2));
         }
 
         @Test
@@ -89,8 +93,8 @@ class MatchResultServiceTest {
             matchResultService.registerResult(match, teamPort, 0, 0);
 
             // Then
-            verify(teamPort).recordMatchResult(HOME_TEAM_ID, 0, 0);
-            verify(teamPort).recordMatchResult(AWAY_TEAM_ID, 0, 0);
+            verify(teamPort).applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                    null, new MatchScore(0, 0));
         }
     }
 
@@ -113,13 +117,10 @@ class MatchResultServiceTest {
             assertEquals(2, outcome.previousHomeScore());
             assertEquals(2, outcome.previousAwayScore());
 
-            // First reverses previous draw stats
-            verify(teamPort).reverseMatchResult(HOME_TEAM_ID, 2, 2);
-            verify(teamPort).reverseMatchResult(AWAY_TEAM_ID, 2, 2);
-
-            // Then applies new victory stats
-            verify(teamPort).recordMatchResult(HOME_TEAM_ID, 3, 1);
-            verify(teamPort).recordMatchResult(AWAY_TEAM_ID, 1, 3);
+            // Reverses previous draw stats and applies new victory stats in a single call
+            verify(teamPort).applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                    new MatchScore(2, 2), new MatchScore(3, 1));
+            verifyNoMoreInteractions(teamPort);
         }
 
         @Test
@@ -134,10 +135,8 @@ class MatchResultServiceTest {
 
             // Then
             assertTrue(outcome.isCorrection());
-            verify(teamPort).reverseMatchResult(HOME_TEAM_ID, 3, 0);
-            verify(teamPort).reverseMatchResult(AWAY_TEAM_ID, 0, 3);
-            verify(teamPort).recordMatchResult(HOME_TEAM_ID, 0, 2);
-            verify(teamPort).recordMatchResult(AWAY_TEAM_ID, 2, 0);
+            verify(teamPort).applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                    new MatchScore(3, 0), new MatchScore(0, 2));
         }
     }
 
@@ -155,8 +154,8 @@ class MatchResultServiceTest {
             matchResultService.registerResult(match, teamPort, 3, 1);
 
             // Then
-            verify(teamPort).validateBelongsToTournament(HOME_TEAM_ID, TOURNAMENT_ID);
-            verify(teamPort).validateBelongsToTournament(AWAY_TEAM_ID, TOURNAMENT_ID);
+            verify(teamPort).applyResultDelta(eq(TOURNAMENT_ID), eq(HOME_TEAM_ID), eq(AWAY_TEAM_ID),
+                    isNull(), any(MatchScore.class));
         }
 
         @Test
@@ -165,13 +164,12 @@ class MatchResultServiceTest {
             // Given
             Match match = Match.reconstitute(1L, TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID, null, null, VALID_DATE, "Stadium A", MatchStatus.SCHEDULED, null);
             doThrow(new InvalidMatchDataException("Home team does not belong to tournament"))
-                    .when(teamPort).validateBelongsToTournament(HOME_TEAM_ID, TOURNAMENT_ID);
+                    .when(teamPort).applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                            null, new MatchScore(3, 1));
 
             // When & Then
             assertThrows(InvalidMatchDataException.class,
                     () -> matchResultService.registerResult(match, teamPort, 3, 1));
-
-            verify(teamPort, never()).recordMatchResult(anyLong(), anyInt(), anyInt());
         }
     }
 
@@ -190,10 +188,8 @@ class MatchResultServiceTest {
             matchResultService.prepareMatchForDeletion(match, teamPort);
 
             // Then
-            verify(teamPort).validateBelongsToTournament(HOME_TEAM_ID, TOURNAMENT_ID);
-            verify(teamPort).validateBelongsToTournament(AWAY_TEAM_ID, TOURNAMENT_ID);
-            verify(teamPort).reverseMatchResult(HOME_TEAM_ID, 3, 1);
-            verify(teamPort).reverseMatchResult(AWAY_TEAM_ID, 1, 3);
+            verify(teamPort).applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                    new MatchScore(3, 1), null);
         }
 
         @Test
@@ -225,8 +221,8 @@ class MatchResultServiceTest {
             matchResultService.revertMatchResult(match, teamPort);
 
             // Then
-            verify(teamPort).reverseMatchResult(HOME_TEAM_ID, 2, 0);
-            verify(teamPort).reverseMatchResult(AWAY_TEAM_ID, 0, 2);
+            verify(teamPort).applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                    new MatchScore(2, 0), null);
         }
 
         @Test
@@ -242,4 +238,52 @@ class MatchResultServiceTest {
             verifyNoInteractions(teamPort);
         }
     }
+
+    @Nested
+    @DisplayName("Record Result Tests")
+    class RecordResultTests {
+
+        @Test
+        @DisplayName("Should set the result and queue the team delta without calling the team port")
+        void shouldSetResultAndQueueDelta() {
+            // Given
+            Match match = Match.reconstitute(1L, TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID, 2, 0, VALID_DATE, "Stadium A", MatchStatus.FINISHED, null);
+            List<MatchResultDelta> pendingDeltas = new ArrayList<>();
+
+            // When
+            MatchResultOutcome outcome = matchResultService.recordResult(match, 1, 1, pendingDeltas);
+
+            // Then
+            assertTrue(outcome.isCorrection());
+            assertEquals(1, match.getHomeTeamScore());
+            assertEquals(List.of(new MatchResultDelta(HOME_TEAM_ID, AWAY_TEAM_ID, new MatchScore(2, 0), new MatchScore(1, 1))),
+                    pendingDeltas);
+            verifyNoInteractions(teamPort);
+        }
+
+        @Test
+        @DisplayName("Should apply all queued deltas to the loaded teams in a single call")
+        void shouldApplyQueuedDeltasInOneCall() {
+            // Given
+            List<MatchResultDelta> pendingDeltas = List.of(
+                    new MatchResultDelta(HOME_TEAM_ID, AWAY_TEAM_ID, null, new MatchScore(1, 0)),
+                    new MatchResultDelta(3L, 4L, null, new MatchScore(0, 0)));
+
+            // When
+            matchResultService.applyPendingDeltas(pendingDeltas, tournamentTeams);
+
+            // Then
+            verify(tournamentTeams, times(1)).applyResultDeltas(pendingDeltas);
+        }
+
+        @Test
+        @DisplayName("Should not touch the teams when nothing is queued")
+        void shouldSkipTeamsWhenNothingIsQueued() {
+            // When
+            matchResultService.applyPendingDeltas(List.of(), tournamentTeams);
+
+            // Then
+            verifyNoInteractions(tournamentTeams);
+        }
+    }
 }
@@ -0,0 +1,157 @@
+package com.personal.tournament_api.match.domain.services;
+
+import com.personal.tournament_api.match.domain.model.FixtureSchedule;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RoundRobinScheduler Unit Tests")
+class RoundRobinSchedulerTest {
+
+    private static final Long TOURNAMENT_ID = 10L;
+    private static final LocalDateTime FIRST_MATCH_DATE = LocalDateTime.of(2025, 1, 4, 16, 0);
+
+    private RoundRobinScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RoundRobinScheduler();
+    }
+
+    @Nested
+    @DisplayName("Pairing Tests")
+    class PairingTests {
+
+        @Test
+        @DisplayName("Should schedule every ordered pair exactly once in a 20-team double round-robin")
+        void shouldScheduleDoubleRoundRobin() {
+            // Given
+            List<Long> teamIds = teamIds(20);
+
+            // When
+            List<Match> matches = scheduler.schedule(TOURNAMENT_ID, teamIds, schedule(List.of("Stadium A"), true));
+
+            // Then
+            assertEquals(380, matches.size());
+            Set<String> orderedPairs = matches.stream()
+                    .map(match -> match.getHomeTeamId() + "-" + match.getAwayTeamId())
+                    .collect(Collectors.toSet());
+            assertEquals(380, orderedPairs.size());
+            assertEquals(38, matches.stream().map(Match::getMatchday).distinct().count());
+            assertTrue(matches.stream().allMatch(match ->
+                    match.getStatus() == MatchStatus.SCHEDULED && TOURNAMENT_ID.equals(match.getTournamentId())));
+        }
+
+        @Test
+        @DisplayName("Should have every team play once per matchday and half its games at home")
+        void shouldPlayOncePerMatchdayWithBalancedHomeGames() {
+            // Given
+            List<Long> teamIds = teamIds(20);
+
+            // When
+            List<Match> matches = scheduler.schedule(TOURNAMENT_ID, teamIds, schedule(List.of("Stadium A"), true));
+
+            // Then
+            Map<Integer, List<Match>> byMatchday = matches.stream().collect(Collectors.groupingBy(Match::getMatchday));
+            byMatchday.values().forEach(matchday -> {
+                Set<Long> playing = new HashSet<>();
+                matchday.forEach(match -> {
+                    assertTrue(playing.add(match.getHomeTeamId()));
+                    assertTrue(playing.add(match.getAwayTeamId()));
+                });
+                assertEquals(20, playing.size());
+            });
+            Map<Long, Integer> homeGames = new HashMap<>();
+            matches.forEach(match -> homeGames.merge(match.getHomeTeamId(), 1, Integer::sum));
+            teamIds.forEach(teamId -> assertEquals(19, homeGames.get(teamId)));
+        }
+
+        @Test
+        @DisplayName("Should give one team a rest each matchday when the count is odd")
+        void shouldRestOneTeamPerMatchdayWhenOdd() {
+            // Given
+            List<Long> teamIds = teamIds(5);
+
+            // When
+            List<Match> matches = scheduler.schedule(TOURNAMENT_ID, teamIds, schedule(List.of("Stadium A"), false));
+
+            // Then
+            assertEquals(10, matches.size());
+            Map<Integer, List<Match>> byMatchday = matches.stream().collect(Collectors.groupingBy(Match::getMatchday));
+            assertEquals(5, byMatchday.size());
+            byMatchday.values().forEach(matchday -> assertEquals(2, matchday.size()));
+            Set<String> pairs = matches.stream()
+                    .map(match -> Math.min(match.getHomeTeamId(), match.getAwayTeamId()) + "-"
+                            + Math.max(match.getHomeTeamId(), match.getAwayTeamId()))
+                    .collect(Collectors.toSet());
+            assertEquals(10, pairs.size());
+        }
+
+        @Test
+        @DisplayName("Should mirror the first leg with home and away swapped")
+        void shouldMirrorFirstLegInSecondLeg() {
+            // Given
+            List<Long> teamIds = teamIds(4);
+
+            // When
+            List<Match> matches = scheduler.schedule(TOURNAMENT_ID, teamIds, schedule(List.of("Stadium A"), true));
+
+            // Then
+            for (Match first : matches.subList(0, 6)) {
+                Match second = matches.stream()
+                        .filter(match -> match.getMatchday() == first.getMatchday() + 3)
+                        .filter(match -> match.getHomeTeamId().equals(first.getAwayTeamId()))
+                        .findFirst()
+                        .orElseThrow();
+                assertEquals(first.getHomeTeamId(), second.getAwayTeamId());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Calendar Tests")
+    class CalendarTests {
+
+        @Test
+        @DisplayName("Should space matchdays and share fields across kick-off slots")
+        void shouldAssignDatesAndFields() {
+            // Given
+            List<Long> teamIds = teamIds(6);
+            FixtureSchedule schedule = new FixtureSchedule(FIRST_MATCH_DATE, 7, 120, List.of("North", "South"), false);
+
+            // When
+            List<Match> matches = scheduler.schedule(TOURNAMENT_ID, teamIds, schedule);
+
+            // Then
+            List<Match> firstMatchday = matches.subList(0, 3);
+            assertEquals(List.of("North", "South", "North"), firstMatchday.stream().map(Match::getField).toList());
+            assertEquals(List.of(FIRST_MATCH_DATE, FIRST_MATCH_DATE, FIRST_MATCH_DATE.plusHours(2)),
+                    firstMatchday.stream().map(Match::getMatchDate).toList());
+            Match secondMatchday = matches.get(3);
+            assertEquals(2, secondMatchday.getMatchday());
+            assertEquals(FIRST_MATCH_DATE.plusDays(7), secondMatchday.getMatchDate());
+        }
+    }
+
+    private static FixtureSchedule schedule(List<String> fields, boolean doubleRoundRobin) {
+        return new FixtureSchedule(FIRST_MATCH_DATE, 7, 120, fields, doubleRoundRobin);
+    }
+
+    private static List<Long> teamIds(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.personal.tournament_api.match.infrastructure.adapters.persistence;
+
+import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
+import com.personal.tournament_api.match.domain.model.MatchStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MatchCountCache Unit Tests")
+class MatchCountCacheTest {
+
+    private static final Long TOURNAMENT_ID = 10L;
+    private static final Long OTHER_TOURNAMENT_ID = 20L;
+
+    private MatchCountCache cache;
+    private AtomicInteger counts;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MatchCountCache(1_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        counts = new AtomicInteger();
+    }
+
+    private LongSupplier counterOf(long total) {
+        return () -> {
+            counts.incrementAndGet();
+            return total;
+        };
+    }
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should count once per tournament and criteria")
+        void shouldCountOncePerTournamentAndCriteria() {
+            // Given
+            MatchSearchCriteria criteria = MatchSearchCriteria.withStatus(MatchStatus.FINISHED, null);
+
+            // When
+            long first = cache.count(TOURNAMENT_ID, criteria, counterOf(7));
+            long second = cache.count(TOURNAMENT_ID, MatchSearchCriteria.withStatus(MatchStatus.FINISHED, null), counterOf(7));
+
+            // Then
+            assertEquals(7, first);
+            assertEquals(7, second);
+            assertEquals(1, counts.get());
+        }
+
+        @Test
+        @DisplayName("Should keep separate counts for different criteria")
+        void shouldKeepSeparateCountsForDifferentCriteria() {
+            // When
+            long all = cache.count(TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(10));
+            long matchday = cache.count(TOURNAMENT_ID, MatchSearchCriteria.withStatus(null, 2), counterOf(4));
+
+            // Then
+            assertEquals(10, all);
+            assertEquals(4, matchday);
+            assertEquals(2, counts.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should recount only the tournament whose matches changed")
+        void shouldRecountOnlyChangedTournament() {
+            // Given
+            cache.count(TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(10));
+            cache.count(OTHER_TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(3));
+
+            // When
+            cache.tournamentChanged(TOURNAMENT_ID);
+            long changed = cache.count(TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(11));
+            long unchanged = cache.count(OTHER_TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(3));
+
+            // Then
+            assertEquals(11, changed);
+            assertEquals(3, unchanged);
+            assertEquals(3, counts.get());
+        }
+
+        @Test
+        @DisplayName("Should recount every tournament after an untargeted change")
+        void shouldRecountEveryTournamentAfterUntargetedChange() {
+            // Given
+            cache.count(TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(10));
+            cache.count(OTHER_TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(3));
+
+            // When
+            cache.allChanged();
+            cache.count(TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(9));
+            cache.count(OTHER_TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(3));
+
+            // Then
+            assertEquals(4, counts.get());
+        }
+
+        @Test
+        @DisplayName("Should not keep a count taken while a write was committed")
+        void shouldNotKeepCountTakenWhileWriteWasCommitted() {
+            // Given — a write commits while the count is running
+            LongSupplier racingCounter = () -> {
+                counts.incrementAndGet();
+                cache.tournamentChanged(TOURNAMENT_ID);
+                return 10;
+            };
+
+            // When
+            cache.count(TOURNAMENT_ID, MatchSearchCriteria.empty(), racingCounter);
+            cache.count(TOURNAMENT_ID, MatchSearchCriteria.empty(), counterOf(11));
+
+            // Then
+            assertEquals(2, counts.get());
+        }
+    }
+}
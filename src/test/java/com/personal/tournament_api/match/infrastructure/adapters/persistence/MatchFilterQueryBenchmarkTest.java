@@ -0,0 +1,329 @@
+package com.personal.tournament_api.match.infrastructure.adapters.persistence;
+
+import com.personal.tournament_api.match.domain.model.CursorPage;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
+import com.personal.tournament_api.match.domain.model.MatchStatus;
+import com.personal.tournament_api.match.domain.model.PageRequest;
+import com.personal.tournament_api.match.infrastructure.adapters.persistence.mapper.MatchPersistenceMapperImpl;
+import com.personal.tournament_api.match.infrastructure.adapters.persistence.mapper.PaginationMapper;
+import com.personal.tournament_api.match.infrastructure.adapters.persistence.repository.MatchJpaRepository;
+import com.personal.tournament_api.match.infrastructure.adapters.persistence.repository.MatchSpecifications;
+import com.personal.tournament_api.shared.infrastructure.persistence.ChunkedDelete;
+import com.personal.tournament_api.shared.infrastructure.persistence.StreamedRead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seeds an H2 database (PostgreSQL mode) with a league-sized matches table and checks, for every
+ * {@link MatchSearchCriteria} combination, that the filter query is served by a tournament-prefixed
+ * index and stays under a p99 latency budget. The plan is taken from the SQL and bind values Hibernate
+ * actually sends for the specification, captured at the JDBC level, so it follows any change to
+ * {@link MatchSpecifications} or the mapping. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MatchJpaAdapter.class, MatchCountCache.class, MatchPersistenceMapperImpl.class, PaginationMapper.class,
+        ChunkedDelete.class, StreamedRead.class, SimpleMeterRegistry.class,
+        MatchFilterQueryBenchmarkTest.CapturingDataSourceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:match-filter-benchmark;MODE=PostgreSQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("Match filter query benchmark")
+class MatchFilterQueryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchFilterQueryBenchmarkTest.class);
+    private static final QueryCapture capture = new QueryCapture();
+
+    private static final int TOURNAMENTS = Integer.getInteger("benchmark.tournaments", 40);
+    private static final int MATCHES_PER_TOURNAMENT = Integer.getInteger("benchmark.matchesPerTournament", 500);
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = Integer.getInteger("benchmark.iterations", 100);
+    private static final long MAX_P99_MILLIS = Long.getLong("benchmark.maxP99Millis", 200);
+
+    private static final Long TOURNAMENT_ID = 7L;
+    private static final LocalDate SEASON_START = LocalDate.of(2025, 1, 4);
+    private static final LocalDate SAMPLE_DATE = SEASON_START.plusDays(14);
+
+    private static boolean seeded;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MatchJpaRepository matchJpaRepository;
+
+    @Autowired
+    private MatchJpaAdapter matchJpaAdapter;
+
+    @Autowired
+    private PaginationMapper paginationMapper;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        Random random = new Random(42);
+        MatchStatus[] statuses = MatchStatus.values();
+        List<Object[]> rows = new ArrayList<>(MATCHES_PER_TOURNAMENT);
+        long id = 0;
+        for (long tournamentId = 1; tournamentId <= TOURNAMENTS; tournamentId++) {
+            rows.clear();
+            for (int i = 0; i < MATCHES_PER_TOURNAMENT; i++) {
+                int matchday = i / 10 + 1;
+                LocalDateTime matchDate = SEASON_START.plusDays((matchday - 1) * 7L).atTime(12 + random.nextInt(8), 0);
+                rows.add(new Object[]{++id, tournamentId, random.nextInt(20) + 1L, random.nextInt(20) + 21L,
+                        Timestamp.valueOf(matchDate), "Field " + random.nextInt(5),
+                        statuses[random.nextInt(statuses.length)].name(), matchday});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO matches (id, tournament_id, home_team_id, away_team_id, match_date, field, status, matchday) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+        jdbcTemplate.execute("ANALYZE");
+        seeded = true;
+    }
+
+    @TestFactory
+    Stream<DynamicTest> filterQueriesUseTournamentIndexes() {
+        return criteriaCombinations().entrySet().stream()
+                .map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> benchmark(entry.getKey(), entry.getValue())));
+    }
+
+    @Test
+    @DisplayName("cursor pages follow offset order and deep pages cost the same as the first")
+    void cursorPaginationSeeksInsteadOfSkipping() {
+        int size = 10;
+        List<Long> offsetIds = new ArrayList<>();
+        int pages = MATCHES_PER_TOURNAMENT / size;
+        for (int page = 0; page < pages; page++) {
+            PageRequest pageRequest = PageRequest.of(page, size, "matchDate", PageRequest.SortDirection.ASC, "id");
+            matchJpaAdapter.findByTournamentIdWithFilters(TOURNAMENT_ID, MatchSearchCriteria.empty(), pageRequest)
+                    .getContent().forEach(match -> offsetIds.add(match.getId()));
+        }
+
+        List<Long> cursorIds = new ArrayList<>();
+        CursorPageRequest request = CursorPageRequest.first(size, PageRequest.SortDirection.ASC);
+        long firstPageNanos = 0;
+        long lastPageNanos = 0;
+        while (true) {
+            long start = System.nanoTime();
+            CursorPage<Match> page = matchJpaAdapter.findByTournamentIdAfterCursor(TOURNAMENT_ID, MatchSearchCriteria.empty(), request);
+            long elapsed = System.nanoTime() - start;
+            if (cursorIds.isEmpty()) {
+                firstPageNanos = elapsed;
+            }
+            lastPageNanos = elapsed;
+            page.getContent().forEach(match -> cursorIds.add(match.getId()));
+            if (!page.hasNext()) {
+                break;
+            }
+            request = CursorPageRequest.after(page.getNextCursor(), size, PageRequest.SortDirection.ASC);
+        }
+
+        log.info("[benchmark] cursor walk of {} pages: first={} ms  last={} ms",
+                pages, millis(firstPageNanos), millis(lastPageNanos));
+        assertEquals(MATCHES_PER_TOURNAMENT, cursorIds.size());
+        assertEquals(offsetIds, cursorIds);
+    }
+
+    private void benchmark(String name, MatchSearchCriteria criteria) {
+        Pageable pageable = paginationMapper.toSpringPageable(PageRequest.of(0, 100));
+        String plan = explain(criteria, pageable);
+        assertTrue(plan.contains("IDX_MATCHES_TOURNAMENT_"), () -> name + " is not using a tournament index:\n" + plan);
+        assertFalse(plan.contains("tableScan"), () -> name + " falls back to a table scan:\n" + plan);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            matchJpaRepository.findAll(MatchSpecifications.fromCriteria(TOURNAMENT_ID, criteria), pageable);
+        }
+
+        long[] nanos = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            matchJpaRepository.findAll(MatchSpecifications.fromCriteria(TOURNAMENT_ID, criteria), pageable);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long p50 = nanos[MEASURED_ITERATIONS / 2];
+        long p99 = nanos[(int) Math.ceil(MEASURED_ITERATIONS * 0.99) - 1];
+
+        String index = plan.substring(plan.indexOf("/*") + 2, plan.indexOf("*/")).trim();
+        log.info("[benchmark] {} p50={} ms  p99={} ms  index={}", name, millis(p50), millis(p99), index);
+        assertTrue(p99 <= MAX_P99_MILLIS * 1_000_000,
+                () -> name + " p99 " + millis(p99) + " ms exceeds " + MAX_P99_MILLIS + " ms (index " + index + ")");
+    }
+
+    /**
+     * Runs the filter query once, captures the page select Hibernate sends for it (the count query, when
+     * there is one, comes after) and asks H2 for the plan of that exact statement with the same bind values.
+     */
+    private String explain(MatchSearchCriteria criteria, Pageable pageable) {
+        capture.start();
+        try {
+            matchJpaRepository.findAll(MatchSpecifications.fromCriteria(TOURNAMENT_ID, criteria), pageable);
+        } finally {
+            capture.stop();
+        }
+        CapturedQuery query = capture.firstQuery();
+        assertNotNull(query, "the filter query did not reach the database");
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query.sql(), String.class,
+                query.parameters().toArray()));
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static Map<String, MatchSearchCriteria> criteriaCombinations() {
+        LocalDate rangeEnd = SAMPLE_DATE.plusDays(21);
+        Map<String, MatchSearchCriteria> combinations = new LinkedHashMap<>();
+        combinations.put("tournament only", MatchSearchCriteria.empty());
+        combinations.put("specific date", MatchSearchCriteria.withSpecificDate(SAMPLE_DATE, null, null));
+        combinations.put("date range", MatchSearchCriteria.withDateRange(SAMPLE_DATE, rangeEnd, null, null));
+        combinations.put("status", MatchSearchCriteria.withStatus(MatchStatus.FINISHED, null));
+        combinations.put("matchday", MatchSearchCriteria.withStatus(null, 3));
+        combinations.put("status + matchday", MatchSearchCriteria.withStatus(MatchStatus.SCHEDULED, 3));
+        combinations.put("specific date + status", MatchSearchCriteria.withSpecificDate(SAMPLE_DATE, MatchStatus.FINISHED, null));
+        combinations.put("specific date + matchday", MatchSearchCriteria.withSpecificDate(SAMPLE_DATE, null, 3));
+        combinations.put("date range + status", MatchSearchCriteria.withDateRange(SAMPLE_DATE, rangeEnd, MatchStatus.FINISHED, null));
+        combinations.put("date range + matchday", MatchSearchCriteria.withDateRange(SAMPLE_DATE, rangeEnd, null, 3));
+        combinations.put("date range + status + matchday", MatchSearchCriteria.withDateRange(SAMPLE_DATE, rangeEnd, MatchStatus.POSTPONED, 4));
+        return combinations;
+    }
+
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? capture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private record CapturedQuery(String sql, List<Object> parameters) {}
+
+    /**
+     * Records the SQL and bind values of the queries executed by the capturing thread only, so the seeding
+     * and background jobs are left out.
+     */
+    private static final class QueryCapture {
+        private volatile Thread capturingThread;
+        private final List<CapturedQuery> queries = new ArrayList<>();
+
+        void start() {
+            queries.clear();
+            capturingThread = Thread.currentThread();
+        }
+
+        void stop() {
+            capturingThread = null;
+        }
+
+        CapturedQuery firstQuery() {
+            return queries.isEmpty() ? null : queries.get(0);
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    return wrap(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement wrap(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.put(index, args[1]);
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if (name.equals("executeQuery") && Thread.currentThread() == capturingThread) {
+                    queries.add(new CapturedQuery(sql, new ArrayList<>(parameters.values())));
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, Object target, TargetHandler handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @FunctionalInterface
+        private interface TargetHandler {
+            Object handle(Object target, Method method, Object[] args) throws Throwable;
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package com.personal.tournament_api.match.infrastructure.adapters.persistence;
 
+import com.personal.tournament_api.match.domain.model.CursorPage;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
 import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchCursor;
+import com.personal.tournament_api.match.domain.model.MatchSearchCriteria;
 import com.personal.tournament_api.match.domain.model.MatchStatus;
+import com.personal.tournament_api.match.domain.model.Page;
+import com.personal.tournament_api.match.domain.model.PageRequest;
 import com.personal.tournament_api.match.infrastructure.adapters.persistence.entity.MatchEntity;
 import com.personal.tournament_api.match.infrastructure.adapters.persistence.mapper.MatchPersistenceMapper;
+import com.personal.tournament_api.match.infrastructure.adapters.persistence.mapper.PaginationMapper;
 import com.personal.tournament_api.match.infrastructure.adapters.persistence.repository.MatchJpaRepository;
+import com.personal.tournament_api.shared.infrastructure.persistence.ChunkedDelete;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,7 +20,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -21,6 +33,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +46,15 @@ class MatchJpaAdapterTest {
     @Mock
     private MatchPersistenceMapper mapper;
 
+    @Spy
+    private PaginationMapper paginationMapper = new PaginationMapper();
+
+    @Mock
+    private MatchCountCache matchCountCache;
+
+    @Spy
+    private ChunkedDelete chunkedDelete = new ChunkedDelete(2);
+
     @InjectMocks
     private MatchJpaAdapter matchJpaAdapter;
 
@@ -68,6 +90,7 @@ class MatchJpaAdapterTest {
             verify(mapper, times(1)).toEntity(match);
             verify(matchJpaRepository, times(1)).save(entity);
             verify(mapper, times(1)).toDomain(savedEntity);
+            verify(matchCountCache).tournamentChanged(TOURNAMENT_ID);
         }
 
         @Test
@@ -119,6 +142,41 @@ class MatchJpaAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Save All Tests")
+    class SaveAllTests {
+
+        @Test
+        @DisplayName("Should save every match in one repository call and invalidate counts once per tournament")
+        void shouldSaveAllMatchesInOneCall() {
+            // Given
+            Match first = Match.reconstitute(null, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null);
+            Match second = Match.reconstitute(null, TOURNAMENT_ID, 3L, 4L, null, null, TEST_DATE, "Stadium B", MatchStatus.SCHEDULED, null);
+            List<MatchEntity> entities = List.of(
+                new MatchEntity(null, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null),
+                new MatchEntity(null, TOURNAMENT_ID, 3L, 4L, null, null, TEST_DATE, "Stadium B", MatchStatus.SCHEDULED, null));
+            List<MatchEntity> savedEntities = List.of(
+                new MatchEntity(1L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null),
+                new MatchEntity(2L, TOURNAMENT_ID, 3L, 4L, null, null, TEST_DATE, "Stadium B", MatchStatus.SCHEDULED, null));
+            List<Match> savedMatches = List.of(
+                Match.reconstitute(1L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null),
+                Match.reconstitute(2L, TOURNAMENT_ID, 3L, 4L, null, null, TEST_DATE, "Stadium B", MatchStatus.SCHEDULED, null));
+
+            when(mapper.toEntityList(List.of(first, second))).thenReturn(entities);
+            when(matchJpaRepository.saveAll(entities)).thenReturn(savedEntities);
+            when(mapper.toDomainList(savedEntities)).thenReturn(savedMatches);
+
+            // When
+            List<Match> result = matchJpaAdapter.saveAll(List.of(first, second));
+
+            // Then
+            assertEquals(savedMatches, result);
+            verify(matchJpaRepository, times(1)).saveAll(entities);
+            verify(matchJpaRepository, never()).save(any());
+            verify(matchCountCache, times(1)).tournamentChanged(TOURNAMENT_ID);
+        }
+    }
+
     @Nested
     @DisplayName("Find By Id Tests")
     class FindByIdTests {
@@ -181,6 +239,33 @@ class MatchJpaAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Find All By Id Tests")
+    class FindAllByIdTests {
+
+        @Test
+        @DisplayName("Should load all requested matches in one repository call")
+        void shouldLoadAllRequestedMatchesInOneCall() {
+            // Given
+            List<MatchEntity> entities = List.of(
+                new MatchEntity(1L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, 1),
+                new MatchEntity(2L, TOURNAMENT_ID, 3L, 4L, null, null, TEST_DATE, "Stadium B", MatchStatus.SCHEDULED, 1));
+            List<Match> matches = List.of(
+                Match.reconstitute(1L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, 1),
+                Match.reconstitute(2L, TOURNAMENT_ID, 3L, 4L, null, null, TEST_DATE, "Stadium B", MatchStatus.SCHEDULED, 1));
+            when(matchJpaRepository.findAllById(List.of(1L, 2L))).thenReturn(entities);
+            when(mapper.toDomainList(entities)).thenReturn(matches);
+
+            // When
+            List<Match> result = matchJpaAdapter.findAllById(List.of(1L, 2L));
+
+            // Then
+            assertEquals(matches, result);
+            verify(matchJpaRepository, times(1)).findAllById(List.of(1L, 2L));
+            verify(matchJpaRepository, never()).findById(any());
+        }
+    }
+
     @Nested
     @DisplayName("Find All By Tournament Id Tests")
     class FindAllByTournamentIdTests {
@@ -282,6 +367,166 @@ class MatchJpaAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Count By Team Id Tests")
+    class CountByTeamIdTests {
+
+        @Test
+        @DisplayName("Should count matches by team id without loading them")
+        void shouldCountMatchesByTeamIdWithoutLoadingThem() {
+            // Given
+            when(matchJpaRepository.countByTeamId(1L)).thenReturn(3L);
+
+            // When
+            long result = matchJpaAdapter.countByTeamId(1L);
+
+            // Then
+            assertEquals(3L, result);
+            verify(matchJpaRepository, times(1)).countByTeamId(1L);
+            verify(matchJpaRepository, never()).findAllByTeamId(any());
+            verifyNoInteractions(mapper);
+        }
+
+        @Test
+        @DisplayName("Should return zero when team has no matches")
+        void shouldReturnZeroWhenTeamHasNoMatches() {
+            // Given
+            when(matchJpaRepository.countByTeamId(999L)).thenReturn(0L);
+
+            // When
+            long result = matchJpaAdapter.countByTeamId(999L);
+
+            // Then
+            assertEquals(0L, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Exists By Tournament Id Tests")
+    class ExistsByTournamentIdTests {
+
+        @Test
+        @DisplayName("Should check for matches without loading them")
+        void shouldCheckForMatchesWithoutLoadingThem() {
+            // Given
+            when(matchJpaRepository.existsByTournamentId(TOURNAMENT_ID)).thenReturn(true);
+
+            // When
+            boolean result = matchJpaAdapter.existsByTournamentId(TOURNAMENT_ID);
+
+            // Then
+            assertTrue(result);
+            verify(matchJpaRepository, never()).findAllByTournamentId(any());
+            verifyNoInteractions(mapper);
+        }
+    }
+
+    @Nested
+    @DisplayName("Find With Filters Tests")
+    class FindWithFiltersTests {
+
+        private final List<MatchEntity> entities = List.of(
+            new MatchEntity(1L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null));
+        private final List<Match> matches = List.of(
+            Match.reconstitute(1L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null));
+
+        @Test
+        @DisplayName("Should return a page without total and skip the count query when total is not requested")
+        void shouldSkipCountWhenTotalIsNotRequested() {
+            // Given
+            PageRequest pageRequest = PageRequest.of(0, 1).withoutTotal();
+            when(matchJpaRepository.findBy(any(Specification.class), any()))
+                .thenReturn(new SliceImpl<>(entities, org.springframework.data.domain.PageRequest.of(0, 1), true));
+            when(mapper.toDomainList(entities)).thenReturn(matches);
+
+            // When
+            Page<Match> result = matchJpaAdapter.findByTournamentIdWithFilters(TOURNAMENT_ID, MatchSearchCriteria.empty(), pageRequest);
+
+            // Then
+            assertEquals(matches, result.getContent());
+            assertFalse(result.isTotalKnown());
+            assertTrue(result.hasNext());
+            assertFalse(result.isLast());
+            verify(matchJpaRepository, never()).count(any(Specification.class));
+            verifyNoInteractions(matchCountCache);
+        }
+
+        @Test
+        @DisplayName("Should take the total from the count cache when total is requested")
+        void shouldUseCountCacheWhenTotalIsRequested() {
+            // Given
+            PageRequest pageRequest = PageRequest.of(0, 1);
+            MatchSearchCriteria criteria = MatchSearchCriteria.withStatus(MatchStatus.SCHEDULED, null);
+            when(matchJpaRepository.findBy(any(Specification.class), any()))
+                .thenReturn(new SliceImpl<>(entities, org.springframework.data.domain.PageRequest.of(0, 1), true));
+            when(mapper.toDomainList(entities)).thenReturn(matches);
+            when(matchCountCache.count(eq(TOURNAMENT_ID), eq(criteria), any())).thenReturn(5L);
+
+            // When
+            Page<Match> result = matchJpaAdapter.findByTournamentIdWithFilters(TOURNAMENT_ID, criteria, pageRequest);
+
+            // Then
+            assertTrue(result.isTotalKnown());
+            assertEquals(5, result.getTotalElements());
+            assertEquals(5, result.getTotalPages());
+            verify(matchJpaRepository, never()).findAll(any(Specification.class), any(org.springframework.data.domain.Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find After Cursor Tests")
+    class FindAfterCursorTests {
+
+        @Test
+        @DisplayName("Should return next cursor when more rows than page size are fetched")
+        void shouldReturnNextCursorWhenLookaheadRowIsFetched() {
+            // Given
+            List<MatchEntity> entities = List.of(
+                new MatchEntity(1L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null),
+                new MatchEntity(2L, TOURNAMENT_ID, 3L, 4L, null, null, TEST_DATE, "Stadium B", MatchStatus.SCHEDULED, null),
+                new MatchEntity(3L, TOURNAMENT_ID, 5L, 6L, null, null, TEST_DATE.plusDays(1), "Stadium C", MatchStatus.SCHEDULED, null));
+            List<Match> matches = List.of(
+                Match.reconstitute(1L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null),
+                Match.reconstitute(2L, TOURNAMENT_ID, 3L, 4L, null, null, TEST_DATE, "Stadium B", MatchStatus.SCHEDULED, null),
+                Match.reconstitute(3L, TOURNAMENT_ID, 5L, 6L, null, null, TEST_DATE.plusDays(1), "Stadium C", MatchStatus.SCHEDULED, null));
+            when(matchJpaRepository.findBy(any(Specification.class), any())).thenReturn(entities);
+            when(mapper.toDomainList(entities)).thenReturn(matches);
+
+            // When
+            CursorPage<Match> result = matchJpaAdapter.findByTournamentIdAfterCursor(TOURNAMENT_ID,
+                    MatchSearchCriteria.empty(), CursorPageRequest.first(2, PageRequest.SortDirection.ASC));
+
+            // Then
+            assertEquals(2, result.getContent().size());
+            assertTrue(result.hasNext());
+            assertEquals(new MatchCursor(TEST_DATE, 2L), result.getNextCursor());
+            verify(matchJpaRepository, never()).findAll(any(Specification.class), any(org.springframework.data.domain.Pageable.class));
+            verify(matchJpaRepository, never()).count(any(Specification.class));
+        }
+
+        @Test
+        @DisplayName("Should return last page without cursor")
+        void shouldReturnLastPageWithoutCursor() {
+            // Given
+            List<MatchEntity> entities = List.of(
+                new MatchEntity(4L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null));
+            List<Match> matches = List.of(
+                Match.reconstitute(4L, TOURNAMENT_ID, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null));
+            when(matchJpaRepository.findBy(any(Specification.class), any())).thenReturn(entities);
+            when(mapper.toDomainList(entities)).thenReturn(matches);
+
+            // When
+            CursorPage<Match> result = matchJpaAdapter.findByTournamentIdAfterCursor(TOURNAMENT_ID,
+                    MatchSearchCriteria.empty(),
+                    CursorPageRequest.after(new MatchCursor(TEST_DATE, 3L), 2, PageRequest.SortDirection.ASC));
+
+            // Then
+            assertEquals(1, result.getContent().size());
+            assertFalse(result.hasNext());
+            assertNull(result.getNextCursor());
+        }
+    }
+
     @Nested
     @DisplayName("Delete By Id Tests")
     class DeleteByIdTests {
@@ -312,6 +557,16 @@ class MatchJpaAdapterTest {
             verify(matchJpaRepository, times(1)).deleteById(MATCH_ID);
             verifyNoMoreInteractions(matchJpaRepository);
         }
+
+        @Test
+        @DisplayName("Should invalidate cached counts after deleting a match")
+        void shouldInvalidateCachedCounts() {
+            // When
+            matchJpaAdapter.deleteById(MATCH_ID);
+
+            // Then
+            verify(matchCountCache).allChanged();
+        }
     }
 
     @Nested
@@ -319,30 +574,73 @@ class MatchJpaAdapterTest {
     class DeleteByTournamentIdTests {
 
         @Test
-        @DisplayName("Should delete all matches by tournament id successfully")
-        void shouldDeleteAllMatchesByTournamentIdSuccessfully() {
+        @DisplayName("Should delete matches in chunks until a short chunk comes back")
+        void shouldDeleteMatchesInChunks() {
             // Given
-            doNothing().when(matchJpaRepository).deleteByTournamentId(TOURNAMENT_ID);
+            when(matchJpaRepository.findIdsByTournamentId(TOURNAMENT_ID, Limit.of(2)))
+                    .thenReturn(List.of(1L, 2L), List.of(3L));
+            when(matchJpaRepository.deleteByIdIn(any())).thenReturn(2, 1);
 
             // When
             matchJpaAdapter.deleteByTournamentId(TOURNAMENT_ID);
 
             // Then
-            verify(matchJpaRepository, times(1)).deleteByTournamentId(TOURNAMENT_ID);
+            verify(matchJpaRepository).deleteByIdIn(List.of(1L, 2L));
+            verify(matchJpaRepository).deleteByIdIn(List.of(3L));
+            verify(matchJpaRepository, times(2)).findIdsByTournamentId(TOURNAMENT_ID, Limit.of(2));
+            verifyNoMoreInteractions(matchJpaRepository);
+            verify(matchCountCache).tournamentChanged(TOURNAMENT_ID);
         }
 
         @Test
-        @DisplayName("Should call repository delete by tournament method once")
-        void shouldCallRepositoryDeleteByTournamentMethodOnce() {
+        @DisplayName("Should issue no delete when the tournament has no matches")
+        void shouldIssueNoDeleteWhenThereAreNoMatches() {
             // Given
-            doNothing().when(matchJpaRepository).deleteByTournamentId(TOURNAMENT_ID);
+            when(matchJpaRepository.findIdsByTournamentId(TOURNAMENT_ID, Limit.of(2))).thenReturn(List.of());
 
             // When
             matchJpaAdapter.deleteByTournamentId(TOURNAMENT_ID);
 
             // Then
-            verify(matchJpaRepository, times(1)).deleteByTournamentId(TOURNAMENT_ID);
-            verifyNoMoreInteractions(matchJpaRepository);
+            verify(matchJpaRepository, never()).deleteByIdIn(any());
+            verify(matchCountCache).tournamentChanged(TOURNAMENT_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Delete Chunk By Tournament Id Tests")
+    class DeleteChunkByTournamentIdTests {
+
+        @Test
+        @DisplayName("Should delete the next chunk of match ids in one batch")
+        void shouldDeleteNextChunkInOneBatch() {
+            // Given
+            List<Long> ids = List.of(1L, 2L, 3L);
+            when(matchJpaRepository.findIdsByTournamentId(TOURNAMENT_ID, Limit.of(3))).thenReturn(ids);
+            when(matchJpaRepository.deleteByIdIn(ids)).thenReturn(3);
+
+            // When
+            int deleted = matchJpaAdapter.deleteChunkByTournamentId(TOURNAMENT_ID, 3);
+
+            // Then
+            assertEquals(3, deleted);
+            verify(matchJpaRepository).deleteByIdIn(ids);
+            verify(matchCountCache).tournamentChanged(TOURNAMENT_ID);
+        }
+
+        @Test
+        @DisplayName("Should return zero and delete nothing when no matches are left")
+        void shouldReturnZeroWhenNothingIsLeft() {
+            // Given
+            when(matchJpaRepository.findIdsByTournamentId(TOURNAMENT_ID, Limit.of(3))).thenReturn(List.of());
+
+            // When
+            int deleted = matchJpaAdapter.deleteChunkByTournamentId(TOURNAMENT_ID, 3);
+
+            // Then
+            assertEquals(0, deleted);
+            verify(matchJpaRepository, never()).deleteByIdIn(any());
+            verifyNoInteractions(matchCountCache);
         }
     }
 }
@@ -0,0 +1,136 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.auth.infrastructure.security.JwtProvider;
+import com.personal.tournament_api.auth.infrastructure.security.UserDetailsServiceAdapter;
+import com.personal.tournament_api.config.TestSecurityConfig;
+import com.personal.tournament_api.match.application.usecases.GenerateFixturesUseCase;
+import com.personal.tournament_api.match.domain.exceptions.FixtureAlreadyExistsException;
+import com.personal.tournament_api.match.domain.exceptions.NotEnoughTeamsForFixtureException;
+import com.personal.tournament_api.match.domain.model.Match;
+import com.personal.tournament_api.match.domain.model.MatchStatus;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.GenerateFixturesRequestDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResponseDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchMapper;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(FixtureController.class)
+@Import(TestSecurityConfig.class)
+@DisplayName("FixtureController Unit Tests")
+class FixtureControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private GenerateFixturesUseCase generateFixturesUseCase;
+
+    @MockBean
+    private MatchMapper matchMapper;
+
+    @MockBean
+    private JwtProvider jwtProvider;
+
+    @MockBean
+    private UserDetailsServiceAdapter userDetailsServiceAdapter;
+
+    private static final LocalDateTime TEST_DATE = LocalDateTime.of(2025, 11, 15, 15, 0);
+
+    private GenerateFixturesRequestDTO request;
+    private GenerateFixturesUseCase.GenerateFixturesCommand command;
+
+    @BeforeEach
+    void setUp() {
+        request = new GenerateFixturesRequestDTO(TEST_DATE, 7, 90, List.of("Field A"), false);
+        command = new GenerateFixturesUseCase.GenerateFixturesCommand(10L, TEST_DATE, 7, 90, List.of("Field A"), false);
+        when(matchMapper.toGenerateFixturesCommand(eq(10L), any(GenerateFixturesRequestDTO.class))).thenReturn(command);
+    }
+
+    @Test
+    @DisplayName("Should return 201 with the generated matches")
+    void shouldReturnCreatedWithGeneratedMatches() throws Exception {
+        Match match = Match.reconstitute(1L, 10L, 1L, 2L, null, null, TEST_DATE, "Field A", MatchStatus.SCHEDULED, null);
+        MatchResponseDTO response = new MatchResponseDTO(1L, 10L, 1L, 2L, null, null, TEST_DATE, "Field A", MatchStatus.SCHEDULED, null);
+        when(generateFixturesUseCase.generate(command)).thenReturn(List.of(match));
+        when(matchMapper.toResponseList(anyList())).thenReturn(List.of(response));
+
+        mockMvc.perform(post("/tournaments/10/fixtures/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].homeTeamId").value(1))
+            .andExpect(jsonPath("$[0].field").value("Field A"));
+
+        verify(generateFixturesUseCase, times(1)).generate(command);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when no field is given")
+    void shouldReturn400WhenFieldsAreMissing() throws Exception {
+        GenerateFixturesRequestDTO invalidRequest = new GenerateFixturesRequestDTO(TEST_DATE, null, null, List.of(), null);
+
+        mockMvc.perform(post("/tournaments/10/fixtures/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(invalidRequest)))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(generateFixturesUseCase);
+    }
+
+    @Test
+    @DisplayName("Should return 409 when the tournament already has matches")
+    void shouldReturn409WhenFixtureAlreadyExists() throws Exception {
+        when(generateFixturesUseCase.generate(command)).thenThrow(new FixtureAlreadyExistsException(10L));
+
+        mockMvc.perform(post("/tournaments/10/fixtures/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Should return 422 when the tournament has fewer than two teams")
+    void shouldReturn422WhenNotEnoughTeams() throws Exception {
+        when(generateFixturesUseCase.generate(command)).thenThrow(new NotEnoughTeamsForFixtureException(10L, 1));
+
+        mockMvc.perform(post("/tournaments/10/fixtures/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("Should return 404 when the tournament does not exist")
+    void shouldReturn404WhenTournamentNotFound() throws Exception {
+        when(generateFixturesUseCase.generate(command)).thenThrow(new TournamentNotFoundException(10L));
+
+        mockMvc.perform(post("/tournaments/10/fixtures/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,66 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web;
+
+import com.personal.tournament_api.auth.infrastructure.security.JwtProvider;
+import com.personal.tournament_api.auth.infrastructure.security.UserDetailsServiceAdapter;
+import com.personal.tournament_api.config.TestSecurityConfig;
+import com.personal.tournament_api.match.application.usecases.WatchTournamentUseCase;
+import com.personal.tournament_api.shared.infrastructure.web.LiveFeed;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LiveController.class)
+@Import(TestSecurityConfig.class)
+@DisplayName("LiveController Unit Tests")
+class LiveControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WatchTournamentUseCase watchTournamentUseCase;
+
+    @MockBean
+    private LiveFeed liveFeed;
+
+    @MockBean
+    private JwtProvider jwtProvider;
+
+    @MockBean
+    private UserDetailsServiceAdapter userDetailsServiceAdapter;
+
+    @Test
+    @DisplayName("GET /tournaments/{tournamentId}/live - Should open an event stream for the tournament")
+    void shouldOpenEventStream() throws Exception {
+        when(liveFeed.subscribe(1L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/tournaments/1/live").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(liveFeed).subscribe(1L);
+    }
+
+    @Test
+    @DisplayName("GET /tournaments/{tournamentId}/live - Should return 404 without subscribing when the tournament does not exist")
+    void shouldReturn404WhenTournamentDoesNotExist() throws Exception {
+        doThrow(new TournamentNotFoundException(99L)).when(watchTournamentUseCase).watch(99L);
+
+        mockMvc.perform(get("/tournaments/99/live").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+
+        verify(liveFeed, never()).subscribe(any());
+    }
+}
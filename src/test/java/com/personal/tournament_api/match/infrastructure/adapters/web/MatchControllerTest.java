@@ -3,6 +3,7 @@ package com.personal.tournament_api.match.infrastructure.adapters.web;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.personal.tournament_api.match.application.usecases.*;
 import com.personal.tournament_api.match.domain.model.*;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.BulkMatchRequestDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.FinishMatchRequestDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchRequestDTO;
 import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResponseDTO;
@@ -10,6 +11,7 @@ import com.personal.tournament_api.auth.infrastructure.security.JwtProvider;
 import com.personal.tournament_api.auth.infrastructure.security.UserDetailsServiceAdapter;
 import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchFilterBuilder;
 import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchMapper;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -28,14 +30,16 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(MatchController.class)
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, TournamentVersions.class})
 @DisplayName("MatchController Unit Tests")
 class MatchControllerTest {
 
@@ -47,6 +51,9 @@ class MatchControllerTest {
     @MockBean
     private CreateMatchUseCase createMatchUseCase;
 
+    @MockBean
+    private CreateMatchesUseCase createMatchesUseCase;
+
     @MockBean
     private UpdateMatchUseCase updateMatchUseCase;
 
@@ -77,6 +84,9 @@ class MatchControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TournamentVersions tournamentVersions;
+
     private Match match;
     private MatchRequestDTO matchRequestDTO;
     private MatchResponseDTO matchResponseDTO;
@@ -266,6 +276,41 @@ class MatchControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /tournaments/{tournamentId}/matches/bulk")
+    class CreateMatchesTests {
+
+        @Test
+        @DisplayName("Should import all matches and return them with 201")
+        void shouldImportAllMatches() throws Exception {
+            CreateMatchesUseCase.CreateMatchesCommand command = new CreateMatchesUseCase.CreateMatchesCommand(10L,
+                List.of(new CreateMatchesUseCase.MatchData(1L, 2L, TEST_DATE, "Stadium A", null)));
+            when(matchMapper.toCreateMatchesCommand(eq(10L), any(BulkMatchRequestDTO.class))).thenReturn(command);
+            when(createMatchesUseCase.createAll(command)).thenReturn(List.of(match));
+            when(matchMapper.toResponseList(anyList())).thenReturn(List.of(matchResponseDTO));
+
+            mockMvc.perform(post("/tournaments/10/matches/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new BulkMatchRequestDTO(List.of(matchRequestDTO)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].homeTeamId").value(1));
+
+            verify(createMatchesUseCase, times(1)).createAll(command);
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the match list is empty")
+        void shouldReturn400WhenMatchListIsEmpty() throws Exception {
+            mockMvc.perform(post("/tournaments/10/matches/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new BulkMatchRequestDTO(List.of()))))
+                .andExpect(status().isBadRequest());
+
+            verify(createMatchesUseCase, never()).createAll(any());
+        }
+    }
+
     @Nested
     @DisplayName("GET /tournaments/{tournamentId}/matches/{matchId}")
     class GetMatchByIdTests {
@@ -479,6 +524,102 @@ class MatchControllerTest {
             verify(getMatchUseCase, times(1)).getByTournamentIdWithFilters(eq(10L), any(MatchSearchCriteria.class), any(PageRequest.class));
             verify(matchMapper, times(1)).toResponsePage(matchPage);
         }
+
+        @Test
+        @DisplayName("Should return 304 without querying matches when the tournament has not changed")
+        void shouldReturnNotModifiedWhenTournamentHasNotChanged() throws Exception {
+            mockMvc.perform(get("/tournaments/10/matches")
+                    .param("status", "FINISHED")
+                    .header("If-None-Match", tournamentVersions.etag(10L)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", tournamentVersions.etag(10L)));
+
+            verify(getMatchUseCase, never()).getByTournamentIdWithFilters(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should request a page without total when withTotal is false")
+        void shouldRequestPageWithoutTotalWhenWithTotalIsFalse() throws Exception {
+            Match match1 = Match.reconstitute(1L, 10L, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null);
+            MatchResponseDTO response1 = new MatchResponseDTO(1L, 10L, 1L, 2L, null, null, TEST_DATE, "Stadium A", MatchStatus.SCHEDULED, null);
+
+            Page<Match> matchPage = Page.withoutTotal(List.of(match1), 0, 1, true);
+            Page<MatchResponseDTO> dtoPage = Page.withoutTotal(List.of(response1), 0, 1, true);
+
+            when(getMatchUseCase.getByTournamentIdWithFilters(eq(10L), any(MatchSearchCriteria.class),
+                    argThat(pageRequest -> !pageRequest.isWithTotal())))
+                    .thenReturn(matchPage);
+            when(matchMapper.toResponsePage(matchPage)).thenReturn(dtoPage);
+
+            mockMvc.perform(get("/tournaments/10/matches")
+                    .param("size", "1")
+                    .param("withTotal", "false")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.last").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /tournaments/{tournamentId}/matches?after=")
+    class GetMatchesAfterCursorTests {
+
+        @Test
+        @DisplayName("Should get first cursor page with next cursor and without totals")
+        void shouldGetFirstCursorPageWithNextCursor() throws Exception {
+            MatchCursor nextCursor = new MatchCursor(TEST_DATE, 1L);
+            CursorPageRequest pageRequest = CursorPageRequest.first(1, PageRequest.SortDirection.DESC);
+            CursorPage<Match> matchPage = new CursorPage<>(List.of(match), 1, nextCursor);
+            CursorPage<MatchResponseDTO> dtoPage = new CursorPage<>(List.of(matchResponseDTO), 1, nextCursor);
+
+            when(matchFilterBuilder.buildCursorPageRequest("", 1, "DESC")).thenReturn(pageRequest);
+            when(getMatchUseCase.getByTournamentIdAfterCursor(eq(10L), any(MatchSearchCriteria.class), eq(pageRequest)))
+                    .thenReturn(matchPage);
+            when(matchMapper.toResponseCursorPage(matchPage)).thenReturn(dtoPage);
+            when(matchFilterBuilder.encodeCursor(nextCursor)).thenReturn("opaque-token");
+
+            mockMvc.perform(get("/tournaments/10/matches")
+                    .param("after", "")
+                    .param("size", "1")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("opaque-token"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+            verify(getMatchUseCase, never()).getByTournamentIdWithFilters(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should pass decoded cursor and filters to use case")
+        void shouldPassDecodedCursorAndFiltersToUseCase() throws Exception {
+            CursorPageRequest pageRequest = CursorPageRequest.after(new MatchCursor(TEST_DATE, 7L), 100, PageRequest.SortDirection.ASC);
+            CursorPage<Match> emptyPage = new CursorPage<>(List.of(), 100, null);
+            CursorPage<MatchResponseDTO> emptyDTOPage = new CursorPage<>(List.of(), 100, null);
+
+            when(matchFilterBuilder.buildCursorPageRequest("abc", 100, "ASC")).thenReturn(pageRequest);
+            when(getMatchUseCase.getByTournamentIdAfterCursor(eq(10L), any(MatchSearchCriteria.class), eq(pageRequest)))
+                    .thenReturn(emptyPage);
+            when(matchMapper.toResponseCursorPage(emptyPage)).thenReturn(emptyDTOPage);
+
+            mockMvc.perform(get("/tournaments/10/matches")
+                    .param("after", "abc")
+                    .param("direction", "ASC")
+                    .param("status", "FINISHED")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+            verify(getMatchUseCase).getByTournamentIdAfterCursor(10L, MatchSearchCriteria.withStatus(MatchStatus.FINISHED, null), pageRequest);
+        }
     }
 
     @Nested
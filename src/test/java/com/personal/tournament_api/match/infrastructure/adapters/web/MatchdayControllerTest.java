@@ -0,0 +1,114 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.auth.infrastructure.security.JwtProvider;
+import com.personal.tournament_api.auth.infrastructure.security.UserDetailsServiceAdapter;
+import com.personal.tournament_api.config.TestSecurityConfig;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.MatchResultEntry;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.MatchResultReport;
+import com.personal.tournament_api.match.application.usecases.SubmitMatchdayResultsUseCase.SubmitMatchdayResultsCommand;
+import com.personal.tournament_api.match.domain.exceptions.MatchNotInMatchdayException;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchResultEntryDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.dto.MatchdayResultsRequestDTO;
+import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MatchdayController.class)
+@Import({TestSecurityConfig.class, MatchdayControllerTest.MapperConfig.class})
+@DisplayName("MatchdayController Unit Tests")
+class MatchdayControllerTest {
+
+    @TestConfiguration
+    static class MapperConfig {
+        @Bean
+        MatchMapper matchMapper() {
+            return Mappers.getMapper(MatchMapper.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private SubmitMatchdayResultsUseCase submitMatchdayResultsUseCase;
+
+    @MockBean
+    private JwtProvider jwtProvider;
+
+    @MockBean
+    private UserDetailsServiceAdapter userDetailsServiceAdapter;
+
+    @Test
+    @DisplayName("Should return 200 with a per-match report and accepted/rejected counts")
+    void shouldReturnPerMatchReport() throws Exception {
+        MatchResultEntry accepted = new MatchResultEntry(1L, 2, 1);
+        MatchResultEntry rejected = new MatchResultEntry(2L, 0, 0);
+        SubmitMatchdayResultsCommand command = new SubmitMatchdayResultsCommand(10L, 3, List.of(accepted, rejected));
+        when(submitMatchdayResultsUseCase.submit(command)).thenReturn(List.of(
+                MatchResultReport.accepted(accepted, false),
+                MatchResultReport.rejected(rejected, new MatchNotInMatchdayException(2L, 3).getMessage())));
+
+        MatchdayResultsRequestDTO request = new MatchdayResultsRequestDTO(List.of(
+                new MatchResultEntryDTO(1L, 2, 1), new MatchResultEntryDTO(2L, 0, 0)));
+
+        mockMvc.perform(post("/tournaments/10/matchdays/3/results")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tournamentId").value(10))
+            .andExpect(jsonPath("$.matchday").value(3))
+            .andExpect(jsonPath("$.accepted").value(1))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.results[0].matchId").value(1))
+            .andExpect(jsonPath("$.results[0].status").value("SET"))
+            .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+            .andExpect(jsonPath("$.results[1].error").value("Match with ID 2 does not belong to matchday 3"));
+
+        verify(submitMatchdayResultsUseCase, times(1)).submit(command);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the results list is empty")
+    void shouldReturn400WhenResultsAreEmpty() throws Exception {
+        mockMvc.perform(post("/tournaments/10/matchdays/3/results")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MatchdayResultsRequestDTO(List.of()))))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(submitMatchdayResultsUseCase);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a score is negative")
+    void shouldReturn400WhenScoreIsNegative() throws Exception {
+        MatchdayResultsRequestDTO request = new MatchdayResultsRequestDTO(List.of(new MatchResultEntryDTO(1L, -1, 0)));
+
+        mockMvc.perform(post("/tournaments/10/matchdays/3/results")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(submitMatchdayResultsUseCase);
+    }
+}
@@ -0,0 +1,59 @@
+package com.personal.tournament_api.match.infrastructure.adapters.web.mapper;
+
+import com.personal.tournament_api.match.domain.exceptions.InvalidMatchDataException;
+import com.personal.tournament_api.match.domain.model.CursorPageRequest;
+import com.personal.tournament_api.match.domain.model.MatchCursor;
+import com.personal.tournament_api.match.domain.model.PageRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MatchFilterBuilder Unit Tests")
+class MatchFilterBuilderTest {
+
+    private final MatchFilterBuilder builder = new MatchFilterBuilder();
+
+    @Nested
+    @DisplayName("Cursor Page Request Tests")
+    class CursorPageRequestTests {
+
+        @Test
+        @DisplayName("Should build first page request when cursor is blank")
+        void shouldBuildFirstPageRequestWhenCursorIsBlank() {
+            CursorPageRequest request = builder.buildCursorPageRequest("", 20, "desc");
+
+            assertFalse(request.hasCursor());
+            assertEquals(20, request.getSize());
+            assertEquals(PageRequest.SortDirection.DESC, request.getDirection());
+        }
+
+        @Test
+        @DisplayName("Should decode the cursor it encoded")
+        void shouldDecodeTheCursorItEncoded() {
+            MatchCursor cursor = new MatchCursor(LocalDateTime.of(2025, 11, 15, 15, 30), 42L);
+
+            String token = builder.encodeCursor(cursor);
+            CursorPageRequest request = builder.buildCursorPageRequest(token, 10, "ASC");
+
+            assertEquals(cursor, request.getAfter());
+            assertEquals(PageRequest.SortDirection.ASC, request.getDirection());
+        }
+
+        @Test
+        @DisplayName("Should return null token when there is no next cursor")
+        void shouldReturnNullTokenWhenThereIsNoNextCursor() {
+            assertNull(builder.encodeCursor(null));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThrows(InvalidMatchDataException.class,
+                    () -> builder.buildCursorPageRequest("not-a-cursor", 10, "ASC"));
+        }
+    }
+}
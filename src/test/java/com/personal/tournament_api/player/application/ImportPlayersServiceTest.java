@@ -0,0 +1,126 @@
+package com.personal.tournament_api.player.application;
+
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.ImportPlayersCommand;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRow;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRowResult;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.RowStatus;
+import com.personal.tournament_api.player.domain.model.Player;
+import com.personal.tournament_api.player.domain.ports.PlayerRepository;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ImportPlayersService Tests")
+@ExtendWith(MockitoExtension.class)
+class ImportPlayersServiceTest {
+
+    @Mock private PlayerRepository playerRepository;
+    @Mock private TeamRepository teamRepository;
+
+    private ImportPlayersService service;
+
+    private static final Long TOURNAMENT_ID = 10L;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImportPlayersService(playerRepository, teamRepository);
+    }
+
+    private Team team(Long id) {
+        return Team.reconstitute(id, "Team " + id, "Coach " + id, TOURNAMENT_ID, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    private void givenSaveAllAssignsIds() {
+        when(playerRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Player> players = invocation.getArgument(0);
+            List<Player> saved = new ArrayList<>();
+            for (Player player : players) {
+                saved.add(Player.reconstitute(100L + saved.size(), player.getName(), player.getLastName(),
+                        player.getIdentificationNumber(), player.getTeamId()));
+            }
+            return saved;
+        });
+    }
+
+    @Test
+    @DisplayName("Should check identification numbers with one query and save all players in one call")
+    void shouldImportAllPlayersInOnePass() {
+        // Given
+        when(teamRepository.findAllByTournamentIdOrderByNameAsc(TOURNAMENT_ID)).thenReturn(List.of(team(1L), team(2L)));
+        when(playerRepository.findExistingIdentificationNumbers(anyCollection())).thenReturn(List.of());
+        givenSaveAllAssignsIds();
+
+        // When
+        List<PlayerRowResult> results = service.importPlayers(new ImportPlayersCommand(TOURNAMENT_ID, List.of(
+                new PlayerRow(1, 1L, "Luka", "Modric", "ID-1"),
+                new PlayerRow(2, 2L, "Pedri", "Gonzalez", "ID-2"))));
+
+        // Then
+        assertEquals(List.of(RowStatus.CREATED, RowStatus.CREATED), results.stream().map(PlayerRowResult::status).toList());
+        assertEquals(List.of(100L, 101L), results.stream().map(PlayerRowResult::playerId).toList());
+        verify(playerRepository, times(1)).findExistingIdentificationNumbers(Set.of("ID-1", "ID-2"));
+        verify(playerRepository, times(1)).saveAll(anyList());
+        verify(playerRepository, never()).existsByIdentificationNumber(any());
+        verify(playerRepository, never()).save(any());
+        verify(teamRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject taken, repeated, invalid and foreign-team rows and keep the rest")
+    void shouldRejectInvalidRowsAndKeepTheRest() {
+        // Given
+        when(teamRepository.findAllByTournamentIdOrderByNameAsc(TOURNAMENT_ID)).thenReturn(List.of(team(1L)));
+        when(playerRepository.findExistingIdentificationNumbers(anyCollection())).thenReturn(List.of("TAKEN"));
+        givenSaveAllAssignsIds();
+
+        // When
+        List<PlayerRowResult> results = service.importPlayers(new ImportPlayersCommand(TOURNAMENT_ID, List.of(
+                new PlayerRow(1, 1L, "Luka", "Modric", "ID-1"),
+                new PlayerRow(2, 1L, "Toni", "Kroos", "TAKEN"),
+                new PlayerRow(3, 1L, "Karim", "Benzema", "ID-1"),
+                new PlayerRow(4, 1L, " ", "Vinicius", "ID-4"),
+                new PlayerRow(5, 99L, "Pedri", "Gonzalez", "ID-5"),
+                new PlayerRow(6, 1L, "Jude", "Bellingham", "ID-6"))));
+
+        // Then
+        assertEquals(List.of(RowStatus.CREATED, RowStatus.REJECTED, RowStatus.REJECTED, RowStatus.REJECTED,
+                RowStatus.REJECTED, RowStatus.CREATED), results.stream().map(PlayerRowResult::status).toList());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), results.stream().map(PlayerRowResult::rowNumber).toList());
+        assertTrue(results.get(1).error().contains("TAKEN"));
+        assertTrue(results.get(2).error().contains("ID-1"));
+        assertTrue(results.get(4).error().contains("99"));
+        assertEquals(101L, results.get(5).playerId());
+        verify(playerRepository, times(1)).saveAll(argThat(players -> players.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Should not save anything when every row is rejected")
+    void shouldSkipSaveWhenEveryRowIsRejected() {
+        // Given
+        when(teamRepository.findAllByTournamentIdOrderByNameAsc(TOURNAMENT_ID)).thenReturn(List.of());
+        when(playerRepository.findExistingIdentificationNumbers(anyCollection())).thenReturn(List.of());
+
+        // When
+        List<PlayerRowResult> results = service.importPlayers(new ImportPlayersCommand(TOURNAMENT_ID,
+                List.of(new PlayerRow(1, 1L, "Luka", "Modric", "ID-1"))));
+
+        // Then
+        assertEquals(RowStatus.REJECTED, results.get(0).status());
+        verify(playerRepository, never()).saveAll(anyList());
+    }
+}
@@ -0,0 +1,208 @@
+package com.personal.tournament_api.player.infrastructure.adapters.web;
+
+import com.personal.tournament_api.auth.infrastructure.security.JwtProvider;
+import com.personal.tournament_api.auth.infrastructure.security.UserDetailsServiceAdapter;
+import com.personal.tournament_api.config.TestSecurityConfig;
+import com.personal.tournament_api.player.application.ImportPlayersService;
+import com.personal.tournament_api.player.application.usecases.CreatePlayerUseCase;
+import com.personal.tournament_api.player.application.usecases.DeletePlayerUseCase;
+import com.personal.tournament_api.player.application.usecases.GetPlayerByIdUseCase;
+import com.personal.tournament_api.player.application.usecases.GetPlayersByTeamUseCase;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase;
+import com.personal.tournament_api.player.application.usecases.UpdatePlayerUseCase;
+import com.personal.tournament_api.player.domain.model.Player;
+import com.personal.tournament_api.player.domain.ports.PlayerRepository;
+import com.personal.tournament_api.player.infrastructure.adapters.web.mapper.PlayerMapper;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PlayerController.class)
+@Import({TestSecurityConfig.class, TournamentVersions.class, PlayerControllerTest.ImportConfig.class})
+@DisplayName("PlayerController Unit Tests")
+class PlayerControllerTest {
+
+    private static final String BULK_URL = "/tournaments/1/teams/10/players/bulk";
+
+    // The bulk endpoint runs against the real import service so the per-row rules are the ones in production
+    @TestConfiguration
+    static class ImportConfig {
+        @Bean
+        PlayerMapper playerMapper() {
+            return Mappers.getMapper(PlayerMapper.class);
+        }
+
+        @Bean
+        ImportPlayersUseCase importPlayersUseCase(PlayerRepository playerRepository, TeamRepository teamRepository) {
+            return new ImportPlayersService(playerRepository, teamRepository);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // Note: @MockBean is deprecated since Spring Boot 3.4.0 but still functional
+    // Will be replaced with @MockitoBean in future Spring Boot versions
+    @MockBean
+    private PlayerRepository playerRepository;
+
+    @MockBean
+    private TeamRepository teamRepository;
+
+    @MockBean
+    private CreatePlayerUseCase createPlayerUseCase;
+
+    @MockBean
+    private GetPlayersByTeamUseCase getPlayersByTeamUseCase;
+
+    @MockBean
+    private GetPlayerByIdUseCase getPlayerByIdUseCase;
+
+    @MockBean
+    private UpdatePlayerUseCase updatePlayerUseCase;
+
+    @MockBean
+    private DeletePlayerUseCase deletePlayerUseCase;
+
+    @MockBean
+    private JwtProvider jwtProvider;
+
+    @MockBean
+    private UserDetailsServiceAdapter userDetailsServiceAdapter;
+
+    @BeforeEach
+    void setUp() {
+        when(teamRepository.findAllByTournamentIdOrderByNameAsc(1L)).thenReturn(List.of(
+                Team.reconstitute(10L, "Real Madrid", "Carlo Ancelotti", 1L, 0, 0, 0, 0, 0, 0, 0, 0)));
+        when(playerRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Player> players = invocation.getArgument(0);
+            List<Player> saved = new ArrayList<>();
+            for (Player player : players) {
+                saved.add(Player.reconstitute(100L + saved.size(), player.getName(), player.getLastName(),
+                        player.getIdentificationNumber(), player.getTeamId()));
+            }
+            return saved;
+        });
+    }
+
+    @Test
+    @DisplayName("Should create the valid players and report the invalid ones in their rows")
+    void shouldCreateValidPlayersAndRejectInvalidRows() throws Exception {
+        // Given
+        String roster = """
+                {"players":[
+                  {"name":"Vinicius","lastName":"Junior","identificationNumber":"ID-1"},
+                  {"name":"","lastName":"Bellingham","identificationNumber":"ID-2"},
+                  {"name":"Kylian","lastName":"Mbappe","identificationNumber":"%s"},
+                  null,
+                  {"name":"Luka","lastName":"Modric","identificationNumber":"ID-5"}
+                ]}
+                """.formatted("X".repeat(21));
+
+        // When & Then
+        mockMvc.perform(post(BULK_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(roster))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.rejected").value(3))
+            .andExpect(jsonPath("$.results.length()").value(5))
+            .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[0].playerId").value(100))
+            .andExpect(jsonPath("$.results[1].rowNumber").value(2))
+            .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+            .andExpect(jsonPath("$.results[1].identificationNumber").value("ID-2"))
+            .andExpect(jsonPath("$.results[1].error").value("name: Name is required"))
+            .andExpect(jsonPath("$.results[2].error")
+                    .value("identificationNumber: Identification number must not exceed 20 characters"))
+            .andExpect(jsonPath("$.results[3].error").value("Player is required"))
+            .andExpect(jsonPath("$.results[4].rowNumber").value(5))
+            .andExpect(jsonPath("$.results[4].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[4].playerId").value(101));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Player>> captor = ArgumentCaptor.forClass(List.class);
+        verify(playerRepository).saveAll(captor.capture());
+        assertEquals(List.of("ID-1", "ID-5"),
+                captor.getValue().stream().map(Player::getIdentificationNumber).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject every row when the team is not in the tournament")
+    void shouldRejectRowsOfForeignTeam() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/tournaments/1/teams/99/players/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"players":[
+                          {"name":"Vinicius","lastName":"Junior","identificationNumber":"ID-1"},
+                          {"name":"Luka","lastName":"Modric","identificationNumber":"ID-5"}
+                        ]}
+                        """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(0))
+            .andExpect(jsonPath("$.rejected").value(2))
+            .andExpect(jsonPath("$.results[0].error").value("Team with id 99 not found"))
+            .andExpect(jsonPath("$.results[1].error").value("Team with id 99 not found"));
+
+        verify(playerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an identification number repeated within the request")
+    void shouldRejectDuplicateIdentificationNumberWithinRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post(BULK_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"players":[
+                          {"name":"Vinicius","lastName":"Junior","identificationNumber":"ID-1"},
+                          {"name":"Luka","lastName":"Modric","identificationNumber":"ID-1"}
+                        ]}
+                        """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+            .andExpect(jsonPath("$.results[1].error").value("Player with identification number 'ID-1' already exists"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the roster is empty")
+    void shouldReturn400WhenRosterIsEmpty() throws Exception {
+        // When & Then
+        mockMvc.perform(post(BULK_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"players\":[]}"))
+            .andExpect(status().isBadRequest());
+
+        verify(playerRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,138 @@
+package com.personal.tournament_api.player.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRow;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.PlayerRowResult;
+import com.personal.tournament_api.player.application.usecases.ImportPlayersUseCase.RowStatus;
+import com.personal.tournament_api.player.domain.exceptions.InvalidPlayerImportException;
+import com.personal.tournament_api.player.domain.model.Player;
+import com.personal.tournament_api.player.infrastructure.adapters.web.PlayerImportReader.Format;
+import com.personal.tournament_api.player.infrastructure.adapters.web.dto.PlayerImportResponseDTO;
+import com.personal.tournament_api.player.infrastructure.adapters.web.mapper.PlayerMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PlayerImportReader Unit Tests")
+class PlayerImportReaderTest {
+
+    private ValidatorFactory validatorFactory;
+    private PlayerImportReader reader;
+    private final List<List<PlayerRow>> chunks = new ArrayList<>();
+
+    private final Function<List<PlayerRow>, List<PlayerRowResult>> importer = rows -> {
+        chunks.add(rows);
+        return rows.stream()
+                .map(row -> PlayerRowResult.created(row, Player.reconstitute(row.rowNumber(), row.name(),
+                        row.lastName(), row.identificationNumber(), row.teamId())))
+                .toList();
+    };
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        reader = new PlayerImportReader(new ObjectMapper(), validatorFactory.getValidator(),
+                Mappers.getMapper(PlayerMapper.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    private PlayerImportResponseDTO read(String content, Format format) throws IOException {
+        return reader.read(10L, new BufferedReader(new StringReader(content)), format, importer);
+    }
+
+    @Test
+    @DisplayName("Should parse CSV rows with quoted cells and report bad lines by line number")
+    void shouldParseCsvAndReportBadLines() throws IOException {
+        // Given
+        String csv = """
+                teamId,name,lastName,identificationNumber
+                1,Luka,Modric,ID-1
+                2,"Pedri, Jr.",Gonzalez,ID-2
+
+                x,Toni,Kroos,ID-3
+                1,Karim,Benzema
+                1,,Vinicius,ID-5
+                """;
+
+        // When
+        PlayerImportResponseDTO response = read(csv, Format.CSV);
+
+        // Then
+        assertEquals(2, response.created());
+        assertEquals(3, response.rejected());
+        assertEquals(List.of(5L, 6L, 7L), response.results().stream().map(result -> result.rowNumber()).toList());
+        assertTrue(response.results().stream().allMatch(result -> result.status() == RowStatus.REJECTED));
+        assertEquals("teamId: must be a number", response.results().get(0).error());
+        assertEquals("name: Name is required", response.results().get(2).error());
+        assertEquals("Pedri, Jr.", chunks.get(0).get(1).name());
+        assertEquals(3L, chunks.get(0).get(1).rowNumber());
+    }
+
+    @Test
+    @DisplayName("Should parse NDJSON rows and reject malformed lines")
+    void shouldParseNdjson() throws IOException {
+        // Given
+        String ndjson = """
+                {"teamId":1,"name":"Luka","lastName":"Modric","identificationNumber":"ID-1"}
+                {"teamId":1,"name":"Toni"
+                {"teamId":1,"name":"Karim","lastName":"Benzema","identificationNumber":"ID-TOO-LONG-FOR-THE-COLUMN"}
+                """;
+
+        // When
+        PlayerImportResponseDTO response = read(ndjson, Format.NDJSON);
+
+        // Then
+        assertEquals(1, response.created());
+        assertEquals(2, response.rejected());
+        assertTrue(response.results().get(0).error().startsWith("Malformed JSON line"));
+        assertEquals("ID-TOO-LONG-FOR-THE-COLUMN", response.results().get(1).identificationNumber());
+    }
+
+    @Test
+    @DisplayName("Should hand rows to the use case in chunks")
+    void shouldImportInChunks() throws IOException {
+        // Given
+        StringBuilder ndjson = new StringBuilder();
+        int rows = PlayerImportReader.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            ndjson.append("{\"teamId\":1,\"name\":\"N\",\"lastName\":\"L\",\"identificationNumber\":\"ID-")
+                    .append(i).append("\"}\n");
+        }
+
+        // When
+        PlayerImportResponseDTO response = read(ndjson.toString(), Format.NDJSON);
+
+        // Then
+        assertEquals(rows, response.created());
+        assertEquals(List.of(PlayerImportReader.CHUNK_SIZE, PlayerImportReader.CHUNK_SIZE, 1),
+                chunks.stream().map(List::size).toList());
+        assertTrue(response.results().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV without the expected header or without rows")
+    void shouldRejectMissingHeaderOrEmptyFile() {
+        // When & Then
+        assertThrows(InvalidPlayerImportException.class, () -> read("1,Luka,Modric,ID-1\n", Format.CSV));
+        assertThrows(InvalidPlayerImportException.class,
+                () -> read("teamId,name,lastName,identificationNumber\n", Format.CSV));
+        assertTrue(chunks.isEmpty());
+    }
+}
@@ -0,0 +1,217 @@
+package com.personal.tournament_api.shared.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReadThroughCache Unit Tests")
+class ReadThroughCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadThroughCache<Long, StringBuilder> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ReadThroughCache<>("values", 100, Duration.ofMinutes(5), StringBuilder::new, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Function<Long, Optional<StringBuilder>> loaderOf(String value) {
+        return id -> {
+            loads.incrementAndGet();
+            return Optional.of(new StringBuilder(value));
+        };
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "values").tag("result", result).functionCounter().count();
+    }
+
+    private void commit() {
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(0);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should load once and serve later reads from the cache")
+        void shouldLoadOnceAndServeLaterReadsFromCache() {
+            // When
+            cache.get(1L, loaderOf("a"));
+            Optional<StringBuilder> second = cache.get(1L, loaderOf("a"));
+
+            // Then
+            assertEquals("a", second.orElseThrow().toString());
+            assertEquals(1, loads.get());
+            assertEquals(1, gets("hit"));
+            assertEquals(1, gets("miss"));
+        }
+
+        @Test
+        @DisplayName("Should return copies that do not affect the cached value when mutated")
+        void shouldReturnCopies() {
+            // Given
+            cache.get(1L, loaderOf("a")).orElseThrow().append("-changed");
+
+            // When
+            Optional<StringBuilder> result = cache.get(1L, loaderOf("a"));
+
+            // Then
+            assertEquals("a", result.orElseThrow().toString());
+        }
+
+        @Test
+        @DisplayName("Should not cache missing values")
+        void shouldNotCacheMissingValues() {
+            // Given
+            Function<Long, Optional<StringBuilder>> emptyLoader = id -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            };
+
+            // When
+            cache.get(1L, emptyLoader);
+            cache.get(1L, emptyLoader);
+
+            // Then
+            assertEquals(2, loads.get());
+            assertFalse(cache.contains(1L));
+        }
+
+        @Test
+        @DisplayName("Should load only the keys that are not cached")
+        void shouldLoadOnlyKeysThatAreNotCached() {
+            // Given
+            cache.get(1L, loaderOf("1"));
+            Map<Long, String> rows = Map.of(1L, "1", 2L, "2", 3L, "3");
+            Function<Collection<Long>, List<StringBuilder>> loader = ids -> {
+                assertEquals(List.of(2L, 3L), List.copyOf(ids));
+                return ids.stream().map(id -> new StringBuilder(rows.get(id))).toList();
+            };
+
+            // When
+            List<StringBuilder> values = cache.getAll(List.of(1L, 2L, 3L), value -> Long.valueOf(value.toString()), loader);
+
+            // Then
+            assertEquals(List.of("1", "2", "3"), values.stream().map(StringBuilder::toString).toList());
+            assertTrue(cache.contains(3L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should evict immediately outside a transaction")
+        void shouldEvictImmediatelyOutsideTransaction() {
+            // Given
+            cache.get(1L, loaderOf("a"));
+
+            // When
+            cache.invalidate(1L);
+            Optional<StringBuilder> result = cache.get(1L, loaderOf("b"));
+
+            // Then
+            assertEquals("b", result.orElseThrow().toString());
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should bypass the cache for keys written in the transaction and evict them after commit")
+        void shouldBypassWrittenKeysAndEvictAfterCommit() {
+            // Given
+            cache.get(1L, loaderOf("committed"));
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            cache.invalidate(1L);
+            Optional<StringBuilder> insideTransaction = cache.get(1L, loaderOf("uncommitted"));
+            commit();
+            Optional<StringBuilder> afterCommit = cache.get(1L, loaderOf("uncommitted"));
+
+            // Then
+            assertEquals("uncommitted", insideTransaction.orElseThrow().toString());
+            assertEquals("uncommitted", afterCommit.orElseThrow().toString());
+            assertEquals(3, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should keep the cached value when the writing transaction rolls back")
+        void shouldKeepCachedValueWhenTransactionRollsBack() {
+            // Given
+            cache.get(1L, loaderOf("committed"));
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            cache.invalidate(1L);
+            TransactionSynchronizationUtils.triggerAfterCompletion(1);
+            TransactionSynchronizationManager.clearSynchronization();
+            Optional<StringBuilder> result = cache.get(1L, loaderOf("uncommitted"));
+
+            // Then
+            assertEquals("committed", result.orElseThrow().toString());
+            assertEquals(1, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should evict every value matching a predicate")
+        void shouldEvictValuesMatchingPredicate() {
+            // Given
+            cache.get(1L, loaderOf("keep"));
+            cache.get(2L, loaderOf("drop"));
+
+            // When
+            cache.invalidateIf(value -> value.toString().equals("drop"));
+
+            // Then
+            assertTrue(cache.contains(1L));
+            assertFalse(cache.contains(2L));
+        }
+
+        @Test
+        @DisplayName("Should not keep a value loaded while a write was committed")
+        void shouldNotKeepValueLoadedWhileWriteWasCommitted() {
+            // Given — a write commits while the row is being read
+            Function<Long, Optional<StringBuilder>> racingLoader = id -> {
+                loads.incrementAndGet();
+                cache.invalidate(id);
+                return Optional.of(new StringBuilder("stale"));
+            };
+
+            // When
+            cache.get(1L, racingLoader);
+
+            // Then
+            assertFalse(cache.contains(1L));
+        }
+    }
+}
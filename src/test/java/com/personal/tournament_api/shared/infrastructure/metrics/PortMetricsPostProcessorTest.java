@@ -0,0 +1,152 @@
+package com.personal.tournament_api.shared.infrastructure.metrics;
+
+import com.personal.tournament_api.team.application.usecases.GetTeamUseCase;
+import com.personal.tournament_api.team.domain.exceptions.TeamNotFoundException;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDeletionJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PortMetricsPostProcessor Unit Tests")
+class PortMetricsPostProcessorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PortMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        postProcessor = new PortMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+        postProcessor.setBeanFactory(beanFactory);
+    }
+
+    @Test
+    @DisplayName("Should time use case calls tagged by port, operation, adapter and outcome")
+    void shouldTimeUseCaseCalls() {
+        GetTeamUseCase useCase = (GetTeamUseCase) postProcessor.postProcessAfterInitialization(new StubGetTeamUseCase(), "getTeamUseCase");
+
+        useCase.getById(1L);
+        useCase.getById(2L);
+
+        Timer timer = meterRegistry.get("usecase.invocations")
+                .tag("port", "GetTeamUseCase")
+                .tag("operation", "getById")
+                .tag("adapter", "StubGetTeamUseCase")
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should tag domain exceptions apart from unexpected errors and rethrow both")
+    void shouldTagFailuresByOutcome() {
+        GetTeamUseCase useCase = (GetTeamUseCase) postProcessor.postProcessAfterInitialization(new StubGetTeamUseCase(), "getTeamUseCase");
+
+        assertThrows(TeamNotFoundException.class, () -> useCase.getAllByTournamentIdOrderByNameAsc(1L));
+        assertThrows(IllegalStateException.class, () -> useCase.getStandingsByTournamentId(1L));
+
+        assertEquals(1, meterRegistry.get("usecase.invocations")
+                .tag("operation", "getAllByTournamentIdOrderByNameAsc")
+                .tag("outcome", "domain_error")
+                .tag("exception", "TeamNotFoundException")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("usecase.invocations")
+                .tag("operation", "getStandingsByTournamentId")
+                .tag("outcome", "error")
+                .tag("exception", "IllegalStateException")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Should time repository port calls under their own metric")
+    void shouldTimeRepositoryCalls() {
+        TournamentDeletionJobRepository repository = (TournamentDeletionJobRepository)
+                postProcessor.postProcessAfterInitialization(new StubDeletionJobRepository(), "deletionJobRepository");
+
+        repository.findUnfinished(10);
+
+        assertEquals(1, meterRegistry.get("repository.invocations")
+                .tag("port", "TournamentDeletionJobRepository")
+                .tag("operation", "findUnfinished")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Should leave beans that implement no port untouched")
+    void shouldIgnoreOtherBeans() {
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+
+    @Test
+    @DisplayName("Should not meter methods outside the port interface")
+    void shouldNotMeterMethodsOutsideThePort() {
+        StubGetTeamUseCase useCase = (StubGetTeamUseCase) postProcessor.postProcessAfterInitialization(new StubGetTeamUseCase(), "getTeamUseCase");
+
+        assertTrue(AopUtils.isCglibProxy(useCase));
+        useCase.helper();
+
+        assertTrue(meterRegistry.find("usecase.invocations").timers().isEmpty());
+    }
+
+    static class StubGetTeamUseCase implements GetTeamUseCase {
+
+        @Override
+        public Optional<Team> getById(Long teamId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Team> getAllByTournamentIdOrderByNameAsc(Long tournamentId) {
+            throw new TeamNotFoundException(tournamentId);
+        }
+
+        @Override
+        public List<Team> getStandingsByTournamentId(Long tournamentId) {
+            throw new IllegalStateException("boom");
+        }
+
+        public void helper() {
+        }
+    }
+
+    static class StubDeletionJobRepository implements TournamentDeletionJobRepository {
+
+        @Override
+        public TournamentDeletionJob save(TournamentDeletionJob job) {
+            return job;
+        }
+
+        @Override
+        public Optional<TournamentDeletionJob> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<TournamentDeletionJob> findUnfinished(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public boolean claim(Long id, String claimant, LocalDateTime now, LocalDateTime claimedUntil) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.personal.tournament_api.shared.infrastructure.persistence;
+
+import com.personal.tournament_api.match.application.usecases.CreateMatchUseCase;
+import com.personal.tournament_api.match.application.usecases.CreateMatchesUseCase;
+import com.personal.tournament_api.team.application.usecases.CreateTeamUseCase;
+import com.personal.tournament_api.team.application.usecases.CreateTeamsUseCase;
+import com.personal.tournament_api.team.domain.model.Team;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the JDBC round trips needed to create a league (teams plus a full round-robin of matches) one
+ * request at a time and through the bulk use cases, on an H2 database (PostgreSQL mode). Sequence ids let
+ * the bulk path send its inserts as JDBC batches; with IDENTITY ids every row would still be its own
+ * statement. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-insert-benchmark;MODE=PostgreSQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "jwt.secret=benchmark-secret-key-for-local-runs-only",
+        "jwt.expiration-ms=86400000",
+        "logging.level.com.personal.tournament_api=WARN"
+})
+@DisplayName("Bulk insert statement count benchmark")
+class BulkInsertStatementCountBenchmarkTest {
+
+    private static final int TEAMS = Integer.getInteger("benchmark.teams", 20);
+    private static final int BATCH_SIZE = 50;
+    private static final LocalDateTime KICK_OFF = LocalDateTime.of(2030, 1, 5, 15, 0);
+
+    private static final StatementCounter counter = new StatementCounter();
+
+    @Autowired
+    private CreateTeamUseCase createTeamUseCase;
+
+    @Autowired
+    private CreateTeamsUseCase createTeamsUseCase;
+
+    @Autowired
+    private CreateMatchUseCase createMatchUseCase;
+
+    @Autowired
+    private CreateMatchesUseCase createMatchesUseCase;
+
+    @Test
+    @DisplayName("bulk creation sends batched inserts and needs a fraction of the round trips")
+    void bulkCreationBatchesInserts() {
+        counter.start();
+        List<Long> teamIds = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teamIds.add(createTeamUseCase.create(new CreateTeamUseCase.CreateTeamCommand("Single " + i, "Coach " + i, 1L)).getId());
+        }
+        List<CreateMatchesUseCase.MatchData> singleFixture = roundRobin(teamIds);
+        singleFixture.forEach(match -> createMatchUseCase.create(new CreateMatchUseCase.CreateMatchCommand(1L,
+                match.homeTeamId(), match.awayTeamId(), match.matchDate(), match.field(), match.matchday())));
+        Counts oneByOne = counter.stop();
+
+        counter.start();
+        List<CreateTeamsUseCase.TeamData> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(new CreateTeamsUseCase.TeamData("Bulk " + i, "Coach " + i));
+        }
+        List<Long> bulkTeamIds = createTeamsUseCase.createAll(new CreateTeamsUseCase.CreateTeamsCommand(2L, teams)).stream()
+                .map(Team::getId)
+                .toList();
+        List<CreateMatchesUseCase.MatchData> bulkFixture = roundRobin(bulkTeamIds);
+        createMatchesUseCase.createAll(new CreateMatchesUseCase.CreateMatchesCommand(2L, bulkFixture));
+        Counts bulk = counter.stop();
+
+        int rows = TEAMS + bulkFixture.size();
+        System.out.printf(Locale.ROOT, "%n%-12s %6s %12s %17s%n", "path", "rows", "round trips", "insert executions");
+        System.out.printf(Locale.ROOT, "%-12s %6d %12d %17d%n", "one-by-one", rows, oneByOne.roundTrips, oneByOne.insertExecutions);
+        System.out.printf(Locale.ROOT, "%-12s %6d %12d %17d%n%n", "bulk", rows, bulk.roundTrips, bulk.insertExecutions);
+
+        assertEquals(rows, oneByOne.insertExecutions, "each single create sends its own insert");
+        assertTrue(bulk.insertExecutions <= rows / BATCH_SIZE + 2,
+                () -> "expected inserts in batches of " + BATCH_SIZE + ", got " + bulk.insertExecutions + " executions");
+        assertTrue(bulk.roundTrips * 10 < oneByOne.roundTrips,
+                () -> "expected at least 10x fewer round trips, got " + bulk.roundTrips + " vs " + oneByOne.roundTrips);
+    }
+
+    private static List<CreateMatchesUseCase.MatchData> roundRobin(List<Long> teamIds) {
+        List<CreateMatchesUseCase.MatchData> matches = new ArrayList<>();
+        for (int home = 0; home < teamIds.size(); home++) {
+            for (int away = home + 1; away < teamIds.size(); away++) {
+                matches.add(new CreateMatchesUseCase.MatchData(teamIds.get(home), teamIds.get(away),
+                        KICK_OFF.plusDays(matches.size() / 10 * 7L), "Field " + matches.size() % 3, matches.size() / 10 + 1));
+            }
+        }
+        return matches;
+    }
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private record Counts(int roundTrips, int insertExecutions) {}
+
+    /**
+     * Counts statement executions issued by the measuring thread only, so background jobs do not skew the
+     * numbers. An {@code executeBatch} counts as one round trip, however many rows it carries.
+     */
+    private static final class StatementCounter {
+        private volatile Thread measuringThread;
+        private final AtomicInteger roundTrips = new AtomicInteger();
+        private final AtomicInteger insertExecutions = new AtomicInteger();
+
+        void start() {
+            roundTrips.set(0);
+            insertExecutions.set(0);
+            measuringThread = Thread.currentThread();
+        }
+
+        Counts stop() {
+            measuringThread = null;
+            return new Counts(roundTrips.get(), insertExecutions.get());
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : "";
+                    return wrap(statement, method.getReturnType(), sql);
+                }
+                return result;
+            });
+        }
+
+        private Object wrap(Statement statement, Class<?> type, String sql) {
+            boolean insert = sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("insert");
+            return proxy(type, statement, (target, method, args) -> {
+                if (Thread.currentThread() == measuringThread) {
+                    if (method.getName().startsWith("execute")) {
+                        roundTrips.incrementAndGet();
+                        if (insert) {
+                            insertExecutions.incrementAndGet();
+                        }
+                    }
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, Object target, TargetHandler handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @FunctionalInterface
+        private interface TargetHandler {
+            Object handle(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+        }
+    }
+}
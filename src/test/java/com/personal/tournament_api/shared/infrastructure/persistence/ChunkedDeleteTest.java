@@ -0,0 +1,58 @@
+package com.personal.tournament_api.shared.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChunkedDelete Unit Tests")
+class ChunkedDeleteTest {
+
+    private final ChunkedDelete chunkedDelete = new ChunkedDelete(3);
+
+    @Test
+    @DisplayName("Should delete every row in chunks of the configured size")
+    void shouldDeleteEveryRowInChunks() {
+        List<Long> rows = new ArrayList<>(LongStream.rangeClosed(1, 7).boxed().toList());
+        List<List<Long>> statements = new ArrayList<>();
+
+        long deleted = chunkedDelete.deleteAll(limit -> next(rows, limit), ids -> {
+            statements.add(ids);
+            rows.removeAll(ids);
+            return ids.size();
+        });
+
+        assertEquals(7, deleted);
+        assertTrue(rows.isEmpty());
+        assertEquals(List.of(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L)), statements);
+    }
+
+    @Test
+    @DisplayName("Should stop after one empty lookup when there is nothing to delete")
+    void shouldStopWhenThereIsNothingToDelete() {
+        List<Limit> lookups = new ArrayList<>();
+
+        long deleted = chunkedDelete.deleteAll(limit -> {
+            lookups.add(limit);
+            return List.of();
+        }, ids -> fail("nothing should be deleted"));
+
+        assertEquals(0, deleted);
+        assertEquals(List.of(Limit.of(3)), lookups);
+    }
+
+    @Test
+    @DisplayName("Should reject a chunk size below one")
+    void shouldRejectNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedDelete(0));
+    }
+
+    private static List<Long> next(List<Long> rows, Limit limit) {
+        return List.copyOf(rows.subList(0, Math.min(limit.max(), rows.size())));
+    }
+}
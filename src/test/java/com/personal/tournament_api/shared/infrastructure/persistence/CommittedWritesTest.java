@@ -0,0 +1,62 @@
+package com.personal.tournament_api.shared.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommittedWrites Unit Tests")
+class CommittedWritesTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run the action at once outside a transaction")
+    void shouldRunAtOnceOutsideTransaction() {
+        List<String> actions = new ArrayList<>();
+
+        CommittedWrites.afterCommit(() -> actions.add("applied"));
+
+        assertEquals(List.of("applied"), actions);
+    }
+
+    @Test
+    @DisplayName("Should defer the action until the transaction commits")
+    void shouldDeferUntilCommit() {
+        List<String> actions = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        CommittedWrites.afterCommit(() -> actions.add("applied"));
+        assertTrue(actions.isEmpty());
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        assertEquals(List.of("applied"), actions);
+    }
+
+    @Test
+    @DisplayName("Should keep a loaded value only if no write was applied during the load")
+    void shouldKeepOnlyIfNoWriteWasApplied() {
+        CommittedWrites committedWrites = new CommittedWrites();
+        List<String> kept = new ArrayList<>();
+
+        long beforeStale = committedWrites.beforeLoad();
+        committedWrites.apply(() -> {});
+        committedWrites.keepIfUnchanged(beforeStale, () -> kept.add("stale"));
+
+        long beforeFresh = committedWrites.beforeLoad();
+        committedWrites.keepIfUnchanged(beforeFresh, () -> kept.add("fresh"));
+
+        assertEquals(List.of("fresh"), kept);
+    }
+}
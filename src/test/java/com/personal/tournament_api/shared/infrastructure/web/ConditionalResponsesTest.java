@@ -0,0 +1,51 @@
+package com.personal.tournament_api.shared.infrastructure.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConditionalResponses Unit Tests")
+class ConditionalResponsesTest {
+
+    private static final String ETAG = "\"1-3\"";
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tournaments");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    @Test
+    @DisplayName("Should build the body and tag it when the client has no matching tag")
+    void shouldBuildTaggedBodyWhenTagDoesNotMatch() {
+        // When
+        ResponseEntity<String> response = ConditionalResponses.ok(request("\"0-0\""), ETAG, () -> "body");
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("body", response.getBody());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without building the body when the tag matches")
+    void shouldAnswerNotModifiedWithoutBuildingBody() {
+        // When
+        ResponseEntity<String> response = ConditionalResponses.ok(request(ETAG), ETAG,
+                () -> fail("the body must not be built"));
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(ETAG, response.getHeaders().getETag());
+    }
+}
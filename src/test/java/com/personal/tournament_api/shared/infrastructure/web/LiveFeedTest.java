@@ -0,0 +1,144 @@
+package com.personal.tournament_api.shared.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LiveFeed Unit Tests")
+class LiveFeedTest {
+
+    private static final Long TOURNAMENT_ID = 1L;
+
+    private LiveFeed liveFeed;
+
+    @BeforeEach
+    void setUp() {
+        liveFeed = new LiveFeed(new ObjectMapper(), Duration.ofMinutes(1), 8, Runnable::run, null);
+    }
+
+    @Test
+    @DisplayName("Should send each pending update to every viewer of the tournament")
+    void shouldFanOutToEveryViewer() {
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter otherTournament = new RecordingEmitter();
+        liveFeed.subscribe(TOURNAMENT_ID, first);
+        liveFeed.subscribe(TOURNAMENT_ID, second);
+        liveFeed.subscribe(2L, otherTournament);
+
+        liveFeed.publish(TOURNAMENT_ID, "match", "match-1", () -> Map.of("matchId", 1));
+        liveFeed.flush();
+
+        assertEquals(1, first.frames.size());
+        assertTrue(first.frames.get(0).contains("event:match"));
+        assertTrue(first.frames.get(0).contains("data:{\"matchId\":1}"));
+        assertEquals(first.frames, second.frames);
+        assertTrue(otherTournament.frames.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should coalesce a burst on the same key and build the payload once per flush")
+    void shouldCoalesceBurstsAndBuildPayloadOnce() {
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        liveFeed.subscribe(TOURNAMENT_ID, first);
+        liveFeed.subscribe(TOURNAMENT_ID, second);
+        AtomicInteger standingsBuilds = new AtomicInteger();
+
+        liveFeed.publish(TOURNAMENT_ID, "match", "match-1", () -> Map.of("score", "1-0"));
+        liveFeed.publish(TOURNAMENT_ID, "standings", "standings", () -> standingsBuilds.incrementAndGet());
+        liveFeed.publish(TOURNAMENT_ID, "match", "match-1", () -> Map.of("score", "2-0"));
+        liveFeed.publish(TOURNAMENT_ID, "standings", "standings", () -> standingsBuilds.incrementAndGet());
+        liveFeed.flush();
+
+        assertEquals(1, standingsBuilds.get());
+        assertEquals(2, first.frames.size());
+        assertTrue(first.frames.get(0).contains("2-0"));
+        assertTrue(first.frames.get(1).contains("event:standings"));
+        assertFalse(first.frames.stream().anyMatch(frame -> frame.contains("1-0")));
+        assertEquals(first.frames, second.frames);
+    }
+
+    @Test
+    @DisplayName("Should not queue or build anything for a tournament nobody is watching")
+    void shouldIgnoreTournamentsWithoutViewers() {
+        AtomicInteger builds = new AtomicInteger();
+
+        liveFeed.publish(TOURNAMENT_ID, "standings", "standings", builds::incrementAndGet);
+        RecordingEmitter lateViewer = new RecordingEmitter();
+        liveFeed.subscribe(TOURNAMENT_ID, lateViewer);
+        liveFeed.flush();
+
+        assertEquals(0, builds.get());
+        assertTrue(lateViewer.frames.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop a viewer whose connection fails and keep serving the rest")
+    void shouldDropBrokenViewers() {
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failing = true;
+        RecordingEmitter healthy = new RecordingEmitter();
+        liveFeed.subscribe(TOURNAMENT_ID, broken);
+        liveFeed.subscribe(TOURNAMENT_ID, healthy);
+
+        liveFeed.publish(TOURNAMENT_ID, "match", "match-1", () -> 1);
+        liveFeed.flush();
+
+        assertEquals(1, liveFeed.viewerCount(TOURNAMENT_ID));
+        assertEquals(1, healthy.frames.size());
+    }
+
+    @Test
+    @DisplayName("Should skip an update whose payload cannot be built")
+    void shouldSkipFailedPayloads() {
+        RecordingEmitter viewer = new RecordingEmitter();
+        liveFeed.subscribe(TOURNAMENT_ID, viewer);
+
+        liveFeed.publish(TOURNAMENT_ID, "standings", "standings", () -> {
+            throw new IllegalStateException("boom");
+        });
+        liveFeed.publish(TOURNAMENT_ID, "match", "match-1", () -> 1);
+        liveFeed.flush();
+
+        assertEquals(1, viewer.frames.size());
+        assertTrue(viewer.frames.get(0).contains("event:match"));
+    }
+
+    @Test
+    @DisplayName("Should send keep-alive comments to every viewer")
+    void shouldSendHeartbeats() {
+        RecordingEmitter viewer = new RecordingEmitter();
+        liveFeed.subscribe(TOURNAMENT_ID, viewer);
+
+        liveFeed.heartbeat();
+
+        assertEquals(List.of(":keep-alive\n\n"), viewer.frames);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.personal.tournament_api.shared.infrastructure.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TournamentVersions Unit Tests")
+class TournamentVersionsTest {
+
+    private TournamentVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        versions = new TournamentVersions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should issue quoted, stable tags until something changes")
+    void shouldIssueStableTagsUntilSomethingChanges() {
+        String etag = versions.etag(1L);
+
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        assertEquals(etag, versions.etag(1L));
+        assertNotEquals(etag, versions.etag(2L));
+    }
+
+    @Test
+    @DisplayName("Should change only the tag of the tournament that changed")
+    void shouldChangeOnlyTheTagOfTheTournamentThatChanged() {
+        String first = versions.etag(1L);
+        String second = versions.etag(2L);
+        String catalog = versions.catalogEtag();
+
+        versions.tournamentChanged(1L);
+
+        assertNotEquals(first, versions.etag(1L));
+        assertEquals(second, versions.etag(2L));
+        assertEquals(catalog, versions.catalogEtag());
+    }
+
+    @Test
+    @DisplayName("Should change the tournament and the catalog tag when the tournament itself changes")
+    void shouldChangeTournamentAndCatalogTag() {
+        String tournament = versions.etag(1L);
+        String catalog = versions.catalogEtag();
+
+        versions.catalogChanged(1L);
+
+        assertNotEquals(tournament, versions.etag(1L));
+        assertNotEquals(catalog, versions.catalogEtag());
+    }
+
+    @Test
+    @DisplayName("Should advance the tag only after the transaction commits")
+    void shouldAdvanceTagOnlyAfterCommit() {
+        String etag = versions.etag(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        versions.tournamentChanged(1L);
+        assertEquals(etag, versions.etag(1L));
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertNotEquals(etag, versions.etag(1L));
+    }
+
+    @Test
+    @DisplayName("Should not match tags issued by a previous instance")
+    void shouldNotMatchTagsIssuedByPreviousInstance() throws InterruptedException {
+        String etag = versions.etag(1L);
+        Thread.sleep(2);
+
+        assertNotEquals(etag, new TournamentVersions().etag(1L));
+    }
+}
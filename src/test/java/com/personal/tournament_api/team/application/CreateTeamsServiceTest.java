@@ -0,0 +1,69 @@
+package com.personal.tournament_api.team.application;
+
+import com.personal.tournament_api.team.application.usecases.CreateTeamsUseCase.CreateTeamsCommand;
+import com.personal.tournament_api.team.application.usecases.CreateTeamsUseCase.TeamData;
+import com.personal.tournament_api.team.domain.TeamDomainService;
+import com.personal.tournament_api.team.domain.exceptions.DuplicateTeamNameException;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CreateTeamsService Tests")
+@ExtendWith(MockitoExtension.class)
+class CreateTeamsServiceTest {
+
+    @Mock private TeamRepository teamRepository;
+    @Mock private TeamDomainService teamDomainService;
+
+    private CreateTeamsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CreateTeamsService(teamRepository, teamDomainService);
+    }
+
+    @Test
+    @DisplayName("Should validate all names at once and save every team in one call")
+    void shouldCreateAllTeamsInOneCall() {
+        // Given
+        CreateTeamsCommand command = new CreateTeamsCommand(1L, List.of(
+                new TeamData("Real Madrid", "Carlo Ancelotti"), new TeamData("Barcelona", "Hansi Flick")));
+        when(teamRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<Team> result = service.createAll(command);
+
+        // Then
+        assertEquals(List.of("Real Madrid", "Barcelona"), result.stream().map(Team::getName).toList());
+        assertTrue(result.stream().allMatch(team -> Long.valueOf(1L).equals(team.getTournamentId())));
+        verify(teamDomainService).validateUniqueTeamNames(List.of("Real Madrid", "Barcelona"), teamRepository);
+        verify(teamRepository, times(1)).saveAll(anyList());
+        verify(teamRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should not save anything when a name is already taken")
+    void shouldNotSaveWhenNameIsTaken() {
+        // Given
+        CreateTeamsCommand command = new CreateTeamsCommand(1L, List.of(new TeamData("Real Madrid", "Carlo Ancelotti")));
+        doThrow(new DuplicateTeamNameException("Real Madrid"))
+                .when(teamDomainService).validateUniqueTeamNames(anyList(), eq(teamRepository));
+
+        // When & Then
+        assertThrows(DuplicateTeamNameException.class, () -> service.createAll(command));
+        verify(teamRepository, never()).saveAll(anyList());
+    }
+}
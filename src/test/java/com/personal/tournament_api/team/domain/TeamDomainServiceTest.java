@@ -11,7 +11,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -131,6 +134,47 @@ class TeamDomainServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Validate Unique Team Names Tests")
+    class ValidateUniqueTeamNamesTests {
+
+        @Test
+        @DisplayName("Should check every name with a single repository query")
+        void shouldCheckAllNamesWithSingleQuery() {
+            // Given
+            List<String> names = List.of("Real Madrid", "Barcelona", "Sevilla");
+            when(teamRepository.findExistingNames(names)).thenReturn(List.of());
+
+            // When & Then
+            assertDoesNotThrow(() -> teamDomainService.validateUniqueTeamNames(names, teamRepository));
+            verify(teamRepository, times(1)).findExistingNames(names);
+            verify(teamRepository, never()).existsByName(anyString());
+        }
+
+        @Test
+        @DisplayName("Should throw DuplicateTeamNameException when a name is repeated in the request")
+        void shouldThrowWhenNameIsRepeatedInRequest() {
+            // When & Then
+            DuplicateTeamNameException exception = assertThrows(DuplicateTeamNameException.class,
+                    () -> teamDomainService.validateUniqueTeamNames(List.of("Real Madrid", "Real Madrid"), teamRepository));
+            assertTrue(exception.getMessage().contains("Real Madrid"));
+            verifyNoInteractions(teamRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw DuplicateTeamNameException when a name already exists")
+        void shouldThrowWhenNameAlreadyExists() {
+            // Given
+            List<String> names = List.of("Real Madrid", "Barcelona");
+            when(teamRepository.findExistingNames(names)).thenReturn(List.of("Barcelona"));
+
+            // When & Then
+            DuplicateTeamNameException exception = assertThrows(DuplicateTeamNameException.class,
+                    () -> teamDomainService.validateUniqueTeamNames(names, teamRepository));
+            assertTrue(exception.getMessage().contains("Barcelona"));
+        }
+    }
+
     @Nested
     @DisplayName("Validate Unique Name For Update Tests")
     class ValidateUniqueNameForUpdateTests {
@@ -217,6 +217,23 @@ class TeamDomainExceptionsTest {
         }
     }
 
+    @Nested
+    @DisplayName("InvalidTeamStatsException Tests")
+    class InvalidTeamStatsExceptionTests {
+
+        @Test
+        @DisplayName("Should create exception with the reason in the message")
+        void shouldCreateExceptionWithReason() {
+            // When
+            InvalidTeamStatsException exception = new InvalidTeamStatsException("points is required");
+
+            // Then
+            assertEquals("Invalid team stats: points is required", exception.getMessage());
+            assertEquals(DomainErrorType.VALIDATION_ERROR, exception.getErrorType());
+            assertInstanceOf(TeamDomainException.class, exception);
+        }
+    }
+
     @Nested
     @DisplayName("InvalidTeamTournamentIdException Tests")
     class InvalidTeamTournamentIdExceptionTests {
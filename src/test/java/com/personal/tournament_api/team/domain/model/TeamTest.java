@@ -177,6 +177,65 @@ class TeamTest {
         }
     }
 
+    @Nested
+    @DisplayName("Restore Tests")
+    class RestoreTests {
+
+        @Test
+        @DisplayName("Should restore a team with consistent stats")
+        void shouldRestoreTeamWithConsistentStats() {
+            // When
+            Team team = Team.restore("Real Madrid", "Carlo Ancelotti", 10L, 7, 4, 2, 1, 1, 6, 4, 2);
+
+            // Then
+            assertNull(team.getId());
+            assertEquals(7, team.getPoints());
+            assertEquals(4, team.getMatchesPlayed());
+            assertEquals(2, team.getGoalDifference());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when a stat is missing")
+        void shouldThrowExceptionWhenStatIsMissing() {
+            InvalidTeamStatsException exception = assertThrows(InvalidTeamStatsException.class, () ->
+                Team.restore("Real Madrid", "Carlo Ancelotti", 10L, 7, null, 2, 1, 1, 6, 4, 2)
+            );
+            assertTrue(exception.getMessage().contains("matchesPlayed is required"));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when a stat is negative")
+        void shouldThrowExceptionWhenStatIsNegative() {
+            assertThrows(InvalidTeamStatsException.class, () ->
+                Team.restore("Real Madrid", "Carlo Ancelotti", 10L, 0, 0, 0, 0, 0, -1, 0, -1)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when points do not match wins and draws")
+        void shouldThrowExceptionWhenPointsAreInconsistent() {
+            assertThrows(InvalidTeamStatsException.class, () ->
+                Team.restore("Real Madrid", "Carlo Ancelotti", 10L, 9, 4, 2, 1, 1, 6, 4, 2)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when matches played do not add up")
+        void shouldThrowExceptionWhenMatchesPlayedAreInconsistent() {
+            assertThrows(TeamMatchesPlayedException.class, () ->
+                Team.restore("Real Madrid", "Carlo Ancelotti", 10L, 7, 5, 2, 1, 1, 6, 4, 2)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when goal difference does not add up")
+        void shouldThrowExceptionWhenGoalDifferenceIsInconsistent() {
+            assertThrows(TeamGoalsDifferenceException.class, () ->
+                Team.restore("Real Madrid", "Carlo Ancelotti", 10L, 7, 4, 2, 1, 1, 6, 4, 3)
+            );
+        }
+    }
+
     @Nested
     @DisplayName("Update Details Tests")
     class UpdateDetailsTests {
@@ -0,0 +1,265 @@
+package com.personal.tournament_api.team.infrastructure.adapters.match;
+
+import com.personal.tournament_api.match.domain.model.MatchResultDelta;
+import com.personal.tournament_api.match.domain.model.MatchScore;
+import com.personal.tournament_api.match.domain.ports.MatchTeamPort.TournamentTeams;
+import com.personal.tournament_api.team.domain.exceptions.TeamNotFoundException;
+import com.personal.tournament_api.team.domain.exceptions.TeamNotInTournamentException;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchTeamAdapter Unit Tests")
+class MatchTeamAdapterTest {
+
+    private static final Long TOURNAMENT_ID = 10L;
+    private static final Long HOME_TEAM_ID = 1L;
+    private static final Long AWAY_TEAM_ID = 2L;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @InjectMocks
+    private MatchTeamAdapter matchTeamAdapter;
+
+    private Team newTeam(Long id, Long tournamentId) {
+        return Team.reconstitute(id, "Team " + id, "Coach " + id, tournamentId, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    @Nested
+    @DisplayName("Find Team Ids By Tournament Id Tests")
+    class FindTeamIdsByTournamentIdTests {
+
+        @Test
+        @DisplayName("Should return the ids of the tournament teams in name order")
+        void shouldReturnTeamIdsInNameOrder() {
+            // Given
+            when(teamRepository.findAllByTournamentIdOrderByNameAsc(TOURNAMENT_ID))
+                    .thenReturn(List.of(newTeam(AWAY_TEAM_ID, TOURNAMENT_ID), newTeam(HOME_TEAM_ID, TOURNAMENT_ID)));
+
+            // When
+            List<Long> result = matchTeamAdapter.findTeamIdsByTournamentId(TOURNAMENT_ID);
+
+            // Then
+            assertEquals(List.of(AWAY_TEAM_ID, HOME_TEAM_ID), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Load Teams In Tournament Tests")
+    class LoadTeamsInTournamentTests {
+
+        @Test
+        @DisplayName("Should keep only the existing teams of the tournament")
+        void shouldKeepOnlyExistingTeamsOfTheTournament() {
+            // Given
+            when(teamRepository.findAllById(List.of(HOME_TEAM_ID, AWAY_TEAM_ID, 3L)))
+                    .thenReturn(List.of(newTeam(HOME_TEAM_ID, TOURNAMENT_ID), newTeam(AWAY_TEAM_ID, 99L)));
+
+            // When
+            TournamentTeams result = matchTeamAdapter.loadTeamsInTournament(TOURNAMENT_ID,
+                    List.of(HOME_TEAM_ID, AWAY_TEAM_ID, 3L));
+
+            // Then
+            assertTrue(result.contains(HOME_TEAM_ID));
+            assertFalse(result.contains(AWAY_TEAM_ID));
+            assertFalse(result.contains(3L));
+        }
+
+        @Test
+        @DisplayName("Should not query when there are no teams to load")
+        void shouldNotQueryWithoutTeams() {
+            // When
+            TournamentTeams result = matchTeamAdapter.loadTeamsInTournament(TOURNAMENT_ID, List.of());
+
+            // Then
+            assertFalse(result.contains(HOME_TEAM_ID));
+            verifyNoInteractions(teamRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Apply Result Delta Tests")
+    class ApplyResultDeltaTests {
+
+        @Test
+        @DisplayName("Should load both teams once and save them together when recording a new result")
+        void shouldLoadBothTeamsOnceAndSaveThemTogether() {
+            // Given
+            Team home = newTeam(HOME_TEAM_ID, TOURNAMENT_ID);
+            Team away = newTeam(AWAY_TEAM_ID, TOURNAMENT_ID);
+            when(teamRepository.findAllById(List.of(HOME_TEAM_ID, AWAY_TEAM_ID))).thenReturn(List.of(home, away));
+
+            // When
+            matchTeamAdapter.applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID, null, new MatchScore(3, 1));
+
+            // Then
+            assertEquals(3, home.getPoints());
+            assertEquals(1, home.getMatchesWin());
+            assertEquals(0, away.getPoints());
+            assertEquals(1, away.getMatchesLost());
+
+            verify(teamRepository, times(1)).findAllById(List.of(HOME_TEAM_ID, AWAY_TEAM_ID));
+            verify(teamRepository, times(1)).saveAll(List.of(home, away));
+            verify(teamRepository, never()).findById(any());
+            verify(teamRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reverse previous result and record new one when correcting")
+        void shouldReversePreviousResultAndRecordNewOne() {
+            // Given — home won 2-0, corrected to a 1-1 draw
+            Team home = Team.reconstitute(HOME_TEAM_ID, "Team 1", "Coach 1", TOURNAMENT_ID, 3, 1, 1, 0, 0, 2, 0, 2);
+            Team away = Team.reconstitute(AWAY_TEAM_ID, "Team 2", "Coach 2", TOURNAMENT_ID, 0, 1, 0, 0, 1, 0, 2, -2);
+            when(teamRepository.findAllById(anyList())).thenReturn(List.of(away, home));
+
+            // When
+            matchTeamAdapter.applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                    new MatchScore(2, 0), new MatchScore(1, 1));
+
+            // Then
+            assertEquals(1, home.getPoints());
+            assertEquals(1, home.getMatchesPlayed());
+            assertEquals(0, home.getMatchesWin());
+            assertEquals(1, home.getMatchesDraw());
+            assertEquals(0, home.getGoalDifference());
+            assertEquals(1, away.getPoints());
+            assertEquals(0, away.getMatchesLost());
+            assertEquals(1, away.getMatchesDraw());
+
+            verify(teamRepository, times(1)).saveAll(List.of(home, away));
+        }
+
+        @Test
+        @DisplayName("Should only reverse stats when no new score is given")
+        void shouldOnlyReverseStatsWhenNoNewScore() {
+            // Given
+            Team home = Team.reconstitute(HOME_TEAM_ID, "Team 1", "Coach 1", TOURNAMENT_ID, 1, 1, 0, 1, 0, 1, 1, 0);
+            Team away = Team.reconstitute(AWAY_TEAM_ID, "Team 2", "Coach 2", TOURNAMENT_ID, 1, 1, 0, 1, 0, 1, 1, 0);
+            when(teamRepository.findAllById(anyList())).thenReturn(List.of(home, away));
+
+            // When
+            matchTeamAdapter.applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID, new MatchScore(1, 1), null);
+
+            // Then
+            assertEquals(0, home.getPoints());
+            assertEquals(0, home.getMatchesPlayed());
+            assertEquals(0, away.getPoints());
+            assertEquals(0, away.getMatchesPlayed());
+            verify(teamRepository, times(1)).saveAll(List.of(home, away));
+        }
+
+        @Test
+        @DisplayName("Should throw TeamNotFoundException when a team is missing")
+        void shouldThrowWhenTeamIsMissing() {
+            // Given
+            when(teamRepository.findAllById(anyList())).thenReturn(List.of(newTeam(HOME_TEAM_ID, TOURNAMENT_ID)));
+
+            // When & Then
+            TeamNotFoundException exception = assertThrows(TeamNotFoundException.class,
+                    () -> matchTeamAdapter.applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                            null, new MatchScore(1, 0)));
+
+            assertTrue(exception.getMessage().contains(String.valueOf(AWAY_TEAM_ID)));
+            verify(teamRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should throw TeamNotInTournamentException when a team belongs to another tournament")
+        void shouldThrowWhenTeamBelongsToAnotherTournament() {
+            // Given
+            Team home = newTeam(HOME_TEAM_ID, TOURNAMENT_ID);
+            Team away = newTeam(AWAY_TEAM_ID, 99L);
+            when(teamRepository.findAllById(anyList())).thenReturn(List.of(home, away));
+
+            // When & Then
+            assertThrows(TeamNotInTournamentException.class,
+                    () -> matchTeamAdapter.applyResultDelta(TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID,
+                            null, new MatchScore(1, 0)));
+
+            assertEquals(0, home.getPoints());
+            verify(teamRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tournament Teams Apply Result Deltas Tests")
+    class ApplyResultDeltasTests {
+
+        @Test
+        @DisplayName("Should apply the deltas to the loaded teams without reading them again and save each team once")
+        void shouldApplyToLoadedTeamsAndSaveOnce() {
+            // Given — 1 beats 2, then the result is corrected to a draw; 3 beats 4
+            Team first = newTeam(1L, TOURNAMENT_ID);
+            Team second = newTeam(2L, TOURNAMENT_ID);
+            Team third = newTeam(3L, TOURNAMENT_ID);
+            Team fourth = newTeam(4L, TOURNAMENT_ID);
+            when(teamRepository.findAllById(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(fourth, third, second, first));
+            TournamentTeams teams = matchTeamAdapter.loadTeamsInTournament(TOURNAMENT_ID, List.of(1L, 2L, 3L, 4L));
+
+            // When
+            teams.applyResultDeltas(List.of(
+                    new MatchResultDelta(1L, 2L, null, new MatchScore(2, 0)),
+                    new MatchResultDelta(3L, 4L, null, new MatchScore(1, 0)),
+                    new MatchResultDelta(1L, 2L, new MatchScore(2, 0), new MatchScore(1, 1))));
+
+            // Then
+            assertEquals(1, first.getPoints());
+            assertEquals(1, first.getMatchesDraw());
+            assertEquals(0, first.getMatchesWin());
+            assertEquals(1, second.getPoints());
+            assertEquals(3, third.getPoints());
+            assertEquals(0, fourth.getPoints());
+            verify(teamRepository, times(1)).findAllById(anyList());
+            verify(teamRepository, times(1)).saveAll(List.of(first, second, third, fourth));
+        }
+
+        @Test
+        @DisplayName("Should only save the teams the deltas touch")
+        void shouldOnlySaveTouchedTeams() {
+            // Given
+            Team first = newTeam(1L, TOURNAMENT_ID);
+            Team second = newTeam(2L, TOURNAMENT_ID);
+            Team third = newTeam(3L, TOURNAMENT_ID);
+            when(teamRepository.findAllById(anyList())).thenReturn(List.of(first, second, third));
+            TournamentTeams teams = matchTeamAdapter.loadTeamsInTournament(TOURNAMENT_ID, List.of(1L, 2L, 3L));
+
+            // When
+            teams.applyResultDeltas(List.of(new MatchResultDelta(2L, 1L, null, new MatchScore(0, 1))));
+
+            // Then
+            verify(teamRepository, times(1)).saveAll(List.of(second, first));
+        }
+
+        @Test
+        @DisplayName("Should not update any team when one of them was not loaded")
+        void shouldNotUpdateAnyTeamWhenOneWasNotLoaded() {
+            // Given
+            Team first = newTeam(1L, TOURNAMENT_ID);
+            Team second = newTeam(2L, TOURNAMENT_ID);
+            when(teamRepository.findAllById(anyList())).thenReturn(List.of(first, second, newTeam(3L, 99L)));
+            TournamentTeams teams = matchTeamAdapter.loadTeamsInTournament(TOURNAMENT_ID, List.of(1L, 2L, 3L));
+
+            // When & Then
+            assertThrows(TeamNotFoundException.class, () -> teams.applyResultDeltas(List.of(
+                    new MatchResultDelta(1L, 2L, null, new MatchScore(2, 0)),
+                    new MatchResultDelta(1L, 3L, null, new MatchScore(2, 0)))));
+            assertEquals(0, first.getPoints());
+            verify(teamRepository, never()).saveAll(anyList());
+        }
+    }
+}
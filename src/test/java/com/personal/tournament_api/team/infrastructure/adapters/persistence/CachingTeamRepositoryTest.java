@@ -0,0 +1,134 @@
+package com.personal.tournament_api.team.infrastructure.adapters.persistence;
+
+import com.personal.tournament_api.shared.infrastructure.cache.ReadThroughCache;
+import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.domain.ports.TeamRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingTeamRepository Unit Tests")
+class CachingTeamRepositoryTest {
+
+    private static final Long TOURNAMENT_ID = 10L;
+
+    @Mock
+    private TeamRepository delegate;
+
+    private CachingTeamRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingTeamRepository(delegate, new ReadThroughCache<>("teams", 100, Duration.ofMinutes(5),
+                CachingTeamRepository::copyOf, new SimpleMeterRegistry()));
+    }
+
+    private Team team(Long id, int points) {
+        return Team.reconstitute(id, "Team " + id, "Coach " + id, TOURNAMENT_ID, points, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    @Nested
+    @DisplayName("Find Tests")
+    class FindTests {
+
+        @Test
+        @DisplayName("Should hit the database once for repeated lookups by id")
+        void shouldHitDatabaseOnceForRepeatedLookups() {
+            // Given
+            when(delegate.findById(1L)).thenReturn(Optional.of(team(1L, 3)));
+
+            // When
+            repository.findById(1L);
+            Optional<Team> result = repository.findById(1L);
+
+            // Then
+            assertEquals(3, result.orElseThrow().getPoints());
+            verify(delegate, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("Should load only uncached teams when finding several by id")
+        void shouldLoadOnlyUncachedTeams() {
+            // Given
+            when(delegate.findById(1L)).thenReturn(Optional.of(team(1L, 3)));
+            when(delegate.findAllById(List.of(2L))).thenReturn(List.of(team(2L, 1)));
+            repository.findById(1L);
+
+            // When
+            List<Team> result = repository.findAllById(List.of(1L, 2L));
+
+            // Then
+            assertEquals(List.of(1L, 2L), result.stream().map(Team::getId).toList());
+            verify(delegate).findAllById(List.of(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should reload a team after it is saved")
+        void shouldReloadTeamAfterSave() {
+            // Given
+            Team updated = team(1L, 6);
+            when(delegate.findById(1L)).thenReturn(Optional.of(team(1L, 3)), Optional.of(updated));
+            when(delegate.save(updated)).thenReturn(updated);
+            repository.findById(1L);
+
+            // When
+            repository.save(updated);
+            Optional<Team> result = repository.findById(1L);
+
+            // Then
+            assertEquals(6, result.orElseThrow().getPoints());
+            verify(delegate, times(2)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("Should reload every team after saving them in batch")
+        void shouldReloadTeamsAfterSaveAll() {
+            // Given
+            List<Team> teams = List.of(team(1L, 3), team(2L, 0));
+            when(delegate.findAllById(List.of(1L, 2L))).thenReturn(teams);
+            when(delegate.saveAll(teams)).thenReturn(teams);
+            repository.findAllById(List.of(1L, 2L));
+
+            // When
+            repository.saveAll(teams);
+            repository.findAllById(List.of(1L, 2L));
+
+            // Then
+            verify(delegate, times(2)).findAllById(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("Should evict the tournament's teams when they are deleted")
+        void shouldEvictTournamentTeamsOnDelete() {
+            // Given
+            when(delegate.findById(1L)).thenReturn(Optional.of(team(1L, 3)), Optional.empty());
+            repository.findById(1L);
+
+            // When
+            repository.deleteByTournamentId(TOURNAMENT_ID);
+            Optional<Team> result = repository.findById(1L);
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(delegate).deleteByTournamentId(TOURNAMENT_ID);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.personal.tournament_api.team.infrastructure.adapters.persistence;
+
+import com.personal.tournament_api.team.domain.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StandingsProjection Unit Tests")
+class StandingsProjectionTest {
+
+    private static final Long TOURNAMENT_ID = 10L;
+
+    private StandingsProjection projection;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        projection = new StandingsProjection();
+        loads = new AtomicInteger();
+    }
+
+    private Team team(Long id, String name, int points, int goalsFor, int goalsAgainst) {
+        return Team.reconstitute(id, name, "Coach " + id, TOURNAMENT_ID,
+                points, 0, 0, 0, 0, goalsFor, goalsAgainst, goalsFor - goalsAgainst);
+    }
+
+    private Function<Long, List<Team>> loaderOf(List<Team> teams) {
+        return tournamentId -> {
+            loads.incrementAndGet();
+            return teams;
+        };
+    }
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should load standings once and serve later reads from memory")
+        void shouldLoadStandingsOnceAndServeLaterReadsFromMemory() {
+            // Given
+            Function<Long, List<Team>> loader = loaderOf(List.of(team(1L, "Alpha", 3, 2, 0)));
+
+            // When
+            projection.getStandings(TOURNAMENT_ID, loader);
+            projection.getStandings(TOURNAMENT_ID, loader);
+
+            // Then
+            assertEquals(1, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should order by points, goal difference, goals for and name")
+        void shouldOrderByPointsGoalDifferenceGoalsForAndName() {
+            // Given
+            List<Team> teams = List.of(
+                    team(1L, "Delta", 3, 1, 1),
+                    team(2L, "Charlie", 3, 3, 1),
+                    team(3L, "Bravo", 3, 2, 0),
+                    team(4L, "Alpha", 6, 1, 0),
+                    team(5L, "Echo", 3, 3, 1));
+
+            // When
+            List<Team> standings = projection.getStandings(TOURNAMENT_ID, loaderOf(teams));
+
+            // Then
+            assertEquals(List.of("Alpha", "Charlie", "Echo", "Bravo", "Delta"),
+                    standings.stream().map(Team::getName).toList());
+        }
+
+        @Test
+        @DisplayName("Should return copies that do not affect the projection when mutated")
+        void shouldReturnCopiesThatDoNotAffectProjection() {
+            // Given
+            Function<Long, List<Team>> loader = loaderOf(List.of(team(1L, "Alpha", 0, 0, 0)));
+            projection.getStandings(TOURNAMENT_ID, loader).get(0).recordMatchResult(2, 0);
+
+            // When
+            List<Team> standings = projection.getStandings(TOURNAMENT_ID, loader);
+
+            // Then
+            assertEquals(0, standings.get(0).getPoints());
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should apply saved teams and reorder without reloading")
+        void shouldApplySavedTeamsAndReorderWithoutReloading() {
+            // Given
+            Function<Long, List<Team>> loader = loaderOf(List.of(team(1L, "Alpha", 3, 1, 0), team(2L, "Bravo", 0, 0, 1)));
+            projection.getStandings(TOURNAMENT_ID, loader);
+
+            // When
+            projection.teamsSaved(List.of(team(2L, "Bravo", 3, 2, 1), team(3L, "Charlie", 0, 0, 0)));
+            List<Team> standings = projection.getStandings(TOURNAMENT_ID, loader);
+
+            // Then
+            assertEquals(1, loads.get());
+            assertEquals(List.of("Bravo", "Alpha", "Charlie"), standings.stream().map(Team::getName).toList());
+        }
+
+        @Test
+        @DisplayName("Should remove deleted team from standings")
+        void shouldRemoveDeletedTeamFromStandings() {
+            // Given
+            Function<Long, List<Team>> loader = loaderOf(List.of(team(1L, "Alpha", 3, 1, 0), team(2L, "Bravo", 0, 0, 1)));
+            projection.getStandings(TOURNAMENT_ID, loader);
+
+            // When
+            projection.teamDeleted(1L);
+            List<Team> standings = projection.getStandings(TOURNAMENT_ID, loader);
+
+            // Then
+            assertEquals(1, standings.size());
+            assertEquals("Bravo", standings.get(0).getName());
+        }
+
+        @Test
+        @DisplayName("Should reload tournament after it is deleted")
+        void shouldReloadTournamentAfterItIsDeleted() {
+            // Given
+            Function<Long, List<Team>> loader = loaderOf(List.of());
+            projection.getStandings(TOURNAMENT_ID, loader);
+
+            // When
+            projection.tournamentDeleted(TOURNAMENT_ID);
+            projection.getStandings(TOURNAMENT_ID, loader);
+
+            // Then
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should not keep standings loaded while a write was committed")
+        void shouldNotKeepStandingsLoadedWhileWriteWasCommitted() {
+            // Given — a write commits while the rows are being read
+            Function<Long, List<Team>> racingLoader = tournamentId -> {
+                loads.incrementAndGet();
+                projection.teamDeleted(99L);
+                return List.of(team(1L, "Alpha", 0, 0, 0));
+            };
+
+            // When
+            projection.getStandings(TOURNAMENT_ID, racingLoader);
+            projection.getStandings(TOURNAMENT_ID, loaderOf(List.of()));
+
+            // Then
+            assertEquals(2, loads.get());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.personal.tournament_api.team.infrastructure.adapters.persistence;
 
+import com.personal.tournament_api.shared.infrastructure.persistence.ChunkedDelete;
 import com.personal.tournament_api.team.domain.model.Team;
 import com.personal.tournament_api.team.infrastructure.adapters.persistence.entity.TeamEntity;
 import com.personal.tournament_api.team.infrastructure.adapters.persistence.mapper.TeamPersistenceMapper;
@@ -11,7 +12,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.List;
@@ -19,6 +22,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +35,12 @@ class TeamJpaAdapterTest {
     @Mock
     private TeamPersistenceMapper mapper;
 
+    @Mock
+    private StandingsProjection standingsProjection;
+
+    @Spy
+    private ChunkedDelete chunkedDelete = new ChunkedDelete(2);
+
     @InjectMocks
     private TeamJpaAdapter teamJpaAdapter;
 
@@ -177,6 +187,65 @@ class TeamJpaAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Tests")
+    class BatchTests {
+
+        @Test
+        @DisplayName("Should find teams by ids in a single repository call")
+        void shouldFindTeamsByIdsInSingleRepositoryCall() {
+            // Given
+            List<Long> ids = List.of(1L, 2L);
+            TeamEntity otherEntity = new TeamEntity(2L, "Barcelona", "Xavi Hernandez", 10L, 0, 0, 0, 0, 0, 0, 0, 0);
+            Team otherTeam = Team.reconstitute(2L, "Barcelona", "Xavi Hernandez", 10L, 0, 0, 0, 0, 0, 0, 0, 0);
+            List<TeamEntity> entities = List.of(teamEntity, otherEntity);
+            when(teamJpaRepository.findAllById(ids)).thenReturn(entities);
+            when(mapper.toDomainList(entities)).thenReturn(List.of(team, otherTeam));
+
+            // When
+            List<Team> result = teamJpaAdapter.findAllById(ids);
+
+            // Then
+            assertEquals(2, result.size());
+            verify(teamJpaRepository, times(1)).findAllById(ids);
+            verify(teamJpaRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should save all teams in a single repository call")
+        void shouldSaveAllTeamsInSingleRepositoryCall() {
+            // Given
+            List<Team> teams = List.of(team);
+            List<TeamEntity> entities = List.of(teamEntity);
+            when(mapper.toEntityList(teams)).thenReturn(entities);
+            when(teamJpaRepository.saveAll(entities)).thenReturn(entities);
+            when(mapper.toDomainList(entities)).thenReturn(teams);
+
+            // When
+            List<Team> result = teamJpaAdapter.saveAll(teams);
+
+            // Then
+            assertEquals(teams, result);
+            verify(teamJpaRepository, times(1)).saveAll(entities);
+            verify(teamJpaRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should look up existing names with a single query")
+        void shouldFindExistingNamesWithSingleQuery() {
+            // Given
+            List<String> names = List.of("Real Madrid", "Barcelona");
+            when(teamJpaRepository.findNamesIn(names)).thenReturn(List.of("Real Madrid"));
+
+            // When
+            List<String> result = teamJpaAdapter.findExistingNames(names);
+
+            // Then
+            assertEquals(List.of("Real Madrid"), result);
+            verify(teamJpaRepository, times(1)).findNamesIn(names);
+        }
+    }
+
     @Nested
     @DisplayName("Find All By Order By Name Asc Tests")
     class FindAllByOrderByNameAscTests {
@@ -252,6 +321,103 @@ class TeamJpaAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Standings Tests")
+    class StandingsTests {
+
+        @Test
+        @DisplayName("Should serve standings from the projection")
+        void shouldServeStandingsFromProjection() {
+            // Given
+            when(standingsProjection.getStandings(eq(10L), any())).thenReturn(List.of(team));
+
+            // When
+            List<Team> result = teamJpaAdapter.findStandingsByTournamentId(10L);
+
+            // Then
+            assertEquals(List.of(team), result);
+            verifyNoInteractions(teamJpaRepository);
+        }
+
+        @Test
+        @DisplayName("Should notify projection on save and delete")
+        void shouldNotifyProjectionOnSaveAndDelete() {
+            // Given
+            when(mapper.toEntity(team)).thenReturn(teamEntity);
+            when(teamJpaRepository.save(teamEntity)).thenReturn(teamEntity);
+            when(mapper.toDomain(teamEntity)).thenReturn(team);
+
+            // When
+            teamJpaAdapter.save(team);
+            teamJpaAdapter.deleteById(1L);
+            teamJpaAdapter.deleteByTournamentId(10L);
+
+            // Then
+            verify(standingsProjection).teamsSaved(List.of(team));
+            verify(standingsProjection).teamDeleted(1L);
+            verify(standingsProjection).tournamentDeleted(10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Delete By Tournament Id Tests")
+    class DeleteByTournamentIdTests {
+
+        @Test
+        @DisplayName("Should delete teams in chunks until a short chunk comes back")
+        void shouldDeleteTeamsInChunks() {
+            // Given
+            when(teamJpaRepository.findIdsByTournamentId(10L, Limit.of(2)))
+                    .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of());
+            when(teamJpaRepository.deleteByIdIn(any())).thenReturn(2);
+
+            // When
+            teamJpaAdapter.deleteByTournamentId(10L);
+
+            // Then
+            verify(teamJpaRepository).deleteByIdIn(List.of(1L, 2L));
+            verify(teamJpaRepository).deleteByIdIn(List.of(3L, 4L));
+            verify(teamJpaRepository, times(3)).findIdsByTournamentId(10L, Limit.of(2));
+            verify(standingsProjection).tournamentDeleted(10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Delete Chunk By Tournament Id Tests")
+    class DeleteChunkByTournamentIdTests {
+
+        @Test
+        @DisplayName("Should delete the next chunk of team ids and drop the tournament standings")
+        void shouldDeleteNextChunkAndDropStandings() {
+            // Given
+            List<Long> ids = List.of(1L, 2L);
+            when(teamJpaRepository.findIdsByTournamentId(10L, Limit.of(2))).thenReturn(ids);
+            when(teamJpaRepository.deleteByIdIn(ids)).thenReturn(2);
+
+            // When
+            int deleted = teamJpaAdapter.deleteChunkByTournamentId(10L, 2);
+
+            // Then
+            assertEquals(2, deleted);
+            verify(teamJpaRepository).deleteByIdIn(ids);
+            verify(standingsProjection).tournamentDeleted(10L);
+        }
+
+        @Test
+        @DisplayName("Should return zero and delete nothing when no teams are left")
+        void shouldReturnZeroWhenNothingIsLeft() {
+            // Given
+            when(teamJpaRepository.findIdsByTournamentId(10L, Limit.of(2))).thenReturn(List.of());
+
+            // When
+            int deleted = teamJpaAdapter.deleteChunkByTournamentId(10L, 2);
+
+            // Then
+            assertEquals(0, deleted);
+            verify(teamJpaRepository, never()).deleteByIdIn(any());
+        }
+    }
+
     @Nested
     @DisplayName("Delete By Id Tests")
     class DeleteByIdTests {
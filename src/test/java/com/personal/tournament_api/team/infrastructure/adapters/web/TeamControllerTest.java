@@ -5,13 +5,18 @@ import com.personal.tournament_api.auth.infrastructure.security.JwtProvider;
 import com.personal.tournament_api.auth.infrastructure.security.UserDetailsServiceAdapter;
 import com.personal.tournament_api.match.application.usecases.GetMatchUseCase;
 import com.personal.tournament_api.match.infrastructure.adapters.web.mapper.MatchMapper;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
 import com.personal.tournament_api.team.application.usecases.CreateTeamUseCase;
 import com.personal.tournament_api.team.application.usecases.CreateTeamUseCase.CreateTeamCommand;
+import com.personal.tournament_api.team.application.usecases.CreateTeamsUseCase;
+import com.personal.tournament_api.team.application.usecases.CreateTeamsUseCase.CreateTeamsCommand;
+import com.personal.tournament_api.team.domain.exceptions.DuplicateTeamNameException;
 import com.personal.tournament_api.team.application.usecases.DeleteTeamUseCase;
 import com.personal.tournament_api.team.application.usecases.GetTeamUseCase;
 import com.personal.tournament_api.team.application.usecases.UpdateTeamUseCase;
 import com.personal.tournament_api.team.application.usecases.UpdateTeamUseCase.UpdateTeamCommand;
 import com.personal.tournament_api.team.domain.model.Team;
+import com.personal.tournament_api.team.infrastructure.adapters.web.dto.BulkTeamRequestDTO;
 import com.personal.tournament_api.team.infrastructure.adapters.web.dto.TeamRequestDTO;
 import com.personal.tournament_api.team.infrastructure.adapters.web.dto.TeamResponseDTO;
 import com.personal.tournament_api.team.infrastructure.adapters.web.mapper.TeamMapper;
@@ -32,6 +37,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
@@ -42,11 +48,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TeamController.class)
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, TournamentVersions.class})
 @DisplayName("TeamController Unit Tests")
 class TeamControllerTest {
 
@@ -58,6 +65,9 @@ class TeamControllerTest {
     @MockBean
     private CreateTeamUseCase createTeamUseCase;
 
+    @MockBean
+    private CreateTeamsUseCase createTeamsUseCase;
+
     @MockBean
     private GetTeamUseCase getTeamUseCase;
 
@@ -85,6 +95,9 @@ class TeamControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TournamentVersions tournamentVersions;
+
     private Team team;
     private TeamRequestDTO teamRequestDTO;
     private TeamResponseDTO teamResponseDTO;
@@ -223,6 +236,57 @@ class TeamControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /tournaments/{tournamentId}/teams/bulk")
+    class CreateTeamsTests {
+
+        @Test
+        @DisplayName("Should create all teams and return them with 201")
+        void shouldCreateAllTeams() throws Exception {
+            BulkTeamRequestDTO request = new BulkTeamRequestDTO(List.of(teamRequestDTO));
+            CreateTeamsCommand command = new CreateTeamsCommand(1L, List.of(new CreateTeamsUseCase.TeamData("Real Madrid", "Carlo Ancelotti")));
+            when(teamMapper.toCreateTeamsCommand(eq(1L), any(BulkTeamRequestDTO.class))).thenReturn(command);
+            when(createTeamsUseCase.createAll(command)).thenReturn(List.of(team));
+            when(teamMapper.toResponseList(anyList())).thenReturn(List.of(teamResponseDTO));
+
+            mockMvc.perform(post("/tournaments/1/teams/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Real Madrid"));
+
+            verify(createTeamsUseCase, times(1)).createAll(command);
+        }
+
+        @Test
+        @DisplayName("Should return 400 when one of the teams is invalid")
+        void shouldReturn400WhenOneTeamIsInvalid() throws Exception {
+            BulkTeamRequestDTO request = new BulkTeamRequestDTO(List.of(teamRequestDTO, new TeamRequestDTO("", "Coach")));
+
+            mockMvc.perform(post("/tournaments/1/teams/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+            verify(createTeamsUseCase, never()).createAll(any(CreateTeamsCommand.class));
+        }
+
+        @Test
+        @DisplayName("Should return 422 when a team name is already taken")
+        void shouldReturn422WhenNameIsTaken() throws Exception {
+            when(teamMapper.toCreateTeamsCommand(eq(1L), any(BulkTeamRequestDTO.class)))
+                    .thenReturn(new CreateTeamsCommand(1L, List.of()));
+            when(createTeamsUseCase.createAll(any(CreateTeamsCommand.class)))
+                    .thenThrow(new DuplicateTeamNameException("Real Madrid"));
+
+            mockMvc.perform(post("/tournaments/1/teams/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new BulkTeamRequestDTO(List.of(teamRequestDTO)))))
+                .andExpect(status().isUnprocessableEntity());
+        }
+    }
+
     @Nested
     @DisplayName("GET /tournaments/{tournamentId}/teams/{teamId}")
     class GetTeamByIdTests {
@@ -306,6 +370,51 @@ class TeamControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /tournaments/{tournamentId}/teams/standings")
+    class GetStandingsTests {
+
+        @Test
+        @DisplayName("Should return standings with an ETag")
+        void shouldReturnStandingsWithEtag() throws Exception {
+            Team team = Team.reconstitute(1L, "Barcelona", "Xavi Hernandez", 1L, 3, 1, 1, 0, 0, 2, 0, 2);
+            TeamResponseDTO response = new TeamResponseDTO(1L, "Barcelona", "Xavi Hernandez", 1L, 3, 1, 1, 0, 0, 2, 0, 2);
+            when(getTeamUseCase.getStandingsByTournamentId(1L)).thenReturn(List.of(team));
+            when(teamMapper.toResponseList(List.of(team))).thenReturn(List.of(response));
+
+            mockMvc.perform(get("/tournaments/1/teams/standings"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", tournamentVersions.etag(1L)))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$[0].name").value("Barcelona"));
+        }
+
+        @Test
+        @DisplayName("Should return 304 without loading standings when the tournament has not changed")
+        void shouldReturnNotModifiedWhenTournamentHasNotChanged() throws Exception {
+            mockMvc.perform(get("/tournaments/1/teams/standings")
+                    .header("If-None-Match", tournamentVersions.etag(1L)))
+                .andExpect(status().isNotModified());
+
+            verify(getTeamUseCase, never()).getStandingsByTournamentId(any());
+        }
+
+        @Test
+        @DisplayName("Should reload standings after the tournament changes")
+        void shouldReloadStandingsAfterTournamentChanges() throws Exception {
+            String staleEtag = tournamentVersions.etag(1L);
+            tournamentVersions.tournamentChanged(1L);
+            when(getTeamUseCase.getStandingsByTournamentId(1L)).thenReturn(List.of());
+            when(teamMapper.toResponseList(List.of())).thenReturn(List.of());
+
+            mockMvc.perform(get("/tournaments/1/teams/standings")
+                    .header("If-None-Match", staleEtag))
+                .andExpect(status().isOk());
+
+            verify(getTeamUseCase, times(1)).getStandingsByTournamentId(1L);
+        }
+    }
+
     @Nested
 @DisplayName("PUT /tournaments/{tournamentId}/teams/{teamId}")
     class UpdateTeamTests {
@@ -1,21 +1,24 @@
 package com.personal.tournament_api.tournament.application;
 
-import com.personal.tournament_api.shared.domain.events.DomainEvent;
-import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
-import com.personal.tournament_api.tournament.domain.events.TournamentDeletedEvent;
+import com.personal.tournament_api.tournament.domain.enums.DeletionJobStatus;
 import com.personal.tournament_api.tournament.domain.exceptions.TournamentCannotBeDeletedException;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentDeletionJobNotFoundException;
 import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
 import com.personal.tournament_api.tournament.domain.enums.StatusTournament;
 import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDeletionJobRepository;
 import com.personal.tournament_api.tournament.domain.ports.TournamentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,34 +31,45 @@ import static org.mockito.Mockito.*;
 class DeleteTournamentServiceTest {
 
     @Mock private TournamentRepository tournamentRepository;
-    @Mock private DomainEventPublisher domainEventPublisher;
+    @Mock private TournamentDeletionJobRepository deletionJobRepository;
 
     private DeleteTournamentService service;
 
     @BeforeEach
     void setUp() {
-        service = new DeleteTournamentService(tournamentRepository, domainEventPublisher);
+        service = new DeleteTournamentService(tournamentRepository, deletionJobRepository);
+    }
+
+    private void givenJobsAreSavedWithId(Long jobId) {
+        when(deletionJobRepository.save(any(TournamentDeletionJob.class))).thenAnswer(invocation -> {
+            TournamentDeletionJob job = invocation.getArgument(0);
+            return TournamentDeletionJob.reconstitute(jobId, job.getTournamentId(), job.getStatus(),
+                    job.getDeletedRows(), job.getFailedAttempts(), job.getLastError(), job.getCreatedAt(), null);
+        });
     }
 
     @Test
-    @DisplayName("Should delete tournament and publish event when status is CREATED")
+    @DisplayName("Should delete tournament and queue its data for deletion when status is CREATED")
     void shouldDeleteTournamentWhenStatusIsCreated() {
         // Given
         Long id = 1L;
         Tournament tournament = Tournament.reconstitute(id, "La Liga", "Spanish Championship", StatusTournament.CREATED);
 
         when(tournamentRepository.findById(id)).thenReturn(Optional.of(tournament));
+        givenJobsAreSavedWithId(7L);
 
         // When
-        service.delete(id);
+        TournamentDeletionJob job = service.delete(id);
 
         // Then
-        verify(domainEventPublisher).publish(any(TournamentDeletedEvent.class));
-        verify(tournamentRepository).deleteById(id);
+        assertEquals(7L, job.getId());
+        InOrder inOrder = inOrder(tournamentRepository, deletionJobRepository);
+        inOrder.verify(tournamentRepository).deleteById(id);
+        inOrder.verify(deletionJobRepository).save(any(TournamentDeletionJob.class));
     }
 
     @Test
-    @DisplayName("Should delete tournament and publish event when status is COMPLETED")
+    @DisplayName("Should delete tournament and queue its data for deletion when status is COMPLETED")
     void shouldDeleteTournamentWhenStatusIsCompleted() {
         // Given
         Long id = 1L;
@@ -64,31 +78,35 @@ class DeleteTournamentServiceTest {
         tournament.endTournament();
 
         when(tournamentRepository.findById(id)).thenReturn(Optional.of(tournament));
+        givenJobsAreSavedWithId(7L);
 
         // When
         service.delete(id);
 
         // Then
-        verify(domainEventPublisher).publish(any(TournamentDeletedEvent.class));
         verify(tournamentRepository).deleteById(id);
+        verify(deletionJobRepository).save(any(TournamentDeletionJob.class));
     }
 
     @Test
-    @DisplayName("Should publish event with correct tournamentId")
-    void shouldPublishEventWithCorrectTournamentId() {
+    @DisplayName("Should queue a pending job for the deleted tournament")
+    void shouldQueuePendingJobForTournament() {
         // Given
         Long id = 1L;
         Tournament tournament = Tournament.reconstitute(id, "La Liga", "Spanish Championship", StatusTournament.CREATED);
 
         when(tournamentRepository.findById(id)).thenReturn(Optional.of(tournament));
-        ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
+        givenJobsAreSavedWithId(7L);
+        ArgumentCaptor<TournamentDeletionJob> captor = ArgumentCaptor.forClass(TournamentDeletionJob.class);
 
         // When
         service.delete(id);
 
         // Then
-        verify(domainEventPublisher).publish(captor.capture());
-        assertEquals(id, ((TournamentDeletedEvent) captor.getValue()).tournamentId());
+        verify(deletionJobRepository).save(captor.capture());
+        assertEquals(id, captor.getValue().getTournamentId());
+        assertEquals(DeletionJobStatus.PENDING, captor.getValue().getStatus());
+        assertEquals(0, captor.getValue().getDeletedRows());
     }
 
     @Test
@@ -100,7 +118,7 @@ class DeleteTournamentServiceTest {
         // When & Then
         assertThrows(TournamentNotFoundException.class, () -> service.delete(999L));
 
-        verify(domainEventPublisher, never()).publish(any());
+        verify(deletionJobRepository, never()).save(any());
         verify(tournamentRepository, never()).deleteById(anyLong());
     }
 
@@ -117,7 +135,29 @@ class DeleteTournamentServiceTest {
         // When & Then
         assertThrows(TournamentCannotBeDeletedException.class, () -> service.delete(id));
 
-        verify(domainEventPublisher, never()).publish(any());
+        verify(deletionJobRepository, never()).save(any());
         verify(tournamentRepository, never()).deleteById(anyLong());
     }
+
+    @Test
+    @DisplayName("Should return a deletion job by id")
+    void shouldReturnDeletionJobById() {
+        // Given
+        TournamentDeletionJob job = TournamentDeletionJob.reconstitute(7L, 1L, DeletionJobStatus.RUNNING,
+                500, 0, null, LocalDateTime.now(), null);
+        when(deletionJobRepository.findById(7L)).thenReturn(Optional.of(job));
+
+        // When & Then
+        assertEquals(job, service.getDeletionJob(7L));
+    }
+
+    @Test
+    @DisplayName("Should throw TournamentDeletionJobNotFoundException when the deletion job does not exist")
+    void shouldThrowWhenDeletionJobDoesNotExist() {
+        // Given
+        when(deletionJobRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(TournamentDeletionJobNotFoundException.class, () -> service.getDeletionJob(999L));
+    }
 }
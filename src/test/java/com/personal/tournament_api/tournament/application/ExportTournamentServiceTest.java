@@ -0,0 +1,130 @@
+package com.personal.tournament_api.tournament.application;
+
+import com.personal.tournament_api.tournament.application.usecases.ExportTournamentUseCase.TournamentExportSink;
+import com.personal.tournament_api.tournament.domain.enums.StatusTournament;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataExportPort;
+import com.personal.tournament_api.tournament.domain.ports.TournamentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ExportTournamentService Tests")
+@ExtendWith(MockitoExtension.class)
+class ExportTournamentServiceTest {
+
+    private static final Long TOURNAMENT_ID = 1L;
+
+    @Mock private TournamentRepository tournamentRepository;
+    @Mock private TournamentDataExportPort teamsExportPort;
+    @Mock private TournamentDataExportPort matchesExportPort;
+    @Mock private TournamentExportSink sink;
+
+    private ExportTournamentService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportTournamentService(tournamentRepository, List.of(teamsExportPort, matchesExportPort));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPortExports(TournamentDataExportPort port, String recordType, Object... records) {
+        when(port.recordType()).thenReturn(recordType);
+        when(port.exportRecords(eq(TOURNAMENT_ID), any())).thenAnswer(invocation -> {
+            Consumer<Object> consumer = invocation.getArgument(1);
+            for (Object record : records) {
+                consumer.accept(record);
+            }
+            return (long) records.length;
+        });
+    }
+
+    @Test
+    @DisplayName("Should write the tournament first and then every port's records in port order")
+    void shouldWriteTournamentThenRecordsInPortOrder() {
+        // Given
+        Tournament tournament = Tournament.reconstitute(TOURNAMENT_ID, "La Liga", "Spanish Football Championship",
+                StatusTournament.COMPLETED);
+        when(tournamentRepository.findById(TOURNAMENT_ID)).thenReturn(Optional.of(tournament));
+        givenPortExports(teamsExportPort, "team", "team-1", "team-2");
+        givenPortExports(matchesExportPort, "match", "match-1");
+
+        // When
+        service.export(TOURNAMENT_ID, sink);
+
+        // Then
+        InOrder inOrder = inOrder(sink);
+        inOrder.verify(sink).tournament(tournament);
+        inOrder.verify(sink).record("team", "team-1");
+        inOrder.verify(sink).record("team", "team-2");
+        inOrder.verify(sink).record("match", "match-1");
+        inOrder.verify(sink).end(Map.of("team", 2L, "match", 1L));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("Should end the export with the number of records of each type, in port order")
+    void shouldEndWithRecordCountsInPortOrder() {
+        // Given
+        when(tournamentRepository.findById(TOURNAMENT_ID)).thenReturn(Optional.of(
+                Tournament.reconstitute(TOURNAMENT_ID, "La Liga", "Spanish Football Championship", StatusTournament.CREATED)));
+        givenPortExports(teamsExportPort, "team");
+        givenPortExports(matchesExportPort, "match");
+
+        // When
+        service.export(TOURNAMENT_ID, sink);
+
+        // Then
+        Map<String, Long> expected = new LinkedHashMap<>();
+        expected.put("team", 0L);
+        expected.put("match", 0L);
+        verify(sink).end(argThat(counts -> List.copyOf(counts.entrySet()).equals(List.copyOf(expected.entrySet()))));
+    }
+
+    @Test
+    @DisplayName("Should not end the export when a port fails halfway")
+    void shouldNotEndExportWhenPortFails() {
+        // Given
+        when(tournamentRepository.findById(TOURNAMENT_ID)).thenReturn(Optional.of(
+                Tournament.reconstitute(TOURNAMENT_ID, "La Liga", "Spanish Football Championship", StatusTournament.CREATED)));
+        givenPortExports(teamsExportPort, "team", "team-1");
+        when(matchesExportPort.recordType()).thenReturn("match");
+        when(matchesExportPort.exportRecords(eq(TOURNAMENT_ID), any())).thenAnswer(invocation -> {
+            Consumer<Object> consumer = invocation.getArgument(1);
+            consumer.accept("match-1");
+            throw new IllegalStateException("Connection reset");
+        });
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> service.export(TOURNAMENT_ID, sink));
+        verify(sink).record("match", "match-1");
+        verify(sink, never()).end(any());
+    }
+
+    @Test
+    @DisplayName("Should throw TournamentNotFoundException and export nothing when the tournament does not exist")
+    void shouldThrowWhenTournamentDoesNotExist() {
+        // Given
+        when(tournamentRepository.findById(TOURNAMENT_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(TournamentNotFoundException.class, () -> service.export(TOURNAMENT_ID, sink));
+        verifyNoInteractions(teamsExportPort, matchesExportPort, sink);
+    }
+}
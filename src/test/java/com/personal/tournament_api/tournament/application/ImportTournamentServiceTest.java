@@ -0,0 +1,246 @@
+package com.personal.tournament_api.tournament.application;
+
+import com.personal.tournament_api.shared.domain.enums.DomainErrorType;
+import com.personal.tournament_api.shared.domain.exceptions.DomainException;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ArchivedRecord;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ArchivedTournament;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ImportedTournament;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.TournamentArchive;
+import com.personal.tournament_api.tournament.domain.TournamentDomainService;
+import com.personal.tournament_api.tournament.domain.enums.StatusTournament;
+import com.personal.tournament_api.tournament.domain.exceptions.ArchiveRecordConflictException;
+import com.personal.tournament_api.tournament.domain.exceptions.DuplicateTournamentNameException;
+import com.personal.tournament_api.tournament.domain.exceptions.InvalidTournamentArchiveException;
+import com.personal.tournament_api.tournament.domain.model.ArchiveIdMapping;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataImportPort;
+import com.personal.tournament_api.tournament.domain.ports.TournamentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ImportTournamentService Tests")
+@ExtendWith(MockitoExtension.class)
+class ImportTournamentServiceTest {
+
+    private static final Long TOURNAMENT_ID = 7L;
+
+    @Mock private TournamentRepository tournamentRepository;
+
+    private RecordingPort teamsPort;
+    private RecordingPort playersPort;
+    private ImportTournamentService service;
+
+    @BeforeEach
+    void setUp() {
+        teamsPort = new RecordingPort("team");
+        playersPort = new RecordingPort("player");
+        service = new ImportTournamentService(tournamentRepository, new TournamentDomainService(),
+                List.of(teamsPort, playersPort), 2);
+    }
+
+    private void givenTournamentIsSaved() {
+        when(tournamentRepository.save(any())).thenAnswer(invocation -> {
+            Tournament tournament = invocation.getArgument(0);
+            return Tournament.reconstitute(TOURNAMENT_ID, tournament.getName(), tournament.getDescription(),
+                    tournament.getStatus());
+        });
+    }
+
+    // Archive whose end record counts exactly the records it holds
+    private static TournamentArchive archive(StatusTournament status, ArchivedRecord... records) {
+        Map<String, Long> recordCounts = new LinkedHashMap<>(Map.of("team", 0L, "player", 0L));
+        for (ArchivedRecord record : records) {
+            recordCounts.merge(record.recordType(), 1L, Long::sum);
+        }
+        return archive(status, recordCounts, records);
+    }
+
+    private static TournamentArchive archive(StatusTournament status, Map<String, Long> recordCounts,
+                                             ArchivedRecord... records) {
+        Iterator<ArchivedRecord> iterator = List.of(records).iterator();
+        return new TournamentArchive() {
+            @Override
+            public ArchivedTournament tournament() {
+                return new ArchivedTournament("La Liga", "Spanish Football Championship", status);
+            }
+
+            @Override
+            public Optional<ArchivedRecord> next() {
+                return iterator.hasNext() ? Optional.of(iterator.next()) : Optional.empty();
+            }
+
+            @Override
+            public Map<String, Long> recordCounts() {
+                return recordCounts;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should create the tournament in its archived state and save every record type in batches")
+    void shouldImportTournamentAndSaveRecordsInBatches() {
+        // Given
+        givenTournamentIsSaved();
+
+        // When
+        ImportedTournament imported = service.importTournament(archive(StatusTournament.COMPLETED,
+                new ArchivedRecord(2, "team", "t1"), new ArchivedRecord(3, "team", "t2"),
+                new ArchivedRecord(4, "team", "t3"), new ArchivedRecord(5, "player", "p1")));
+
+        // Then
+        ArgumentCaptor<Tournament> captor = ArgumentCaptor.forClass(Tournament.class);
+        verify(tournamentRepository).save(captor.capture());
+        assertNull(captor.getValue().getId());
+        assertEquals(StatusTournament.COMPLETED, captor.getValue().getStatus());
+        assertEquals(TOURNAMENT_ID, imported.tournament().getId());
+        assertEquals(List.of(List.of("t1@7", "t2@7"), List.of("t3@7")), teamsPort.batches);
+        assertEquals(List.of(List.of("p1@7")), playersPort.batches);
+        assertEquals(Map.of("team", 3L, "player", 1L), imported.importedRecords());
+    }
+
+    @Test
+    @DisplayName("Should reject the archive when the end record counts differ from the records imported")
+    void shouldRejectArchiveWhenRecordCountsDiffer() {
+        // Given
+        givenTournamentIsSaved();
+
+        // When & Then
+        InvalidTournamentArchiveException exception = assertThrows(InvalidTournamentArchiveException.class,
+                () -> service.importTournament(archive(StatusTournament.CREATED, Map.of("team", 2L, "player", 0L),
+                        new ArchivedRecord(2, "team", "t1"))));
+        assertTrue(exception.getReason().endsWith("records but the archive holds {team=1, player=0}"));
+    }
+
+    @Test
+    @DisplayName("Should reject a record that comes after records of a later type")
+    void shouldRejectRecordsOutOfOrder() {
+        // Given
+        givenTournamentIsSaved();
+
+        // When & Then
+        InvalidTournamentArchiveException exception = assertThrows(InvalidTournamentArchiveException.class,
+                () -> service.importTournament(archive(StatusTournament.CREATED,
+                        new ArchivedRecord(2, "player", "p1"), new ArchivedRecord(3, "team", "t1"))));
+        assertEquals("Invalid tournament archive at line 3: team records must come before player records",
+                exception.getMessage());
+        assertTrue(teamsPort.batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown record type")
+    void shouldRejectUnknownRecordType() {
+        // Given
+        givenTournamentIsSaved();
+
+        // When & Then
+        InvalidTournamentArchiveException exception = assertThrows(InvalidTournamentArchiveException.class,
+                () -> service.importTournament(archive(StatusTournament.CREATED, new ArchivedRecord(2, "referee", "r1"))));
+        assertEquals("Invalid tournament archive at line 2: unknown record type 'referee'", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should report the line of a record that fails validation")
+    void shouldReportLineOfInvalidRecord() {
+        // Given
+        givenTournamentIsSaved();
+
+        // When & Then
+        InvalidTournamentArchiveException exception = assertThrows(InvalidTournamentArchiveException.class,
+                () -> service.importTournament(archive(StatusTournament.IN_PROGRESS,
+                        new ArchivedRecord(2, "team", "t1"), new ArchivedRecord(3, "player", "unknown-team"))));
+        assertEquals("Invalid tournament archive at line 3: team 99 is not in the archive", exception.getMessage());
+        assertEquals(List.of(List.of("t1@7")), teamsPort.batches);
+        assertTrue(playersPort.batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report the line of a record that conflicts when its batch is saved")
+    void shouldReportLineOfConflictingRecord() {
+        // Given
+        givenTournamentIsSaved();
+
+        // When & Then
+        InvalidTournamentArchiveException exception = assertThrows(InvalidTournamentArchiveException.class,
+                () -> service.importTournament(archive(StatusTournament.CREATED,
+                        new ArchivedRecord(2, "team", "t1"), new ArchivedRecord(3, "team", "t2"),
+                        new ArchivedRecord(4, "team", "t3"), new ArchivedRecord(5, "team", "duplicate"))));
+        assertEquals("Invalid tournament archive at line 5: duplicate already exists", exception.getMessage());
+        assertEquals(DomainErrorType.RULE_VIOLATION, exception.getErrorType());
+        assertEquals(List.of(List.of("t1@7", "t2@7")), teamsPort.batches);
+    }
+
+    @Test
+    @DisplayName("Should let unexpected failures propagate without blaming the record")
+    void shouldPropagateUnexpectedFailures() {
+        // Given
+        givenTournamentIsSaved();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> service.importTournament(
+                archive(StatusTournament.CREATED, new ArchivedRecord(2, "team", "broken"))));
+    }
+
+    @Test
+    @DisplayName("Should not import anything when the tournament name already exists")
+    void shouldNotImportWhenNameAlreadyExists() {
+        // Given
+        when(tournamentRepository.existsByName("La Liga")).thenReturn(true);
+
+        // When & Then
+        assertThrows(DuplicateTournamentNameException.class, () -> service.importTournament(
+                archive(StatusTournament.CREATED, new ArchivedRecord(2, "team", "t1"))));
+        verify(tournamentRepository, never()).save(any());
+        assertTrue(teamsPort.batches.isEmpty());
+    }
+
+    private static final class RecordingPort implements TournamentDataImportPort<String> {
+        private final String recordType;
+        private final List<List<String>> batches = new ArrayList<>();
+
+        RecordingPort(String recordType) {
+            this.recordType = recordType;
+        }
+
+        @Override
+        public String recordType() {
+            return recordType;
+        }
+
+        @Override
+        public String prepare(Long tournamentId, Object record, ArchiveIdMapping ids) {
+            if ("unknown-team".equals(record)) {
+                ids.importedId("team", 99L);
+            }
+            if ("broken".equals(record)) {
+                throw new IllegalStateException("connection lost");
+            }
+            return record + "@" + tournamentId;
+        }
+
+        @Override
+        public void saveAll(List<String> records, ArchiveIdMapping ids) {
+            int duplicate = records.indexOf("duplicate@7");
+            if (duplicate >= 0) {
+                throw new ArchiveRecordConflictException(duplicate,
+                        new DomainException("duplicate already exists", DomainErrorType.RULE_VIOLATION));
+            }
+            batches.add(List.copyOf(records));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.personal.tournament_api.tournament.application;
+
+import com.personal.tournament_api.shared.domain.ports.DomainEventPublisher;
+import com.personal.tournament_api.tournament.domain.enums.DeletionJobStatus;
+import com.personal.tournament_api.tournament.domain.events.TournamentDeletedEvent;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentDeletionJobNotFoundException;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDataPurgePort;
+import com.personal.tournament_api.tournament.domain.ports.TournamentDeletionJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PurgeTournamentDataService Tests")
+@ExtendWith(MockitoExtension.class)
+class PurgeTournamentDataServiceTest {
+
+    private static final Long JOB_ID = 7L;
+    private static final Long TOURNAMENT_ID = 1L;
+    private static final int CHUNK_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock private TournamentDeletionJobRepository deletionJobRepository;
+    @Mock private TournamentDataPurgePort matchesPurgePort;
+    @Mock private TournamentDataPurgePort teamsPurgePort;
+    @Mock private DomainEventPublisher domainEventPublisher;
+
+    private PurgeTournamentDataService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PurgeTournamentDataService(deletionJobRepository, List.of(matchesPurgePort, teamsPurgePort),
+                domainEventPublisher, CHUNK_SIZE, MAX_ATTEMPTS, Duration.ofMinutes(5));
+    }
+
+    private TournamentDeletionJob givenJob(DeletionJobStatus status, long deletedRows) {
+        TournamentDeletionJob job = TournamentDeletionJob.reconstitute(JOB_ID, TOURNAMENT_ID, status, deletedRows,
+                0, null, LocalDateTime.now(), null);
+        when(deletionJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        return job;
+    }
+
+    @Test
+    @DisplayName("Should delete one chunk from the first port that still has data")
+    void shouldDeleteOneChunkFromFirstPortWithData() {
+        // Given
+        givenJob(DeletionJobStatus.PENDING, 0);
+        when(matchesPurgePort.purgeChunk(TOURNAMENT_ID, CHUNK_SIZE)).thenReturn(CHUNK_SIZE);
+        when(deletionJobRepository.save(any(TournamentDeletionJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TournamentDeletionJob job = service.purgeNextChunk(JOB_ID);
+
+        // Then
+        assertEquals(DeletionJobStatus.RUNNING, job.getStatus());
+        assertEquals(CHUNK_SIZE, job.getDeletedRows());
+        verifyNoInteractions(teamsPurgePort, domainEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should move on to the next port once the previous one is empty")
+    void shouldMoveToNextPortWhenPreviousIsEmpty() {
+        // Given
+        givenJob(DeletionJobStatus.RUNNING, 300);
+        when(matchesPurgePort.purgeChunk(TOURNAMENT_ID, CHUNK_SIZE)).thenReturn(0);
+        when(teamsPurgePort.purgeChunk(TOURNAMENT_ID, CHUNK_SIZE)).thenReturn(20);
+        when(deletionJobRepository.save(any(TournamentDeletionJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TournamentDeletionJob job = service.purgeNextChunk(JOB_ID);
+
+        // Then
+        assertEquals(320, job.getDeletedRows());
+        assertFalse(job.isFinished());
+        verifyNoInteractions(domainEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should complete the job and publish the event when nothing is left")
+    void shouldCompleteJobWhenNothingIsLeft() {
+        // Given
+        givenJob(DeletionJobStatus.RUNNING, 320);
+        when(matchesPurgePort.purgeChunk(TOURNAMENT_ID, CHUNK_SIZE)).thenReturn(0);
+        when(teamsPurgePort.purgeChunk(TOURNAMENT_ID, CHUNK_SIZE)).thenReturn(0);
+        when(deletionJobRepository.save(any(TournamentDeletionJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TournamentDeletionJob job = service.purgeNextChunk(JOB_ID);
+
+        // Then
+        assertEquals(DeletionJobStatus.COMPLETED, job.getStatus());
+        assertNotNull(job.getFinishedAt());
+        verify(domainEventPublisher).publish(new TournamentDeletedEvent(TOURNAMENT_ID));
+    }
+
+    @Test
+    @DisplayName("Should leave a finished job untouched")
+    void shouldLeaveFinishedJobUntouched() {
+        // Given
+        givenJob(DeletionJobStatus.COMPLETED, 320);
+
+        // When
+        TournamentDeletionJob job = service.purgeNextChunk(JOB_ID);
+
+        // Then
+        assertTrue(job.isFinished());
+        verifyNoInteractions(matchesPurgePort, teamsPurgePort, domainEventPublisher);
+        verify(deletionJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should mark the job as failed after the maximum number of attempts")
+    void shouldFailJobAfterMaxAttempts() {
+        // Given
+        givenJob(DeletionJobStatus.RUNNING, 100);
+        when(deletionJobRepository.save(any(TournamentDeletionJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        service.recordFailure(JOB_ID, "lock timeout");
+        service.recordFailure(JOB_ID, "lock timeout");
+        TournamentDeletionJob job = service.recordFailure(JOB_ID, "lock timeout");
+
+        // Then
+        assertEquals(DeletionJobStatus.FAILED, job.getStatus());
+        assertEquals(MAX_ATTEMPTS, job.getFailedAttempts());
+        assertEquals("lock timeout", job.getLastError());
+    }
+
+    @Test
+    @DisplayName("Should throw TournamentDeletionJobNotFoundException when the job does not exist")
+    void shouldThrowWhenJobNotFound() {
+        // Given
+        when(deletionJobRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(TournamentDeletionJobNotFoundException.class, () -> service.purgeNextChunk(999L));
+        verifyNoInteractions(matchesPurgePort, teamsPurgePort);
+    }
+
+    @Test
+    @DisplayName("Should claim the job until the claim timeout")
+    void shouldClaimJobUntilClaimTimeout() {
+        // Given
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> claimedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(deletionJobRepository.claim(eq(JOB_ID), eq("worker-1"), now.capture(), claimedUntil.capture()))
+                .thenReturn(false);
+
+        // When
+        boolean claimed = service.claimJob(JOB_ID, "worker-1");
+
+        // Then
+        assertFalse(claimed);
+        assertEquals(now.getValue().plusMinutes(5), claimedUntil.getValue());
+    }
+}
@@ -0,0 +1,37 @@
+package com.personal.tournament_api.tournament.domain.model;
+
+import com.personal.tournament_api.tournament.domain.exceptions.InvalidTournamentArchiveException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ArchiveIdMapping Tests")
+class ArchiveIdMappingTest {
+
+    @Test
+    @DisplayName("Should translate a registered archived id to its imported id")
+    void shouldTranslateRegisteredId() {
+        // Given
+        ArchiveIdMapping ids = new ArchiveIdMapping();
+        ids.register("team", 4L, 104L);
+
+        // When & Then
+        assertEquals(104L, ids.importedId("team", 4L));
+    }
+
+    @Test
+    @DisplayName("Should reject ids that were not registered for that record type")
+    void shouldRejectUnknownIds() {
+        // Given
+        ArchiveIdMapping ids = new ArchiveIdMapping();
+        ids.register("team", 4L, 104L);
+
+        // When & Then
+        InvalidTournamentArchiveException exception = assertThrows(InvalidTournamentArchiveException.class,
+                () -> ids.importedId("team", 5L));
+        assertEquals("team 5 is not in the archive", exception.getReason());
+        assertThrows(InvalidTournamentArchiveException.class, () -> ids.importedId("player", 4L));
+        assertThrows(InvalidTournamentArchiveException.class, () -> ids.importedId("team", null));
+    }
+}
@@ -0,0 +1,70 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.match;
+
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.entity.TournamentEntity;
+import com.personal.tournament_api.tournament.infrastructure.adapters.persistence.repository.TournamentJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchTournamentAdapter Unit Tests")
+class MatchTournamentAdapterTest {
+
+    @Mock
+    private TournamentJpaRepository tournamentJpaRepository;
+
+    @InjectMocks
+    private MatchTournamentAdapter matchTournamentAdapter;
+
+    @Test
+    @DisplayName("Should lock the tournament row")
+    void shouldLockTournamentRow() {
+        // Given
+        when(tournamentJpaRepository.findForUpdateById(10L)).thenReturn(Optional.of(new TournamentEntity()));
+
+        // When
+        matchTournamentAdapter.lockTournament(10L);
+
+        // Then
+        verify(tournamentJpaRepository).findForUpdateById(10L);
+    }
+
+    @Test
+    @DisplayName("Should throw TournamentNotFoundException when locking an unknown tournament")
+    void shouldThrowWhenLockingUnknownTournament() {
+        // Given
+        when(tournamentJpaRepository.findForUpdateById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(TournamentNotFoundException.class, () -> matchTournamentAdapter.lockTournament(99L));
+    }
+
+    @Test
+    @DisplayName("Should accept an existing tournament")
+    void shouldAcceptExistingTournament() {
+        // Given
+        when(tournamentJpaRepository.existsById(10L)).thenReturn(true);
+
+        // When & Then
+        assertDoesNotThrow(() -> matchTournamentAdapter.ensureTournamentExists(10L));
+    }
+
+    @Test
+    @DisplayName("Should throw TournamentNotFoundException for an unknown tournament")
+    void shouldThrowForUnknownTournament() {
+        // Given
+        when(tournamentJpaRepository.existsById(99L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(TournamentNotFoundException.class, () -> matchTournamentAdapter.ensureTournamentExists(99L));
+    }
+}
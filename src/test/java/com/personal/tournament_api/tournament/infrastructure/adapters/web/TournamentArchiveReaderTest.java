@@ -0,0 +1,124 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ArchivedRecord;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ArchivedTournament;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.TournamentArchive;
+import com.personal.tournament_api.tournament.domain.enums.StatusTournament;
+import com.personal.tournament_api.tournament.domain.exceptions.InvalidTournamentArchiveException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TournamentArchiveReader Unit Tests")
+class TournamentArchiveReaderTest {
+
+    private final TournamentArchiveReader reader = new TournamentArchiveReader(new ObjectMapper());
+
+    private TournamentArchive open(String content) {
+        return reader.open(new BufferedReader(new StringReader(content)));
+    }
+
+    @Test
+    @DisplayName("Should read the tournament and then each record with its line number")
+    void shouldReadTournamentThenRecords() {
+        // Given
+        TournamentArchive archive = open("""
+                \uFEFF{"type":"tournament","data":{"id":1,"name":"La Liga","description":"Spanish Football Championship","status":"COMPLETED"}}
+
+                {"type":"team","data":{"id":4,"name":"Real Madrid"}}
+                {"type":"end","data":{"team":1,"player":0}}
+
+                """);
+
+        // When
+        ArchivedTournament tournament = archive.tournament();
+        ArchivedRecord team = archive.next().orElseThrow();
+        Optional<ArchivedRecord> end = archive.next();
+        Map<String, Long> recordCounts = archive.recordCounts();
+
+        // Then
+        assertEquals(new ArchivedTournament("La Liga", "Spanish Football Championship", StatusTournament.COMPLETED), tournament);
+        assertEquals(3, team.lineNumber());
+        assertEquals("team", team.recordType());
+        assertEquals("Real Madrid", ((JsonNode) team.data()).get("name").asText());
+        assertTrue(end.isEmpty());
+        assertEquals(Map.of("team", 1L, "player", 0L), recordCounts);
+    }
+
+    @Test
+    @DisplayName("Should reject an archive that ends without the end record")
+    void shouldRejectArchiveWithoutEndRecord() {
+        // Given
+        TournamentArchive archive = open("""
+                {"type":"tournament","data":{"name":"La Liga","description":"Spanish Football Championship","status":"CREATED"}}
+                {"type":"team","data":{"id":4,"name":"Real Madrid"}}
+                """);
+        archive.tournament();
+        archive.next();
+
+        // When & Then
+        InvalidTournamentArchiveException exception = assertThrows(InvalidTournamentArchiveException.class, archive::next);
+        assertEquals("Invalid tournament archive at line 3: the archive ends without the end record, it is incomplete",
+                exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject records after the end record")
+    void shouldRejectRecordsAfterEndRecord() {
+        // Given
+        TournamentArchive archive = open("""
+                {"type":"tournament","data":{"name":"La Liga","description":"Spanish Football Championship","status":"CREATED"}}
+                {"type":"end","data":{"team":0}}
+                {"type":"team","data":{"id":4,"name":"Real Madrid"}}
+                """);
+        archive.tournament();
+
+        // When & Then
+        InvalidTournamentArchiveException exception = assertThrows(InvalidTournamentArchiveException.class, archive::next);
+        assertEquals("Invalid tournament archive at line 3: no records may follow the end record", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject an archive that does not start with the tournament")
+    void shouldRejectArchiveWithoutTournamentFirst() {
+        // Given
+        TournamentArchive archive = open("{\"type\":\"team\",\"data\":{\"id\":4}}\n");
+
+        // When & Then
+        InvalidTournamentArchiveException exception = assertThrows(InvalidTournamentArchiveException.class, archive::tournament);
+        assertEquals("Invalid tournament archive at line 1: the archive must start with the tournament", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty archive")
+    void shouldRejectEmptyArchive() {
+        // When & Then
+        assertThrows(InvalidTournamentArchiveException.class, () -> open("\n\n").tournament());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed lines and lines without type and data")
+    void shouldRejectMalformedLines() {
+        // Given
+        TournamentArchive archive = open("""
+                {"type":"tournament","data":{"name":"La Liga","description":"Spanish Football Championship","status":"CREATED"}}
+                {"type":"team","data":
+                {"type":"team"}
+                """);
+        archive.tournament();
+
+        // When & Then
+        InvalidTournamentArchiveException malformed = assertThrows(InvalidTournamentArchiveException.class, archive::next);
+        assertTrue(malformed.getMessage().startsWith("Invalid tournament archive at line 2: malformed JSON line"));
+        InvalidTournamentArchiveException incomplete = assertThrows(InvalidTournamentArchiveException.class, archive::next);
+        assertTrue(incomplete.getMessage().startsWith("Invalid tournament archive at line 3"));
+    }
+}
@@ -3,13 +3,18 @@ package com.personal.tournament_api.tournament.infrastructure.adapters.web;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.personal.tournament_api.auth.infrastructure.security.JwtProvider;
 import com.personal.tournament_api.auth.infrastructure.security.UserDetailsServiceAdapter;
+import com.personal.tournament_api.shared.infrastructure.web.TournamentVersions;
 import com.personal.tournament_api.tournament.application.usecases.*;
+import com.personal.tournament_api.tournament.domain.enums.DeletionJobStatus;
 import com.personal.tournament_api.tournament.domain.enums.StatusTournament;
 import com.personal.tournament_api.tournament.domain.exceptions.DuplicateTournamentNameException;
 import com.personal.tournament_api.tournament.domain.exceptions.InvalidTournamentStateException;
 import com.personal.tournament_api.tournament.domain.exceptions.TournamentCannotBeDeletedException;
+import com.personal.tournament_api.tournament.domain.exceptions.TournamentDeletionJobNotFoundException;
 import com.personal.tournament_api.tournament.domain.exceptions.TournamentNotFoundException;
 import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.domain.model.TournamentDeletionJob;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentDeletionJobResponse;
 import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentRequest;
 import com.personal.tournament_api.tournament.infrastructure.adapters.web.dto.TournamentResponse;
 import com.personal.tournament_api.tournament.infrastructure.adapters.web.mapper.TournamentMapper;
@@ -23,20 +28,28 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TournamentController.class)
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, TournamentVersions.class})
 @DisplayName("Tournament Controller Integration Tests")
 class TournamentControllerTest {
 
@@ -46,6 +59,9 @@ class TournamentControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TournamentVersions tournamentVersions;
+
     @MockBean
     private CreateTournamentUseCase createTournamentUseCase;
 
@@ -76,6 +92,9 @@ class TournamentControllerTest {
     @MockBean
     private UserDetailsServiceAdapter userDetailsServiceAdapter;
 
+    @MockBean
+    private TournamentExportWriter tournamentExportWriter;
+
     @Nested
 @DisplayName("Create Tournament Tests")
     class CreateTournamentTests {
@@ -185,6 +204,37 @@ class TournamentControllerTest {
             verify(getTournamentUseCase).getAll();
         }
 
+        @Test
+        @DisplayName("Should return 304 without loading tournaments when the list has not changed")
+        void shouldReturnNotModifiedWhenListHasNotChanged() throws Exception {
+            // Given
+            String etag = tournamentVersions.catalogEtag();
+
+            // When & Then
+            mockMvc.perform(get("/tournaments").header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag));
+
+            verify(getTournamentUseCase, never()).getAll();
+        }
+
+        @Test
+        @DisplayName("Should return the list with a new ETag after a tournament changes")
+        void shouldReturnListWithNewEtagAfterTournamentChanges() throws Exception {
+            // Given
+            String staleEtag = tournamentVersions.catalogEtag();
+            tournamentVersions.catalogChanged(1L);
+            when(getTournamentUseCase.getAll()).thenReturn(List.of());
+            when(tournamentMapper.toResponseList(List.of())).thenReturn(List.of());
+
+            // When & Then
+            mockMvc.perform(get("/tournaments").header("If-None-Match", staleEtag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", tournamentVersions.catalogEtag()));
+
+            verify(getTournamentUseCase).getAll();
+        }
+
         @Test
         @DisplayName("Should get tournament by id successfully")
         void shouldGetTournamentByIdSuccessfully() throws Exception {
@@ -462,15 +512,23 @@ class TournamentControllerTest {
     class DeleteTournamentTests {
 
         @Test
-        @DisplayName("Should delete tournament successfully")
+        @DisplayName("Should accept deletion and return the job that removes the tournament data")
         void shouldDeleteTournamentSuccessfully() throws Exception {
             // Given
             Long tournamentId = 1L;
-            doNothing().when(deleteTournamentUseCase).delete(tournamentId);
+            TournamentDeletionJob job = TournamentDeletionJob.reconstitute(7L, tournamentId, DeletionJobStatus.PENDING,
+                    0, 0, null, LocalDateTime.now(), null);
+            TournamentDeletionJobResponse response = new TournamentDeletionJobResponse(7L, tournamentId,
+                    DeletionJobStatus.PENDING, 0, 0, null, job.getCreatedAt(), null);
+            when(deleteTournamentUseCase.delete(tournamentId)).thenReturn(job);
+            when(tournamentMapper.toDeletionJobResponse(job)).thenReturn(response);
 
             // When & Then
             mockMvc.perform(delete("/tournaments/{id}", tournamentId))
-                    .andExpect(status().isNoContent());
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", "http://localhost/tournaments/deletion-jobs/7"))
+                    .andExpect(jsonPath("$.id").value(7))
+                    .andExpect(jsonPath("$.status").value("PENDING"));
 
             verify(deleteTournamentUseCase).delete(tournamentId);
         }
@@ -503,4 +561,109 @@ class TournamentControllerTest {
             verify(deleteTournamentUseCase).delete(tournamentId);
         }
     }
+
+    @Nested
+    @DisplayName("Get Deletion Job Tests")
+    class GetDeletionJobTests {
+
+        @Test
+        @DisplayName("Should return the state of a deletion job")
+        void shouldReturnDeletionJob() throws Exception {
+            // Given
+            TournamentDeletionJob job = TournamentDeletionJob.reconstitute(7L, 1L, DeletionJobStatus.COMPLETED,
+                    2500, 0, null, LocalDateTime.now(), LocalDateTime.now());
+            TournamentDeletionJobResponse response = new TournamentDeletionJobResponse(7L, 1L,
+                    DeletionJobStatus.COMPLETED, 2500, 0, null, job.getCreatedAt(), job.getFinishedAt());
+            when(deleteTournamentUseCase.getDeletionJob(7L)).thenReturn(job);
+            when(tournamentMapper.toDeletionJobResponse(job)).thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(get("/tournaments/deletion-jobs/{jobId}", 7L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.deletedRows").value(2500));
+        }
+
+        @Test
+        @DisplayName("Should return 404 when the deletion job does not exist")
+        void shouldReturn404WhenDeletionJobDoesNotExist() throws Exception {
+            // Given
+            when(deleteTournamentUseCase.getDeletionJob(999L)).thenThrow(new TournamentDeletionJobNotFoundException(999L));
+
+            // When & Then
+            mockMvc.perform(get("/tournaments/deletion-jobs/{jobId}", 999L))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Tournament Tests")
+    class ExportTournamentTests {
+
+        private static final String NDJSON = "{\"type\":\"tournament\",\"data\":{\"id\":1}}\n";
+
+        private void givenExportWrites(String content) throws Exception {
+            Tournament tournament = Tournament.reconstitute(1L, "La Liga", "Spanish Football Championship", StatusTournament.COMPLETED);
+            when(getTournamentUseCase.getById(1L)).thenReturn(Optional.of(tournament));
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(1);
+                out.write(content.getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(tournamentExportWriter).write(eq(1L), any(OutputStream.class));
+        }
+
+        @Test
+        @DisplayName("Should stream the export as an NDJSON attachment")
+        void shouldStreamExportAsNdjson() throws Exception {
+            // Given
+            givenExportWrites(NDJSON);
+
+            // When
+            MvcResult result = mockMvc.perform(get("/tournaments/{id}/export", 1L))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"tournament-1.ndjson\""))
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(content().string(NDJSON));
+        }
+
+        @Test
+        @DisplayName("Should gzip the export when the client accepts it")
+        void shouldGzipExportWhenAccepted() throws Exception {
+            // Given
+            givenExportWrites(NDJSON);
+
+            // When
+            MvcResult result = mockMvc.perform(get("/tournaments/{id}/export", 1L)
+                            .header("Accept-Encoding", "br, gzip;q=0.8"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            byte[] body = mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andReturn().getResponse().getContentAsByteArray();
+            try (GZIPInputStream unzipped = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                assertEquals(NDJSON, new String(unzipped.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        @Test
+        @DisplayName("Should return 404 before streaming when the tournament does not exist")
+        void shouldReturn404WhenTournamentDoesNotExist() throws Exception {
+            // Given
+            when(getTournamentUseCase.getById(999L)).thenReturn(Optional.empty());
+
+            // When & Then
+            mockMvc.perform(get("/tournaments/{id}/export", 999L))
+                    .andExpect(status().isNotFound());
+            verifyNoInteractions(tournamentExportWriter);
+        }
+    }
 }
@@ -0,0 +1,128 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.personal.tournament_api.tournament.application.usecases.ExportTournamentUseCase;
+import com.personal.tournament_api.tournament.application.usecases.ExportTournamentUseCase.TournamentExportSink;
+import com.personal.tournament_api.tournament.domain.enums.StatusTournament;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.mapper.TournamentMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TournamentExportWriter Unit Tests")
+class TournamentExportWriterTest {
+
+    private final ExportTournamentUseCase exportTournamentUseCase = mock(ExportTournamentUseCase.class);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final TournamentExportWriter writer = new TournamentExportWriter(exportTournamentUseCase,
+            Mappers.getMapper(TournamentMapper.class), objectMapper);
+
+    @Test
+    @DisplayName("Should write one typed JSON object per line, tournament first")
+    void shouldWriteOneTypedObjectPerLine() throws IOException {
+        // Given
+        doAnswer(invocation -> {
+            TournamentExportSink sink = invocation.getArgument(1);
+            sink.tournament(Tournament.reconstitute(1L, "La Liga", "Spanish Football Championship", StatusTournament.COMPLETED));
+            sink.record("match", Map.of("id", 5, "matchDate", LocalDateTime.of(2025, 5, 1, 18, 0)));
+            return null;
+        }).when(exportTournamentUseCase).export(eq(1L), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        writer.write(1L, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("tournament", objectMapper.readTree(lines[0]).get("type").asText());
+        assertEquals("La Liga", objectMapper.readTree(lines[0]).get("data").get("name").asText());
+        assertEquals("COMPLETED", objectMapper.readTree(lines[0]).get("data").get("status").asText());
+        assertEquals("match", objectMapper.readTree(lines[1]).get("type").asText());
+        assertEquals("2025-05-01T18:00:00", objectMapper.readTree(lines[1]).get("data").get("matchDate").asText());
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+    @Test
+    @DisplayName("Should write the end record last with the number of records of each type")
+    void shouldWriteEndRecordLast() throws IOException {
+        // Given
+        doAnswer(invocation -> {
+            TournamentExportSink sink = invocation.getArgument(1);
+            sink.tournament(Tournament.reconstitute(1L, "La Liga", "Spanish Football Championship", StatusTournament.CREATED));
+            sink.record("team", Map.of("id", 1));
+            sink.end(Map.of("team", 1L));
+            return null;
+        }).when(exportTournamentUseCase).export(eq(1L), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        writer.write(1L, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("end", objectMapper.readTree(lines[2]).get("type").asText());
+        assertEquals(1, objectMapper.readTree(lines[2]).get("data").get("team").asLong());
+    }
+
+    @Test
+    @DisplayName("Should leave the archive without an end record when the export fails halfway")
+    void shouldNotWriteEndRecordWhenExportFails() throws IOException {
+        // Given
+        doAnswer(invocation -> {
+            TournamentExportSink sink = invocation.getArgument(1);
+            sink.tournament(Tournament.reconstitute(1L, "La Liga", "Spanish Football Championship", StatusTournament.CREATED));
+            sink.record("team", Map.of("id", 1));
+            throw new IllegalStateException("Connection reset");
+        }).when(exportTournamentUseCase).export(eq(1L), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        assertThrows(IllegalStateException.class, () -> writer.write(1L, out));
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("team", objectMapper.readTree(lines[1]).get("type").asText());
+    }
+
+    @Test
+    @DisplayName("Should rethrow the client's IOException so the export stops")
+    void shouldRethrowIoException() {
+        // Given
+        doAnswer(invocation -> {
+            TournamentExportSink sink = invocation.getArgument(1);
+            for (int i = 0; i < TournamentExportWriter.FLUSH_EVERY; i++) {
+                sink.record("team", Map.of("id", i));
+            }
+            return null;
+        }).when(exportTournamentUseCase).export(eq(1L), any());
+        ByteArrayOutputStream brokenClient = new ByteArrayOutputStream() {
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        IOException exception = assertThrows(IOException.class, () -> writer.write(1L, brokenClient));
+        assertEquals("Broken pipe", exception.getMessage());
+    }
+}
@@ -0,0 +1,135 @@
+package com.personal.tournament_api.tournament.infrastructure.adapters.web;
+
+import com.personal.tournament_api.auth.infrastructure.security.JwtProvider;
+import com.personal.tournament_api.auth.infrastructure.security.UserDetailsServiceAdapter;
+import com.personal.tournament_api.config.TestSecurityConfig;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ArchivedTournament;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.ImportedTournament;
+import com.personal.tournament_api.tournament.application.usecases.ImportTournamentUseCase.TournamentArchive;
+import com.personal.tournament_api.tournament.domain.model.Tournament;
+import com.personal.tournament_api.tournament.infrastructure.adapters.web.mapper.TournamentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TournamentImportController.class)
+@Import({TestSecurityConfig.class, TournamentArchiveReader.class, TournamentImportControllerTest.MapperConfig.class})
+@DisplayName("TournamentImportController Unit Tests")
+class TournamentImportControllerTest {
+
+    @TestConfiguration
+    static class MapperConfig {
+        @Bean
+        TournamentMapper tournamentMapper() {
+            return Mappers.getMapper(TournamentMapper.class);
+        }
+    }
+
+    private static final String ARCHIVE = """
+            {"type":"tournament","data":{"id":1,"name":"La Liga","description":"Spanish Football Championship","status":"IN_PROGRESS"}}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportTournamentUseCase importTournamentUseCase;
+
+    @MockBean
+    private JwtProvider jwtProvider;
+
+    @MockBean
+    private UserDetailsServiceAdapter userDetailsServiceAdapter;
+
+    @BeforeEach
+    void setUp() {
+        when(importTournamentUseCase.importTournament(any())).thenAnswer(invocation -> {
+            ArchivedTournament archived = invocation.<TournamentArchive>getArgument(0).tournament();
+            Map<String, Long> importedRecords = new LinkedHashMap<>();
+            importedRecords.put("team", 20L);
+            importedRecords.put("player", 0L);
+            return new ImportedTournament(Tournament.reconstitute(42L, archived.name(), archived.description(),
+                    archived.status()), importedRecords);
+        });
+    }
+
+    @Test
+    @DisplayName("Should return 201 with the new tournament and the imported record counts")
+    void shouldReturnCreatedWithImportedTournament() throws Exception {
+        mockMvc.perform(post("/tournaments/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ARCHIVE))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/tournaments/42"))
+            .andExpect(jsonPath("$.tournament.id").value(42))
+            .andExpect(jsonPath("$.tournament.name").value("La Liga"))
+            .andExpect(jsonPath("$.tournament.status").value("IN_PROGRESS"))
+            .andExpect(jsonPath("$.importedRecords.team").value(20))
+            .andExpect(jsonPath("$.importedRecords.player").value(0));
+    }
+
+    @Test
+    @DisplayName("Should decompress a gzip-encoded archive")
+    void shouldDecompressGzipArchive() throws Exception {
+        mockMvc.perform(post("/tournaments/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(gzip(ARCHIVE)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.tournament.name").value("La Liga"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the archive does not start with the tournament")
+    void shouldReturn400WhenArchiveIsInvalid() throws Exception {
+        mockMvc.perform(post("/tournaments/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"type\":\"team\",\"data\":{\"id\":1}}\n"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 without reading the archive when the content encoding is not supported")
+    void shouldReturn400WhenContentEncodingIsUnsupported() throws Exception {
+        mockMvc.perform(post("/tournaments/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "br")
+                .content(ARCHIVE))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(importTournamentUseCase);
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}